@@ -0,0 +1,51 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.time.DurationParser;
+import com.recipe.shared.time.RecipeTimes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DurationParser} over a mix of time strings (scores are strings per millisecond), and
+ * {@link RecipeTimes#normalizeTimes(Recipe)} on a recipe with only its time strings set.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DurationParserBenchmark {
+
+    private static final String[] TIMES = {
+        "15 minutes", "1 hr 15 mins", "1h15m", "45-60 minutes", "1 1/2 hours", "an hour and a half", "PT1H30M", "2 days"
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int parseMinutes() {
+        int sum = 0;
+        for (String time : TIMES) {
+            sum += DurationParser.parseMinutes(time);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Recipe normalizeTimes() {
+        Recipe recipe = Recipe.builder().prepTime("20 minutes").cookTime("1 hr 15 mins").build();
+        RecipeTimes.normalizeTimes(recipe);
+        return recipe;
+    }
+}
@@ -0,0 +1,64 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.ingredient.IngredientParser;
+import com.recipe.shared.ingredient.ParsedIngredient;
+import com.recipe.shared.ingredient.RecipeScaler;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IngredientParser} and {@link ParsedIngredient#scale(double)} over a mix of ingredient lines (scores are
+ * lines per millisecond), and {@link RecipeScaler#scale(Recipe, int)} on a large recipe.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IngredientParserBenchmark {
+
+    private static final String[] LINES = {
+        "2 cups all-purpose flour, sifted", "1 1/2 tsp baking powder", "½ cup sugar", "3 large eggs",
+        "2-3 cloves garlic, minced", "100g butter (softened)", "a pinch of salt", "Salt and pepper, to taste"
+    };
+
+    private final Recipe recipe = RecipeFixtures.large();
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public double parse() {
+        double sum = 0;
+        for (String line : LINES) {
+            ParsedIngredient parsed = IngredientParser.parse(line);
+            sum += parsed.item().length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int parseAndScale() {
+        int length = 0;
+        for (String line : LINES) {
+            length += IngredientParser.parse(line).scale(1.5).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public Recipe scaleRecipe() {
+        return RecipeScaler.scale(recipe, 6);
+    }
+}
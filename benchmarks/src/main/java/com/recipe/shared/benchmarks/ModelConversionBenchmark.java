@@ -0,0 +1,78 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The storage-service map conversions of the sub-models and {@code toBuilder()} copies of whole recipes.
+ * {@code nutritionValuesFromMap} allocates a single {@link NutritionValues} per operation, so its
+ * {@code gc.alloc.rate.norm} is the footprint of one instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ModelConversionBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private Recipe recipe;
+    private NutritionalInfo nutritionalInfo;
+    private Map<String, Object> nutritionMap;
+    private Map<String, Object> valuesMap;
+    private Map<String, List<String>> tipsMap;
+
+    @Setup
+    public void setUp() {
+        recipe = RecipeFixtures.recipe(size);
+        nutritionalInfo = recipe.getNutritionalInfo();
+        nutritionMap = nutritionalInfo.toMap();
+        valuesMap = nutritionalInfo.getPerServing().toMap();
+        tipsMap = recipe.getTips().toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> nutritionalInfoToMap() {
+        return nutritionalInfo.toMap();
+    }
+
+    @Benchmark
+    public NutritionalInfo nutritionalInfoFromMap() {
+        return NutritionalInfo.fromMap(nutritionMap);
+    }
+
+    @Benchmark
+    public NutritionValues nutritionValuesFromMap() {
+        return NutritionValues.fromMap(valuesMap);
+    }
+
+    @Benchmark
+    public RecipeTips recipeTipsFromMap() {
+        return RecipeTips.fromMap(tipsMap);
+    }
+
+    @Benchmark
+    public Recipe toBuilderCopy() {
+        return recipe.toBuilder().build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.nutrition.Nutrient;
+import com.recipe.shared.nutrition.NutritionBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NutritionBatch} against the equivalent loops over {@code NutritionalInfo} objects, for a meal plan of
+ * {@code rows} recipes: summing calories of the servings eaten, and filtering by a calorie range.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NutritionBatchBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private List<NutritionalInfo> infos;
+    private double[] portions;
+    private NutritionBatch batch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        infos = new ArrayList<>(rows);
+        portions = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            infos.add(NutritionalInfo.builder()
+                    .perServing(NutritionValues.builder()
+                            .calories(100 + random.nextDouble() * 900)
+                            .protein(random.nextDouble() * 60)
+                            .carbohydrates(random.nextDouble() * 120)
+                            .fat(random.nextDouble() * 50)
+                            .fiber(random.nextDouble() * 15)
+                            .sodium(random.nextDouble() * 2000)
+                            .build())
+                    .build());
+            portions[i] = 1 + random.nextInt(3);
+        }
+        batch = NutritionBatch.perServing(infos);
+    }
+
+    @Benchmark
+    public NutritionBatch build() {
+        return NutritionBatch.perServing(infos);
+    }
+
+    @Benchmark
+    public double objectScaledCalories() {
+        double sum = 0;
+        for (int i = 0; i < rows; i++) {
+            Double calories = infos.get(i).getPerServing().getCalories();
+            if (calories != null) {
+                sum += calories * portions[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double batchScaledCalories() {
+        return batch.scale(portions).sum(Nutrient.CALORIES);
+    }
+
+    @Benchmark
+    public NutritionValues batchSumAll() {
+        return batch.sum();
+    }
+
+    @Benchmark
+    public int objectCalorieFilter() {
+        int count = 0;
+        for (NutritionalInfo info : infos) {
+            Double calories = info.getPerServing().getCalories();
+            if (calories != null && calories >= 300 && calories <= 600) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int[] batchCalorieFilter() {
+        return batch.rowsWithin(Nutrient.CALORIES, 300, 600);
+    }
+}
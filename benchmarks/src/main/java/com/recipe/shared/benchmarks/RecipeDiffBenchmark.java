@@ -0,0 +1,83 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.diff.RecipeDiff;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeFirestoreCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeDiff#between} for a typical edit (a new name and one nutrient), and for two equal but separately built
+ * recipes where every field has to be compared, against {@code RecipeFirestoreCodec.encode} for the full document
+ * write the diff replaces.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecipeDiffBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private Recipe stored;
+    private Recipe edited;
+    private Recipe copy;
+
+    @Setup
+    public void setUp() {
+        stored = RecipeFixtures.recipe(size);
+        NutritionValues perServing = stored.getNutritionalInfo().getPerServing();
+        List<String> ingredients = new ArrayList<>(stored.getIngredients());
+        ingredients.set(0, ingredients.get(0) + " (optional)");
+        edited = stored.toBuilder()
+                .recipeName(stored.getRecipeName() + " (revised)")
+                .ingredients(ingredients)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder()
+                                .calories(perServing.caloriesOr(0) + 50)
+                                .protein(perServing.getProtein())
+                                .carbohydrates(perServing.getCarbohydrates())
+                                .fat(perServing.getFat())
+                                .fiber(perServing.getFiber())
+                                .sodium(perServing.getSodium())
+                                .build())
+                        .total(stored.getNutritionalInfo().getTotal())
+                        .build())
+                .build();
+        copy = RecipeFixtures.recipe(size);
+    }
+
+    @Benchmark
+    public RecipeDiff diffEdited() {
+        return RecipeDiff.between(stored, edited);
+    }
+
+    @Benchmark
+    public RecipeDiff diffEqualCopy() {
+        return RecipeDiff.between(stored, copy);
+    }
+
+    @Benchmark
+    public Map<String, Object> encodeFullDocument() {
+        return RecipeFirestoreCodec.encode(edited);
+    }
+}
@@ -0,0 +1,50 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.fingerprint.RecipeFingerprint;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeFingerprint#of(Recipe)} against the Lombok-generated {@code Recipe.hashCode()}, which walks the same
+ * fields but yields only 32 bits and includes ids and timestamps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecipeFingerprintBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private Recipe recipe;
+
+    @Setup
+    public void setUp() {
+        recipe = RecipeFixtures.recipe(size);
+    }
+
+    @Benchmark
+    public RecipeFingerprint fingerprint() {
+        return RecipeFingerprint.of(recipe);
+    }
+
+    @Benchmark
+    public int lombokHashCode() {
+        return recipe.hashCode();
+    }
+}
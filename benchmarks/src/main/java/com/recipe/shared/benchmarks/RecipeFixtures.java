@@ -0,0 +1,104 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic recipes shared by the benchmarks: a small one close to a typical AI-generated recipe and a large
+ * one with long ingredient and instruction lists, like an imported cookbook entry.
+ */
+final class RecipeFixtures {
+
+    private RecipeFixtures() {}
+
+    static Recipe recipe(String size) {
+        return "large".equals(size) ? large() : small();
+    }
+
+    static Recipe small() {
+        return Recipe.builder()
+                .id("recipe-small")
+                .userId("user-1")
+                .recipeName("Spaghetti Carbonara")
+                .description("A classic Roman pasta dish")
+                .ingredients(List.of("400g spaghetti", "200g pancetta", "4 egg yolks", "100g pecorino", "Black pepper"))
+                .instructions(List.of("Boil the pasta", "Fry the pancetta", "Whisk yolks with cheese", "Toss everything together"))
+                .prepTimeMinutes(10)
+                .cookTimeMinutes(15)
+                .totalTimeMinutes(25)
+                .prepTime("10 minutes")
+                .cookTime("15 minutes")
+                .totalTime("25 minutes")
+                .servings(4)
+                .nutritionalInfo(nutritionalInfo())
+                .tips(tips(2))
+                .source("ai-generated")
+                .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .updatedAt(Instant.parse("2024-01-02T10:00:00Z"))
+                .tags(List.of("pasta", "italian", "quick"))
+                .dietaryRestrictions(List.of())
+                .publicRecipe(true)
+                .build();
+    }
+
+    static Recipe large() {
+        List<String> ingredients = new ArrayList<>();
+        List<String> instructions = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ingredients.add((i + 1) * 25 + "g ingredient number " + i + ", finely chopped");
+            instructions.add("Step " + (i + 1) + ": combine ingredient " + i + " with the mixture and stir for two minutes over a medium heat");
+        }
+        for (int i = 0; i < 20; i++) {
+            tags.add("tag-" + i);
+        }
+        Map<String, Object> imageGeneration = new HashMap<>();
+        imageGeneration.put("status", "complete");
+        imageGeneration.put("prompt", "A rustic table with a large family meal");
+        imageGeneration.put("attempts", 3);
+        return small().toBuilder()
+                .id("recipe-large")
+                .recipeName("Family Feast")
+                .description("A long recipe ".repeat(40))
+                .ingredients(ingredients)
+                .instructions(instructions)
+                .servings(12)
+                .tips(tips(15))
+                .tags(tags)
+                .dietaryRestrictions(List.of("nut-free", "halal"))
+                .imageUrl("https://example.com/images/family-feast.png")
+                .imageGeneration(imageGeneration)
+                .build();
+    }
+
+    static NutritionalInfo nutritionalInfo() {
+        return NutritionalInfo.builder()
+                .perServing(NutritionValues.builder().calories(520.0).protein(24.5).carbohydrates(61.0).fat(19.0).fiber(3.2).sodium(0.9).build())
+                .total(NutritionValues.builder().calories(2080.0).protein(98.0).carbohydrates(244.0).fat(76.0).fiber(12.8).sodium(3.6).build())
+                .build();
+    }
+
+    static RecipeTips tips(int count) {
+        List<String> substitutions = new ArrayList<>();
+        List<String> variations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            substitutions.add("Substitute ingredient " + i + " with an alternative");
+            variations.add("Variation " + i);
+        }
+        return RecipeTips.builder()
+                .substitutions(substitutions)
+                .makeAhead("Prepare the sauce up to a day ahead")
+                .storage("Keeps for three days in the fridge")
+                .reheating("Reheat gently with a splash of water")
+                .variations(variations)
+                .build();
+    }
+}
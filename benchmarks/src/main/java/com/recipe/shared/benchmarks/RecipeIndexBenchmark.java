@@ -0,0 +1,124 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.search.Query;
+import com.recipe.shared.search.RecipeIndex;
+import com.recipe.shared.search.SearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeIndex} over a synthetic corpus of a million recipes: ranked term, boolean and prefix searches, and
+ * updating one recipe. Recipes are generated from small word lists with a Zipf-like skew, so common words have long
+ * posting lists. Prints the index's term count and posting list size once built.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RecipeIndexBenchmark {
+
+    private static final String[] ADJECTIVES = {
+        "quick", "easy", "spicy", "creamy", "roasted", "grilled", "smoky", "crispy", "classic", "healthy", "rustic", "sweet"
+    };
+    private static final String[] MAINS = {
+        "chicken", "tofu", "salmon", "beef", "lentil", "mushroom", "pork", "prawn", "chickpea", "lamb", "halloumi", "egg"
+    };
+    private static final String[] DISHES = {
+        "curry", "soup", "salad", "stew", "pasta", "risotto", "tacos", "pie", "stir fry", "traybake", "burger", "bowl"
+    };
+    private static final String[] INGREDIENTS = {
+        "onion", "garlic", "tomato", "tomatillo", "coconut milk", "olive oil", "butter", "lemon", "basil", "coriander",
+        "cumin", "paprika", "ginger", "soy sauce", "rice", "potato", "spinach", "cream", "parmesan", "chilli"
+    };
+    private static final String[] TAGS = {
+        "dinner", "lunch", "vegan", "vegetarian", "quick", "family", "indian", "italian", "mexican", "batch cooking"
+    };
+
+    @Param({"1000000"})
+    public int recipes;
+
+    private RecipeIndex index;
+    private Recipe update;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new RecipeIndex();
+        List<Recipe> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < recipes; i++) {
+            batch.add(recipe(random, i));
+            if (batch.size() == 10_000) {
+                index.addAll(batch);
+                batch.clear();
+            }
+        }
+        index.addAll(batch);
+        update = recipe(random, recipes / 2);
+        System.out.println("\nterms=" + index.termCount() + " postingBytes=" + index.postingBytes());
+    }
+
+    private static Recipe recipe(Random random, int i) {
+        String name = pick(random, ADJECTIVES) + " " + pick(random, MAINS) + " " + pick(random, DISHES);
+        List<String> ingredients = new ArrayList<>();
+        for (int n = 4 + random.nextInt(6); n > 0; n--) {
+            ingredients.add((1 + random.nextInt(500)) + "g " + pick(random, INGREDIENTS));
+        }
+        return Recipe.builder()
+                .id("recipe-" + i)
+                .recipeName(name)
+                .description("A " + name.toLowerCase() + " with " + pick(random, INGREDIENTS) + " for " + (1 + random.nextInt(8)))
+                .ingredients(ingredients)
+                .tags(List.of(pick(random, TAGS), pick(random, TAGS)))
+                .build();
+    }
+
+    // Squaring the uniform value skews towards the start of the array
+    private static String pick(Random random, String[] words) {
+        double u = random.nextDouble();
+        return words[(int) (u * u * words.length)];
+    }
+
+    @Benchmark
+    public List<SearchHit> term() {
+        return index.search("risotto", 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> and() {
+        return index.search("spicy chicken curry", 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> booleanQuery() {
+        return index.search(Query.parse("vegan tofu OR chickpea -coconut"), 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> prefix() {
+        return index.search("halloumi tom*", 10);
+    }
+
+    @Benchmark
+    public RecipeIndex updateOne() {
+        index.add(update);
+        return index;
+    }
+}
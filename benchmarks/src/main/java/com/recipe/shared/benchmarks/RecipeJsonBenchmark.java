@@ -0,0 +1,68 @@
+package com.recipe.shared.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization and deserialization of small and large recipes, with default bean introspection and with
+ * {@link RecipeJacksonModule} registered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecipeJsonBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    @Param({"default", "module"})
+    public String mapper;
+
+    private Recipe recipe;
+    private byte[] json;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        if ("module".equals(mapper)) {
+            objectMapper.registerModule(new RecipeJacksonModule());
+        }
+        writer = objectMapper.writerFor(Recipe.class);
+        reader = objectMapper.readerFor(Recipe.class);
+        recipe = RecipeFixtures.recipe(size);
+        json = writer.writeValueAsBytes(recipe);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(recipe);
+    }
+
+    @Benchmark
+    public Recipe deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,84 @@
+package com.recipe.shared.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.io.RecipeMergePatch;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeMergePatch#apply(Recipe, byte[])} for a typical partial update (a new name, one nutrient and one tip),
+ * against merging the patch into the recipe's {@code JsonNode} tree and converting the result back to a recipe.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecipeMergePatchBenchmark {
+
+    private static final byte[] PATCH = ("{\"recipeName\": \"Weeknight Carbonara\", "
+            + "\"nutritionalInfo\": {\"perServing\": {\"calories\": 640.0}}, "
+            + "\"tips\": {\"storage\": null, \"reheating\": \"Loosen with pasta water\"}}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"small", "large"})
+    public String size;
+
+    private ObjectMapper mapper;
+    private RecipeMergePatch mergePatch;
+    private Recipe recipe;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new RecipeJacksonModule());
+        mergePatch = new RecipeMergePatch(mapper);
+        recipe = RecipeFixtures.recipe(size);
+    }
+
+    @Benchmark
+    public Recipe mergePatch() throws IOException {
+        return mergePatch.apply(recipe, PATCH);
+    }
+
+    @Benchmark
+    public Recipe treeMerge() throws IOException {
+        JsonNode merged = merge(mapper.valueToTree(recipe), mapper.readTree(PATCH));
+        return mapper.treeToValue(merged, Recipe.class);
+    }
+
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : ((ObjectNode) patch).objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.similarity.RecipeSimilarity;
+import com.recipe.shared.similarity.SimilarRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeSimilarity} over a synthetic store of a million recipes: computing a signature, looking up the
+ * near-duplicates of a new recipe, and adding one. Scores are in microseconds per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RecipeSimilarityBenchmark {
+
+    private static final String[] FOODS = {
+        "onion", "garlic", "tomato", "basil", "chicken", "tofu", "rice", "butter", "flour", "egg", "milk", "sugar",
+        "lemon", "cumin", "ginger", "pepper", "salt", "oil", "cream", "cheese", "beef", "bean", "lentil", "carrot"
+    };
+    private static final String[] VERBS = {
+        "fry", "stir", "add", "bake", "simmer", "chop", "mix", "pour", "season", "serve", "whisk", "roast"
+    };
+
+    @Param({"1000000"})
+    public int recipes;
+
+    private RecipeSimilarity similarity;
+    private Recipe probe;
+    private int next;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        similarity = new RecipeSimilarity();
+        List<Recipe> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < recipes; i++) {
+            batch.add(recipe(random, "recipe-" + i));
+            if (batch.size() == 10_000) {
+                similarity.addAll(batch);
+                batch.clear();
+            }
+        }
+        similarity.addAll(batch);
+        probe = recipe(random, "probe");
+    }
+
+    private static Recipe recipe(Random random, String id) {
+        List<String> ingredients = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ingredients.add((1 + random.nextInt(9)) + " cups " + pick(random, FOODS) + " " + pick(random, FOODS));
+        }
+        List<String> instructions = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            StringBuilder step = new StringBuilder();
+            for (int w = 0; w < 10; w++) {
+                step.append(w % 3 == 0 ? pick(random, VERBS) : pick(random, FOODS)).append(' ');
+            }
+            instructions.add(step.toString());
+        }
+        return Recipe.builder().id(id).ingredients(ingredients).instructions(instructions).build();
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    @Benchmark
+    public int[] signature() {
+        return similarity.signature(probe);
+    }
+
+    @Benchmark
+    public List<SimilarRecipe> findSimilar() {
+        return similarity.findSimilar(probe, 0.7);
+    }
+
+    @Benchmark
+    public RecipeSimilarity add() {
+        // Cycles through a fixed set of ids, so the index does not grow during the run
+        similarity.add(probe.toBuilder().id("added-" + (next++ & 1023)).build());
+        return similarity;
+    }
+}
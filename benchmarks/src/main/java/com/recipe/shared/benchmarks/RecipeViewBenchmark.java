@@ -0,0 +1,69 @@
+package com.recipe.shared.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.io.RecipeView;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the properties a list page shows ({@code id}, {@code recipeName}, {@code imageUrl} and
+ * {@code totalTimeMinutes}) from the JSON of a small and a large recipe, through a {@link RecipeView} and by
+ * deserializing the whole {@link Recipe}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecipeViewBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new RecipeJacksonModule());
+        reader = mapper.readerFor(Recipe.class);
+        json = mapper.writeValueAsBytes(RecipeFixtures.recipe(size));
+    }
+
+    @Benchmark
+    public void view(Blackhole blackhole) throws IOException {
+        RecipeView view = RecipeView.of(json, 0, json.length, mapper);
+        blackhole.consume(view.getId());
+        blackhole.consume(view.getRecipeName());
+        blackhole.consume(view.getImageUrl());
+        blackhole.consume(view.getTotalTimeMinutes());
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole) throws IOException {
+        Recipe recipe = reader.readValue(json);
+        blackhole.consume(recipe.getId());
+        blackhole.consume(recipe.getRecipeName());
+        blackhole.consume(recipe.getImageUrl());
+        blackhole.consume(recipe.getTotalTimeMinutes());
+    }
+}
@@ -0,0 +1,57 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.schema.JsonSchema;
+import com.recipe.shared.schema.RecipeSchema;
+import com.recipe.shared.schema.SchemaGenerator;
+import com.recipe.shared.schema.SchemaProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of obtaining the Recipe response schema, both from the cache services hit on every request and when it is
+ * rebuilt, plus serializing it into a request body.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SchemaBenchmark {
+
+    @Benchmark
+    public JsonSchema getSchema() {
+        return RecipeSchema.getSchema();
+    }
+
+    @Benchmark
+    public JsonSchema getAiGenerationSchema() {
+        return RecipeSchema.getSchema(SchemaProfile.AI_GENERATION);
+    }
+
+    @Benchmark
+    public JsonSchema refreshAndGetSchema() {
+        // Rebuilds the schema: generated resource lookup or introspection, plus the cache swap
+        RecipeSchema.refresh();
+        return RecipeSchema.getSchema();
+    }
+
+    @Benchmark
+    public byte[] schemaToJsonBytes() {
+        return RecipeSchema.getSchema().toJsonBytes();
+    }
+
+    @Benchmark
+    public JsonSchema generatorForType() {
+        return SchemaGenerator.forType(com.recipe.shared.model.RecipeTips.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.recipe.shared.benchmarks;
+
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.tags.TagIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A "vegan AND gluten-free" filter over many recipes with {@link TagIndex}, against the same filter with
+ * {@code List.contains} on each recipe's strings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TagIndexBenchmark {
+
+    private static final String[] RESTRICTIONS = {
+        "vegan", "vegetarian", "gluten-free", "dairy-free", "nut-free", "low-carb", "keto", "paleo", "halal", "kosher"
+    };
+    private static final List<String> QUERY = List.of("vegan", "gluten-free");
+
+    @Param({"10000"})
+    public int recipes;
+
+    private List<Recipe> list;
+    private TagIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        list = new ArrayList<>(recipes);
+        for (int i = 0; i < recipes; i++) {
+            List<String> restrictions = new ArrayList<>();
+            for (String restriction : RESTRICTIONS) {
+                if (random.nextInt(4) == 0) {
+                    // New strings, as they would come from JSON
+                    restrictions.add(new String(restriction));
+                }
+            }
+            list.add(Recipe.builder().dietaryRestrictions(restrictions).build());
+        }
+        index = TagIndex.dietaryRestrictions(list);
+    }
+
+    @Benchmark
+    public int[] tagIndex() {
+        return index.rowsWithAll(QUERY);
+    }
+
+    @Benchmark
+    public int[] listContains() {
+        int[] rows = new int[list.size()];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            if (list.get(row).getDietaryRestrictions().containsAll(QUERY)) {
+                rows[count++] = row;
+            }
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public TagIndex build() {
+        return TagIndex.dietaryRestrictions(list);
+    }
+}
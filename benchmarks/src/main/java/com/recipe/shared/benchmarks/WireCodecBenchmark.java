@@ -0,0 +1,88 @@
+package com.recipe.shared.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.codec.ModelWireCodecs;
+import com.recipe.shared.model.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ModelWireCodecs#RECIPE} against JSON with {@link RecipeJacksonModule}, the fastest JSON configuration. The
+ * encoded sizes of both formats are printed once per fork.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WireCodecBenchmark {
+
+    @Param({"small", "large"})
+    public String size;
+
+    private Recipe recipe;
+    private byte[] wire;
+    private byte[] json;
+    private ByteBuffer buffer;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new RecipeJacksonModule());
+        writer = objectMapper.writerFor(Recipe.class);
+        reader = objectMapper.readerFor(Recipe.class);
+        recipe = RecipeFixtures.recipe(size);
+        wire = ModelWireCodecs.RECIPE.encode(recipe);
+        json = writer.writeValueAsBytes(recipe);
+        buffer = ByteBuffer.allocate(wire.length);
+        System.out.printf("%n%s recipe: %d bytes wire, %d bytes JSON%n", size, wire.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] wireEncode() {
+        return ModelWireCodecs.RECIPE.encode(recipe);
+    }
+
+    @Benchmark
+    public ByteBuffer wireEncodeIntoBuffer() {
+        buffer.clear();
+        ModelWireCodecs.RECIPE.encode(recipe, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Recipe wireDecode() {
+        return ModelWireCodecs.RECIPE.decode(wire);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return writer.writeValueAsBytes(recipe);
+    }
+
+    @Benchmark
+    public Recipe jsonDecode() throws IOException {
+        return reader.readValue(json);
+    }
+}
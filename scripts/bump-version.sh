@@ -53,6 +53,11 @@ echo "📝 Updating pom.xml..."
 sed -i.bak "s/<version>.*<\/version>/<version>$NEW_VERSION<\/version>/" pom.xml
 rm pom.xml.bak
 
+# Keep the benchmarks pointing at the library version being built
+echo "📝 Updating benchmarks/pom.xml..."
+sed -i.bak "s/<recipe-shared.version>.*<\/recipe-shared.version>/<recipe-shared.version>$NEW_VERSION<\/recipe-shared.version>/" benchmarks/pom.xml
+rm benchmarks/pom.xml.bak
+
 echo "✅ Version bumped successfully!"
 echo ""
 echo "Next steps:"
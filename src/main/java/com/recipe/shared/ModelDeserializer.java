@@ -0,0 +1,275 @@
+package com.recipe.shared;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.IgnoredPropertyException;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base for the hand-written model deserializers registered by {@link RecipeJacksonModule}.
+ * Properties are matched against pre-encoded names in the order the serializer writes them, so a document written by
+ * Jackson is read without looking up a single property name; out-of-order names fall back to a switch on the name.
+ * Values in their common JSON form are read straight from the parser and everything else goes through Jackson's own
+ * deserializer for the property type, so coercions, unknown-property handling and problem handlers behave as they
+ * do with the default bean deserializer.
+ */
+abstract class ModelDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer, ContextualDeserializer {
+
+    /**
+     * Position returned by {@link #indexOf(String)} for names that are not properties.
+     */
+    protected static final int UNKNOWN = -1;
+
+    private static final int END = -2;
+
+    private final JsonDeserializer<Object> fallback;
+    private final SerializableString[] names;
+    private final Set<String> ignored;
+
+    private JsonDeserializer<Object> stringDeserializer;
+    private JsonDeserializer<Object> integerDeserializer;
+    private JsonDeserializer<Object> doubleDeserializer;
+    private JsonDeserializer<Object> booleanDeserializer;
+    private JsonDeserializer<Object> stringListDeserializer;
+    private JsonDeserializer<Object> mapDeserializer;
+    private JsonDeserializer<Object> instantDeserializer;
+
+    @SuppressWarnings("unchecked")
+    ModelDeserializer(Class<T> type, JsonDeserializer<?> fallback, SerializableString[] names, Set<String> ignored) {
+        super(type);
+        this.fallback = (JsonDeserializer<Object>) fallback;
+        this.names = names;
+        this.ignored = ignored;
+    }
+
+    protected abstract T createInstance();
+
+    /**
+     * Returns the position of the named property in the serialized order, or {@link #UNKNOWN}.
+     */
+    protected abstract int indexOf(String name);
+
+    /**
+     * Reads the value of the property at the given position; the parser is positioned on the value's first token.
+     */
+    protected abstract void readProperty(int index, JsonParser p, DeserializationContext ctxt, T bean) throws IOException;
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        // Jackson only resolves the deserializer it caches, which is this one rather than the bean deserializer it wraps
+        if (fallback instanceof ResolvableDeserializer resolvable) {
+            resolvable.resolve(ctxt);
+        }
+        stringDeserializer = find(ctxt, ctxt.constructType(String.class));
+        integerDeserializer = find(ctxt, ctxt.constructType(Integer.class));
+        doubleDeserializer = find(ctxt, ctxt.constructType(Double.class));
+        booleanDeserializer = find(ctxt, ctxt.constructType(boolean.class));
+        stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        mapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        instantDeserializer = find(ctxt, ctxt.constructType(Instant.class));
+    }
+
+    protected static JsonDeserializer<Object> find(DeserializationContext ctxt, JavaType type) throws JsonMappingException {
+        return ctxt.findContextualValueDeserializer(type, null);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        if (!(fallback instanceof ContextualDeserializer contextual)) {
+            return this;
+        }
+        // Property-level annotations changed how the bean is read; let the default deserializer apply them
+        JsonDeserializer<?> deserializer = contextual.createContextual(ctxt, property);
+        return deserializer == fallback ? this : deserializer;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        int index;
+        if (token == JsonToken.START_OBJECT && ctxt.getActiveView() == null) {
+            index = advance(p, ctxt, 0);
+        } else if (token == JsonToken.FIELD_NAME && ctxt.getActiveView() == null) {
+            index = indexOf(p.currentName());
+        } else {
+            // Scalars, arrays and views follow the default deserializer's coercion and view rules
+            return (T) fallback.deserialize(p, ctxt);
+        }
+        T bean = createInstance();
+        int expected = 0;
+        while (index != END) {
+            p.nextToken();
+            if (index == UNKNOWN) {
+                handleUnknown(p, ctxt, bean, p.currentName());
+            } else {
+                readProperty(index, p, ctxt, bean);
+                expected = index + 1;
+            }
+            index = advance(p, ctxt, expected);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+        return fallback.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) throws JsonMappingException {
+        return fallback.getEmptyValue(ctxt);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws IOException {
+        // Updating an existing instance (readerForUpdating) is left to the default deserializer
+        return (T) fallback.deserialize(p, ctxt, intoValue);
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return fallback.supportsUpdate(config);
+    }
+
+    /**
+     * Moves to the next property name, trying the expected one first, and returns its position, UNKNOWN or END.
+     */
+    private int advance(JsonParser p, DeserializationContext ctxt, int expected) throws IOException {
+        JsonToken token;
+        if (expected < names.length) {
+            if (p.nextFieldName(names[expected])) {
+                return expected;
+            }
+            token = p.currentToken();
+        } else {
+            token = p.nextToken();
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            return indexOf(p.currentName());
+        }
+        if (token == JsonToken.END_OBJECT) {
+            return END;
+        }
+        ctxt.reportWrongTokenException(this, JsonToken.FIELD_NAME, "Unexpected token (%s), expected property name", token);
+        return END;
+    }
+
+    private void handleUnknown(JsonParser p, DeserializationContext ctxt, T bean, String name) throws IOException {
+        if (ignored.contains(name)) {
+            if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES)) {
+                throw IgnoredPropertyException.from(p, bean, name, null);
+            }
+            p.skipChildren();
+            return;
+        }
+        ctxt.handleUnknownProperty(p, this, bean, name);
+    }
+
+    protected final String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (String) stringDeserializer.deserialize(p, ctxt);
+    }
+
+    protected final Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (Integer) integerDeserializer.deserialize(p, ctxt);
+    }
+
+    protected final Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (Double) doubleDeserializer.deserialize(p, ctxt);
+    }
+
+    protected final boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            // false, unless FAIL_ON_NULL_FOR_PRIMITIVES is enabled
+            return (Boolean) booleanDeserializer.getNullValue(ctxt);
+        }
+        return (Boolean) booleanDeserializer.deserialize(p, ctxt);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final List<String> readStringList(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            // Single values and empty strings are coerced (or rejected) according to the mapper's configuration
+            return (List<String>) stringListDeserializer.deserialize(p, ctxt);
+        }
+        List<String> list = new ArrayList<>();
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_STRING) {
+                list.add(p.getText());
+            } else if (token == JsonToken.VALUE_NULL) {
+                list.add(null);
+            } else {
+                list.add((String) stringDeserializer.deserialize(p, ctxt));
+            }
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final Map<String, Object> readMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : (Map<String, Object>) mapDeserializer.deserialize(p, ctxt);
+    }
+
+    protected final Instant readInstant(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : (Instant) instantDeserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * Reads a nested model with the deserializer the context resolved for its type (normally another model deserializer).
+     */
+    @SuppressWarnings("unchecked")
+    protected final <M> M readModel(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> deserializer) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : (M) deserializer.deserialize(p, ctxt);
+    }
+}
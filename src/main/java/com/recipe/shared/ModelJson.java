@@ -0,0 +1,391 @@
+package com.recipe.shared;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Hand-written serializers and deserializers for the shared models, used by {@link RecipeJacksonModule}.
+ * Property names and their order mirror what Jackson derives from the model annotations: implicitly named properties
+ * in declaration order, followed by those named with {@code @JsonProperty}. The module checks the order against
+ * Jackson's own bean serializer before using these classes, so a model change that is not reflected here disables
+ * them rather than changing the JSON.
+ */
+final class ModelJson {
+
+    private ModelJson() {}
+
+    /**
+     * Returns the serialized property names of a supported model type, or null for any other type.
+     */
+    static SerializableString[] names(Class<?> type) {
+        if (type == Recipe.class) return RECIPE;
+        if (type == NutritionalInfo.class) return NUTRITIONAL_INFO;
+        if (type == NutritionValues.class) return NUTRITION_VALUES;
+        if (type == RecipeTips.class) return RECIPE_TIPS;
+        return null;
+    }
+
+    static JsonSerializer<?> serializer(Class<?> type, JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+        if (type == Recipe.class) return new RecipeSerializer(fallback, inclusion);
+        if (type == NutritionalInfo.class) return new NutritionalInfoSerializer(fallback, inclusion);
+        if (type == NutritionValues.class) return new NutritionValuesSerializer(fallback, inclusion);
+        return new RecipeTipsSerializer(fallback, inclusion);
+    }
+
+    static JsonDeserializer<?> deserializer(Class<?> type, JsonDeserializer<?> fallback) {
+        if (type == Recipe.class) return new RecipeDeserializer(fallback);
+        if (type == NutritionalInfo.class) return new NutritionalInfoDeserializer(fallback);
+        if (type == NutritionValues.class) return new NutritionValuesDeserializer(fallback);
+        return new RecipeTipsDeserializer(fallback);
+    }
+
+    // Recipe
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString INGREDIENTS = new SerializedString("ingredients");
+    private static final SerializedString INSTRUCTIONS = new SerializedString("instructions");
+    private static final SerializedString PREP_TIME_MINUTES = new SerializedString("prepTimeMinutes");
+    private static final SerializedString COOK_TIME_MINUTES = new SerializedString("cookTimeMinutes");
+    private static final SerializedString TOTAL_TIME_MINUTES = new SerializedString("totalTimeMinutes");
+    private static final SerializedString PREP_TIME = new SerializedString("prepTime");
+    private static final SerializedString COOK_TIME = new SerializedString("cookTime");
+    private static final SerializedString TOTAL_TIME = new SerializedString("totalTime");
+    private static final SerializedString SERVINGS = new SerializedString("servings");
+    private static final SerializedString NUTRITIONAL_INFO_NAME = new SerializedString("nutritionalInfo");
+    private static final SerializedString TIPS = new SerializedString("tips");
+    private static final SerializedString IMAGE_URL = new SerializedString("imageUrl");
+    private static final SerializedString SOURCE = new SerializedString("source");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString DIETARY_RESTRICTIONS = new SerializedString("dietaryRestrictions");
+    private static final SerializedString IMAGE_GENERATION = new SerializedString("imageGeneration");
+    private static final SerializedString RECIPE_NAME = new SerializedString("recipeName");
+    private static final SerializedString IS_PUBLIC = new SerializedString("isPublic");
+
+    private static final SerializableString[] RECIPE = {
+            ID, USER_ID, DESCRIPTION, INGREDIENTS, INSTRUCTIONS, PREP_TIME_MINUTES, COOK_TIME_MINUTES,
+            TOTAL_TIME_MINUTES, PREP_TIME, COOK_TIME, TOTAL_TIME, SERVINGS, NUTRITIONAL_INFO_NAME, TIPS, IMAGE_URL,
+            SOURCE, CREATED_AT, UPDATED_AT, TAGS, DIETARY_RESTRICTIONS, IMAGE_GENERATION, RECIPE_NAME, IS_PUBLIC
+    };
+
+    // Getters annotated with @JsonIgnore, which Jackson silently skips when they appear in input
+    private static final Set<String> RECIPE_IGNORED = Set.of("servingsAsInt", "calculatedTotalTimeMinutes");
+
+    static final class RecipeSerializer extends ModelSerializer<Recipe> {
+
+        RecipeSerializer(JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+            super(Recipe.class, fallback, inclusion);
+        }
+
+        @Override
+        protected void writeProperties(Recipe value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeString(gen, ID, value.getId());
+            writeString(gen, USER_ID, value.getUserId());
+            writeString(gen, DESCRIPTION, value.getDescription());
+            writeStringList(gen, provider, INGREDIENTS, value.getIngredients());
+            writeStringList(gen, provider, INSTRUCTIONS, value.getInstructions());
+            writeInteger(gen, PREP_TIME_MINUTES, value.getPrepTimeMinutes());
+            writeInteger(gen, COOK_TIME_MINUTES, value.getCookTimeMinutes());
+            writeInteger(gen, TOTAL_TIME_MINUTES, value.getTotalTimeMinutes());
+            writeString(gen, PREP_TIME, value.getPrepTime());
+            writeString(gen, COOK_TIME, value.getCookTime());
+            writeString(gen, TOTAL_TIME, value.getTotalTime());
+            writeInteger(gen, SERVINGS, value.getServings());
+            writeModel(gen, provider, NUTRITIONAL_INFO_NAME, value.getNutritionalInfo());
+            writeModel(gen, provider, TIPS, value.getTips());
+            writeString(gen, IMAGE_URL, value.getImageUrl());
+            writeString(gen, SOURCE, value.getSource());
+            writeInstant(gen, provider, CREATED_AT, value.getCreatedAt());
+            writeInstant(gen, provider, UPDATED_AT, value.getUpdatedAt());
+            writeStringList(gen, provider, TAGS, value.getTags());
+            writeStringList(gen, provider, DIETARY_RESTRICTIONS, value.getDietaryRestrictions());
+            writeMap(gen, provider, IMAGE_GENERATION, value.getImageGeneration());
+            writeString(gen, RECIPE_NAME, value.getRecipeName());
+            writeBoolean(gen, IS_PUBLIC, value.isPublicRecipe());
+        }
+    }
+
+    static final class RecipeDeserializer extends ModelDeserializer<Recipe> {
+
+        private JsonDeserializer<Object> nutritionalInfo;
+        private JsonDeserializer<Object> tips;
+
+        RecipeDeserializer(JsonDeserializer<?> fallback) {
+            super(Recipe.class, fallback, RECIPE, RECIPE_IGNORED);
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            super.resolve(ctxt);
+            nutritionalInfo = find(ctxt, ctxt.constructType(NutritionalInfo.class));
+            tips = find(ctxt, ctxt.constructType(RecipeTips.class));
+        }
+
+        @Override
+        protected Recipe createInstance() {
+            return new Recipe();
+        }
+
+        @Override
+        protected int indexOf(String name) {
+            switch (name) {
+                case "id": return 0;
+                case "userId": return 1;
+                case "description": return 2;
+                case "ingredients": return 3;
+                case "instructions": return 4;
+                case "prepTimeMinutes": return 5;
+                case "cookTimeMinutes": return 6;
+                case "totalTimeMinutes": return 7;
+                case "prepTime": return 8;
+                case "cookTime": return 9;
+                case "totalTime": return 10;
+                case "servings": return 11;
+                case "nutritionalInfo": return 12;
+                case "tips": return 13;
+                case "imageUrl": return 14;
+                case "source": return 15;
+                case "createdAt": return 16;
+                case "updatedAt": return 17;
+                case "tags": return 18;
+                case "dietaryRestrictions": return 19;
+                case "imageGeneration": return 20;
+                case "recipeName": return 21;
+                case "isPublic": return 22;
+                default: return UNKNOWN;
+            }
+        }
+
+        @Override
+        protected void readProperty(int index, JsonParser p, DeserializationContext ctxt, Recipe bean) throws IOException {
+            switch (index) {
+                case 0: bean.setId(readString(p, ctxt)); break;
+                case 1: bean.setUserId(readString(p, ctxt)); break;
+                case 2: bean.setDescription(readString(p, ctxt)); break;
+                case 3: bean.setIngredients(readStringList(p, ctxt)); break;
+                case 4: bean.setInstructions(readStringList(p, ctxt)); break;
+                case 5: bean.setPrepTimeMinutes(readInteger(p, ctxt)); break;
+                case 6: bean.setCookTimeMinutes(readInteger(p, ctxt)); break;
+                case 7: bean.setTotalTimeMinutes(readInteger(p, ctxt)); break;
+                case 8: bean.setPrepTime(readString(p, ctxt)); break;
+                case 9: bean.setCookTime(readString(p, ctxt)); break;
+                case 10: bean.setTotalTime(readString(p, ctxt)); break;
+                case 11: bean.setServings(readInteger(p, ctxt)); break;
+                case 12: bean.setNutritionalInfo(readModel(p, ctxt, nutritionalInfo)); break;
+                case 13: bean.setTips(readModel(p, ctxt, tips)); break;
+                case 14: bean.setImageUrl(readString(p, ctxt)); break;
+                case 15: bean.setSource(readString(p, ctxt)); break;
+                case 16: bean.setCreatedAt(readInstant(p, ctxt)); break;
+                case 17: bean.setUpdatedAt(readInstant(p, ctxt)); break;
+                case 18: bean.setTags(readStringList(p, ctxt)); break;
+                case 19: bean.setDietaryRestrictions(readStringList(p, ctxt)); break;
+                case 20: bean.setImageGeneration(readMap(p, ctxt)); break;
+                case 21: bean.setRecipeName(readString(p, ctxt)); break;
+                default: bean.setPublicRecipe(readBoolean(p, ctxt)); break;
+            }
+        }
+    }
+
+    // NutritionalInfo
+
+    private static final SerializedString PER_SERVING = new SerializedString("perServing");
+    private static final SerializedString TOTAL = new SerializedString("total");
+
+    private static final SerializableString[] NUTRITIONAL_INFO = {PER_SERVING, TOTAL};
+
+    static final class NutritionalInfoSerializer extends ModelSerializer<NutritionalInfo> {
+
+        NutritionalInfoSerializer(JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+            super(NutritionalInfo.class, fallback, inclusion);
+        }
+
+        @Override
+        protected void writeProperties(NutritionalInfo value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeModel(gen, provider, PER_SERVING, value.getPerServing());
+            writeModel(gen, provider, TOTAL, value.getTotal());
+        }
+    }
+
+    static final class NutritionalInfoDeserializer extends ModelDeserializer<NutritionalInfo> {
+
+        private JsonDeserializer<Object> values;
+
+        NutritionalInfoDeserializer(JsonDeserializer<?> fallback) {
+            super(NutritionalInfo.class, fallback, NUTRITIONAL_INFO, Set.of());
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            super.resolve(ctxt);
+            values = find(ctxt, ctxt.constructType(NutritionValues.class));
+        }
+
+        @Override
+        protected NutritionalInfo createInstance() {
+            return new NutritionalInfo();
+        }
+
+        @Override
+        protected int indexOf(String name) {
+            switch (name) {
+                case "perServing": return 0;
+                case "total": return 1;
+                default: return UNKNOWN;
+            }
+        }
+
+        @Override
+        protected void readProperty(int index, JsonParser p, DeserializationContext ctxt, NutritionalInfo bean) throws IOException {
+            if (index == 0) {
+                bean.setPerServing(readModel(p, ctxt, values));
+            } else {
+                bean.setTotal(readModel(p, ctxt, values));
+            }
+        }
+    }
+
+    // NutritionValues
+
+    private static final SerializedString CALORIES = new SerializedString("calories");
+    private static final SerializedString PROTEIN = new SerializedString("protein");
+    private static final SerializedString CARBOHYDRATES = new SerializedString("carbohydrates");
+    private static final SerializedString FAT = new SerializedString("fat");
+    private static final SerializedString FIBER = new SerializedString("fiber");
+    private static final SerializedString SODIUM = new SerializedString("sodium");
+
+    private static final SerializableString[] NUTRITION_VALUES = {CALORIES, PROTEIN, CARBOHYDRATES, FAT, FIBER, SODIUM};
+
+    static final class NutritionValuesSerializer extends ModelSerializer<NutritionValues> {
+
+        NutritionValuesSerializer(JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+            super(NutritionValues.class, fallback, inclusion);
+        }
+
+        @Override
+        protected void writeProperties(NutritionValues value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeDouble(gen, CALORIES, value.hasCalories(), value.caloriesOr(0));
+            writeDouble(gen, PROTEIN, value.hasProtein(), value.proteinOr(0));
+            writeDouble(gen, CARBOHYDRATES, value.hasCarbohydrates(), value.carbohydratesOr(0));
+            writeDouble(gen, FAT, value.hasFat(), value.fatOr(0));
+            writeDouble(gen, FIBER, value.hasFiber(), value.fiberOr(0));
+            writeDouble(gen, SODIUM, value.hasSodium(), value.sodiumOr(0));
+        }
+    }
+
+    static final class NutritionValuesDeserializer extends ModelDeserializer<NutritionValues> {
+
+        NutritionValuesDeserializer(JsonDeserializer<?> fallback) {
+            super(NutritionValues.class, fallback, NUTRITION_VALUES, Set.of());
+        }
+
+        @Override
+        protected NutritionValues createInstance() {
+            return new NutritionValues();
+        }
+
+        @Override
+        protected int indexOf(String name) {
+            switch (name) {
+                case "calories": return 0;
+                case "protein": return 1;
+                case "carbohydrates": return 2;
+                case "fat": return 3;
+                case "fiber": return 4;
+                case "sodium": return 5;
+                default: return UNKNOWN;
+            }
+        }
+
+        @Override
+        protected void readProperty(int index, JsonParser p, DeserializationContext ctxt, NutritionValues bean) throws IOException {
+            Double value = readDouble(p, ctxt);
+            switch (index) {
+                case 0: bean.setCalories(value); break;
+                case 1: bean.setProtein(value); break;
+                case 2: bean.setCarbohydrates(value); break;
+                case 3: bean.setFat(value); break;
+                case 4: bean.setFiber(value); break;
+                default: bean.setSodium(value); break;
+            }
+        }
+    }
+
+    // RecipeTips
+
+    private static final SerializedString SUBSTITUTIONS = new SerializedString("substitutions");
+    private static final SerializedString MAKE_AHEAD = new SerializedString("makeAhead");
+    private static final SerializedString STORAGE = new SerializedString("storage");
+    private static final SerializedString REHEATING = new SerializedString("reheating");
+    private static final SerializedString VARIATIONS = new SerializedString("variations");
+
+    private static final SerializableString[] RECIPE_TIPS = {SUBSTITUTIONS, MAKE_AHEAD, STORAGE, REHEATING, VARIATIONS};
+
+    static final class RecipeTipsSerializer extends ModelSerializer<RecipeTips> {
+
+        RecipeTipsSerializer(JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+            super(RecipeTips.class, fallback, inclusion);
+        }
+
+        @Override
+        protected void writeProperties(RecipeTips value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeStringList(gen, provider, SUBSTITUTIONS, value.getSubstitutions());
+            writeString(gen, MAKE_AHEAD, value.getMakeAhead());
+            writeString(gen, STORAGE, value.getStorage());
+            writeString(gen, REHEATING, value.getReheating());
+            writeStringList(gen, provider, VARIATIONS, value.getVariations());
+        }
+    }
+
+    static final class RecipeTipsDeserializer extends ModelDeserializer<RecipeTips> {
+
+        RecipeTipsDeserializer(JsonDeserializer<?> fallback) {
+            super(RecipeTips.class, fallback, RECIPE_TIPS, Set.of());
+        }
+
+        @Override
+        protected RecipeTips createInstance() {
+            return new RecipeTips();
+        }
+
+        @Override
+        protected int indexOf(String name) {
+            switch (name) {
+                case "substitutions": return 0;
+                case "makeAhead": return 1;
+                case "storage": return 2;
+                case "reheating": return 3;
+                case "variations": return 4;
+                default: return UNKNOWN;
+            }
+        }
+
+        @Override
+        protected void readProperty(int index, JsonParser p, DeserializationContext ctxt, RecipeTips bean) throws IOException {
+            switch (index) {
+                case 0: bean.setSubstitutions(readStringList(p, ctxt)); break;
+                case 1: bean.setMakeAhead(readString(p, ctxt)); break;
+                case 2: bean.setStorage(readString(p, ctxt)); break;
+                case 3: bean.setReheating(readString(p, ctxt)); break;
+                default: bean.setVariations(readStringList(p, ctxt)); break;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.recipe.shared;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base for the hand-written model serializers registered by {@link RecipeJacksonModule}.
+ * Subclasses write their properties in the order Jackson's bean serializer would; the property inclusion rule is
+ * fixed when the serializer is created, exactly as Jackson does for bean properties. Anything the fast path does not
+ * reproduce (type information, JSON views, property-level annotations) is handed to the default bean serializer.
+ */
+abstract class ModelSerializer<T> extends StdSerializer<T> implements ResolvableSerializer, ContextualSerializer {
+
+    private final JsonSerializer<Object> fallback;
+    private final boolean suppressNulls;
+    private final boolean suppressEmpty;
+
+    private JsonSerializer<Object> stringListSerializer;
+    private JsonSerializer<Object> mapSerializer;
+    private JsonSerializer<Object> instantSerializer;
+
+    @SuppressWarnings("unchecked")
+    ModelSerializer(Class<T> type, JsonSerializer<?> fallback, JsonInclude.Include inclusion) {
+        super(type);
+        this.fallback = (JsonSerializer<Object>) fallback;
+        this.suppressNulls = inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+        this.suppressEmpty = inclusion == JsonInclude.Include.NON_EMPTY;
+    }
+
+    /**
+     * Writes the properties of a non-null value, between the start and end of its JSON object.
+     */
+    protected abstract void writeProperties(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        // Jackson only resolves the serializer it caches, which is this one rather than the bean serializer it wraps
+        if (fallback instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+        JavaType stringList = provider.getTypeFactory().constructCollectionType(List.class, String.class);
+        stringListSerializer = provider.findValueSerializer(stringList, null);
+        mapSerializer = provider.findValueSerializer(provider.getTypeFactory().constructMapType(Map.class, String.class, Object.class), null);
+        instantSerializer = provider.findValueSerializer(Instant.class, null);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (!(fallback instanceof ContextualSerializer contextual)) {
+            return this;
+        }
+        // Property-level annotations changed how the bean is written; let the default serializer apply them
+        JsonSerializer<?> serializer = contextual.createContextual(provider, property);
+        return serializer == fallback ? this : serializer;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (provider.getActiveView() != null) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeStartObject(value);
+        writeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        fallback.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    protected final void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value == null) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else if (!suppressEmpty || !value.isEmpty()) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    protected final void writeInteger(JsonGenerator gen, SerializableString name, Integer value) throws IOException {
+        if (value == null) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    protected final void writeDouble(JsonGenerator gen, SerializableString name, Double value) throws IOException {
+        if (value == null) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+
+    /**
+     * Writes an optional primitive double, {@code present} telling whether it is set, without boxing it.
+     */
+    protected final void writeDouble(JsonGenerator gen, SerializableString name, boolean present, double value) throws IOException {
+        if (!present) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    protected final void writeBoolean(JsonGenerator gen, SerializableString name, boolean value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeBoolean(value);
+    }
+
+    protected final void writeStringList(JsonGenerator gen, SerializerProvider provider, SerializableString name, List<String> value) throws IOException {
+        if (value == null) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+            return;
+        }
+        if (suppressEmpty && value.isEmpty()) {
+            return;
+        }
+        gen.writeFieldName(name);
+        if (provider.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)) {
+            stringListSerializer.serialize(value, gen, provider);
+            return;
+        }
+        int size = value.size();
+        gen.writeStartArray(value, size);
+        for (int i = 0; i < size; i++) {
+            String element = value.get(i);
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(element);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected final void writeMap(JsonGenerator gen, SerializerProvider provider, SerializableString name, Map<String, Object> value) throws IOException {
+        writeValue(gen, provider, name, value, mapSerializer);
+    }
+
+    protected final void writeInstant(JsonGenerator gen, SerializerProvider provider, SerializableString name, Instant value) throws IOException {
+        writeValue(gen, provider, name, value, instantSerializer);
+    }
+
+    /**
+     * Writes a nested model, using whatever serializer the provider has for its type (normally another model serializer).
+     */
+    protected final void writeModel(JsonGenerator gen, SerializerProvider provider, SerializableString name, Object value) throws IOException {
+        writeValue(gen, provider, name, value, value == null ? null : provider.findValueSerializer(value.getClass(), null));
+    }
+
+    private void writeValue(JsonGenerator gen, SerializerProvider provider, SerializableString name, Object value,
+                            JsonSerializer<Object> serializer) throws IOException {
+        if (value == null) {
+            if (!suppressNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else if (!suppressEmpty || !serializer.isEmpty(provider, value)) {
+            gen.writeFieldName(name);
+            serializer.serialize(value, gen, provider);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.recipe.shared;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.RecipeTips;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Jackson module with hand-written streaming serializers and deserializers for {@code Recipe},
+ * {@code NutritionalInfo}, {@code NutritionValues} and {@code RecipeTips}, replacing reflective bean access with
+ * direct getter and setter calls and pre-encoded property names.
+ * <p>
+ * Register it on any {@code ObjectMapper}: {@code mapper.registerModule(new RecipeJacksonModule())}. The JSON read
+ * and written is identical to the mapper's default output, including property order, null handling and the
+ * configured property inclusion. When the mapper is configured in a way the hand-written code does not reproduce
+ * (naming strategies, mix-ins, sorted properties, {@code NON_DEFAULT} or custom inclusion, case-insensitive
+ * properties) the module leaves Jackson's default bean (de)serializers in place.
+ */
+public class RecipeJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    // Property types of the models; an inclusion override for any of them disables the hand-written serializers
+    private static final List<Class<?>> PROPERTY_TYPES = List.of(String.class, Integer.class, Double.class,
+            boolean.class, List.class, Map.class, Instant.class, NutritionalInfo.class, NutritionValues.class,
+            RecipeTips.class);
+
+    public RecipeJacksonModule() {
+        super(RecipeJacksonModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new SerializerModifier());
+        context.addBeanDeserializerModifier(new DeserializerModifier());
+    }
+
+    private static final class SerializerModifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            Class<?> type = beanDesc.getBeanClass();
+            SerializableString[] names = ModelJson.names(type);
+            if (names == null || !(serializer instanceof BeanSerializerBase bean) || !sameOrder(bean.properties(), names)) {
+                return serializer;
+            }
+            JsonInclude.Include inclusion = inclusion(config, type);
+            return inclusion == null ? serializer : ModelJson.serializer(type, serializer, inclusion);
+        }
+
+        private static boolean sameOrder(Iterator<PropertyWriter> properties, SerializableString[] names) {
+            for (SerializableString name : names) {
+                if (!properties.hasNext() || !properties.next().getName().equals(name.getValue())) {
+                    return false;
+                }
+            }
+            return !properties.hasNext();
+        }
+
+        /**
+         * Returns the inclusion shared by every model property, or null if it is not one the serializers implement.
+         */
+        private static JsonInclude.Include inclusion(SerializationConfig config, Class<?> type) {
+            JsonInclude.Include inclusion = null;
+            for (Class<?> propertyType : PROPERTY_TYPES) {
+                JsonInclude.Include include = config.getDefaultInclusion(type, propertyType).getValueInclusion();
+                if (include == JsonInclude.Include.NON_DEFAULT || include == JsonInclude.Include.CUSTOM
+                        || (inclusion != null && inclusion != include)) {
+                    return null;
+                }
+                inclusion = include;
+            }
+            return inclusion;
+        }
+    }
+
+    private static final class DeserializerModifier extends BeanDeserializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            Class<?> type = beanDesc.getBeanClass();
+            SerializableString[] names = ModelJson.names(type);
+            if (names == null || !(deserializer instanceof BeanDeserializerBase bean) || !sameNames(bean.properties(), names)
+                    || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                    || !JsonSetter.Value.empty().equals(config.getDefaultSetterInfo())
+                    || hasIgnorals(config.getDefaultPropertyIgnorals(type))) {
+                return deserializer;
+            }
+            return ModelJson.deserializer(type, deserializer);
+        }
+
+        private static boolean hasIgnorals(JsonIgnoreProperties.Value ignorals) {
+            return ignorals != null && !JsonIgnoreProperties.Value.empty().equals(ignorals);
+        }
+
+        private static boolean sameNames(Iterator<SettableBeanProperty> properties, SerializableString[] names) {
+            Set<String> expected = new HashSet<>();
+            for (SerializableString name : names) {
+                expected.add(name.getValue());
+            }
+            int count = 0;
+            while (properties.hasNext()) {
+                if (!expected.contains(properties.next().getName())) {
+                    return false;
+                }
+                count++;
+            }
+            return count == expected.size();
+        }
+    }
+}
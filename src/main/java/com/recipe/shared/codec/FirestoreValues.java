@@ -0,0 +1,188 @@
+package com.recipe.shared.codec;
+
+import com.google.cloud.Timestamp;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Value conversions used by the codecs generated for {@link GenerateFirestoreCodec} classes.
+ * Conversions follow Firestore's own object mapper: whole numbers come back from Firestore as {@code Long} and are
+ * narrowed with a range check, timestamps come back as {@link Timestamp}, and a value of the wrong type fails with an
+ * {@link IllegalArgumentException} naming the property.
+ */
+public final class FirestoreValues {
+
+    private FirestoreValues() {}
+
+    public static String asString(Object value, String property) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        throw mismatch(value, "String", property);
+    }
+
+    public static Boolean asBoolean(Object value, String property) {
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw mismatch(value, "Boolean", property);
+    }
+
+    public static Integer asInteger(Object value, String property) {
+        if (value == null || value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (d >= Integer.MIN_VALUE && d <= Integer.MAX_VALUE) {
+                return number.intValue();
+            }
+            throw new IllegalArgumentException("Numeric value " + value + " of property '" + property + "' is out of range for Integer");
+        }
+        throw mismatch(value, "Integer", property);
+    }
+
+    public static Long asLong(Object value, String property) {
+        if (value == null || value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
+                return number.longValue();
+            }
+            throw new IllegalArgumentException("Numeric value " + value + " of property '" + property + "' is out of range for Long");
+        }
+        throw mismatch(value, "Long", property);
+    }
+
+    public static Double asDouble(Object value, String property) {
+        if (value == null || value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        throw mismatch(value, "Double", property);
+    }
+
+    public static Instant asInstant(Object value, String property) {
+        if (value == null || value instanceof Instant) {
+            return (Instant) value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+        }
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        throw mismatch(value, "Instant", property);
+    }
+
+    public static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.ofTimeSecondsAndNanos(instant.getEpochSecond(), instant.getNano());
+    }
+
+    public static <E extends Enum<E>> E asEnum(Object value, String property, Class<E> type) {
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value instanceof String name) {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " value '" + name + "' for property '" + property + "'", e);
+            }
+        }
+        throw mismatch(value, type.getSimpleName(), property);
+    }
+
+    public static String enumName(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> asMap(Object value, String property) {
+        if (value == null || value instanceof Map) {
+            return (Map<String, Object>) value;
+        }
+        throw mismatch(value, "Map", property);
+    }
+
+    /**
+     * Converts each element of a list into a new list, so the decoded bean never shares a list with the document map.
+     */
+    public static <T> List<T> asList(Object value, String property, BiFunction<Object, String, T> element) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> source)) {
+            throw mismatch(value, "List", property);
+        }
+        List<T> converted = new ArrayList<>(source.size());
+        for (Object original : source) {
+            converted.add(element.apply(original, property));
+        }
+        return converted;
+    }
+
+    /**
+     * Returns a copy of a list whose elements need no converting, so the document map never shares a list with the bean.
+     */
+    public static List<Object> copyList(List<?> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    /**
+     * Returns a deep copy of a free-form map, copying nested maps and lists and keeping other values, so the bean and
+     * the document map never share a mutable structure.
+     */
+    public static Map<String, Object> copyMap(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    public static <T> List<Object> encodeList(List<T> values, Function<T, Object> element) {
+        if (values == null) {
+            return null;
+        }
+        List<Object> encoded = new ArrayList<>(values.size());
+        for (T value : values) {
+            encoded.add(element.apply(value));
+        }
+        return encoded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return copyMap((Map<String, Object>) map);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException mismatch(Object value, String expected, String property) {
+        return new IllegalArgumentException("Failed to convert value of type " + value.getClass().getName()
+                + " to " + expected + " for property '" + property + "'");
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipe.shared.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class that gets a reflection-free Firestore codec generated at compile time by
+ * {@link com.recipe.shared.codec.processor.FirestoreCodecProcessor}. For a class {@code Recipe} the processor writes
+ * {@code RecipeFirestoreCodec} to the same package, with static {@code encode} and {@code decode} methods that
+ * convert between the bean and the document map Firestore reads and writes.
+ * <p>
+ * Every non-static, non-transient field not annotated with {@code @Exclude} is persisted under its field name, or
+ * under the name given by a {@code @PropertyName} annotation on the field. Fields are accessed through Lombok-style
+ * getters and setters, and the class needs a no-argument constructor.
+ * <p>
+ * Like Firestore's own object mapper, the codecs copy lists and {@code Map<String, Object>} values (including nested
+ * maps and lists) in both directions, so changing a decoded bean never changes the document map it came from, and
+ * changing an encoded map never changes the bean.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateFirestoreCodec {
+
+    /**
+     * Suffix appended to the simple name of the annotated class to name its generated codec.
+     */
+    String CODEC_SUFFIX = "FirestoreCodec";
+}
@@ -0,0 +1,341 @@
+package com.recipe.shared.codec;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Wire codecs for the model classes.
+ * <p>
+ * The field numbers below are the format. A new field takes the next unused number; a removed field's number is
+ * retired, never reused, and existing numbers are never changed. Readers skip numbers they do not know, so services
+ * on different library versions can still exchange recipes.
+ */
+public final class ModelWireCodecs {
+
+    public static final WireCodec<NutritionValues> NUTRITION_VALUES = new NutritionValuesCodec();
+    public static final WireCodec<NutritionalInfo> NUTRITIONAL_INFO = new NutritionalInfoCodec();
+    public static final WireCodec<RecipeTips> RECIPE_TIPS = new RecipeTipsCodec();
+    public static final WireCodec<Recipe> RECIPE = new RecipeCodec();
+
+    private static final WireCodec<Instant> INSTANT = new InstantCodec();
+
+    private ModelWireCodecs() {}
+
+    private static final class NutritionValuesCodec extends WireCodec<NutritionValues> {
+
+        private static final int CALORIES = 1;
+        private static final int PROTEIN = 2;
+        private static final int CARBOHYDRATES = 3;
+        private static final int FAT = 4;
+        private static final int FIBER = 5;
+        private static final int SODIUM = 6;
+
+        @Override
+        int size(NutritionValues value, WireSizes sizes) {
+            return WireWriter.doubleFieldSize(CALORIES, value.hasCalories())
+                + WireWriter.doubleFieldSize(PROTEIN, value.hasProtein())
+                + WireWriter.doubleFieldSize(CARBOHYDRATES, value.hasCarbohydrates())
+                + WireWriter.doubleFieldSize(FAT, value.hasFat())
+                + WireWriter.doubleFieldSize(FIBER, value.hasFiber())
+                + WireWriter.doubleFieldSize(SODIUM, value.hasSodium());
+        }
+
+        @Override
+        void write(NutritionValues value, WireWriter out) {
+            out.doubleField(CALORIES, value.hasCalories(), value.caloriesOr(0));
+            out.doubleField(PROTEIN, value.hasProtein(), value.proteinOr(0));
+            out.doubleField(CARBOHYDRATES, value.hasCarbohydrates(), value.carbohydratesOr(0));
+            out.doubleField(FAT, value.hasFat(), value.fatOr(0));
+            out.doubleField(FIBER, value.hasFiber(), value.fiberOr(0));
+            out.doubleField(SODIUM, value.hasSodium(), value.sodiumOr(0));
+        }
+
+        @Override
+        NutritionValues read(WireReader in) {
+            NutritionValues value = new NutritionValues();
+            while (in.hasRemaining()) {
+                int tag = in.tag();
+                switch (WireReader.field(tag)) {
+                    case CALORIES -> value.setCalories(readDouble(in, tag));
+                    case PROTEIN -> value.setProtein(readDouble(in, tag));
+                    case CARBOHYDRATES -> value.setCarbohydrates(readDouble(in, tag));
+                    case FAT -> value.setFat(readDouble(in, tag));
+                    case FIBER -> value.setFiber(readDouble(in, tag));
+                    case SODIUM -> value.setSodium(readDouble(in, tag));
+                    default -> in.skip(tag);
+                }
+            }
+            return value;
+        }
+    }
+
+    private static final class NutritionalInfoCodec extends WireCodec<NutritionalInfo> {
+
+        private static final int PER_SERVING = 1;
+        private static final int TOTAL = 2;
+
+        @Override
+        int size(NutritionalInfo value, WireSizes sizes) {
+            return NUTRITION_VALUES.fieldSize(PER_SERVING, value.getPerServing(), sizes)
+                + NUTRITION_VALUES.fieldSize(TOTAL, value.getTotal(), sizes);
+        }
+
+        @Override
+        void write(NutritionalInfo value, WireWriter out) {
+            NUTRITION_VALUES.writeField(out, PER_SERVING, value.getPerServing());
+            NUTRITION_VALUES.writeField(out, TOTAL, value.getTotal());
+        }
+
+        @Override
+        NutritionalInfo read(WireReader in) {
+            NutritionalInfo value = new NutritionalInfo();
+            while (in.hasRemaining()) {
+                int tag = in.tag();
+                switch (WireReader.field(tag)) {
+                    case PER_SERVING -> value.setPerServing(NUTRITION_VALUES.readField(expect(in, tag)));
+                    case TOTAL -> value.setTotal(NUTRITION_VALUES.readField(expect(in, tag)));
+                    default -> in.skip(tag);
+                }
+            }
+            return value;
+        }
+    }
+
+    private static final class RecipeTipsCodec extends WireCodec<RecipeTips> {
+
+        private static final int SUBSTITUTIONS = 1;
+        private static final int MAKE_AHEAD = 2;
+        private static final int STORAGE = 3;
+        private static final int REHEATING = 4;
+        private static final int VARIATIONS = 5;
+
+        @Override
+        int size(RecipeTips value, WireSizes sizes) {
+            return WireWriter.stringListFieldSize(SUBSTITUTIONS, value.getSubstitutions(), sizes)
+                + WireWriter.stringFieldSize(MAKE_AHEAD, value.getMakeAhead())
+                + WireWriter.stringFieldSize(STORAGE, value.getStorage())
+                + WireWriter.stringFieldSize(REHEATING, value.getReheating())
+                + WireWriter.stringListFieldSize(VARIATIONS, value.getVariations(), sizes);
+        }
+
+        @Override
+        void write(RecipeTips value, WireWriter out) {
+            out.stringListField(SUBSTITUTIONS, value.getSubstitutions());
+            out.stringField(MAKE_AHEAD, value.getMakeAhead());
+            out.stringField(STORAGE, value.getStorage());
+            out.stringField(REHEATING, value.getReheating());
+            out.stringListField(VARIATIONS, value.getVariations());
+        }
+
+        @Override
+        RecipeTips read(WireReader in) {
+            RecipeTips value = new RecipeTips();
+            while (in.hasRemaining()) {
+                int tag = in.tag();
+                switch (WireReader.field(tag)) {
+                    case SUBSTITUTIONS -> value.setSubstitutions(expect(in, tag).stringList());
+                    case MAKE_AHEAD -> value.setMakeAhead(expect(in, tag).string());
+                    case STORAGE -> value.setStorage(expect(in, tag).string());
+                    case REHEATING -> value.setReheating(expect(in, tag).string());
+                    case VARIATIONS -> value.setVariations(expect(in, tag).stringList());
+                    default -> in.skip(tag);
+                }
+            }
+            return value;
+        }
+    }
+
+    private static final class RecipeCodec extends WireCodec<Recipe> {
+
+        private static final int ID = 1;
+        private static final int USER_ID = 2;
+        private static final int RECIPE_NAME = 3;
+        private static final int DESCRIPTION = 4;
+        private static final int INGREDIENTS = 5;
+        private static final int INSTRUCTIONS = 6;
+        private static final int PREP_TIME_MINUTES = 7;
+        private static final int COOK_TIME_MINUTES = 8;
+        private static final int TOTAL_TIME_MINUTES = 9;
+        private static final int PREP_TIME = 10;
+        private static final int COOK_TIME = 11;
+        private static final int TOTAL_TIME = 12;
+        private static final int SERVINGS = 13;
+        private static final int NUTRITIONAL_INFO = 14;
+        private static final int TIPS = 15;
+        private static final int IMAGE_URL = 16;
+        private static final int SOURCE = 17;
+        private static final int CREATED_AT = 18;
+        private static final int UPDATED_AT = 19;
+        private static final int TAGS = 20;
+        private static final int DIETARY_RESTRICTIONS = 21;
+        private static final int IS_PUBLIC = 22;
+        private static final int IMAGE_GENERATION = 23;
+
+        @Override
+        int size(Recipe value, WireSizes sizes) {
+            return WireWriter.stringFieldSize(ID, value.getId())
+                + WireWriter.stringFieldSize(USER_ID, value.getUserId())
+                + WireWriter.stringFieldSize(RECIPE_NAME, value.getRecipeName())
+                + WireWriter.stringFieldSize(DESCRIPTION, value.getDescription())
+                + WireWriter.stringListFieldSize(INGREDIENTS, value.getIngredients(), sizes)
+                + WireWriter.stringListFieldSize(INSTRUCTIONS, value.getInstructions(), sizes)
+                + WireWriter.intFieldSize(PREP_TIME_MINUTES, value.getPrepTimeMinutes())
+                + WireWriter.intFieldSize(COOK_TIME_MINUTES, value.getCookTimeMinutes())
+                + WireWriter.intFieldSize(TOTAL_TIME_MINUTES, value.getTotalTimeMinutes())
+                + WireWriter.stringFieldSize(PREP_TIME, value.getPrepTime())
+                + WireWriter.stringFieldSize(COOK_TIME, value.getCookTime())
+                + WireWriter.stringFieldSize(TOTAL_TIME, value.getTotalTime())
+                + WireWriter.intFieldSize(SERVINGS, value.getServings())
+                + ModelWireCodecs.NUTRITIONAL_INFO.fieldSize(NUTRITIONAL_INFO, value.getNutritionalInfo(), sizes)
+                + RECIPE_TIPS.fieldSize(TIPS, value.getTips(), sizes)
+                + WireWriter.stringFieldSize(IMAGE_URL, value.getImageUrl())
+                + WireWriter.stringFieldSize(SOURCE, value.getSource())
+                + INSTANT.fieldSize(CREATED_AT, value.getCreatedAt(), sizes)
+                + INSTANT.fieldSize(UPDATED_AT, value.getUpdatedAt(), sizes)
+                + WireWriter.stringListFieldSize(TAGS, value.getTags(), sizes)
+                + WireWriter.stringListFieldSize(DIETARY_RESTRICTIONS, value.getDietaryRestrictions(), sizes)
+                + WireWriter.booleanFieldSize(IS_PUBLIC, value.isPublicRecipe())
+                + WireValues.mapFieldSize(IMAGE_GENERATION, value.getImageGeneration(), sizes);
+        }
+
+        @Override
+        void write(Recipe value, WireWriter out) {
+            out.stringField(ID, value.getId());
+            out.stringField(USER_ID, value.getUserId());
+            out.stringField(RECIPE_NAME, value.getRecipeName());
+            out.stringField(DESCRIPTION, value.getDescription());
+            out.stringListField(INGREDIENTS, value.getIngredients());
+            out.stringListField(INSTRUCTIONS, value.getInstructions());
+            out.intField(PREP_TIME_MINUTES, value.getPrepTimeMinutes());
+            out.intField(COOK_TIME_MINUTES, value.getCookTimeMinutes());
+            out.intField(TOTAL_TIME_MINUTES, value.getTotalTimeMinutes());
+            out.stringField(PREP_TIME, value.getPrepTime());
+            out.stringField(COOK_TIME, value.getCookTime());
+            out.stringField(TOTAL_TIME, value.getTotalTime());
+            out.intField(SERVINGS, value.getServings());
+            ModelWireCodecs.NUTRITIONAL_INFO.writeField(out, NUTRITIONAL_INFO, value.getNutritionalInfo());
+            RECIPE_TIPS.writeField(out, TIPS, value.getTips());
+            out.stringField(IMAGE_URL, value.getImageUrl());
+            out.stringField(SOURCE, value.getSource());
+            INSTANT.writeField(out, CREATED_AT, value.getCreatedAt());
+            INSTANT.writeField(out, UPDATED_AT, value.getUpdatedAt());
+            out.stringListField(TAGS, value.getTags());
+            out.stringListField(DIETARY_RESTRICTIONS, value.getDietaryRestrictions());
+            out.booleanField(IS_PUBLIC, value.isPublicRecipe());
+            WireValues.writeMapField(out, IMAGE_GENERATION, value.getImageGeneration());
+        }
+
+        @Override
+        Recipe read(WireReader in) {
+            Recipe value = new Recipe();
+            while (in.hasRemaining()) {
+                int tag = in.tag();
+                switch (WireReader.field(tag)) {
+                    case ID -> value.setId(expect(in, tag).string());
+                    case USER_ID -> value.setUserId(expect(in, tag).string());
+                    case RECIPE_NAME -> value.setRecipeName(expect(in, tag).string());
+                    case DESCRIPTION -> value.setDescription(expect(in, tag).string());
+                    case INGREDIENTS -> value.setIngredients(expect(in, tag).stringList());
+                    case INSTRUCTIONS -> value.setInstructions(expect(in, tag).stringList());
+                    case PREP_TIME_MINUTES -> value.setPrepTimeMinutes(readInt(in, tag));
+                    case COOK_TIME_MINUTES -> value.setCookTimeMinutes(readInt(in, tag));
+                    case TOTAL_TIME_MINUTES -> value.setTotalTimeMinutes(readInt(in, tag));
+                    case PREP_TIME -> value.setPrepTime(expect(in, tag).string());
+                    case COOK_TIME -> value.setCookTime(expect(in, tag).string());
+                    case TOTAL_TIME -> value.setTotalTime(expect(in, tag).string());
+                    case SERVINGS -> value.setServings(readInt(in, tag));
+                    case NUTRITIONAL_INFO -> value.setNutritionalInfo(ModelWireCodecs.NUTRITIONAL_INFO.readField(expect(in, tag)));
+                    case TIPS -> value.setTips(RECIPE_TIPS.readField(expect(in, tag)));
+                    case IMAGE_URL -> value.setImageUrl(expect(in, tag).string());
+                    case SOURCE -> value.setSource(expect(in, tag).string());
+                    case CREATED_AT -> value.setCreatedAt(INSTANT.readField(expect(in, tag)));
+                    case UPDATED_AT -> value.setUpdatedAt(INSTANT.readField(expect(in, tag)));
+                    case TAGS -> value.setTags(expect(in, tag).stringList());
+                    case DIETARY_RESTRICTIONS -> value.setDietaryRestrictions(expect(in, tag).stringList());
+                    case IS_PUBLIC -> value.setPublicRecipe(readVarint(in, tag) != 0);
+                    case IMAGE_GENERATION -> value.setImageGeneration(WireValues.readMapField(expect(in, tag)));
+                    default -> in.skip(tag);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Instants as seconds since the epoch (zigzag, so pre-1970 values stay small) plus nanoseconds, omitted when zero.
+     */
+    private static final class InstantCodec extends WireCodec<Instant> {
+
+        private static final int SECONDS = 1;
+        private static final int NANOS = 2;
+
+        @Override
+        int size(Instant value, WireSizes sizes) {
+            int size = WireWriter.tagSize(SECONDS) + WireWriter.varint64Size(WireWriter.zigzag(value.getEpochSecond()));
+            if (value.getNano() != 0) {
+                size += WireWriter.tagSize(NANOS) + WireWriter.varint32Size(value.getNano());
+            }
+            return size;
+        }
+
+        @Override
+        void write(Instant value, WireWriter out) {
+            out.tag(SECONDS, WireWriter.VARINT);
+            out.varint64(WireWriter.zigzag(value.getEpochSecond()));
+            if (value.getNano() != 0) {
+                out.tag(NANOS, WireWriter.VARINT);
+                out.varint32(value.getNano());
+            }
+        }
+
+        @Override
+        Instant read(WireReader in) {
+            long seconds = 0;
+            int nanos = 0;
+            while (in.hasRemaining()) {
+                int tag = in.tag();
+                switch (WireReader.field(tag)) {
+                    case SECONDS -> {
+                        expect(in, tag, WireWriter.VARINT);
+                        seconds = in.sint64();
+                    }
+                    case NANOS -> nanos = readVarint(in, tag);
+                    default -> in.skip(tag);
+                }
+            }
+            try {
+                return Instant.ofEpochSecond(seconds, nanos);
+            } catch (DateTimeException e) {
+                throw WireReader.malformed("instant out of range");
+            }
+        }
+    }
+
+    private static WireReader expect(WireReader in, int tag) {
+        return expect(in, tag, WireWriter.LENGTH_DELIMITED);
+    }
+
+    private static WireReader expect(WireReader in, int tag, int wireType) {
+        if (WireReader.wireType(tag) != wireType) {
+            throw WireReader.wrongType(tag);
+        }
+        return in;
+    }
+
+    private static Double readDouble(WireReader in, int tag) {
+        return expect(in, tag, WireWriter.FIXED64).doubleValue();
+    }
+
+    private static Integer readInt(WireReader in, int tag) {
+        return expect(in, tag, WireWriter.VARINT).sint32();
+    }
+
+    private static int readVarint(WireReader in, int tag) {
+        return expect(in, tag, WireWriter.VARINT).varint32();
+    }
+}
@@ -0,0 +1,128 @@
+package com.recipe.shared.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary codec for one model class, for transfer between services that share this library. Each field is
+ * written as a varint tag (field number and wire type) followed by its value, so absent fields take no space and
+ * fields added later are skipped by older readers. The field numbers are part of the format: see
+ * {@link ModelWireCodecs} for the assignments.
+ * <p>
+ * Instances are stateless and thread-safe. Malformed input fails with an {@link IllegalArgumentException}.
+ *
+ * @param <T> the model class
+ */
+public abstract class WireCodec<T> {
+
+    WireCodec() {}
+
+    /**
+     * Encodes a value into a new array of exactly {@link #encodedSize(Object)} bytes.
+     */
+    public final byte[] encode(T value) {
+        WireSizes sizes = new WireSizes();
+        byte[] buffer = new byte[size(value, sizes)];
+        write(value, new WireWriter(buffer, 0, sizes));
+        return buffer;
+    }
+
+    /**
+     * Returns the number of bytes {@link #encode(Object)} produces for a value.
+     */
+    public final int encodedSize(T value) {
+        return size(value, new WireSizes());
+    }
+
+    /**
+     * Encodes a value at the buffer's position and advances it past the written bytes.
+     *
+     * @throws BufferOverflowException if fewer than {@link #encodedSize(Object)} bytes remain; nothing is written
+     */
+    public final void encode(T value, ByteBuffer buffer) {
+        WireSizes sizes = new WireSizes();
+        int size = size(value, sizes);
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        if (buffer.hasArray() && !buffer.isReadOnly()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            WireWriter out = new WireWriter(buffer.array(), start, sizes);
+            write(value, out);
+            buffer.position(buffer.position() + (out.position() - start));
+        } else {
+            byte[] bytes = new byte[size];
+            write(value, new WireWriter(bytes, 0, sizes));
+            buffer.put(bytes);
+        }
+    }
+
+    public final T decode(byte[] bytes) {
+        return decode(bytes, 0, bytes.length);
+    }
+
+    public final T decode(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                + ") out of bounds for length " + bytes.length);
+        }
+        return read(new WireReader(bytes, offset, length));
+    }
+
+    /**
+     * Decodes the remaining bytes of the buffer as one value and advances its position to the limit.
+     */
+    public final T decode(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        T value;
+        if (buffer.hasArray()) {
+            value = read(new WireReader(buffer.array(), buffer.arrayOffset() + buffer.position(), length));
+            buffer.position(buffer.limit());
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = read(new WireReader(bytes, 0, length));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the encoded size of a value, recording the lengths its {@link #write} needs in {@code sizes}.
+     */
+    abstract int size(T value, WireSizes sizes);
+
+    abstract void write(T value, WireWriter out);
+
+    abstract T read(WireReader in);
+
+    /**
+     * Returns the size of this codec's value written as a nested field, or zero when it is absent.
+     */
+    final int fieldSize(int field, T value, WireSizes sizes) {
+        if (value == null) {
+            return 0;
+        }
+        int slot = sizes.reserve();
+        int size = size(value, sizes);
+        sizes.set(slot, size);
+        return WireWriter.lengthDelimitedFieldSize(field, size);
+    }
+
+    final void writeField(WireWriter out, int field, T value) {
+        if (value != null) {
+            out.tag(field, WireWriter.LENGTH_DELIMITED);
+            out.varint32(out.nextSize());
+            write(value, out);
+        }
+    }
+
+    /**
+     * Reads a nested field whose tag has already been read.
+     */
+    final T readField(WireReader in) {
+        int previous = in.pushLimit(in.length());
+        T value = read(in);
+        in.popLimit(previous);
+        return value;
+    }
+}
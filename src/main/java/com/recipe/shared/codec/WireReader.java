@@ -0,0 +1,192 @@
+package com.recipe.shared.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the primitives written by {@link WireWriter}. Nested messages are read by narrowing the limit to their
+ * length with {@link #pushLimit(int)}, so a codec simply reads fields until {@link #hasRemaining()} is false.
+ * Malformed input fails with an {@link IllegalArgumentException}.
+ */
+final class WireReader {
+
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    WireReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int position() {
+        return position;
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    int remaining() {
+        return limit - position;
+    }
+
+    /**
+     * Reads the next tag; use {@link #field(int)} and {@link #wireType(int)} to take it apart.
+     */
+    int tag() {
+        int tag = varint32();
+        if (field(tag) == 0) {
+            throw malformed("field number 0");
+        }
+        return tag;
+    }
+
+    static int field(int tag) {
+        return tag >>> 3;
+    }
+
+    static int wireType(int tag) {
+        return tag & 7;
+    }
+
+    int varint32() {
+        long value = varint64();
+        if ((value >>> 32) != 0) {
+            throw malformed("varint does not fit in 32 bits");
+        }
+        return (int) value;
+    }
+
+    long varint64() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= limit) {
+                throw malformed("truncated varint");
+            }
+            byte b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw malformed("varint longer than 10 bytes");
+    }
+
+    long fixed64() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value |= (buffer[position++] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+
+    int sint32() {
+        int value = varint32();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long sint64() {
+        long value = varint64();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    double doubleValue() {
+        return Double.longBitsToDouble(fixed64());
+    }
+
+    String string() {
+        return utf8(length());
+    }
+
+    /**
+     * Reads a string list written by {@link WireWriter#stringListField}, whose field tag has already been read.
+     */
+    List<String> stringList() {
+        int length = length();
+        int end = position + length;
+        List<String> values = new ArrayList<>();
+        while (position < end) {
+            int element = varint32();
+            values.add(element == 0 ? null : utf8(element - 1));
+        }
+        if (position != end) {
+            throw malformed("string list overruns its length");
+        }
+        return values;
+    }
+
+    /**
+     * Reads a length prefix and checks that that many bytes remain.
+     */
+    int length() {
+        int length = varint32();
+        if (length < 0) {
+            throw malformed("negative length");
+        }
+        require(length);
+        return length;
+    }
+
+    /**
+     * Restricts reading to the next {@code length} bytes and returns the previous limit, to be restored with
+     * {@link #popLimit(int)} once they have been read.
+     */
+    int pushLimit(int length) {
+        int previous = limit;
+        limit = position + length;
+        return previous;
+    }
+
+    void popLimit(int previous) {
+        if (position != limit) {
+            throw malformed("nested message overruns its length");
+        }
+        limit = previous;
+    }
+
+    /**
+     * Skips the value of a field this version does not know, so that newer writers can add fields.
+     */
+    void skip(int tag) {
+        switch (wireType(tag)) {
+            case WireWriter.VARINT -> varint64();
+            case WireWriter.FIXED64 -> skipBytes(8);
+            case WireWriter.LENGTH_DELIMITED -> skipBytes(length());
+            case WireWriter.FIXED32 -> skipBytes(4);
+            default -> throw malformed("unknown wire type " + wireType(tag) + " for field " + field(tag));
+        }
+    }
+
+    /**
+     * Fails for a known field sent with an unexpected wire type.
+     */
+    static IllegalArgumentException wrongType(int tag) {
+        return malformed("unexpected wire type " + wireType(tag) + " for field " + field(tag));
+    }
+
+    static IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Malformed wire data: " + message);
+    }
+
+    private String utf8(int length) {
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private void skipBytes(int count) {
+        require(count);
+        position += count;
+    }
+
+    private void require(int count) {
+        if (count > limit - position) {
+            throw malformed("truncated input");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.recipe.shared.codec;
+
+import java.util.Arrays;
+
+/**
+ * The byte lengths of the nested messages, string lists and maps of one value, computed once while sizing it and read
+ * back while writing it, so writing never sizes a nested value again. Single strings are not recorded: their UTF-8
+ * length is counted once while sizing and once more while writing.
+ * Lengths are recorded in the order the fields are written; a nested message reserves its slot before its own fields
+ * are sized, so it comes before them.
+ */
+final class WireSizes {
+
+    private int[] sizes = new int[16];
+    private int count;
+    private int next;
+
+    /**
+     * Reserves the slot of a field whose length is only known after its contents are sized.
+     */
+    int reserve() {
+        if (count == sizes.length) {
+            sizes = Arrays.copyOf(sizes, count * 2);
+        }
+        return count++;
+    }
+
+    void set(int slot, int size) {
+        sizes[slot] = size;
+    }
+
+    /**
+     * Records the length of the next field and returns it.
+     */
+    int add(int size) {
+        sizes[reserve()] = size;
+        return size;
+    }
+
+    /**
+     * Returns the length of the next field to write.
+     */
+    int next() {
+        return sizes[next++];
+    }
+}
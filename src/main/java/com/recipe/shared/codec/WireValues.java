@@ -0,0 +1,188 @@
+package com.recipe.shared.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wire encoding of free-form JSON-like maps such as {@code Recipe.imageGeneration}: a count of entries, then per entry
+ * the key as a string and the value as a one-byte type followed by its payload. Lists and maps nest the same way.
+ * Integers keep their Java type ({@link Integer} or {@link Long}); floats are widened to {@link Double}.
+ */
+final class WireValues {
+
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int DOUBLE = 5;
+    private static final int STRING = 6;
+    private static final int LIST = 7;
+    private static final int MAP = 8;
+    private static final int BIG_INTEGER = 9;
+    private static final int BIG_DECIMAL = 10;
+
+    private WireValues() {}
+
+    static int mapFieldSize(int field, Map<String, Object> map, WireSizes sizes) {
+        return map == null ? 0 : WireWriter.lengthDelimitedFieldSize(field, sizes.add(mapSize(map)));
+    }
+
+    static void writeMapField(WireWriter out, int field, Map<String, Object> map) {
+        if (map != null) {
+            out.tag(field, WireWriter.LENGTH_DELIMITED);
+            out.varint32(out.nextSize());
+            writeMap(out, map);
+        }
+    }
+
+    /**
+     * Reads a map field whose tag has already been read.
+     */
+    static Map<String, Object> readMapField(WireReader in) {
+        int previous = in.pushLimit(in.length());
+        Map<String, Object> map = readMap(in);
+        in.popLimit(previous);
+        return map;
+    }
+
+    private static int mapSize(Map<?, ?> map) {
+        int size = WireWriter.varint32Size(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            size += WireWriter.stringSize(key(entry.getKey())) + valueSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static int valueSize(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return 1;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return 1 + WireWriter.varint32Size(WireWriter.zigzag(((Number) value).intValue()));
+        }
+        if (value instanceof Long number) {
+            return 1 + WireWriter.varint64Size(WireWriter.zigzag(number));
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return 9;
+        }
+        if (value instanceof String string) {
+            return 1 + WireWriter.stringSize(string);
+        }
+        if (value instanceof BigInteger || value instanceof BigDecimal) {
+            return 1 + WireWriter.stringSize(value.toString());
+        }
+        if (value instanceof List<?> list) {
+            int size = 1 + WireWriter.varint32Size(list.size());
+            for (Object element : list) {
+                size += valueSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + mapSize(map);
+        }
+        throw new IllegalArgumentException("Unsupported map value type " + value.getClass().getName());
+    }
+
+    private static void writeMap(WireWriter out, Map<?, ?> map) {
+        out.varint32(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            out.string(key(entry.getKey()));
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(WireWriter out, Object value) {
+        if (value == null) {
+            out.varint32(NULL);
+        } else if (value instanceof Boolean bool) {
+            out.varint32(bool ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.varint32(INT);
+            out.varint32(WireWriter.zigzag(((Number) value).intValue()));
+        } else if (value instanceof Long number) {
+            out.varint32(LONG);
+            out.varint64(WireWriter.zigzag(number));
+        } else if (value instanceof Double || value instanceof Float) {
+            out.varint32(DOUBLE);
+            out.fixed64(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof String string) {
+            out.varint32(STRING);
+            out.string(string);
+        } else if (value instanceof BigInteger) {
+            out.varint32(BIG_INTEGER);
+            out.string(value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.varint32(BIG_DECIMAL);
+            out.string(value.toString());
+        } else if (value instanceof List<?> list) {
+            out.varint32(LIST);
+            out.varint32(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            out.varint32(MAP);
+            writeMap(out, (Map<?, ?>) value);
+        }
+    }
+
+    private static Map<String, Object> readMap(WireReader in) {
+        int count = count(in);
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(16, count * 2));
+        for (int i = 0; i < count; i++) {
+            String key = in.string();
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private static Object readValue(WireReader in) {
+        int type = in.varint32();
+        return switch (type) {
+            case NULL -> null;
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case INT -> in.sint32();
+            case LONG -> in.sint64();
+            case DOUBLE -> in.doubleValue();
+            case STRING -> in.string();
+            case BIG_INTEGER -> new BigInteger(in.string());
+            case BIG_DECIMAL -> new BigDecimal(in.string());
+            case LIST -> {
+                int count = count(in);
+                List<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(in));
+                }
+                yield list;
+            }
+            case MAP -> readMap(in);
+            default -> throw WireReader.malformed("unknown map value type " + type);
+        };
+    }
+
+    /**
+     * Reads an element count, bounded by the remaining bytes since every element takes at least one.
+     */
+    private static int count(WireReader in) {
+        int count = in.varint32();
+        if (count < 0 || count > in.remaining()) {
+            throw WireReader.malformed("element count " + count + " exceeds the input");
+        }
+        return count;
+    }
+
+    private static String key(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Map keys must not be null");
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,249 @@
+package com.recipe.shared.codec;
+
+import java.util.List;
+
+/**
+ * Encodes the primitives of the wire format into a byte array that is known to be large enough: callers size the
+ * output exactly beforehand with the static size methods, which mirror the write methods one for one and record the
+ * lengths of string lists, maps and nested messages in the {@link WireSizes} the writer then reads them from.
+ * <p>
+ * Every field starts with a varint tag holding the field number and the wire type; integers are zigzag varints,
+ * doubles are 8 little-endian bytes and strings, string lists, maps and nested messages are length-delimited.
+ * Absent (null) values are not written at all.
+ */
+final class WireWriter {
+
+    static final int VARINT = 0;
+    static final int FIXED64 = 1;
+    static final int LENGTH_DELIMITED = 2;
+    static final int FIXED32 = 5;
+
+    private final byte[] buffer;
+    private final WireSizes sizes;
+    private int position;
+
+    WireWriter(byte[] buffer, int offset, WireSizes sizes) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.sizes = sizes;
+    }
+
+    int position() {
+        return position;
+    }
+
+    /**
+     * Returns the length of the next length-delimited field, as recorded when the value was sized.
+     */
+    int nextSize() {
+        return sizes.next();
+    }
+
+    void tag(int field, int wireType) {
+        varint32((field << 3) | wireType);
+    }
+
+    void varint32(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void varint64(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void fixed64(long value) {
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    void string(String value) {
+        varint32(utf8Length(value));
+        utf8(value);
+    }
+
+    void stringField(int field, String value) {
+        if (value != null) {
+            tag(field, LENGTH_DELIMITED);
+            string(value);
+        }
+    }
+
+    void intField(int field, Integer value) {
+        if (value != null) {
+            tag(field, VARINT);
+            varint32(zigzag(value));
+        }
+    }
+
+    /**
+     * Writes an optional primitive double, {@code present} telling whether it is set.
+     */
+    void doubleField(int field, boolean present, double value) {
+        if (present) {
+            tag(field, FIXED64);
+            fixed64(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    /**
+     * Writes true only; false is the default and, like an absent field, costs nothing.
+     */
+    void booleanField(int field, boolean value) {
+        if (value) {
+            tag(field, VARINT);
+            buffer[position++] = 1;
+        }
+    }
+
+    /**
+     * Writes a string list as one length-delimited field holding, per element, its UTF-8 length plus one (zero for a
+     * null element) followed by its bytes. An empty list is written as an empty field, so it stays distinct from null.
+     */
+    void stringListField(int field, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        tag(field, LENGTH_DELIMITED);
+        varint32(nextSize());
+        for (int i = 0, n = values.size(); i < n; i++) {
+            String value = values.get(i);
+            if (value == null) {
+                buffer[position++] = 0;
+            } else {
+                varint32(utf8Length(value) + 1);
+                utf8(value);
+            }
+        }
+    }
+
+    private void utf8(String value) {
+        byte[] out = buffer;
+        int p = position;
+        int length = value.length();
+        int i = 0;
+        // ASCII prefix, which is usually the whole string
+        for (char c; i < length && (c = value.charAt(i)) < 0x80; i++) {
+            out[p++] = (byte) c;
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out[p++] = (byte) c;
+            } else if (c < 0x800) {
+                out[p++] = (byte) (0xC0 | (c >>> 6));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                out[p++] = (byte) (0xE0 | (c >>> 12));
+                out[p++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[p++] = (byte) (0xF0 | (codePoint >>> 18));
+                out[p++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+                out[p++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogate, replaced like String.getBytes(UTF_8) does
+                out[p++] = '?';
+            }
+        }
+        position = p;
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static int tagSize(int field) {
+        return varint32Size(field << 3);
+    }
+
+    static int varint32Size(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    static int varint64Size(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    static int stringSize(String value) {
+        int length = utf8Length(value);
+        return varint32Size(length) + length;
+    }
+
+    static int stringFieldSize(int field, String value) {
+        return value == null ? 0 : tagSize(field) + stringSize(value);
+    }
+
+    static int intFieldSize(int field, Integer value) {
+        return value == null ? 0 : tagSize(field) + varint32Size(zigzag(value));
+    }
+
+    static int doubleFieldSize(int field, boolean present) {
+        return present ? tagSize(field) + 8 : 0;
+    }
+
+    static int booleanFieldSize(int field, boolean value) {
+        return value ? tagSize(field) + 1 : 0;
+    }
+
+    static int stringListFieldSize(int field, List<String> values, WireSizes sizes) {
+        if (values == null) {
+            return 0;
+        }
+        int size = sizes.add(stringListSize(values));
+        return tagSize(field) + varint32Size(size) + size;
+    }
+
+    static int lengthDelimitedFieldSize(int field, int size) {
+        return tagSize(field) + varint32Size(size) + size;
+    }
+
+    private static int stringListSize(List<String> values) {
+        int size = 0;
+        for (int i = 0, n = values.size(); i < n; i++) {
+            String value = values.get(i);
+            if (value == null) {
+                size++;
+            } else {
+                int length = utf8Length(value);
+                size += varint32Size(length + 1) + length;
+            }
+        }
+        return size;
+    }
+
+    static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // Four bytes for the two chars of the pair
+                    bytes += 2;
+                    i++;
+                }
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,370 @@
+package com.recipe.shared.codec.processor;
+
+import com.recipe.shared.codec.GenerateFirestoreCodec;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that writes a {@code <Type>FirestoreCodec} class for every {@link GenerateFirestoreCodec}
+ * class, converting between the bean and its Firestore document map without reflection.
+ * <p>
+ * The generated code mirrors Firestore's object mapper for the types the shared models use: strings, numbers and
+ * booleans are stored as-is, {@code Instant}s as Firestore timestamps, enums by name, {@code Map<String, Object>}
+ * values unchanged and nested beans through their own generated codec. Lists of any of these are supported; any
+ * other field type is reported as a compile error so a model change can never silently drop data.
+ */
+@SupportedAnnotationTypes("com.recipe.shared.codec.GenerateFirestoreCodec")
+public class FirestoreCodecProcessor extends AbstractProcessor {
+
+    private static final String PROPERTY_NAME = "com.google.cloud.firestore.annotation.PropertyName";
+    private static final String EXCLUDE = "com.google.cloud.firestore.annotation.Exclude";
+    private static final String VALUES = "FirestoreValues";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateFirestoreCodec.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@GenerateFirestoreCodec can only be applied to classes", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                write(type, generate(type));
+            } catch (UnsupportedTypeException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.field);
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type, String source) {
+        String codecName = codecName(type);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(codecName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write codec " + codecName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private String generate(TypeElement type) {
+        String beanName = type.getQualifiedName().toString();
+        String simpleName = codecSimpleName(type);
+        List<VariableElement> fields = fields(type);
+
+        StringBuilder encode = new StringBuilder();
+        StringBuilder decode = new StringBuilder();
+        for (VariableElement field : fields) {
+            String fieldName = field.getSimpleName().toString();
+            String property = propertyName(field);
+            String key = quote(property);
+            TypeMirror fieldType = field.asType();
+            encode.append("        map.put(").append(key).append(", ")
+                    .append(encodeExpression("value." + getterName(field) + "()", fieldType, field))
+                    .append(");\n");
+            decode.append("        raw = map.get(").append(key).append(");\n")
+                    .append("        if (raw != null) {\n")
+                    .append("            value.").append(setterName(fieldName, fieldType)).append('(')
+                    .append(decodeExpression("raw", key, fieldType, field)).append(");\n")
+                    .append("        }\n");
+        }
+
+        StringBuilder source = new StringBuilder(2048 + encode.length() + decode.length());
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("import com.recipe.shared.codec.FirestoreValues;\n\n")
+                .append("import java.util.HashMap;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Reflection-free Firestore codec for {@link ").append(beanName).append("}.\n")
+                .append(" * Generated by FirestoreCodecProcessor; do not edit.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" {\n\n")
+                .append("    private ").append(simpleName).append("() {}\n\n")
+                .append("    /**\n")
+                .append("     * Converts the bean to the map Firestore stores, or returns null for a null bean.\n")
+                .append("     */\n")
+                .append("    public static Map<String, Object> encode(").append(beanName).append(" value) {\n")
+                .append("        if (value == null) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        Map<String, Object> map = new HashMap<>(").append(capacity(fields.size())).append(");\n")
+                .append(encode)
+                .append("        return map;\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     * Creates the bean from a Firestore document map, or returns null for a null map.\n")
+                .append("     * Missing and null properties keep the bean's default; unknown properties are ignored.\n")
+                .append("     */\n")
+                .append("    public static ").append(beanName).append(" decode(Map<String, Object> map) {\n")
+                .append("        if (map == null) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        ").append(beanName).append(" value = new ").append(beanName).append("();\n");
+        if (!fields.isEmpty()) {
+            source.append("        Object raw;\n");
+        }
+        source.append(decode)
+                .append("        return value;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private String encodeExpression(String expression, TypeMirror type, VariableElement field) {
+        switch (kindOf(type, field)) {
+            case INSTANT:
+                return VALUES + ".toTimestamp(" + expression + ")";
+            case ENUM:
+                return VALUES + ".enumName(" + expression + ")";
+            case BEAN:
+                return codecName(asElement(type)) + ".encode(" + expression + ")";
+            case LIST:
+                TypeMirror element = listElement(type, field);
+                Kind elementKind = kindOf(element, field);
+                if (elementKind == Kind.INSTANT || elementKind == Kind.ENUM || elementKind == Kind.BEAN) {
+                    return VALUES + ".encodeList(" + expression + ", e -> " + encodeExpression("e", element, field) + ")";
+                }
+                return VALUES + ".copyList(" + expression + ")";
+            case MAP:
+                return VALUES + ".copyMap(" + expression + ")";
+            default:
+                return expression;
+        }
+    }
+
+    private String decodeExpression(String raw, String key, TypeMirror type, VariableElement field) {
+        switch (kindOf(type, field)) {
+            case STRING:
+                return VALUES + ".asString(" + raw + ", " + key + ")";
+            case BOOLEAN:
+                return VALUES + ".asBoolean(" + raw + ", " + key + ")";
+            case INTEGER:
+                return VALUES + ".asInteger(" + raw + ", " + key + ")";
+            case LONG:
+                return VALUES + ".asLong(" + raw + ", " + key + ")";
+            case DOUBLE:
+                return VALUES + ".asDouble(" + raw + ", " + key + ")";
+            case INSTANT:
+                return VALUES + ".asInstant(" + raw + ", " + key + ")";
+            case MAP:
+                return VALUES + ".copyMap(" + VALUES + ".asMap(" + raw + ", " + key + "))";
+            case ENUM:
+                return VALUES + ".asEnum(" + raw + ", " + key + ", " + erasure(type) + ".class)";
+            case BEAN:
+                return codecName(asElement(type)) + ".decode(" + VALUES + ".asMap(" + raw + ", " + key + "))";
+            case LIST:
+                TypeMirror element = listElement(type, field);
+                return VALUES + ".<" + element + ">asList(" + raw + ", " + key + ", (e, p) -> "
+                        + decodeExpression("e", "p", element, field) + ")";
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private enum Kind { STRING, BOOLEAN, INTEGER, LONG, DOUBLE, INSTANT, ENUM, MAP, LIST, BEAN }
+
+    private Kind kindOf(TypeMirror type, VariableElement field) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case INT:
+                return Kind.INTEGER;
+            case LONG:
+                return Kind.LONG;
+            case DOUBLE:
+                return Kind.DOUBLE;
+            case DECLARED:
+                break;
+            default:
+                throw new UnsupportedTypeException(type, field);
+        }
+        TypeElement element = asElement(type);
+        switch (element.getQualifiedName().toString()) {
+            case "java.lang.String":
+                return Kind.STRING;
+            case "java.lang.Boolean":
+                return Kind.BOOLEAN;
+            case "java.lang.Integer":
+                return Kind.INTEGER;
+            case "java.lang.Long":
+                return Kind.LONG;
+            case "java.lang.Double":
+                return Kind.DOUBLE;
+            case "java.time.Instant":
+                return Kind.INSTANT;
+            case "java.util.List":
+                return Kind.LIST;
+            case "java.util.Map":
+                List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                if (arguments.size() == 2 && isNamed(arguments.get(0), "java.lang.String") && isNamed(arguments.get(1), "java.lang.Object")) {
+                    return Kind.MAP;
+                }
+                throw new UnsupportedTypeException(type, field);
+            default:
+                break;
+        }
+        if (element.getKind() == ElementKind.ENUM) {
+            return Kind.ENUM;
+        }
+        if (element.getAnnotation(GenerateFirestoreCodec.class) != null) {
+            return Kind.BEAN;
+        }
+        throw new UnsupportedTypeException(type, field);
+    }
+
+    private TypeMirror listElement(TypeMirror type, VariableElement field) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        // Firestore cannot store arrays directly inside arrays, so nested lists are rejected too
+        if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED || kindOf(arguments.get(0), field) == Kind.LIST) {
+            throw new UnsupportedTypeException(type, field);
+        }
+        return arguments.get(0);
+    }
+
+    private List<VariableElement> fields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            fields.addAll(fields(asElement(superclass)));
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT) && annotation(field, EXCLUDE) == null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private String propertyName(VariableElement field) {
+        AnnotationMirror propertyName = annotation(field, PROPERTY_NAME);
+        if (propertyName != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : propertyName.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * Lombok's accessor names: primitive booleans use {@code is}, and a leading {@code is} is not repeated.
+     */
+    private static String getterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            return hasIsPrefix(name) ? name : "is" + capitalize(name);
+        }
+        return "get" + capitalize(name);
+    }
+
+    private static String setterName(String name, TypeMirror type) {
+        if (type.getKind() == TypeKind.BOOLEAN && hasIsPrefix(name)) {
+            return "set" + name.substring(2);
+        }
+        return "set" + capitalize(name);
+    }
+
+    private static boolean hasIsPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private String codecName(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        return pkg.isUnnamed() ? codecSimpleName(type) : pkg.getQualifiedName() + "." + codecSimpleName(type);
+    }
+
+    private static String codecSimpleName(TypeElement type) {
+        // Nested classes get their enclosing class names as a prefix so codec names stay unique per package
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName());
+        }
+        return name.append(GenerateFirestoreCodec.CODEC_SUFFIX).toString();
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static TypeElement asElement(TypeMirror type) {
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private static boolean isNamed(TypeMirror type, String name) {
+        return type.getKind() == TypeKind.DECLARED && asElement(type).getQualifiedName().contentEquals(name);
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Presized so the map never rehashes at HashMap's default load factor.
+     */
+    private static int capacity(int size) {
+        return (int) Math.ceil(size / 0.75) + 1;
+    }
+
+    private static final class UnsupportedTypeException extends RuntimeException {
+
+        private final transient VariableElement field;
+
+        UnsupportedTypeException(TypeMirror type, VariableElement field) {
+            super("Unsupported type " + type + " for Firestore codec property '" + field.getSimpleName()
+                    + "'; nested beans must be annotated with @GenerateFirestoreCodec");
+            this.field = field;
+        }
+    }
+}
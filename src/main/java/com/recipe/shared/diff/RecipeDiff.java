@@ -0,0 +1,204 @@
+package com.recipe.shared.diff;
+
+import com.recipe.shared.codec.FirestoreValues;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionValuesFirestoreCodec;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.NutritionalInfoFirestoreCodec;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import com.recipe.shared.model.RecipeTipsFirestoreCodec;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The fields that differ between two versions of a recipe, as Firestore field paths with their new values, for
+ * partial updates instead of rewriting the whole document:
+ * <pre>{@code
+ * RecipeDiff diff = RecipeDiff.between(stored, edited);
+ * if (!diff.isEmpty()) {
+ *     documentReference.update(diff.updates());
+ * }
+ * }</pre>
+ * Paths use the property names of {@code RecipeFirestoreCodec} ({@code isPublic}, not {@code publicRecipe}) and
+ * values are converted and copied the same way, so applying the updates to the stored document gives the document the codec
+ * would write for the new version. Nested objects are compared field by field down to leaves such as
+ * {@code nutritionalInfo.perServing.calories} and {@code tips.storage}; a nested object that is added or removed is
+ * one path holding the whole object or null. Lists and the {@code imageGeneration} map are replaced as a whole,
+ * since Firestore cannot update their elements by path.
+ * <p>
+ * Fields are compared by reference first, so the lists and objects a {@code toBuilder()} copy shares with the
+ * original cost nothing to compare.
+ */
+public final class RecipeDiff {
+
+    private static final RecipeDiff EMPTY = new RecipeDiff(Collections.emptyMap());
+
+    private final Map<String, Object> updates;
+
+    private RecipeDiff(Map<String, Object> updates) {
+        this.updates = updates;
+    }
+
+    /**
+     * Compares two versions of a recipe.
+     */
+    public static RecipeDiff between(Recipe before, Recipe after) {
+        Objects.requireNonNull(before, "before");
+        Objects.requireNonNull(after, "after");
+        if (before == after) {
+            return EMPTY;
+        }
+        Map<String, Object> updates = new LinkedHashMap<>();
+        value(updates, "id", before.getId(), after.getId());
+        value(updates, "userId", before.getUserId(), after.getUserId());
+        value(updates, "recipeName", before.getRecipeName(), after.getRecipeName());
+        value(updates, "description", before.getDescription(), after.getDescription());
+        list(updates, "ingredients", before.getIngredients(), after.getIngredients());
+        list(updates, "instructions", before.getInstructions(), after.getInstructions());
+        value(updates, "prepTimeMinutes", before.getPrepTimeMinutes(), after.getPrepTimeMinutes());
+        value(updates, "cookTimeMinutes", before.getCookTimeMinutes(), after.getCookTimeMinutes());
+        value(updates, "totalTimeMinutes", before.getTotalTimeMinutes(), after.getTotalTimeMinutes());
+        value(updates, "prepTime", before.getPrepTime(), after.getPrepTime());
+        value(updates, "cookTime", before.getCookTime(), after.getCookTime());
+        value(updates, "totalTime", before.getTotalTime(), after.getTotalTime());
+        value(updates, "servings", before.getServings(), after.getServings());
+        nutritionalInfo(updates, before.getNutritionalInfo(), after.getNutritionalInfo());
+        tips(updates, before.getTips(), after.getTips());
+        value(updates, "imageUrl", before.getImageUrl(), after.getImageUrl());
+        value(updates, "source", before.getSource(), after.getSource());
+        instant(updates, "createdAt", before.getCreatedAt(), after.getCreatedAt());
+        instant(updates, "updatedAt", before.getUpdatedAt(), after.getUpdatedAt());
+        list(updates, "tags", before.getTags(), after.getTags());
+        list(updates, "dietaryRestrictions", before.getDietaryRestrictions(), after.getDietaryRestrictions());
+        if (before.isPublicRecipe() != after.isPublicRecipe()) {
+            updates.put("isPublic", after.isPublicRecipe());
+        }
+        map(updates, "imageGeneration", before.getImageGeneration(), after.getImageGeneration());
+        return updates.isEmpty() ? EMPTY : new RecipeDiff(Collections.unmodifiableMap(updates));
+    }
+
+    public boolean isEmpty() {
+        return updates.isEmpty();
+    }
+
+    /**
+     * Returns the changed field paths, in the order the fields are declared; the field mask of the update.
+     */
+    public List<String> paths() {
+        return new ArrayList<>(updates.keySet());
+    }
+
+    /**
+     * Returns whether the field at {@code path} changed; also true for the fields under a nested object that was
+     * replaced as a whole.
+     */
+    public boolean changed(String path) {
+        if (updates.containsKey(path)) {
+            return true;
+        }
+        for (int dot = path.lastIndexOf('.'); dot > 0; dot = path.lastIndexOf('.', dot - 1)) {
+            if (updates.containsKey(path.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the new values by field path, in Firestore form, for {@code DocumentReference.update(Map)}.
+     */
+    public Map<String, Object> updates() {
+        return updates;
+    }
+
+    @Override
+    public String toString() {
+        return "RecipeDiff" + updates.keySet();
+    }
+
+    private static void value(Map<String, Object> updates, String path, Object before, Object after) {
+        if (before != after && !Objects.equals(before, after)) {
+            updates.put(path, after);
+        }
+    }
+
+    // Copied like the codec does, so later changes to the recipe do not change a pending update
+    private static void list(Map<String, Object> updates, String path, List<?> before, List<?> after) {
+        if (before != after && !Objects.equals(before, after)) {
+            updates.put(path, FirestoreValues.copyList(after));
+        }
+    }
+
+    private static void map(Map<String, Object> updates, String path, Map<String, Object> before, Map<String, Object> after) {
+        if (before != after && !Objects.equals(before, after)) {
+            updates.put(path, FirestoreValues.copyMap(after));
+        }
+    }
+
+    private static void instant(Map<String, Object> updates, String path, Instant before, Instant after) {
+        if (before != after && !Objects.equals(before, after)) {
+            updates.put(path, FirestoreValues.toTimestamp(after));
+        }
+    }
+
+    private static void nutritionalInfo(Map<String, Object> updates, NutritionalInfo before, NutritionalInfo after) {
+        if (before == after) {
+            return;
+        }
+        if (before == null || after == null) {
+            updates.put("nutritionalInfo", NutritionalInfoFirestoreCodec.encode(after));
+            return;
+        }
+        nutritionValues(updates, "nutritionalInfo.perServing", before.getPerServing(), after.getPerServing());
+        nutritionValues(updates, "nutritionalInfo.total", before.getTotal(), after.getTotal());
+    }
+
+    private static void nutritionValues(Map<String, Object> updates, String path, NutritionValues before, NutritionValues after) {
+        if (before == after) {
+            return;
+        }
+        if (before == null || after == null) {
+            updates.put(path, NutritionValuesFirestoreCodec.encode(after));
+            return;
+        }
+        nutrient(updates, path, "calories", before.hasCalories(), before.caloriesOr(0), after.hasCalories(), after.caloriesOr(0));
+        nutrient(updates, path, "protein", before.hasProtein(), before.proteinOr(0), after.hasProtein(), after.proteinOr(0));
+        nutrient(updates, path, "carbohydrates", before.hasCarbohydrates(), before.carbohydratesOr(0),
+                after.hasCarbohydrates(), after.carbohydratesOr(0));
+        nutrient(updates, path, "fat", before.hasFat(), before.fatOr(0), after.hasFat(), after.fatOr(0));
+        nutrient(updates, path, "fiber", before.hasFiber(), before.fiberOr(0), after.hasFiber(), after.fiberOr(0));
+        nutrient(updates, path, "sodium", before.hasSodium(), before.sodiumOr(0), after.hasSodium(), after.sodiumOr(0));
+    }
+
+    // Compares like Double.equals, without boxing unless the value changed
+    private static void nutrient(Map<String, Object> updates, String path, String name,
+            boolean hadValue, double before, boolean hasValue, double after) {
+        boolean same = hadValue == hasValue
+                && (!hasValue || Double.doubleToLongBits(before) == Double.doubleToLongBits(after));
+        if (!same) {
+            updates.put(path + '.' + name, hasValue ? after : null);
+        }
+    }
+
+    private static void tips(Map<String, Object> updates, RecipeTips before, RecipeTips after) {
+        if (before == after) {
+            return;
+        }
+        if (before == null || after == null) {
+            updates.put("tips", RecipeTipsFirestoreCodec.encode(after));
+            return;
+        }
+        list(updates, "tips.substitutions", before.getSubstitutions(), after.getSubstitutions());
+        value(updates, "tips.makeAhead", before.getMakeAhead(), after.getMakeAhead());
+        value(updates, "tips.storage", before.getStorage(), after.getStorage());
+        value(updates, "tips.reheating", before.getReheating(), after.getReheating());
+        list(updates, "tips.variations", before.getVariations(), after.getVariations());
+    }
+}
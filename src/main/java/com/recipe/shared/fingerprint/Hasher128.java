@@ -0,0 +1,116 @@
+package com.recipe.shared.fingerprint;
+
+/**
+ * A streaming 128-bit hash over a sequence of 64-bit words, using the block and finalization functions of
+ * MurmurHash3 x64-128. Input is taken as words rather than bytes: strings are hashed as their UTF-16 code units,
+ * four to a word, without being encoded.
+ */
+final class Hasher128 {
+
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432E7B5C47L;
+
+    private long h1;
+    private long h2;
+    private long pending;
+    private boolean hasPending;
+    private long words;
+
+    Hasher128(long seed) {
+        h1 = seed;
+        h2 = seed;
+    }
+
+    void putLong(long value) {
+        words++;
+        if (!hasPending) {
+            pending = value;
+            hasPending = true;
+            return;
+        }
+        hasPending = false;
+        long k1 = pending;
+        long k2 = value;
+
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52DCE729;
+
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495AB5;
+    }
+
+    void putBoolean(boolean value) {
+        putLong(value ? 1 : 0);
+    }
+
+    /**
+     * Hashes a double by its bits, with {@code -0.0} counted as {@code 0.0} and every NaN as the same NaN.
+     */
+    void putDouble(double value) {
+        putLong(Double.doubleToLongBits(value == 0 ? 0.0 : value));
+    }
+
+    /**
+     * Hashes the length, then the characters four to a word.
+     */
+    void putString(CharSequence value) {
+        int length = value.length();
+        putLong(length);
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            putLong((long) value.charAt(i)
+                    | (long) value.charAt(i + 1) << 16
+                    | (long) value.charAt(i + 2) << 32
+                    | (long) value.charAt(i + 3) << 48);
+        }
+        if (i < length) {
+            long word = 0;
+            for (int shift = 0; i < length; i++, shift += 16) {
+                word |= (long) value.charAt(i) << shift;
+            }
+            putLong(word);
+        }
+    }
+
+    /**
+     * Returns the hash as {@code {high, low}}. The hasher must not be used afterwards.
+     */
+    long[] finish() {
+        if (hasPending) {
+            long k1 = pending;
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+        long length = words * Long.BYTES;
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[] {h1, h2};
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
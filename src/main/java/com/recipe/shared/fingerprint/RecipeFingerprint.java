@@ -0,0 +1,265 @@
+package com.recipe.shared.fingerprint;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import com.recipe.shared.nutrition.Nutrient;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A 128-bit fingerprint of a recipe's content, for cache keys, ETags and skipping writes of unchanged recipes.
+ * <p>
+ * The fingerprint covers every field except {@code id}, {@code userId}, {@code createdAt} and {@code updatedAt}, so
+ * two copies of the same recipe match wherever they are stored. It is computed in one pass over the fields, hashing
+ * strings character by character and numbers by their bits, without building intermediate strings or byte arrays.
+ * <p>
+ * Fingerprints are stable across JVMs and runs. Fields that are null do not contribute, so a field added to
+ * {@code Recipe} later leaves existing fingerprints unchanged until it is set. A list and an empty list differ from
+ * null. Map entries are hashed in key order, and integer values hash the same whatever their boxed type, so
+ * {@code imageGeneration} keeps its fingerprint through JSON and Firestore round trips. Doubles are compared by
+ * value, with {@code -0.0} equal to {@code 0.0}.
+ *
+ * @param high the first 64 bits
+ * @param low  the last 64 bits
+ */
+public record RecipeFingerprint(long high, long low) {
+
+    // Changes whenever the hashed form of a recipe changes, so old and new fingerprints never collide by accident
+    private static final long FORMAT = 1;
+
+    // Field tags, in declaration order
+    private static final int RECIPE_NAME = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int INGREDIENTS = 3;
+    private static final int INSTRUCTIONS = 4;
+    private static final int PREP_TIME_MINUTES = 5;
+    private static final int COOK_TIME_MINUTES = 6;
+    private static final int TOTAL_TIME_MINUTES = 7;
+    private static final int PREP_TIME = 8;
+    private static final int COOK_TIME = 9;
+    private static final int TOTAL_TIME = 10;
+    private static final int SERVINGS = 11;
+    private static final int NUTRITIONAL_INFO = 12;
+    private static final int TIPS = 13;
+    private static final int IMAGE_URL = 14;
+    private static final int SOURCE = 15;
+    private static final int TAGS = 16;
+    private static final int DIETARY_RESTRICTIONS = 17;
+    private static final int PUBLIC_RECIPE = 18;
+    private static final int IMAGE_GENERATION = 19;
+    private static final int END = 0;
+
+    private static final int PER_SERVING = 1;
+    private static final int TOTAL = 2;
+
+    private static final int TIP_SUBSTITUTIONS = 1;
+    private static final int TIP_MAKE_AHEAD = 2;
+    private static final int TIP_STORAGE = 3;
+    private static final int TIP_REHEATING = 4;
+    private static final int TIP_VARIATIONS = 5;
+
+    // Type tags of imageGeneration values
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INTEGER = 3;
+    private static final int DOUBLE = 4;
+    private static final int STRING = 5;
+    private static final int DECIMAL = 6;
+    private static final int LIST = 7;
+    private static final int MAP = 8;
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    /**
+     * Computes the fingerprint of a recipe's content.
+     */
+    public static RecipeFingerprint of(Recipe recipe) {
+        Hasher128 hasher = new Hasher128(FORMAT);
+        string(hasher, RECIPE_NAME, recipe.getRecipeName());
+        string(hasher, DESCRIPTION, recipe.getDescription());
+        strings(hasher, INGREDIENTS, recipe.getIngredients());
+        strings(hasher, INSTRUCTIONS, recipe.getInstructions());
+        integer(hasher, PREP_TIME_MINUTES, recipe.getPrepTimeMinutes());
+        integer(hasher, COOK_TIME_MINUTES, recipe.getCookTimeMinutes());
+        integer(hasher, TOTAL_TIME_MINUTES, recipe.getTotalTimeMinutes());
+        string(hasher, PREP_TIME, recipe.getPrepTime());
+        string(hasher, COOK_TIME, recipe.getCookTime());
+        string(hasher, TOTAL_TIME, recipe.getTotalTime());
+        integer(hasher, SERVINGS, recipe.getServings());
+        NutritionalInfo nutrition = recipe.getNutritionalInfo();
+        if (nutrition != null) {
+            hasher.putLong(NUTRITIONAL_INFO);
+            nutrition(hasher, PER_SERVING, nutrition.getPerServing());
+            nutrition(hasher, TOTAL, nutrition.getTotal());
+            hasher.putLong(END);
+        }
+        RecipeTips tips = recipe.getTips();
+        if (tips != null) {
+            hasher.putLong(TIPS);
+            strings(hasher, TIP_SUBSTITUTIONS, tips.getSubstitutions());
+            string(hasher, TIP_MAKE_AHEAD, tips.getMakeAhead());
+            string(hasher, TIP_STORAGE, tips.getStorage());
+            string(hasher, TIP_REHEATING, tips.getReheating());
+            strings(hasher, TIP_VARIATIONS, tips.getVariations());
+            hasher.putLong(END);
+        }
+        string(hasher, IMAGE_URL, recipe.getImageUrl());
+        string(hasher, SOURCE, recipe.getSource());
+        strings(hasher, TAGS, recipe.getTags());
+        strings(hasher, DIETARY_RESTRICTIONS, recipe.getDietaryRestrictions());
+        hasher.putLong(PUBLIC_RECIPE);
+        hasher.putBoolean(recipe.isPublicRecipe());
+        if (recipe.getImageGeneration() != null) {
+            hasher.putLong(IMAGE_GENERATION);
+            map(hasher, recipe.getImageGeneration());
+        }
+        long[] hash = hasher.finish();
+        return new RecipeFingerprint(hash[0], hash[1]);
+    }
+
+    /**
+     * Parses the 32 hex digits produced by {@link #toString()}.
+     *
+     * @throws IllegalArgumentException if the text is not a fingerprint
+     */
+    public static RecipeFingerprint parse(CharSequence text) {
+        if (text.length() != 32) {
+            throw new IllegalArgumentException("A fingerprint has 32 hex digits: " + text);
+        }
+        return new RecipeFingerprint(parseHex(text, 0), parseHex(text, 16));
+    }
+
+    /**
+     * Returns whether {@code recipe} has the content this fingerprint was computed from.
+     */
+    public boolean matches(Recipe recipe) {
+        return equals(of(recipe));
+    }
+
+    /**
+     * Returns the fingerprint as a strong HTTP entity tag, the hex digits in double quotes.
+     */
+    public String toETag() {
+        return '"' + toString() + '"';
+    }
+
+    /**
+     * Returns the fingerprint as 32 lower-case hex digits.
+     */
+    @Override
+    public String toString() {
+        char[] hex = new char[32];
+        writeHex(high, hex, 0);
+        writeHex(low, hex, 16);
+        return new String(hex);
+    }
+
+    private static void string(Hasher128 hasher, int tag, String value) {
+        if (value != null) {
+            hasher.putLong(tag);
+            hasher.putString(value);
+        }
+    }
+
+    private static void strings(Hasher128 hasher, int tag, List<String> values) {
+        if (values != null) {
+            hasher.putLong(tag);
+            hasher.putLong(values.size());
+            for (String value : values) {
+                if (value == null) {
+                    // Lengths are never negative, so this cannot be mistaken for a string
+                    hasher.putLong(-1);
+                } else {
+                    hasher.putString(value);
+                }
+            }
+        }
+    }
+
+    private static void integer(Hasher128 hasher, int tag, Integer value) {
+        if (value != null) {
+            hasher.putLong(tag);
+            hasher.putLong(value);
+        }
+    }
+
+    private static void nutrition(Hasher128 hasher, int tag, NutritionValues values) {
+        if (values != null) {
+            hasher.putLong(tag);
+            for (Nutrient nutrient : NUTRIENTS) {
+                if (nutrient.isSet(values)) {
+                    hasher.putLong(nutrient.ordinal() + 1);
+                    hasher.putDouble(nutrient.valueOr(values, 0));
+                }
+            }
+            hasher.putLong(END);
+        }
+    }
+
+    private static void map(Hasher128 hasher, Map<?, ?> map) {
+        Map.Entry<?, ?>[] entries = map.entrySet().toArray(new Map.Entry<?, ?>[0]);
+        Arrays.sort(entries, (a, b) -> String.valueOf(a.getKey()).compareTo(String.valueOf(b.getKey())));
+        hasher.putLong(entries.length);
+        for (Map.Entry<?, ?> entry : entries) {
+            hasher.putString(String.valueOf(entry.getKey()));
+            value(hasher, entry.getValue());
+        }
+    }
+
+    private static void value(Hasher128 hasher, Object value) {
+        if (value == null) {
+            hasher.putLong(NULL);
+        } else if (value instanceof Boolean bool) {
+            hasher.putLong(bool ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            hasher.putLong(INTEGER);
+            hasher.putLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            hasher.putLong(DOUBLE);
+            hasher.putDouble(((Number) value).doubleValue());
+        } else if (value instanceof String string) {
+            hasher.putLong(STRING);
+            hasher.putString(string);
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            hasher.putLong(DECIMAL);
+            hasher.putString(value.toString());
+        } else if (value instanceof List<?> list) {
+            hasher.putLong(LIST);
+            hasher.putLong(list.size());
+            for (Object element : list) {
+                value(hasher, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            hasher.putLong(MAP);
+            map(hasher, map);
+        } else {
+            throw new IllegalArgumentException("Unsupported map value type " + value.getClass().getName());
+        }
+    }
+
+    private static void writeHex(long value, char[] hex, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            hex[offset + i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+    }
+
+    private static long parseHex(CharSequence text, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a hex digit at " + i + ": " + text);
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,342 @@
+package com.recipe.shared.ingredient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses free-text ingredient lines such as {@code "1 1/2 cups flour, sifted"} into quantity, unit, item and notes.
+ * <p>
+ * A line is scanned once without regular expressions. Quantities may be integers, decimals, fractions, mixed numbers,
+ * unicode fractions ({@code "1½"}) or ranges ({@code "2-3"}, {@code "2 to 3"}); {@code "a"} or {@code "an"} before a
+ * unit counts as one ({@code "a pinch of salt"}). Notes follow the first comma or opening parenthesis after the item.
+ * A parenthesized size right after the quantity or the unit, as in {@code "1 (14 oz) can tomatoes"} or
+ * {@code "2 cups (250 g) flour"}, stays in the line but is part of neither item nor notes. Lines that do not start with a quantity parse with no quantity and the whole line
+ * as the item.
+ */
+public final class IngredientParser {
+
+    // Units by the first letter of any of their spellings
+    private static final Unit[][] UNITS_BY_LETTER = new Unit[26][];
+
+    static {
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            List<Unit> units = new ArrayList<>();
+            for (Unit unit : Unit.values()) {
+                for (String spelling : unit.spellings()) {
+                    if (spelling.charAt(0) == letter) {
+                        units.add(unit);
+                        break;
+                    }
+                }
+            }
+            UNITS_BY_LETTER[letter - 'a'] = units.toArray(new Unit[0]);
+        }
+    }
+
+    private final String line;
+    private final int length;
+    private int pos;
+    private double number;
+
+    private IngredientParser(String line) {
+        this.line = line;
+        this.length = line.length();
+    }
+
+    /**
+     * Parses one ingredient line, or returns null for null.
+     */
+    public static ParsedIngredient parse(String line) {
+        return line == null ? null : new IngredientParser(line).parse();
+    }
+
+    /**
+     * Parses every line of a list, keeping null entries as null.
+     */
+    public static List<ParsedIngredient> parseAll(List<String> lines) {
+        List<ParsedIngredient> parsed = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            parsed.add(parse(line));
+        }
+        return parsed;
+    }
+
+    private ParsedIngredient parse() {
+        skipSpaces();
+        // List bullets
+        if (pos + 1 < length && isBullet(line.charAt(pos)) && line.charAt(pos + 1) == ' ') {
+            pos += 2;
+            skipSpaces();
+        }
+
+        double quantity = Double.NaN;
+        double maxQuantity = Double.NaN;
+        int quantityStart = pos;
+        int quantityEnd = -1;
+        if (readQuantity()) {
+            quantity = number;
+            maxQuantity = number;
+            quantityEnd = pos;
+            int afterQuantity = pos;
+            boolean range = false;
+            skipSpaces();
+            if (pos < length && isDash(line.charAt(pos))) {
+                pos++;
+                range = true;
+            } else if (word("to")) {
+                pos += 2;
+                range = true;
+            }
+            skipSpaces();
+            if (range && readQuantity() && number >= quantity) {
+                maxQuantity = number;
+                quantityEnd = pos;
+            } else {
+                pos = afterQuantity;
+            }
+        } else if (word("a") || word("an")) {
+            // "a pinch of salt": only a quantity when a unit follows
+            int article = pos;
+            pos += word("a") ? 1 : 2;
+            skipSpaces();
+            if (matchUnit() != null) {
+                quantity = 1;
+                maxQuantity = 1;
+                quantityEnd = article + (word(article, "a") ? 1 : 2);
+            }
+            pos = article;
+            if (quantityEnd < 0) {
+                quantityStart = -1;
+            }
+        } else {
+            quantityStart = -1;
+        }
+
+        Unit unit = null;
+        int unitStart = -1;
+        int unitEnd = -1;
+        if (quantityEnd >= 0) {
+            pos = quantityEnd;
+            skipSpaces();
+            skipParenthetical();
+            int start = pos;
+            unit = matchUnit();
+            if (unit != null) {
+                unitStart = start;
+                unitEnd = pos;
+                skipSpaces();
+                // "2 cups (250 g) flour": a size between unit and item; with no item after it, it is the notes
+                int size = pos;
+                if (skipParenthetical() && (pos == length || line.charAt(pos) == ',')) {
+                    pos = size;
+                }
+                if (word("of")) {
+                    pos += 2;
+                    skipSpaces();
+                }
+            } else {
+                pos = start;
+            }
+        }
+
+        int itemStart = pos;
+        int itemEnd = itemStart;
+        while (itemEnd < length && line.charAt(itemEnd) != ',' && line.charAt(itemEnd) != '(') {
+            itemEnd++;
+        }
+        int notesStart = -1;
+        int notesEnd = -1;
+        if (itemEnd < length) {
+            boolean parenthesis = line.charAt(itemEnd) == '(';
+            notesStart = itemEnd + 1;
+            notesEnd = length;
+            while (notesStart < notesEnd && isSpace(line.charAt(notesStart))) {
+                notesStart++;
+            }
+            while (notesEnd > notesStart && isSpace(line.charAt(notesEnd - 1))) {
+                notesEnd--;
+            }
+            if (parenthesis && notesEnd > notesStart && line.charAt(notesEnd - 1) == ')' && line.indexOf('(', notesStart) < 0) {
+                notesEnd--;
+            }
+            if (notesStart == notesEnd) {
+                notesStart = -1;
+                notesEnd = -1;
+            }
+        }
+        while (itemEnd > itemStart && isSpace(line.charAt(itemEnd - 1))) {
+            itemEnd--;
+        }
+        return new ParsedIngredient(line, quantity, maxQuantity, quantityStart, quantityEnd, unit, unitStart, unitEnd,
+                itemStart, itemEnd, notesStart, notesEnd);
+    }
+
+    /**
+     * Skips a balanced parenthetical at the current position and the spaces after it; leaves the position alone and
+     * returns false if there is none.
+     */
+    private boolean skipParenthetical() {
+        if (pos >= length || line.charAt(pos) != '(') {
+            return false;
+        }
+        int depth = 0;
+        for (int i = pos; i < length; i++) {
+            char c = line.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                pos = i + 1;
+                skipSpaces();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads a quantity at the current position into {@link #number}, advancing past it; leaves the position alone
+     * and returns false if there is none.
+     */
+    private boolean readQuantity() {
+        int start = pos;
+        double value = 0;
+        int digits = 0;
+        char c;
+        while (pos < length && isDigit(c = line.charAt(pos))) {
+            value = value * 10 + (c - '0');
+            digits++;
+            pos++;
+        }
+        if (digits > 0 && pos + 1 < length && line.charAt(pos) == '.' && isDigit(line.charAt(pos + 1))) {
+            double scale = 1;
+            for (pos++; pos < length && isDigit(c = line.charAt(pos)); pos++) {
+                scale /= 10;
+                value += (c - '0') * scale;
+            }
+        } else if (digits > 0 && pos + 1 < length && line.charAt(pos) == '/' && isDigit(line.charAt(pos + 1))) {
+            if (!readFraction()) {
+                pos = start;
+                return false;
+            }
+            value /= number;
+        } else if (pos < length && Quantities.fraction(line.charAt(pos)) > 0) {
+            value += Quantities.fraction(line.charAt(pos++));
+        } else if (digits > 0 && pos + 1 < length && line.charAt(pos) == ' ' && Quantities.fraction(line.charAt(pos + 1)) > 0) {
+            // "1 ½"
+            value += Quantities.fraction(line.charAt(pos + 1));
+            pos += 2;
+        } else if (digits > 0 && pos + 3 < length && line.charAt(pos) == ' ' && isDigit(line.charAt(pos + 1))) {
+            // Mixed number "1 1/2"
+            int whole = pos;
+            pos++;
+            double numerator = 0;
+            while (pos < length && isDigit(c = line.charAt(pos))) {
+                numerator = numerator * 10 + (c - '0');
+                pos++;
+            }
+            if (pos + 1 < length && line.charAt(pos) == '/' && isDigit(line.charAt(pos + 1)) && readFraction() && numerator < number) {
+                value += numerator / number;
+            } else {
+                pos = whole;
+            }
+        }
+        if (pos == start || (pos < length && isLetterOrDigit(line.charAt(pos)) && !isUnitStart())) {
+            pos = start;
+            return false;
+        }
+        number = value;
+        return true;
+    }
+
+    // Reads "/denominator" into number
+    private boolean readFraction() {
+        pos++;
+        double denominator = 0;
+        char c;
+        while (pos < length && isDigit(c = line.charAt(pos))) {
+            denominator = denominator * 10 + (c - '0');
+            pos++;
+        }
+        number = denominator;
+        return denominator != 0;
+    }
+
+    // A unit written directly after the number, as in "100g"
+    private boolean isUnitStart() {
+        int start = pos;
+        Unit unit = matchUnit();
+        pos = start;
+        return unit != null;
+    }
+
+    /**
+     * Matches the longest unit spelling at the current position that ends at a word boundary, advancing past it.
+     */
+    private Unit matchUnit() {
+        if (pos >= length) {
+            return null;
+        }
+        char first = (char) (line.charAt(pos) | 0x20);
+        if (first < 'a' || first > 'z') {
+            return null;
+        }
+        Unit best = null;
+        int bestLength = 0;
+        for (Unit unit : UNITS_BY_LETTER[first - 'a']) {
+            for (String spelling : unit.spellings()) {
+                int n = spelling.length();
+                if (n > bestLength && line.regionMatches(true, pos, spelling, 0, n)
+                        && (pos + n == length || spelling.charAt(n - 1) == '.' || !isWordChar(line.charAt(pos + n)))) {
+                    best = unit;
+                    bestLength = n;
+                }
+            }
+        }
+        pos += bestLength;
+        return best;
+    }
+
+    private boolean word(String word) {
+        return word(pos, word);
+    }
+
+    private boolean word(int at, String word) {
+        int n = word.length();
+        return line.regionMatches(true, at, word, 0, n) && (at + n == length || !isLetter(line.charAt(at + n)));
+    }
+
+    private void skipSpaces() {
+        while (pos < length && isSpace(line.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return Character.isLetter(c);
+    }
+
+    // "cup-cakes" is one word, so "cup" does not end at a word boundary there
+    private static boolean isWordChar(char c) {
+        return isLetter(c) || c == '-';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isDigit(c) || isLetter(c);
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\u00A0';
+    }
+
+    private static boolean isDash(char c) {
+        return c == '-' || c == '–' || c == '—';
+    }
+
+    private static boolean isBullet(char c) {
+        return c == '-' || c == '*' || c == '•' || c == '·';
+    }
+}
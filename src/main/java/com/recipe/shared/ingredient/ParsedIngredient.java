@@ -0,0 +1,135 @@
+package com.recipe.shared.ingredient;
+
+/**
+ * An ingredient line taken apart by {@link IngredientParser}. Only the original line and the offsets of its parts are
+ * stored; {@link #item()}, {@link #notes()} and {@link #unitText()} cut them out on request.
+ */
+public final class ParsedIngredient {
+
+    private final String line;
+    private final double quantity;
+    private final double maxQuantity;
+    private final Unit unit;
+    private final int quantityStart;
+    private final int quantityEnd;
+    private final int unitStart;
+    private final int unitEnd;
+    private final int itemStart;
+    private final int itemEnd;
+    private final int notesStart;
+    private final int notesEnd;
+
+    ParsedIngredient(String line, double quantity, double maxQuantity, int quantityStart, int quantityEnd, Unit unit,
+            int unitStart, int unitEnd, int itemStart, int itemEnd, int notesStart, int notesEnd) {
+        this.line = line;
+        this.quantity = quantity;
+        this.maxQuantity = maxQuantity;
+        this.quantityStart = quantityStart;
+        this.quantityEnd = quantityEnd;
+        this.unit = unit;
+        this.unitStart = unitStart;
+        this.unitEnd = unitEnd;
+        this.itemStart = itemStart;
+        this.itemEnd = itemEnd;
+        this.notesStart = notesStart;
+        this.notesEnd = notesEnd;
+    }
+
+    public String line() {
+        return line;
+    }
+
+    public boolean hasQuantity() {
+        return !Double.isNaN(quantity);
+    }
+
+    /**
+     * Returns the quantity, the lower bound of a range such as {@code 2-3}, or NaN if the line has none.
+     */
+    public double quantity() {
+        return quantity;
+    }
+
+    /**
+     * Returns the upper bound of a range, or the quantity itself when it is not a range.
+     */
+    public double maxQuantity() {
+        return maxQuantity;
+    }
+
+    public boolean isRange() {
+        return maxQuantity != quantity && hasQuantity();
+    }
+
+    /**
+     * Returns the unit, or null for a count ({@code "2 eggs"}) or an unrecognized unit.
+     */
+    public Unit unit() {
+        return unit;
+    }
+
+    /**
+     * Returns the unit as written in the line, or null if there is no unit.
+     */
+    public String unitText() {
+        return unit == null ? null : line.substring(unitStart, unitEnd);
+    }
+
+    /**
+     * Returns the ingredient itself, e.g. {@code "onions"} in {@code "2 onions, finely chopped"}.
+     */
+    public String item() {
+        return line.substring(itemStart, itemEnd);
+    }
+
+    /**
+     * Returns the preparation notes after a comma or in parentheses, or null if there are none.
+     */
+    public String notes() {
+        return notesStart < 0 ? null : line.substring(notesStart, notesEnd);
+    }
+
+    /**
+     * Returns the line with its quantity multiplied by {@code factor}, and the unit switched between singular and
+     * plural where it is written out in full. Everything else is kept as written. Lines without a quantity are
+     * returned unchanged.
+     */
+    public String scale(double factor) {
+        if (!hasQuantity()) {
+            return line;
+        }
+        boolean fractions = unit == null || !unit.isMetric();
+        double scaled = quantity * factor;
+        double scaledMax = maxQuantity * factor;
+
+        StringBuilder out = new StringBuilder(line.length() + 8);
+        out.append(line, 0, quantityStart);
+        Quantities.append(out, scaled, fractions);
+        if (isRange()) {
+            out.append('-');
+            Quantities.append(out, scaledMax, fractions);
+        }
+        if (unit == null) {
+            out.append(line, quantityEnd, line.length());
+            return out.toString();
+        }
+        out.append(line, quantityEnd, unitStart);
+        if (unitWrittenAs(unit.singular()) || unitWrittenAs(unit.plural())) {
+            out.append(scaledMax > 1 ? unit.plural() : unit.singular());
+        } else {
+            out.append(line, unitStart, unitEnd);
+        }
+        out.append(line, unitEnd, line.length());
+        return out.toString();
+    }
+
+    private boolean unitWrittenAs(String spelling) {
+        return spelling.length() == unitEnd - unitStart && line.regionMatches(true, unitStart, spelling, 0, spelling.length());
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedIngredient(quantity=" + quantity + (isRange() ? "-" + maxQuantity : "") + ", unit=" + unit
+                + ", item=" + item() + ", notes=" + notes() + ")";
+    }
+}
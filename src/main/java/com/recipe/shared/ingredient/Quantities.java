@@ -0,0 +1,82 @@
+package com.recipe.shared.ingredient;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Reads and writes ingredient quantities: decimals, fractions, mixed numbers and unicode vulgar fractions.
+ */
+final class Quantities {
+
+    // Fractions a cook measures with, and how close a value must be to print as one
+    private static final int[] NUMERATORS = {0, 1, 1, 1, 3, 1, 5, 2, 3, 7, 1};
+    private static final int[] DENOMINATORS = {1, 8, 4, 3, 8, 2, 8, 3, 4, 8, 1};
+    private static final double TOLERANCE = 0.02;
+    private static final MathContext SMALL_VALUES = new MathContext(2);
+
+    private Quantities() {}
+
+    /**
+     * Returns the value of a unicode vulgar fraction character, or 0.
+     */
+    static double fraction(char c) {
+        return switch (c) {
+            case '½' -> 0.5;
+            case '⅓' -> 1.0 / 3;
+            case '⅔' -> 2.0 / 3;
+            case '¼' -> 0.25;
+            case '¾' -> 0.75;
+            case '⅕' -> 0.2;
+            case '⅛' -> 0.125;
+            case '⅜' -> 0.375;
+            case '⅝' -> 0.625;
+            case '⅞' -> 0.875;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Appends a quantity as a kitchen fraction ({@code 1 1/2}) when {@code fractions} is set and it is close to one,
+     * otherwise as a decimal with at most two places ({@code 1.25}). Non-zero values too small for either keep two
+     * significant digits ({@code 0.0031}) instead of printing as 0.
+     */
+    static void append(StringBuilder out, double value, boolean fractions) {
+        if (fractions && value > 0) {
+            long whole = (long) value;
+            double rest = value - whole;
+            for (int i = 0; i < NUMERATORS.length; i++) {
+                if (Math.abs(rest - (double) NUMERATORS[i] / DENOMINATORS[i]) <= TOLERANCE) {
+                    if (NUMERATORS[i] == DENOMINATORS[i]) {
+                        out.append(whole + 1);
+                    } else if (NUMERATORS[i] == 0) {
+                        if (whole == 0) {
+                            // Too small for a kitchen fraction; print it as a decimal rather than 0
+                            break;
+                        }
+                        out.append(whole);
+                    } else {
+                        if (whole > 0) {
+                            out.append(whole).append(' ');
+                        }
+                        out.append(NUMERATORS[i]).append('/').append(DENOMINATORS[i]);
+                    }
+                    return;
+                }
+            }
+        }
+        long hundredths = Math.round(value * 100);
+        if (hundredths == 0 && value != 0) {
+            // Below two places, keep two significant digits so a pinch never scales down to 0
+            out.append(new BigDecimal(value).round(SMALL_VALUES).stripTrailingZeros().toPlainString());
+            return;
+        }
+        out.append(hundredths / 100);
+        int decimals = (int) (hundredths % 100);
+        if (decimals != 0) {
+            out.append('.').append(decimals / 10);
+            if (decimals % 10 != 0) {
+                out.append(decimals % 10);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.recipe.shared.ingredient;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.nutrition.Nutrient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rescales a recipe to a different number of servings: ingredient quantities and total nutrition are multiplied by
+ * the ratio of servings, per-serving nutrition stays as it is.
+ */
+public final class RecipeScaler {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    private RecipeScaler() {}
+
+    /**
+     * Returns a copy of the recipe scaled to {@code servings}. The original recipe is not modified; fields other than
+     * {@code servings}, {@code ingredients} and {@code nutritionalInfo} are shared with it.
+     *
+     * @throws IllegalArgumentException if {@code servings} is not positive or the recipe has no positive servings count
+     */
+    public static Recipe scale(Recipe recipe, int servings) {
+        if (servings <= 0) {
+            throw new IllegalArgumentException("Servings must be positive: " + servings);
+        }
+        Integer current = recipe.getServings();
+        if (current == null || current <= 0) {
+            throw new IllegalArgumentException("Recipe " + recipe.getId() + " has no servings count to scale from");
+        }
+        double factor = (double) servings / current;
+        return recipe.toBuilder()
+                .servings(servings)
+                .ingredients(scaleIngredients(recipe.getIngredients(), factor))
+                .nutritionalInfo(scaleNutrition(recipe.getNutritionalInfo(), factor))
+                .build();
+    }
+
+    /**
+     * Multiplies the quantity of every ingredient line by {@code factor}; see {@link ParsedIngredient#scale(double)}.
+     * Returns null for null, and keeps null lines as null.
+     */
+    public static List<String> scaleIngredients(List<String> ingredients, double factor) {
+        if (ingredients == null) {
+            return null;
+        }
+        List<String> scaled = new ArrayList<>(ingredients.size());
+        for (String line : ingredients) {
+            scaled.add(line == null ? null : IngredientParser.parse(line).scale(factor));
+        }
+        return scaled;
+    }
+
+    /**
+     * Returns a copy with the {@code total} values multiplied by {@code factor} and the same {@code perServing}
+     * values, or null for null.
+     */
+    public static NutritionalInfo scaleNutrition(NutritionalInfo info, double factor) {
+        if (info == null) {
+            return null;
+        }
+        return NutritionalInfo.builder()
+                .perServing(copy(info.getPerServing(), 1))
+                .total(copy(info.getTotal(), factor))
+                .build();
+    }
+
+    private static NutritionValues copy(NutritionValues values, double factor) {
+        if (values == null) {
+            return null;
+        }
+        NutritionValues copy = new NutritionValues();
+        for (Nutrient nutrient : NUTRIENTS) {
+            double value = nutrient.valueOr(values, Double.NaN);
+            if (!Double.isNaN(value)) {
+                nutrient.set(copy, value * factor);
+            }
+        }
+        return copy;
+    }
+}
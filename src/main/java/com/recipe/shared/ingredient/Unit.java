@@ -0,0 +1,69 @@
+package com.recipe.shared.ingredient;
+
+/**
+ * Measuring units recognized in ingredient lines, with the spellings that map to them.
+ */
+public enum Unit {
+
+    TEASPOON(false, "teaspoon", "teaspoons", "tsp", "tsps", "tsp."),
+    TABLESPOON(false, "tablespoon", "tablespoons", "tbsp", "tbsps", "tbs", "tbsp."),
+    CUP(false, "cup", "cups"),
+    FLUID_OUNCE(false, "fluid ounce", "fluid ounces", "fl oz", "fl. oz.", "fl. oz", "fl oz."),
+    PINT(false, "pint", "pints", "pt"),
+    QUART(false, "quart", "quarts", "qt"),
+    GALLON(false, "gallon", "gallons", "gal"),
+    MILLILITER(true, "milliliter", "milliliters", "ml", "millilitre", "millilitres"),
+    LITER(true, "liter", "liters", "l", "litre", "litres"),
+    GRAM(true, "gram", "grams", "g", "gr"),
+    KILOGRAM(true, "kilogram", "kilograms", "kg", "kilo", "kilos"),
+    OUNCE(false, "ounce", "ounces", "oz", "oz."),
+    POUND(false, "pound", "pounds", "lb", "lbs", "lb.", "lbs."),
+    PINCH(false, "pinch", "pinches"),
+    DASH(false, "dash", "dashes"),
+    CLOVE(false, "clove", "cloves"),
+    CAN(false, "can", "cans"),
+    PACKAGE(false, "package", "packages", "pkg"),
+    SLICE(false, "slice", "slices"),
+    PIECE(false, "piece", "pieces"),
+    STICK(false, "stick", "sticks"),
+    BUNCH(false, "bunch", "bunches"),
+    SPRIG(false, "sprig", "sprigs"),
+    HANDFUL(false, "handful", "handfuls");
+
+    private final boolean metric;
+    private final String singular;
+    private final String plural;
+    private final String[] spellings;
+
+    Unit(boolean metric, String singular, String plural, String... abbreviations) {
+        this.metric = metric;
+        this.singular = singular;
+        this.plural = plural;
+        this.spellings = new String[abbreviations.length + 2];
+        this.spellings[0] = singular;
+        this.spellings[1] = plural;
+        System.arraycopy(abbreviations, 0, this.spellings, 2, abbreviations.length);
+    }
+
+    /**
+     * Metric units are scaled to decimals ({@code 1.5 g}), the others to kitchen fractions ({@code 1 1/2 cups}).
+     */
+    public boolean isMetric() {
+        return metric;
+    }
+
+    public String singular() {
+        return singular;
+    }
+
+    public String plural() {
+        return plural;
+    }
+
+    /**
+     * Every spelling, lower-case: singular, plural, then abbreviations.
+     */
+    String[] spellings() {
+        return spellings;
+    }
+}
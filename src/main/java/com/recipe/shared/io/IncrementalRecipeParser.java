@@ -0,0 +1,254 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.schema.SchemaValidator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Push parser for a single {@link Recipe} JSON object arriving in chunks, such as a streamed Gemini response.
+ * Built on Jackson's non-blocking parser: {@link #feed(byte[], int, int)} never waits for more input, and reports
+ * each top-level property to the {@link RecipeStreamListener} as soon as its value is complete, and each element of
+ * a string list such as {@code ingredients} as soon as that element is complete. A partial recipe can be taken at any
+ * point with {@link #snapshot()}.
+ * <p>
+ * Values are converted with the given mapper's deserializers for the property type, so coercions and date formats
+ * match a regular {@code mapper.readValue(json, Recipe.class)}. Unknown properties fail or are skipped according to
+ * {@link DeserializationFeature#FAIL_ON_UNKNOWN_PROPERTIES}. Instances are not thread-safe and parse one recipe.
+ */
+public final class IncrementalRecipeParser {
+
+    private static volatile Properties defaultProperties;
+
+    private final ObjectMapper mapper;
+    private final RecipeStreamListener listener;
+    private final Properties properties;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Recipe recipe = new Recipe();
+
+    // The top-level property being read: its buffered tokens, nesting depth and, for string lists, the elements so far
+    private Property property;
+    private String propertyName;
+    private boolean inValue;
+    private TokenBuffer value;
+    private int depth;
+    private List<String> items;
+
+    private boolean started;
+    private boolean complete;
+
+    public IncrementalRecipeParser(RecipeStreamListener listener) throws IOException {
+        this(listener, RecipeStreams.OBJECT_MAPPER);
+    }
+
+    public IncrementalRecipeParser(RecipeStreamListener listener, ObjectMapper mapper) throws IOException {
+        this(listener, mapper, null);
+    }
+
+    /**
+     * Creates a parser that also checks the input against a schema as it arrives, e.g.
+     * {@code RecipeSchema.getValidator(SchemaProfile.AI_GENERATION)}. The first violation is thrown from
+     * {@link #feed(byte[], int, int)} as a {@link com.recipe.shared.schema.SchemaViolationException}, without waiting
+     * for the rest of the response.
+     */
+    public IncrementalRecipeParser(RecipeStreamListener listener, ObjectMapper mapper, SchemaValidator validator) throws IOException {
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.mapper = mapper;
+        this.properties = mapper == RecipeStreams.OBJECT_MAPPER ? defaultProperties() : new Properties(mapper);
+        JsonParser nonBlocking = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) nonBlocking.getNonBlockingInputFeeder();
+        this.parser = validator == null ? nonBlocking : validator.validating(nonBlocking);
+    }
+
+    public void feed(byte[] chunk) throws IOException {
+        feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Parses the next chunk of UTF-8 input, delivering every event it completes before returning.
+     * The chunk is not retained, so the caller may reuse the array afterwards.
+     */
+    public void feed(byte[] chunk, int offset, int length) throws IOException {
+        feeder.feedInput(chunk, offset, offset + length);
+        drain();
+    }
+
+    /**
+     * Signals the end of the input.
+     *
+     * @throws JsonEOFException if the recipe object is incomplete
+     */
+    public void endOfInput() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (!complete) {
+            throw new JsonEOFException(parser, null, "Unexpected end of input: the recipe object is incomplete");
+        }
+    }
+
+    /**
+     * Returns true once the closing brace of the recipe object has been read.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns a copy of the recipe read so far: every completed property, plus the completed elements of a string
+     * list still being read.
+     */
+    public Recipe snapshot() {
+        Recipe copy = recipe.toBuilder().build();
+        if (items != null) {
+            property.set(copy, Collections.unmodifiableList(new ArrayList<>(items)));
+        }
+        return copy;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (complete) {
+                throw MismatchedInputException.from(parser, Recipe.class, "Unexpected content after the recipe object");
+            }
+            if (!started) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw MismatchedInputException.from(parser, Recipe.class, "Expected a recipe object but found " + token);
+                }
+                started = true;
+            } else if (inValue) {
+                readValueToken(token);
+            } else if (token == JsonToken.FIELD_NAME) {
+                startProperty(parser.currentName());
+            } else if (token == JsonToken.END_OBJECT) {
+                complete = true;
+                listener.onComplete(snapshot());
+            }
+        }
+    }
+
+    private void startProperty(String name) throws IOException {
+        propertyName = name;
+        property = properties.byName.get(name);
+        if (property == null && !properties.ignored.contains(name)
+                && mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+            throw UnrecognizedPropertyException.from(parser, Recipe.class, name, properties.knownNames());
+        }
+        // Unknown and ignored properties are skipped like the default deserializer does, without buffering
+        value = property != null ? new TokenBuffer(parser, null) : null;
+        inValue = true;
+        depth = 0;
+    }
+
+    private void readValueToken(JsonToken token) throws IOException {
+        if (value != null) {
+            value.copyCurrentEvent(parser);
+        }
+        if (token.isStructStart()) {
+            depth++;
+            if (depth == 1 && token == JsonToken.START_ARRAY && property != null && property.stringList) {
+                items = new ArrayList<>();
+            }
+        } else if (token.isStructEnd()) {
+            depth--;
+        } else if (depth == 1 && items != null) {
+            String item = token == JsonToken.VALUE_NULL ? null : parser.getText();
+            items.add(item);
+            listener.onListItem(propertyName, items.size() - 1, item);
+        }
+        if (depth == 0) {
+            endProperty();
+        }
+    }
+
+    private void endProperty() throws IOException {
+        TokenBuffer tokens = value;
+        Property completed = property;
+        inValue = false;
+        value = null;
+        items = null;
+        property = null;
+        if (completed == null) {
+            return;
+        }
+        Object converted;
+        try (JsonParser valueParser = tokens.asParser(mapper)) {
+            // Nulls go through the reader too, which turns them into false for the primitive isPublic
+            converted = completed.reader.readValue(valueParser);
+        }
+        completed.set(recipe, converted);
+        listener.onProperty(propertyName, converted);
+    }
+
+    private static Properties defaultProperties() {
+        Properties result = defaultProperties;
+        if (result == null) {
+            result = new Properties(RecipeStreams.OBJECT_MAPPER);
+            defaultProperties = result;
+        }
+        return result;
+    }
+
+    /**
+     * The deserializable properties of {@link Recipe} as the mapper sees them, with a reader for each property type.
+     */
+    private static final class Properties {
+
+        final Map<String, Property> byName = new HashMap<>();
+        final Set<String> ignored;
+
+        Properties(ObjectMapper mapper) {
+            BeanDescription description = mapper.getDeserializationConfig().introspect(mapper.constructType(Recipe.class));
+            for (BeanPropertyDefinition definition : description.findProperties()) {
+                AnnotatedMember mutator = definition.getMutator();
+                if (mutator != null) {
+                    byName.put(definition.getName(), new Property(mapper, definition.getPrimaryType(), mutator));
+                }
+            }
+            ignored = description.getIgnoredPropertyNames();
+        }
+
+        List<Object> knownNames() {
+            return new ArrayList<>(byName.keySet());
+        }
+    }
+
+    private static final class Property {
+
+        final ObjectReader reader;
+        final AnnotatedMember mutator;
+        final boolean stringList;
+
+        Property(ObjectMapper mapper, JavaType type, AnnotatedMember mutator) {
+            this.reader = mapper.readerFor(type);
+            this.mutator = mutator;
+            this.stringList = type.isCollectionLikeType() && type.getContentType().hasRawClass(String.class);
+        }
+
+        void set(Recipe target, Object value) {
+            mutator.setValue(target, value);
+        }
+    }
+}
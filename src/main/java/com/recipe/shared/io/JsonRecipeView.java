@@ -0,0 +1,501 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.recipe.shared.io.RecipeProperties.*;
+
+/**
+ * {@link RecipeView} over a JSON object: the bytes themselves and the start offset of each property value. The offsets
+ * come from a single pass over the bytes that skips every value, or from a Jackson parser for input that pass does
+ * not handle.
+ */
+final class JsonRecipeView implements RecipeView {
+
+    private static final int ABSENT = -1;
+
+    // Property names by slot, to match against the bytes
+    private static final byte[][] NAMES = ascii();
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static volatile Readers defaultReaders;
+
+    private final byte[] json;
+    private final int offset;
+    private final int end;
+    private final ObjectMapper mapper;
+    private final Readers readers;
+    private final int[] starts = new int[COUNT];
+
+    JsonRecipeView(byte[] json, int offset, int length, ObjectMapper mapper) throws IOException {
+        Objects.checkFromIndexSize(offset, length, json.length);
+        this.json = json;
+        this.offset = offset;
+        this.end = offset + length;
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.readers = mapper == RecipeStreams.OBJECT_MAPPER ? defaultReaders() : new Readers(mapper);
+        Arrays.fill(starts, ABSENT);
+        index();
+    }
+
+    private void index() throws IOException {
+        if (!scan()) {
+            Arrays.fill(starts, ABSENT);
+            parse();
+        }
+    }
+
+    /**
+     * Indexes plain JSON directly from the bytes, checking the structure of the recipe object and the scalar values
+     * in it but not the content of nested values. Returns false for anything else, such as escaped property names,
+     * a byte order mark or malformed input, which is left to {@link #parse()}.
+     */
+    private boolean scan() {
+        int i = skipWhitespace(offset);
+        if (i == end || json[i] != '{') {
+            return false;
+        }
+        i = skipWhitespace(i + 1);
+        if (i < end && json[i] == '}') {
+            return skipWhitespace(i + 1) == end;
+        }
+        while (i < end && json[i] == '"') {
+            int nameEnd = i + 1;
+            while (nameEnd < end && json[nameEnd] != '"' && json[nameEnd] != '\\') {
+                nameEnd++;
+            }
+            if (nameEnd == end || json[nameEnd] == '\\') {
+                return false;
+            }
+            int slot = slot(i + 1, nameEnd);
+            i = skipWhitespace(nameEnd + 1);
+            if (i == end || json[i] != ':') {
+                return false;
+            }
+            i = skipWhitespace(i + 1);
+            int valueEnd = skipValue(i);
+            if (valueEnd < 0) {
+                return false;
+            }
+            if (slot != ABSENT) {
+                starts[slot] = i;
+            }
+            i = skipWhitespace(valueEnd);
+            if (i < end && json[i] == '}') {
+                return skipWhitespace(i + 1) == end;
+            }
+            if (i == end || json[i] != ',') {
+                return false;
+            }
+            i = skipWhitespace(i + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the position after the value starting at {@code i}, or -1 if it is not a well-formed scalar or an
+     * unterminated string, object or array.
+     */
+    private int skipValue(int i) {
+        if (i == end) {
+            return -1;
+        }
+        byte b = json[i];
+        if (b == '"') {
+            return skipString(i);
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            while (i < end) {
+                b = json[i];
+                if (b == '"') {
+                    i = skipString(i);
+                    if (i < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+            return -1;
+        }
+        if (b == '-' || (b >= '0' && b <= '9')) {
+            while (i < end && isNumberPart(json[i])) {
+                i++;
+            }
+            return i;
+        }
+        int literal = b == 't' ? matchLiteral(i, TRUE) : b == 'f' ? matchLiteral(i, FALSE) : b == 'n' ? matchLiteral(i, NULL) : -1;
+        return literal >= 0 && (literal == end || isDelimiter(json[literal])) ? literal : -1;
+    }
+
+    private int skipString(int i) {
+        for (i++; i < end; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                return i + 1;
+            }
+            if (b == '\\') {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private int matchLiteral(int i, byte[] literal) {
+        if (end - i < literal.length) {
+            return -1;
+        }
+        for (int k = 0; k < literal.length; k++) {
+            if (json[i + k] != literal[k]) {
+                return -1;
+            }
+        }
+        return i + literal.length;
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < end && isWhitespace(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private int slot(int from, int to) {
+        int length = to - from;
+        for (int slot = 0; slot < COUNT; slot++) {
+            byte[] name = NAMES[slot];
+            if (name.length == length && Arrays.equals(json, from, to, name, 0, length)) {
+                return slot;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Indexes the input with a Jackson parser, which reports malformed input and honors the mapper's parser features.
+     */
+    private void parse() throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(json, offset, end - offset)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, Recipe.class, "Expected a recipe object but found " + token);
+            }
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                int slot = RecipeProperties.slot(parser.currentName());
+                parser.nextToken();
+                if (slot != ABSENT) {
+                    // Offsets are relative to the start of the parser's input; a repeated property keeps its last value
+                    starts[slot] = offset + (int) parser.currentTokenLocation().getByteOffset();
+                }
+                parser.skipChildren();
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw MismatchedInputException.from(parser, Recipe.class, "Unexpected token " + token + " in the recipe object");
+            }
+            if (parser.nextToken() != null) {
+                throw MismatchedInputException.from(parser, Recipe.class, "Unexpected content after the recipe object");
+            }
+        }
+    }
+
+    private static byte[][] ascii() {
+        byte[][] bytes = new byte[COUNT][];
+        for (int slot = 0; slot < COUNT; slot++) {
+            bytes[slot] = RecipeProperties.name(slot).getBytes(StandardCharsets.US_ASCII);
+        }
+        return bytes;
+    }
+
+    @Override
+    public String getId() {
+        return string(ID);
+    }
+
+    @Override
+    public String getUserId() {
+        return string(USER_ID);
+    }
+
+    @Override
+    public String getRecipeName() {
+        return string(RECIPE_NAME);
+    }
+
+    @Override
+    public String getDescription() {
+        return string(DESCRIPTION);
+    }
+
+    @Override
+    public List<String> getIngredients() {
+        return value(INGREDIENTS);
+    }
+
+    @Override
+    public List<String> getInstructions() {
+        return value(INSTRUCTIONS);
+    }
+
+    @Override
+    public Integer getPrepTimeMinutes() {
+        return integer(PREP_TIME_MINUTES);
+    }
+
+    @Override
+    public Integer getCookTimeMinutes() {
+        return integer(COOK_TIME_MINUTES);
+    }
+
+    @Override
+    public Integer getTotalTimeMinutes() {
+        return integer(TOTAL_TIME_MINUTES);
+    }
+
+    @Override
+    public String getPrepTime() {
+        return string(PREP_TIME);
+    }
+
+    @Override
+    public String getCookTime() {
+        return string(COOK_TIME);
+    }
+
+    @Override
+    public String getTotalTime() {
+        return string(TOTAL_TIME);
+    }
+
+    @Override
+    public Integer getServings() {
+        return integer(SERVINGS);
+    }
+
+    @Override
+    public NutritionalInfo getNutritionalInfo() {
+        return value(NUTRITIONAL_INFO);
+    }
+
+    @Override
+    public RecipeTips getTips() {
+        return value(TIPS);
+    }
+
+    @Override
+    public String getImageUrl() {
+        return string(IMAGE_URL);
+    }
+
+    @Override
+    public String getSource() {
+        return string(SOURCE);
+    }
+
+    @Override
+    public Instant getCreatedAt() {
+        return value(CREATED_AT);
+    }
+
+    @Override
+    public Instant getUpdatedAt() {
+        return value(UPDATED_AT);
+    }
+
+    @Override
+    public List<String> getTags() {
+        return value(TAGS);
+    }
+
+    @Override
+    public List<String> getDietaryRestrictions() {
+        return value(DIETARY_RESTRICTIONS);
+    }
+
+    @Override
+    public boolean isPublicRecipe() {
+        int start = starts[IS_PUBLIC];
+        if (start == ABSENT) {
+            return false;
+        }
+        if (json[start] == 't') {
+            return true;
+        }
+        if (json[start] == 'f') {
+            return false;
+        }
+        // Other values, null included, go through the reader for the primitive
+        return this.<Boolean>decode(IS_PUBLIC, start);
+    }
+
+    @Override
+    public Map<String, Object> getImageGeneration() {
+        return value(IMAGE_GENERATION);
+    }
+
+    @Override
+    public boolean has(String property) {
+        int slot = RecipeProperties.slot(property);
+        return slot != UNKNOWN && starts[slot] != ABSENT;
+    }
+
+    @Override
+    public Recipe toRecipe() {
+        try {
+            return readers.recipe.readValue(json, offset, end - offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RecipeView{id=" + getId() + ", recipeName=" + getRecipeName() + "}";
+    }
+
+    /**
+     * Decodes a string without a parser when it has no escapes.
+     */
+    private String string(int slot) {
+        int start = starts[slot];
+        if (start == ABSENT || json[start] == 'n') {
+            return null;
+        }
+        if (json[start] == '"') {
+            for (int i = start + 1; i < end; i++) {
+                byte b = json[i];
+                if (b == '"') {
+                    return new String(json, start + 1, i - start - 1, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    break;
+                }
+            }
+        }
+        return decode(slot, start);
+    }
+
+    /**
+     * Decodes an integer without a parser when it is a plain JSON integer that fits in an {@code int}.
+     */
+    private Integer integer(int slot) {
+        int start = starts[slot];
+        if (start == ABSENT || json[start] == 'n') {
+            return null;
+        }
+        int i = start;
+        boolean negative = json[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (i < end && json[i] >= '0' && json[i] <= '9' && digits <= 10) {
+            value = value * 10 + (json[i++] - '0');
+            digits++;
+        }
+        boolean plain = digits > 0 && digits <= 10 && (i == end || isDelimiter(json[i]));
+        if (negative) {
+            value = -value;
+        }
+        if (plain && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return decode(slot, start);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return isWhitespace(b) || b == ',' || b == '}' || b == ']';
+    }
+
+    private static boolean isNumberPart(byte b) {
+        return (b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+    }
+
+    private <T> T value(int slot) {
+        int start = starts[slot];
+        if (start == ABSENT || json[start] == 'n') {
+            return null;
+        }
+        return decode(slot, start);
+    }
+
+    private <T> T decode(int slot, int start) {
+        int length = end - start;
+        if (json[start] == '-' || (json[start] >= '0' && json[start] <= '9')) {
+            // A number read as a root-level value must be followed by whitespace or the end of the input
+            int i = start;
+            while (i < end && isNumberPart(json[i])) {
+                i++;
+            }
+            length = i - start;
+        }
+        try (JsonParser parser = mapper.getFactory().createParser(json, start, length)) {
+            parser.nextToken();
+            return readers.get(slot).readValue(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Readers defaultReaders() {
+        Readers result = defaultReaders;
+        if (result == null) {
+            result = new Readers(RecipeStreams.OBJECT_MAPPER);
+            defaultReaders = result;
+        }
+        return result;
+    }
+
+    /**
+     * A reader for the type of each property, created on first use since most views only need the fast paths.
+     */
+    private static final class Readers {
+
+        final ObjectMapper mapper;
+        final ObjectReader recipe;
+        final ObjectReader[] bySlot = new ObjectReader[COUNT];
+
+        Readers(ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.recipe = mapper.readerFor(Recipe.class);
+        }
+
+        ObjectReader get(int slot) {
+            ObjectReader reader = bySlot[slot];
+            if (reader == null) {
+                // ObjectReader is immutable, so a reader created twice by racing threads is harmless
+                reader = reader(mapper, type(mapper.getTypeFactory(), slot));
+                bySlot[slot] = reader;
+            }
+            return reader;
+        }
+    }
+}
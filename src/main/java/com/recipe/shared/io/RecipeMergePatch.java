@@ -0,0 +1,275 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.recipe.shared.io.RecipeProperties.*;
+
+/**
+ * Applies JSON Merge Patches (RFC 7396) to recipes, such as partial updates from the frontend or a refinement of a
+ * generated recipe, without converting the recipe to a {@code JsonNode} and back:
+ * <pre>{@code
+ * Recipe updated = new RecipeMergePatch().apply(stored, "{\"servings\": 6, \"tips\": {\"storage\": null}}");
+ * }</pre>
+ * The patch is read token by token and only the properties it names are replaced. A {@code null} value clears the
+ * property ({@code isPublic} becomes false), an object value is merged into {@code nutritionalInfo}, its
+ * {@code perServing} and {@code total} values, {@code tips} and {@code imageGeneration}, and any other value replaces
+ * the property; lists are always replaced as a whole. The result is a {@code toBuilder()} copy of the target that
+ * shares every value the patch leaves alone, so the target itself is never modified.
+ * <p>
+ * Values are converted with the given mapper's deserializers for the property type, so coercions and date formats
+ * match a regular {@code mapper.readValue(json, Recipe.class)}. Unknown properties fail or are skipped according to
+ * {@link DeserializationFeature#FAIL_ON_UNKNOWN_PROPERTIES}. Instances are immutable and thread-safe.
+ */
+public final class RecipeMergePatch {
+
+    // Getters annotated with @JsonIgnore, which Jackson silently skips when they appear in input
+    private static final Set<String> RECIPE_IGNORED = Set.of("servingsAsInt", "calculatedTotalTimeMinutes");
+
+    // Property names of the nested models, for the known-properties list of UnrecognizedPropertyException
+    private static final List<Object> NUTRITIONAL_INFO_PROPERTIES = List.of("perServing", "total");
+    private static final List<Object> NUTRITION_VALUES_PROPERTIES = List.of("calories", "protein", "carbohydrates",
+            "fat", "fiber", "sodium");
+    private static final List<Object> TIPS_PROPERTIES = List.of("substitutions", "makeAhead", "storage", "reheating",
+            "variations");
+
+    private final ObjectMapper mapper;
+    private final ObjectReader stringReader;
+    private final ObjectReader integerReader;
+    private final ObjectReader doubleReader;
+    private final ObjectReader booleanReader;
+    private final ObjectReader stringListReader;
+    private final ObjectReader instantReader;
+    private final ObjectReader mapReader;
+    private final ObjectReader valueReader;
+    private final ObjectReader nutritionalInfoReader;
+    private final ObjectReader nutritionValuesReader;
+    private final ObjectReader tipsReader;
+
+    public RecipeMergePatch() {
+        this(RecipeStreams.OBJECT_MAPPER);
+    }
+
+    public RecipeMergePatch(ObjectMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.stringReader = reader(mapper.constructType(String.class));
+        this.integerReader = reader(mapper.constructType(Integer.class));
+        this.doubleReader = reader(mapper.constructType(Double.class));
+        this.booleanReader = reader(RecipeProperties.type(mapper.getTypeFactory(), IS_PUBLIC));
+        this.stringListReader = reader(mapper.getTypeFactory().constructCollectionType(List.class, String.class));
+        this.instantReader = reader(mapper.constructType(Instant.class));
+        this.mapReader = reader(mapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        this.valueReader = reader(mapper.constructType(Object.class));
+        this.nutritionalInfoReader = reader(mapper.constructType(NutritionalInfo.class));
+        this.nutritionValuesReader = reader(mapper.constructType(NutritionValues.class));
+        this.tipsReader = reader(mapper.constructType(RecipeTips.class));
+    }
+
+    public Recipe apply(Recipe target, String patch) throws IOException {
+        Objects.requireNonNull(patch, "patch");
+        return apply(target, patch.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Applies a UTF-8 encoded merge patch to a copy of the target and returns the copy.
+     *
+     * @throws MismatchedInputException if the patch is not a single JSON object
+     */
+    public Recipe apply(Recipe target, byte[] patch) throws IOException {
+        Objects.requireNonNull(target, "target");
+        Objects.requireNonNull(patch, "patch");
+        try (JsonParser parser = mapper.getFactory().createParser(patch)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                // RFC 7396 replaces the target with a non-object patch, which can never be a recipe
+                throw MismatchedInputException.from(parser, Recipe.class, "Expected a merge patch object but found " + token);
+            }
+            Recipe result = target.toBuilder().build();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                patchProperty(parser, result, name, RecipeProperties.slot(name));
+            }
+            if (parser.nextToken() != null) {
+                throw MismatchedInputException.from(parser, Recipe.class, "Unexpected content after the merge patch");
+            }
+            return result;
+        }
+    }
+
+    private void patchProperty(JsonParser p, Recipe recipe, String name, int slot) throws IOException {
+        switch (slot) {
+            case ID -> recipe.setId(readString(p));
+            case USER_ID -> recipe.setUserId(readString(p));
+            case RECIPE_NAME -> recipe.setRecipeName(readString(p));
+            case DESCRIPTION -> recipe.setDescription(readString(p));
+            case INGREDIENTS -> recipe.setIngredients(readStringList(p));
+            case INSTRUCTIONS -> recipe.setInstructions(readStringList(p));
+            case PREP_TIME_MINUTES -> recipe.setPrepTimeMinutes(readInteger(p));
+            case COOK_TIME_MINUTES -> recipe.setCookTimeMinutes(readInteger(p));
+            case TOTAL_TIME_MINUTES -> recipe.setTotalTimeMinutes(readInteger(p));
+            case PREP_TIME -> recipe.setPrepTime(readString(p));
+            case COOK_TIME -> recipe.setCookTime(readString(p));
+            case TOTAL_TIME -> recipe.setTotalTime(readString(p));
+            case SERVINGS -> recipe.setServings(readInteger(p));
+            case NUTRITIONAL_INFO -> recipe.setNutritionalInfo(patchNutritionalInfo(p, recipe.getNutritionalInfo()));
+            case TIPS -> recipe.setTips(patchTips(p, recipe.getTips()));
+            case IMAGE_URL -> recipe.setImageUrl(readString(p));
+            case SOURCE -> recipe.setSource(readString(p));
+            case CREATED_AT -> recipe.setCreatedAt(readNullable(p, instantReader));
+            case UPDATED_AT -> recipe.setUpdatedAt(readNullable(p, instantReader));
+            case TAGS -> recipe.setTags(readStringList(p));
+            case DIETARY_RESTRICTIONS -> recipe.setDietaryRestrictions(readStringList(p));
+            case IS_PUBLIC -> recipe.setPublicRecipe(booleanReader.<Boolean>readValue(p));
+            case IMAGE_GENERATION -> recipe.setImageGeneration(patchMap(p, recipe.getImageGeneration()));
+            default -> {
+                if (!RECIPE_IGNORED.contains(name)) {
+                    unknown(p, Recipe.class, name, RecipeProperties.NAME_LIST);
+                }
+                p.skipChildren();
+            }
+        }
+    }
+
+    private NutritionalInfo patchNutritionalInfo(JsonParser p, NutritionalInfo current) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return readNullable(p, nutritionalInfoReader);
+        }
+        NutritionalInfo info = current == null ? new NutritionalInfo() : new NutritionalInfo(current.getPerServing(), current.getTotal());
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "perServing" -> info.setPerServing(patchNutritionValues(p, info.getPerServing()));
+                case "total" -> info.setTotal(patchNutritionValues(p, info.getTotal()));
+                default -> {
+                    unknown(p, NutritionalInfo.class, name, NUTRITIONAL_INFO_PROPERTIES);
+                    p.skipChildren();
+                }
+            }
+        }
+        return info;
+    }
+
+    private NutritionValues patchNutritionValues(JsonParser p, NutritionValues current) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return readNullable(p, nutritionValuesReader);
+        }
+        NutritionValues values = current == null ? new NutritionValues() : new NutritionValues(current.getCalories(),
+                current.getProtein(), current.getCarbohydrates(), current.getFat(), current.getFiber(), current.getSodium());
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "calories" -> values.setCalories(readDouble(p));
+                case "protein" -> values.setProtein(readDouble(p));
+                case "carbohydrates" -> values.setCarbohydrates(readDouble(p));
+                case "fat" -> values.setFat(readDouble(p));
+                case "fiber" -> values.setFiber(readDouble(p));
+                case "sodium" -> values.setSodium(readDouble(p));
+                default -> {
+                    unknown(p, NutritionValues.class, name, NUTRITION_VALUES_PROPERTIES);
+                    p.skipChildren();
+                }
+            }
+        }
+        return values;
+    }
+
+    private RecipeTips patchTips(JsonParser p, RecipeTips current) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return readNullable(p, tipsReader);
+        }
+        RecipeTips tips = current == null ? new RecipeTips() : new RecipeTips(current.getSubstitutions(),
+                current.getMakeAhead(), current.getStorage(), current.getReheating(), current.getVariations());
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "substitutions" -> tips.setSubstitutions(readStringList(p));
+                case "makeAhead" -> tips.setMakeAhead(readString(p));
+                case "storage" -> tips.setStorage(readString(p));
+                case "reheating" -> tips.setReheating(readString(p));
+                case "variations" -> tips.setVariations(readStringList(p));
+                default -> {
+                    unknown(p, RecipeTips.class, name, TIPS_PROPERTIES);
+                    p.skipChildren();
+                }
+            }
+        }
+        return tips;
+    }
+
+    /**
+     * Merges an object into a copy of a free-form map, recursing into values that are objects on both sides.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> patchMap(JsonParser p, Map<String, Object> current) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return readNullable(p, mapReader);
+        }
+        Map<String, Object> map = current == null ? new LinkedHashMap<>() : new LinkedHashMap<>(current);
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                map.remove(name);
+            } else if (token == JsonToken.START_OBJECT) {
+                Object value = map.get(name);
+                map.put(name, patchMap(p, value instanceof Map ? (Map<String, Object>) value : null));
+            } else {
+                map.put(name, valueReader.readValue(p));
+            }
+        }
+        return map;
+    }
+
+    private void unknown(JsonParser p, Class<?> type, String name, List<Object> known) throws IOException {
+        if (mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+            throw UnrecognizedPropertyException.from(p, type, name, known);
+        }
+    }
+
+    private String readString(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_STRING ? p.getText() : readNullable(p, stringReader);
+    }
+
+    private Integer readInteger(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NUMBER_INT ? p.getIntValue() : readNullable(p, integerReader);
+    }
+
+    private Double readDouble(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NUMBER_FLOAT ? p.getDoubleValue() : readNullable(p, doubleReader);
+    }
+
+    private List<String> readStringList(JsonParser p) throws IOException {
+        return readNullable(p, stringListReader);
+    }
+
+    private ObjectReader reader(JavaType type) {
+        return RecipeProperties.reader(mapper, type);
+    }
+
+    private static <T> T readNullable(JsonParser p, ObjectReader reader) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : reader.readValue(p);
+    }
+}
@@ -0,0 +1,119 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JSON properties of {@link Recipe} by slot, and the type each one is read as, for the classes that read a recipe
+ * one property at a time instead of deserializing it whole: {@link JsonRecipeView} and {@link RecipeMergePatch}.
+ * ModelPropertyCoverageTest fails when the model gains a property missing here.
+ */
+final class RecipeProperties {
+
+    // Slots, in declaration order
+    static final int ID = 0;
+    static final int USER_ID = 1;
+    static final int RECIPE_NAME = 2;
+    static final int DESCRIPTION = 3;
+    static final int INGREDIENTS = 4;
+    static final int INSTRUCTIONS = 5;
+    static final int PREP_TIME_MINUTES = 6;
+    static final int COOK_TIME_MINUTES = 7;
+    static final int TOTAL_TIME_MINUTES = 8;
+    static final int PREP_TIME = 9;
+    static final int COOK_TIME = 10;
+    static final int TOTAL_TIME = 11;
+    static final int SERVINGS = 12;
+    static final int NUTRITIONAL_INFO = 13;
+    static final int TIPS = 14;
+    static final int IMAGE_URL = 15;
+    static final int SOURCE = 16;
+    static final int CREATED_AT = 17;
+    static final int UPDATED_AT = 18;
+    static final int TAGS = 19;
+    static final int DIETARY_RESTRICTIONS = 20;
+    static final int IS_PUBLIC = 21;
+    static final int IMAGE_GENERATION = 22;
+    static final int COUNT = 23;
+
+    static final int UNKNOWN = -1;
+
+    // JSON property names by slot
+    private static final String[] NAMES = {"id", "userId", "recipeName", "description", "ingredients",
+            "instructions", "prepTimeMinutes", "cookTimeMinutes", "totalTimeMinutes", "prepTime", "cookTime",
+            "totalTime", "servings", "nutritionalInfo", "tips", "imageUrl", "source", "createdAt", "updatedAt", "tags",
+            "dietaryRestrictions", "isPublic", "imageGeneration"};
+
+    /**
+     * The property names in slot order, as the known-properties list of an {@code UnrecognizedPropertyException}.
+     */
+    static final List<Object> NAME_LIST = List.of((Object[]) NAMES);
+
+    private RecipeProperties() {}
+
+    static String name(int slot) {
+        return NAMES[slot];
+    }
+
+    /**
+     * Returns the slot of a property name, or {@link #UNKNOWN}.
+     */
+    static int slot(String name) {
+        for (int slot = 0; slot < COUNT; slot++) {
+            if (NAMES[slot].equals(name)) {
+                return slot;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the type a property is read as.
+     */
+    static JavaType type(TypeFactory types, int slot) {
+        switch (slot) {
+            case INGREDIENTS:
+            case INSTRUCTIONS:
+            case TAGS:
+            case DIETARY_RESTRICTIONS:
+                return types.constructCollectionType(List.class, String.class);
+            case PREP_TIME_MINUTES:
+            case COOK_TIME_MINUTES:
+            case TOTAL_TIME_MINUTES:
+            case SERVINGS:
+                return types.constructType(Integer.class);
+            case NUTRITIONAL_INFO:
+                return types.constructType(NutritionalInfo.class);
+            case TIPS:
+                return types.constructType(RecipeTips.class);
+            case CREATED_AT:
+            case UPDATED_AT:
+                return types.constructType(Instant.class);
+            case IS_PUBLIC:
+                // The primitive, so a null reads as false, as it does when the whole recipe is deserialized
+                return types.constructType(boolean.class);
+            case IMAGE_GENERATION:
+                return types.constructMapType(Map.class, String.class, Object.class);
+            default:
+                return types.constructType(String.class);
+        }
+    }
+
+    /**
+     * Returns a reader for one value in the middle of a recipe or patch. The tokens after the value are the rest of
+     * the enclosing object, not trailing tokens, so {@link DeserializationFeature#FAIL_ON_TRAILING_TOKENS} is off.
+     */
+    static ObjectReader reader(ObjectMapper mapper, JavaType type) {
+        return mapper.readerFor(type).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+}
@@ -0,0 +1,351 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.recipe.shared.model.Recipe;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads recipes one at a time from newline-delimited JSON or a top-level JSON array, holding only the current record
+ * in memory. Created by {@link RecipeStreams#reader(InputStream)}.
+ * <p>
+ * Newline-delimited input is split into lines before parsing, so a malformed line never affects the lines after it.
+ * Blank lines and {@code null} records are ignored; a line holding anything after its record is invalid. Array input is read with a {@link MappingIterator}, which recovers
+ * from records that are well-formed JSON but cannot be mapped to a {@link Recipe}; a syntax error inside an array
+ * ends the input, as the position of the following elements is lost.
+ * <p>
+ * By default the first invalid record throws an {@link UncheckedIOException} naming its line. After
+ * {@link #skipInvalid(Consumer)} invalid records are counted, reported to the handler and skipped instead.
+ * Failures of the underlying input always throw. Instances are not thread-safe.
+ */
+public final class RecipeReader implements Iterator<Recipe>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final InputStream in;
+    private final ObjectReader reader;
+    // Rejects content after the record, which would otherwise be silently dropped
+    private final ObjectReader lineReader;
+    private final long startNanos = System.nanoTime();
+
+    private Consumer<RecordError> errorHandler;
+
+    // Newline-delimited input: read buffer, and the current line when it spans buffer refills
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[0];
+    private long lineNumber;
+    private long bytes;
+
+    // Array input
+    private MappingIterator<Recipe> elements;
+
+    private boolean started;
+    private boolean finished;
+    private Recipe next;
+    private long records;
+    private long skipped;
+    private long endNanos;
+
+    RecipeReader(InputStream in, ObjectReader reader) {
+        this.in = Objects.requireNonNull(in, "in");
+        this.reader = reader;
+        this.lineReader = reader.with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /**
+     * Skips invalid records instead of failing, passing each one to the given handler. Must be called before reading.
+     */
+    public RecipeReader skipInvalid(Consumer<RecordError> handler) {
+        if (started) {
+            throw new IllegalStateException("skipInvalid must be called before reading");
+        }
+        this.errorHandler = Objects.requireNonNull(handler, "handler");
+        return this;
+    }
+
+    /**
+     * Skips invalid records, only counting them in {@link #getMetrics()}.
+     */
+    public RecipeReader skipInvalid() {
+        return skipInvalid(error -> {});
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                // The end of the input and the first failure both end reading
+                if (next == null) {
+                    finish();
+                }
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Recipe next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Recipe recipe = next;
+        next = null;
+        records++;
+        return recipe;
+    }
+
+    /**
+     * Returns the remaining recipes as a sequential stream. Closing the stream closes this reader.
+     */
+    public Stream<Recipe> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Returns the records returned and skipped so far and the bytes consumed from the input.
+     */
+    public StreamMetrics getMetrics() {
+        long consumed = elements != null ? bytes + Math.max(0, elements.getParser().currentLocation().getByteOffset()) : bytes;
+        long end = finished ? endNanos : System.nanoTime();
+        return new StreamMetrics(records, skipped, consumed, end - startNanos);
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        next = null;
+        buffer = null;
+        line = null;
+        if (elements != null) {
+            elements.close();
+        }
+        in.close();
+    }
+
+    private void finish() {
+        if (!finished) {
+            finished = true;
+            endNanos = System.nanoTime();
+        }
+    }
+
+    private Recipe read() throws IOException {
+        if (!started) {
+            started = true;
+            if (isArray()) {
+                InputStream rest = new SequenceInputStream(new ByteArrayInputStream(buffer, position, limit - position), in);
+                elements = reader.readValues(rest);
+                buffer = null;
+            }
+        }
+        return elements != null ? readElement() : readLines();
+    }
+
+    /**
+     * Peeks at the first bytes, skipping a UTF-8 byte order mark, to tell an array from newline-delimited JSON.
+     * Reads until the first byte that is not whitespace, however the input splits it across reads.
+     */
+    private boolean isArray() throws IOException {
+        while (limit < BYTE_ORDER_MARK.length && startsWithByteOrderMark() && readMore()) {
+            // A byte order mark split across reads
+        }
+        if (limit >= BYTE_ORDER_MARK.length && startsWithByteOrderMark()) {
+            position = BYTE_ORDER_MARK.length;
+            bytes = BYTE_ORDER_MARK.length;
+        }
+        for (int i = position; ; i++) {
+            if (i == limit && !readMore()) {
+                return false;
+            }
+            if (!isWhitespace(buffer[i])) {
+                return buffer[i] == '[';
+            }
+        }
+    }
+
+    /**
+     * Whether the buffered bytes are a byte order mark or the start of one.
+     */
+    private boolean startsWithByteOrderMark() {
+        for (int i = 0; i < Math.min(limit, BYTE_ORDER_MARK.length); i++) {
+            if (buffer[i] != BYTE_ORDER_MARK[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Recipe readElement() throws IOException {
+        while (true) {
+            long elementLine;
+            try {
+                if (!elements.hasNextValue()) {
+                    return null;
+                }
+                elementLine = elements.getParser().currentTokenLocation().getLineNr();
+            } catch (StreamReadException e) {
+                invalid(elements.getParser().currentLocation().getLineNr(), e);
+                return null;
+            }
+            try {
+                Recipe recipe = elements.nextValue();
+                if (recipe != null) {
+                    return recipe;
+                }
+            } catch (StreamReadException e) {
+                invalid(elementLine, e);
+                return null;
+            } catch (JsonProcessingException e) {
+                // The iterator skips the rest of the element before returning the next one
+                invalid(elementLine, e);
+            }
+        }
+    }
+
+    private Recipe readLines() throws IOException {
+        byte[] content;
+        int start;
+        int end;
+        while (true) {
+            if (position == limit && !fill()) {
+                return null;
+            }
+            int newline = indexOfNewline(buffer, position, limit);
+            if (newline >= 0) {
+                content = buffer;
+                start = position;
+                end = newline;
+                bytes += newline + 1 - position;
+                position = newline + 1;
+            } else {
+                // The line continues past the buffer: collect it until its newline or the end of the input
+                int length = 0;
+                do {
+                    length = append(length, position, limit);
+                    bytes += limit - position;
+                    position = limit;
+                    if (!fill()) {
+                        break;
+                    }
+                    newline = indexOfNewline(buffer, 0, limit);
+                } while (newline < 0);
+                if (newline >= 0) {
+                    length = append(length, 0, newline);
+                    bytes += newline + 1;
+                    position = newline + 1;
+                }
+                content = line;
+                start = 0;
+                end = length;
+            }
+            lineNumber++;
+            if (end > start && content[end - 1] == '\r') {
+                end--;
+            }
+            if (isBlank(content, start, end)) {
+                continue;
+            }
+            try {
+                Recipe recipe = lineReader.readValue(content, start, end - start);
+                if (recipe != null) {
+                    return recipe;
+                }
+            } catch (JsonProcessingException e) {
+                invalid(lineNumber, e);
+            }
+        }
+    }
+
+    private void invalid(long recordLine, JsonProcessingException e) {
+        RecordError error = new RecordError(recordLine, e);
+        if (errorHandler == null) {
+            throw new UncheckedIOException(error.message(), e);
+        }
+        skipped++;
+        errorHandler.accept(error);
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    /**
+     * Appends the next read to the buffered bytes, growing the buffer when it is full.
+     */
+    private boolean readMore() throws IOException {
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int count = in.read(buffer, limit, buffer.length - limit);
+        if (count > 0) {
+            limit += count;
+        }
+        return count > 0;
+    }
+
+    private int append(int length, int from, int to) {
+        int required = length + to - from;
+        if (required > line.length) {
+            line = Arrays.copyOf(line, Math.max(required, line.length * 2));
+        }
+        System.arraycopy(buffer, from, line, length, to - from);
+        return required;
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
@@ -0,0 +1,29 @@
+package com.recipe.shared.io;
+
+import com.recipe.shared.model.Recipe;
+
+/**
+ * Receives the parts of a recipe as an {@link IncrementalRecipeParser} completes them. Events are delivered on the
+ * thread that feeds the parser, in document order. All methods do nothing by default.
+ */
+public interface RecipeStreamListener {
+
+    /**
+     * A top-level property has been read completely and applied to the parser's {@link IncrementalRecipeParser#snapshot()}.
+     *
+     * @param name  the JSON property name, e.g. {@code recipeName} or {@code nutritionalInfo}
+     * @param value the value converted to the property's Java type, possibly null
+     */
+    default void onProperty(String name, Object value) {}
+
+    /**
+     * An element of a string list ({@code ingredients}, {@code instructions}, {@code tags},
+     * {@code dietaryRestrictions}) has been read, before the rest of the list has arrived.
+     */
+    default void onListItem(String name, int index, String value) {}
+
+    /**
+     * The recipe object has been read completely.
+     */
+    default void onComplete(Recipe recipe) {}
+}
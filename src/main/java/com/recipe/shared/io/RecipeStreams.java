@@ -0,0 +1,77 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.model.Recipe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Entry point for reading and writing large collections of {@link Recipe} without holding them in memory.
+ * Input may be newline-delimited JSON (one recipe per line) or a single top-level JSON array; the format is detected
+ * from the first non-blank byte. Output is written in either format.
+ * <p>
+ * The overloads without an {@link ObjectMapper} use a shared mapper with {@link JavaTimeModule} and
+ * {@link RecipeJacksonModule} registered and Jackson's defaults otherwise. Pass a mapper to control date formats,
+ * unknown-property handling and the like.
+ */
+public final class RecipeStreams {
+
+    // Also the default mapper of the other readers in this package
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new RecipeJacksonModule());
+
+    private RecipeStreams() {}
+
+    /**
+     * Returns a reader over the recipes in the given input. Closing the reader closes the input.
+     */
+    public static RecipeReader reader(InputStream in) {
+        return reader(in, OBJECT_MAPPER);
+    }
+
+    public static RecipeReader reader(InputStream in, ObjectMapper mapper) {
+        return new RecipeReader(in, mapper.readerFor(Recipe.class));
+    }
+
+    /**
+     * Returns the recipes in the given input as a sequential stream that closes the input when it is closed.
+     * Invalid records fail the stream; use {@link RecipeReader#skipInvalid(java.util.function.Consumer)} to skip them.
+     */
+    public static Stream<Recipe> stream(InputStream in) {
+        return reader(in).stream();
+    }
+
+    public static Stream<Recipe> stream(InputStream in, ObjectMapper mapper) {
+        return reader(in, mapper).stream();
+    }
+
+    /**
+     * Returns a writer producing newline-delimited JSON, one compact recipe per line.
+     * Closing the writer closes the output.
+     */
+    public static RecipeWriter ndjsonWriter(OutputStream out) throws IOException {
+        return ndjsonWriter(out, OBJECT_MAPPER);
+    }
+
+    public static RecipeWriter ndjsonWriter(OutputStream out, ObjectMapper mapper) throws IOException {
+        return new RecipeWriter(out, mapper.writerFor(Recipe.class), false);
+    }
+
+    /**
+     * Returns a writer producing a single JSON array of recipes. The closing bracket is written when the writer is
+     * closed, which also closes the output.
+     */
+    public static RecipeWriter arrayWriter(OutputStream out) throws IOException {
+        return arrayWriter(out, OBJECT_MAPPER);
+    }
+
+    public static RecipeWriter arrayWriter(OutputStream out, ObjectMapper mapper) throws IOException {
+        return new RecipeWriter(out, mapper.writerFor(Recipe.class), true);
+    }
+}
@@ -0,0 +1,107 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of a recipe stored as UTF-8 JSON, for code that needs a few properties of many recipes, such as a
+ * list page showing names and images:
+ * <pre>{@code
+ * RecipeView view = RecipeView.of(json);
+ * cards.add(new Card(view.getId(), view.getRecipeName(), view.getImageUrl(), view.getTotalTimeMinutes()));
+ * }</pre>
+ * Creating a view scans the top level of the JSON once and records where each property's value starts, skipping the
+ * values without decoding them. A getter decodes only its own value, directly from the bytes, each time it is called.
+ * {@link #toRecipe()} deserializes the whole recipe when more is needed. The scan checks the structure of the recipe
+ * object, but malformed content inside a nested value, such as a trailing comma in {@code tags}, is only reported when
+ * that value is decoded.
+ * <p>
+ * The view does not copy the bytes, so they must not be modified while it is in use. Values are converted with the
+ * mapper's deserializers wherever they are not plain JSON strings, integers or booleans, so they match what
+ * {@code mapper.readValue(json, Recipe.class)} returns. Unknown properties are ignored by the getters; only
+ * {@code toRecipe()} applies {@code FAIL_ON_UNKNOWN_PROPERTIES}. Getters throw an
+ * {@link java.io.UncheckedIOException} if a value cannot be converted. Views are immutable and thread-safe.
+ */
+public interface RecipeView {
+
+    /**
+     * Returns a view of a recipe JSON object, read with the same mapper as {@link RecipeStreams}.
+     *
+     * @throws IOException if the input is not a single well-formed JSON object
+     */
+    static RecipeView of(byte[] json) throws IOException {
+        return of(json, 0, json.length);
+    }
+
+    static RecipeView of(byte[] json, int offset, int length) throws IOException {
+        return of(json, offset, length, RecipeStreams.OBJECT_MAPPER);
+    }
+
+    static RecipeView of(byte[] json, int offset, int length, ObjectMapper mapper) throws IOException {
+        return new JsonRecipeView(json, offset, length, mapper);
+    }
+
+    String getId();
+
+    String getUserId();
+
+    String getRecipeName();
+
+    String getDescription();
+
+    List<String> getIngredients();
+
+    List<String> getInstructions();
+
+    Integer getPrepTimeMinutes();
+
+    Integer getCookTimeMinutes();
+
+    Integer getTotalTimeMinutes();
+
+    String getPrepTime();
+
+    String getCookTime();
+
+    String getTotalTime();
+
+    Integer getServings();
+
+    NutritionalInfo getNutritionalInfo();
+
+    RecipeTips getTips();
+
+    String getImageUrl();
+
+    String getSource();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    List<String> getTags();
+
+    List<String> getDietaryRestrictions();
+
+    boolean isPublicRecipe();
+
+    Map<String, Object> getImageGeneration();
+
+    /**
+     * Returns whether the JSON contains the named property, by its JSON name (e.g. {@code isPublic}), even if its value
+     * is null.
+     */
+    boolean has(String property);
+
+    /**
+     * Deserializes the whole recipe.
+     */
+    Recipe toRecipe();
+}
@@ -0,0 +1,139 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.recipe.shared.model.Recipe;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes recipes one at a time as newline-delimited JSON or as a single JSON array through one {@link JsonGenerator},
+ * so memory use does not grow with the number of recipes. Created by {@link RecipeStreams#ndjsonWriter(OutputStream)}
+ * and {@link RecipeStreams#arrayWriter(OutputStream)}. Instances are not thread-safe.
+ */
+public final class RecipeWriter implements Closeable, Flushable {
+
+    private final ObjectWriter writer;
+    private final CountingOutputStream out;
+    private final JsonGenerator generator;
+    private final boolean array;
+    private final long startNanos = System.nanoTime();
+
+    private long records;
+    private long endNanos;
+    private boolean closed;
+
+    RecipeWriter(OutputStream out, ObjectWriter writer, boolean array) throws IOException {
+        // Flushing after every record would turn each one into a separate write to the output
+        ObjectWriter configured = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (!array) {
+            // A record must stay on a single line
+            configured = configured.without(SerializationFeature.INDENT_OUTPUT);
+        }
+        this.writer = configured;
+        this.out = new CountingOutputStream(Objects.requireNonNull(out, "out"));
+        this.generator = configured.createGenerator(this.out);
+        this.array = array;
+        if (array) {
+            generator.writeStartArray();
+        } else {
+            // Records are terminated by newlines instead of Jackson's default root value separator
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    public void write(Recipe recipe) throws IOException {
+        Objects.requireNonNull(recipe, "recipe");
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+        writer.writeValue(generator, recipe);
+        if (!array) {
+            generator.writeRaw('\n');
+        }
+        records++;
+    }
+
+    /**
+     * Writes every recipe of the given stream, consuming it, and returns the number written.
+     */
+    public long writeAll(Stream<? extends Recipe> recipes) throws IOException {
+        long count = 0;
+        for (Iterator<? extends Recipe> it = recipes.iterator(); it.hasNext(); count++) {
+            write(it.next());
+        }
+        return count;
+    }
+
+    public long writeAll(Iterable<? extends Recipe> recipes) throws IOException {
+        long count = 0;
+        for (Recipe recipe : recipes) {
+            write(recipe);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    /**
+     * Returns the records written so far and the bytes written, including those still buffered by the generator.
+     */
+    public StreamMetrics getMetrics() {
+        long end = closed ? endNanos : System.nanoTime();
+        return new StreamMetrics(records, 0, out.count + generator.getOutputBuffered(), end - startNanos);
+    }
+
+    /**
+     * Ends the array, if writing one, and closes the generator and the output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (array) {
+                generator.writeEndArray();
+            }
+        } finally {
+            generator.close();
+            // The generator leaves the output open when the mapper disables AUTO_CLOSE_TARGET
+            out.close();
+            endNanos = System.nanoTime();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * A record a {@link RecipeReader} could not read, reported to the handler passed to
+ * {@link RecipeReader#skipInvalid(java.util.function.Consumer)}.
+ *
+ * @param line  1-based line of the input on which the record starts
+ * @param cause the parse or mapping failure
+ */
+public record RecordError(long line, JsonProcessingException cause) {
+
+    /**
+     * Describes the failure without Jackson's location suffix, which is relative to the record rather than the input.
+     */
+    public String message() {
+        return "Invalid recipe at line " + line + ": " + cause.getOriginalMessage();
+    }
+}
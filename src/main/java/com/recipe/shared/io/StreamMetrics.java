@@ -0,0 +1,29 @@
+package com.recipe.shared.io;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the progress of a {@link RecipeReader} or {@link RecipeWriter}.
+ * Elapsed time runs from the creation of the reader or writer until it is closed.
+ */
+public record StreamMetrics(long records, long skipped, long bytes, long elapsedNanos) {
+
+    public double recordsPerSecond() {
+        return perSecond(records);
+    }
+
+    public double bytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos <= 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d records (%d skipped), %d bytes in %d ms, %.0f records/s, %.1f MB/s",
+                records, skipped, bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), recordsPerSecond(),
+                bytesPerSecond() / (1024 * 1024));
+    }
+}
@@ -1,39 +1,70 @@
 package com.recipe.shared.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.recipe.shared.codec.GenerateFirestoreCodec;
+import com.recipe.shared.schema.GenerateSchema;
+import com.recipe.shared.schema.SchemaProfile;
+import com.recipe.shared.schema.SchemaProfiles;
 
 import java.util.Map;
 
 /**
  * Nutritional values for a recipe or serving.
+ * <p>
+ * Values are stored as primitive doubles with a bitmask recording which ones are set, so an instance is a single
+ * small object instead of one plus a {@code Double} per value. The getters, setters and builder keep their
+ * {@code Double} signatures, with null meaning "not set", so the JSON and Firestore shape is unchanged. Use
+ * {@link #hasCalories()} and {@link #caloriesOr(double)} (and the equivalents for the other values) to read without
+ * boxing.
  */
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@GenerateSchema
+@GenerateFirestoreCodec
+@SchemaProfiles({SchemaProfile.FULL, SchemaProfile.AI_GENERATION, SchemaProfile.NUTRITION_ONLY})
 public class NutritionValues {
 
+    private static final int CALORIES = 1;
+    private static final int PROTEIN = 1 << 1;
+    private static final int CARBOHYDRATES = 1 << 2;
+    private static final int FAT = 1 << 3;
+    private static final int FIBER = 1 << 4;
+    private static final int SODIUM = 1 << 5;
+
     @JsonProperty("calories")
-    private Double calories;
+    private double calories;
 
     @JsonProperty("protein")
-    private Double protein;
+    private double protein;
 
     @JsonProperty("carbohydrates")
-    private Double carbohydrates;
+    private double carbohydrates;
 
     @JsonProperty("fat")
-    private Double fat;
+    private double fat;
 
     @JsonProperty("fiber")
-    private Double fiber;
+    private double fiber;
 
     @JsonProperty("sodium")
-    private Double sodium;
+    private double sodium;
+
+    // Which of the values above are set; transient so the schema and codec processors do not treat it as a property
+    private transient byte present;
+
+    public NutritionValues() {
+    }
+
+    public NutritionValues(Double calories, Double protein, Double carbohydrates, Double fat, Double fiber, Double sodium) {
+        this.calories = set(CALORIES, calories);
+        this.protein = set(PROTEIN, protein);
+        this.carbohydrates = set(CARBOHYDRATES, carbohydrates);
+        this.fat = set(FAT, fat);
+        this.fiber = set(FIBER, fiber);
+        this.sodium = set(SODIUM, sodium);
+    }
+
+    public static NutritionValuesBuilder builder() {
+        return new NutritionValuesBuilder();
+    }
 
     /**
      * Creates NutritionValues from a Map structure (for storage service compatibility).
@@ -43,14 +74,14 @@ public class NutritionValues {
             return null;
         }
 
-        return NutritionValues.builder()
-                .calories(getDoubleValue(valuesMap.get("calories")))
-                .protein(getDoubleValue(valuesMap.get("protein")))
-                .carbohydrates(getDoubleValue(valuesMap.get("carbohydrates")))
-                .fat(getDoubleValue(valuesMap.get("fat")))
-                .fiber(getDoubleValue(valuesMap.get("fiber")))
-                .sodium(getDoubleValue(valuesMap.get("sodium")))
-                .build();
+        NutritionValues values = new NutritionValues();
+        values.calories = values.read(CALORIES, valuesMap.get("calories"));
+        values.protein = values.read(PROTEIN, valuesMap.get("protein"));
+        values.carbohydrates = values.read(CARBOHYDRATES, valuesMap.get("carbohydrates"));
+        values.fat = values.read(FAT, valuesMap.get("fat"));
+        values.fiber = values.read(FIBER, valuesMap.get("fiber"));
+        values.sodium = values.read(SODIUM, valuesMap.get("sodium"));
+        return values;
     }
 
     /**
@@ -58,19 +89,234 @@ public class NutritionValues {
      */
     public Map<String, Object> toMap() {
         Map<String, Object> map = new java.util.HashMap<>();
-        if (calories != null) map.put("calories", calories);
-        if (protein != null) map.put("protein", protein);
-        if (carbohydrates != null) map.put("carbohydrates", carbohydrates);
-        if (fat != null) map.put("fat", fat);
-        if (fiber != null) map.put("fiber", fiber);
-        if (sodium != null) map.put("sodium", sodium);
+        if (hasCalories()) map.put("calories", calories);
+        if (hasProtein()) map.put("protein", protein);
+        if (hasCarbohydrates()) map.put("carbohydrates", carbohydrates);
+        if (hasFat()) map.put("fat", fat);
+        if (hasFiber()) map.put("fiber", fiber);
+        if (hasSodium()) map.put("sodium", sodium);
         return map;
     }
 
-    private static Double getDoubleValue(Object value) {
-        if (value instanceof Number) {
-            return ((Number) value).doubleValue();
+    public Double getCalories() {
+        return hasCalories() ? calories : null;
+    }
+
+    public void setCalories(Double calories) {
+        this.calories = set(CALORIES, calories);
+    }
+
+    public boolean hasCalories() {
+        return (present & CALORIES) != 0;
+    }
+
+    /**
+     * Returns the calories, or {@code fallback} when they are not set.
+     */
+    public double caloriesOr(double fallback) {
+        return hasCalories() ? calories : fallback;
+    }
+
+    public Double getProtein() {
+        return hasProtein() ? protein : null;
+    }
+
+    public void setProtein(Double protein) {
+        this.protein = set(PROTEIN, protein);
+    }
+
+    public boolean hasProtein() {
+        return (present & PROTEIN) != 0;
+    }
+
+    public double proteinOr(double fallback) {
+        return hasProtein() ? protein : fallback;
+    }
+
+    public Double getCarbohydrates() {
+        return hasCarbohydrates() ? carbohydrates : null;
+    }
+
+    public void setCarbohydrates(Double carbohydrates) {
+        this.carbohydrates = set(CARBOHYDRATES, carbohydrates);
+    }
+
+    public boolean hasCarbohydrates() {
+        return (present & CARBOHYDRATES) != 0;
+    }
+
+    public double carbohydratesOr(double fallback) {
+        return hasCarbohydrates() ? carbohydrates : fallback;
+    }
+
+    public Double getFat() {
+        return hasFat() ? fat : null;
+    }
+
+    public void setFat(Double fat) {
+        this.fat = set(FAT, fat);
+    }
+
+    public boolean hasFat() {
+        return (present & FAT) != 0;
+    }
+
+    public double fatOr(double fallback) {
+        return hasFat() ? fat : fallback;
+    }
+
+    public Double getFiber() {
+        return hasFiber() ? fiber : null;
+    }
+
+    public void setFiber(Double fiber) {
+        this.fiber = set(FIBER, fiber);
+    }
+
+    public boolean hasFiber() {
+        return (present & FIBER) != 0;
+    }
+
+    public double fiberOr(double fallback) {
+        return hasFiber() ? fiber : fallback;
+    }
+
+    public Double getSodium() {
+        return hasSodium() ? sodium : null;
+    }
+
+    public void setSodium(Double sodium) {
+        this.sodium = set(SODIUM, sodium);
+    }
+
+    public boolean hasSodium() {
+        return (present & SODIUM) != 0;
+    }
+
+    public double sodiumOr(double fallback) {
+        return hasSodium() ? sodium : fallback;
+    }
+
+    private double set(int bit, Double value) {
+        if (value == null) {
+            present &= (byte) ~bit;
+            return 0;
+        }
+        present |= (byte) bit;
+        return value;
+    }
+
+    // Non-numbers are treated as missing
+    private double read(int bit, Object value) {
+        if (value instanceof Number number) {
+            present |= (byte) bit;
+            return number.doubleValue();
+        }
+        return 0;
+    }
+
+    /**
+     * Values compare like {@link Double#equals(Object)}: NaN equals NaN and 0.0 differs from -0.0.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof NutritionValues other)) {
+            return false;
+        }
+        return present == other.present
+                && same(calories, other.calories)
+                && same(protein, other.protein)
+                && same(carbohydrates, other.carbohydrates)
+                && same(fat, other.fat)
+                && same(fiber, other.fiber)
+                && same(sodium, other.sodium);
+    }
+
+    // Unset values are always 0.0, so they compare equal
+    private static boolean same(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = result * 59 + hash(CALORIES, calories);
+        result = result * 59 + hash(PROTEIN, protein);
+        result = result * 59 + hash(CARBOHYDRATES, carbohydrates);
+        result = result * 59 + hash(FAT, fat);
+        result = result * 59 + hash(FIBER, fiber);
+        result = result * 59 + hash(SODIUM, sodium);
+        return result;
+    }
+
+    private int hash(int bit, double value) {
+        return (present & bit) != 0 ? Double.hashCode(value) : 43;
+    }
+
+    @Override
+    public String toString() {
+        return "NutritionValues(calories=" + getCalories() + ", protein=" + getProtein()
+                + ", carbohydrates=" + getCarbohydrates() + ", fat=" + getFat() + ", fiber=" + getFiber()
+                + ", sodium=" + getSodium() + ")";
+    }
+
+    public static class NutritionValuesBuilder {
+
+        private final NutritionValues values = new NutritionValues();
+
+        NutritionValuesBuilder() {
+        }
+
+        public NutritionValuesBuilder calories(Double calories) {
+            values.setCalories(calories);
+            return this;
+        }
+
+        public NutritionValuesBuilder protein(Double protein) {
+            values.setProtein(protein);
+            return this;
+        }
+
+        public NutritionValuesBuilder carbohydrates(Double carbohydrates) {
+            values.setCarbohydrates(carbohydrates);
+            return this;
+        }
+
+        public NutritionValuesBuilder fat(Double fat) {
+            values.setFat(fat);
+            return this;
+        }
+
+        public NutritionValuesBuilder fiber(Double fiber) {
+            values.setFiber(fiber);
+            return this;
+        }
+
+        public NutritionValuesBuilder sodium(Double sodium) {
+            values.setSodium(sodium);
+            return this;
+        }
+
+        public NutritionValues build() {
+            NutritionValues built = new NutritionValues();
+            built.calories = values.calories;
+            built.protein = values.protein;
+            built.carbohydrates = values.carbohydrates;
+            built.fat = values.fat;
+            built.fiber = values.fiber;
+            built.sodium = values.sodium;
+            built.present = values.present;
+            return built;
+        }
+
+        @Override
+        public String toString() {
+            return "NutritionValues.NutritionValuesBuilder(calories=" + values.getCalories() + ", protein="
+                    + values.getProtein() + ", carbohydrates=" + values.getCarbohydrates() + ", fat=" + values.getFat()
+                    + ", fiber=" + values.getFiber() + ", sodium=" + values.getSodium() + ")";
         }
-        return null;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package com.recipe.shared.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.recipe.shared.codec.GenerateFirestoreCodec;
+import com.recipe.shared.schema.GenerateSchema;
+import com.recipe.shared.schema.SchemaProfile;
+import com.recipe.shared.schema.SchemaProfiles;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +19,9 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@GenerateSchema
+@GenerateFirestoreCodec
+@SchemaProfiles({SchemaProfile.FULL, SchemaProfile.AI_GENERATION, SchemaProfile.NUTRITION_ONLY})
 public class NutritionalInfo {
 
     @JsonProperty("perServing")
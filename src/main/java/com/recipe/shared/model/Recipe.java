@@ -3,6 +3,11 @@ package com.recipe.shared.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.cloud.firestore.annotation.PropertyName;
+import com.recipe.shared.codec.GenerateFirestoreCodec;
+import com.recipe.shared.schema.GenerateSchema;
+import com.recipe.shared.schema.SchemaProfiles;
+import com.recipe.shared.schema.SchemaRequired;
+import com.recipe.shared.time.RecipeTimes;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +19,10 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
+import static com.recipe.shared.schema.SchemaProfile.AI_GENERATION;
+import static com.recipe.shared.schema.SchemaProfile.FULL;
+import static com.recipe.shared.schema.SchemaProfile.NUTRITION_ONLY;
+
 /**
  * Shared Recipe model used across all recipe management services.
  * This model provides a consistent interface for recipe data exchange
@@ -23,19 +32,27 @@ import java.util.Map;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@GenerateSchema
+@GenerateFirestoreCodec
 public class Recipe {
 
     // Core recipe information
+    // Server-owned fields are only part of the FULL schema; the AI model never produces them
+    @SchemaProfiles(FULL)
     private String id; // Unique identifier (Firestore document ID for storage)
+    @SchemaProfiles(FULL)
     private String userId; // Firebase user ID who owns the recipe
 
     @JsonProperty("recipeName")
+    @SchemaRequired
     private String recipeName; // Consistent naming across services
 
     private String description;
 
     // Recipe content
+    @SchemaRequired
     private List<String> ingredients; // List of ingredient strings with quantities
+    @SchemaRequired
     private List<String> instructions; // Step-by-step cooking instructions
 
     // Timing information
@@ -49,9 +66,11 @@ public class Recipe {
     private String totalTime; // e.g., "35 minutes"
 
     // Servings
+    @SchemaRequired
     private Integer servings; // Number of servings
 
     // Nutritional information - structured for frontend, flexible for backend
+    @SchemaProfiles({FULL, AI_GENERATION, NUTRITION_ONLY})
     private NutritionalInfo nutritionalInfo;
 
     // Recipe tips and additional information
@@ -61,8 +80,11 @@ public class Recipe {
     private String imageUrl;
 
     // Metadata
+    @SchemaProfiles(FULL)
     private String source; // "ai-generated", "manual", etc.
+    @SchemaProfiles(FULL)
     private Instant createdAt;
+    @SchemaProfiles(FULL)
     private Instant updatedAt;
 
     // Categorization
@@ -70,11 +92,14 @@ public class Recipe {
     private List<String> dietaryRestrictions;
 
     @JsonProperty("isPublic")  // For Jackson (REST API responses) - maintains API compatibility
+    @PropertyName("isPublic")  // Read by the generated RecipeFirestoreCodec; Firestore itself uses the accessor annotations
     @Getter(onMethod_ = {@PropertyName("isPublic")})  // Apply @PropertyName to the generated getter
     @Setter(onMethod_ = {@PropertyName("isPublic")})  // Apply @PropertyName to the generated setter
+    @SchemaProfiles(FULL)
     private boolean publicRecipe; // Whether recipe is publicly visible to other users (renamed from isPublic to avoid Lombok getter/setter conflicts)
 
     // AI-specific fields (optional, for AI service compatibility)
+    @SchemaProfiles({}) // Never part of a schema: images are generated separately via the dedicated endpoint
     private Map<String, Object> imageGeneration; // AI image generation metadata
 
     /**
@@ -90,16 +115,11 @@ public class Recipe {
     }
 
     /**
-     * Gets total time in minutes, calculating if not explicitly set.
+     * Gets total time in minutes, calculating if not explicitly set: from {@code totalTime}, or else prep plus cook
+     * time, parsing the time strings where the minute fields are missing. See {@link RecipeTimes#totalMinutes(Recipe)}.
      */
     @JsonIgnore
     public Integer getCalculatedTotalTimeMinutes() {
-        if (totalTimeMinutes != null) {
-            return totalTimeMinutes;
-        }
-        if (prepTimeMinutes != null && cookTimeMinutes != null) {
-            return prepTimeMinutes + cookTimeMinutes;
-        }
-        return null;
+        return RecipeTimes.totalMinutes(this);
     }
 }
\ No newline at end of file
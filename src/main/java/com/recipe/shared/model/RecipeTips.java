@@ -1,6 +1,8 @@
 package com.recipe.shared.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.recipe.shared.codec.GenerateFirestoreCodec;
+import com.recipe.shared.schema.GenerateSchema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +18,8 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@GenerateSchema
+@GenerateFirestoreCodec
 public class RecipeTips {
 
     @JsonProperty("substitutions")
@@ -50,13 +54,13 @@ public class RecipeTips {
 
     /**
      * Converts to Map structure (for storage service compatibility).
-     * Note: This is a simplified conversion - complex tips with makeAhead, storage,
-     * and reheating would need additional mapping logic.
+     * Only the list-valued tips fit this map, and null lists are left out; use the generated
+     * {@code RecipeTipsFirestoreCodec} for a lossless conversion that includes makeAhead, storage and reheating.
      */
     public Map<String, List<String>> toMap() {
-        return Map.of(
-                "substitutions", substitutions,
-                "variations", variations
-        );
+        Map<String, List<String>> map = new java.util.HashMap<>(4);
+        if (substitutions != null) map.put("substitutions", substitutions);
+        if (variations != null) map.put("variations", variations);
+        return map;
     }
 }
\ No newline at end of file
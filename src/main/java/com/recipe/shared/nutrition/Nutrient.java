@@ -0,0 +1,58 @@
+package com.recipe.shared.nutrition;
+
+import com.recipe.shared.model.NutritionValues;
+
+/**
+ * The six values of {@link NutritionValues}, in declaration order.
+ */
+public enum Nutrient {
+
+    CALORIES,
+    PROTEIN,
+    CARBOHYDRATES,
+    FAT,
+    FIBER,
+    SODIUM;
+
+    /**
+     * Returns this nutrient's value, or {@code fallback} when it is not set. Does not box.
+     */
+    public double valueOr(NutritionValues values, double fallback) {
+        return switch (this) {
+            case CALORIES -> values.caloriesOr(fallback);
+            case PROTEIN -> values.proteinOr(fallback);
+            case CARBOHYDRATES -> values.carbohydratesOr(fallback);
+            case FAT -> values.fatOr(fallback);
+            case FIBER -> values.fiberOr(fallback);
+            case SODIUM -> values.sodiumOr(fallback);
+        };
+    }
+
+    /**
+     * Returns whether this nutrient's value is set.
+     */
+    public boolean isSet(NutritionValues values) {
+        return switch (this) {
+            case CALORIES -> values.hasCalories();
+            case PROTEIN -> values.hasProtein();
+            case CARBOHYDRATES -> values.hasCarbohydrates();
+            case FAT -> values.hasFat();
+            case FIBER -> values.hasFiber();
+            case SODIUM -> values.hasSodium();
+        };
+    }
+
+    /**
+     * Sets this nutrient's value; null clears it.
+     */
+    public void set(NutritionValues values, Double value) {
+        switch (this) {
+            case CALORIES -> values.setCalories(value);
+            case PROTEIN -> values.setProtein(value);
+            case CARBOHYDRATES -> values.setCarbohydrates(value);
+            case FAT -> values.setFat(value);
+            case FIBER -> values.setFiber(value);
+            case SODIUM -> values.setSodium(value);
+        }
+    }
+}
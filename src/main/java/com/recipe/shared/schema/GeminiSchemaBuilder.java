@@ -5,11 +5,19 @@ import java.util.*;
 /**
  * Fluent builder for creating Gemini API JSON schemas.
  * Copied into shared module so other services can reuse it.
+ * Builders produce immutable {@link SchemaNode}s; nested nodes are shared rather than copied, so the same
+ * builder or node can be reused across schemas and building a nested schema is linear in its size.
  */
 public class GeminiSchemaBuilder {
 
     private final Map<String, Object> schema = new LinkedHashMap<>();
 
+    // Properties are kept separately so adding one does not copy the properties added before it
+    private Map<String, Object> properties;
+
+    // Node produced by the last build, reused until the builder is modified again
+    private SchemaNode built;
+
     private GeminiSchemaBuilder(GeminiSchemaType type) {
         // The Gemini API expects lowercase type names (string, integer, etc.) in JSON Schema
         schema.put("type", type.name().toLowerCase());
@@ -40,51 +48,67 @@ public class GeminiSchemaBuilder {
     }
 
     public GeminiSchemaBuilder description(String description) {
-        schema.put("description", description);
-        return this;
+        return put("description", description);
+    }
+
+    public GeminiSchemaBuilder enumValues(List<String> values) {
+        return put("enum", List.copyOf(values));
     }
 
     public GeminiSchemaBuilder items(GeminiSchemaBuilder itemsBuilder) {
-        schema.put("items", itemsBuilder.buildAsMap());
-        return this;
+        return put("items", itemsBuilder.buildNode());
     }
 
     public GeminiSchemaBuilder items(Map<String, Object> itemsSchema) {
-        schema.put("items", itemsSchema);
-        return this;
+        return put("items", SchemaNode.of(itemsSchema));
     }
 
     public GeminiSchemaBuilder properties(Map<String, Map<String, Object>> properties) {
-        schema.put("properties", properties);
-        return this;
+        Map<String, Object> nodes = new LinkedHashMap<>(properties.size() * 2);
+        for (Map.Entry<String, Map<String, Object>> entry : properties.entrySet()) {
+            nodes.put(entry.getKey(), SchemaNode.of(entry.getValue()));
+        }
+        this.properties = nodes;
+        // Reserve the position of "properties" among the other keywords
+        return put("properties", null);
     }
 
     public GeminiSchemaBuilder property(String name, GeminiSchemaBuilder propertyBuilder) {
-        @SuppressWarnings("unchecked")
-        Map<String, Map<String, Object>> props = (Map<String, Map<String, Object>>) schema.computeIfAbsent("properties", k -> new LinkedHashMap<>());
-        props.put(name, propertyBuilder.buildAsMap());
-        return this;
+        return putProperty(name, propertyBuilder.buildNode());
     }
 
     public GeminiSchemaBuilder property(String name, Map<String, Object> propertySchema) {
-        @SuppressWarnings("unchecked")
-        Map<String, Map<String, Object>> props = (Map<String, Map<String, Object>>) schema.computeIfAbsent("properties", k -> new LinkedHashMap<>());
-        props.put(name, propertySchema);
-        return this;
+        return putProperty(name, SchemaNode.of(propertySchema));
     }
 
     public GeminiSchemaBuilder required(String... fieldNames) {
-        schema.put("required", List.of(fieldNames));
-        return this;
+        return put("required", List.of(fieldNames));
     }
 
     public GeminiSchemaBuilder required(List<String> fieldNames) {
-        schema.put("required", List.copyOf(fieldNames));
-        return this;
+        return put("required", List.copyOf(fieldNames));
     }
 
     public JsonSchema build() {
-        return new JsonSchema(schema);
+        return new JsonSchema(buildNode());
+    }
+
+    /**
+     * Builds the schema as an immutable node that can be embedded in other schemas without copying.
+     * Repeated calls return the same node until the builder is modified.
+     */
+    public SchemaNode buildNode() {
+        SchemaNode node = built;
+        if (node == null) {
+            LinkedHashMap<String, Object> entries = new LinkedHashMap<>(schema);
+            if (properties != null) {
+                // Replaces the reserved slot, so "properties" keeps its position among the keywords
+                entries.put("properties", SchemaNode.adopt(new LinkedHashMap<>(properties)));
+            }
+            node = SchemaNode.adopt(entries);
+            built = node;
+        }
+        return node;
     }
 
     /**
@@ -93,7 +117,7 @@ public class GeminiSchemaBuilder {
      */
     @Deprecated
     public Map<String, Object> buildAsMap() {
-        return Collections.unmodifiableMap(new LinkedHashMap<>(schema));
+        return buildNode();
     }
 
     public static Map<String, Object> simpleProperty(GeminiSchemaType type, String description) {
@@ -101,6 +125,22 @@ public class GeminiSchemaBuilder {
         // Ensure the JSON Schema type is emitted in lowercase to match Gemini API expectations
         prop.put("type", type.name().toLowerCase());
         prop.put("description", description);
-        return Collections.unmodifiableMap(prop);
+        return SchemaNode.of(prop);
+    }
+
+    private GeminiSchemaBuilder put(String key, Object value) {
+        schema.put(key, value);
+        built = null;
+        return this;
+    }
+
+    private GeminiSchemaBuilder putProperty(String name, SchemaNode propertySchema) {
+        if (properties == null) {
+            properties = new LinkedHashMap<>();
+            schema.put("properties", null);
+        }
+        properties.put(name, propertySchema);
+        built = null;
+        return this;
     }
 }
@@ -0,0 +1,24 @@
+package com.recipe.shared.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class whose Gemini schema is generated at compile time by
+ * {@link com.recipe.shared.schema.processor.SchemaProcessor}. One schema per {@link SchemaProfile} is written to
+ * {@code META-INF/recipe-schema/<profile>/<binary class name>.json} and {@link SchemaGenerator} loads it in
+ * preference to runtime Jackson introspection.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateSchema {
+
+    /**
+     * Classpath location under which generated schema resources are written.
+     */
+    String RESOURCE_PREFIX = "META-INF/recipe-schema/";
+}
@@ -0,0 +1,45 @@
+package com.recipe.shared.schema;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+
+/**
+ * Loads schemas written at compile time by the {@link GenerateSchema} annotation processor.
+ */
+final class GeneratedSchemas {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneratedSchemas.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<LinkedHashMap<String, Object>> SCHEMA_MAP = new TypeReference<>() {};
+
+    private GeneratedSchemas() {}
+
+    /**
+     * Returns the pre-generated schema for the given type and profile, or null if none was generated or it cannot be read.
+     */
+    static JsonSchema load(Class<?> type, SchemaProfile profile) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            // JDK types are never annotated with @GenerateSchema
+            return null;
+        }
+        String resource = profile.resourceName(type.getName());
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            return new JsonSchema(OBJECT_MAPPER.readValue(in, SCHEMA_MAP));
+        } catch (IOException e) {
+            log.warn("Failed to read generated schema '{}'; falling back to runtime introspection", resource, e);
+            return null;
+        }
+    }
+}
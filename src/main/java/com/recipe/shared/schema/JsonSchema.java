@@ -2,20 +2,56 @@ package com.recipe.shared.schema;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 /**
  * Represents a JSON Schema object that can be serialized to JSON for API consumption.
  * This is the return type for schema generation methods in the shared library.
+ * Instances are deeply immutable, so a single schema can safely be shared between threads.
+ * The serialized JSON form, hash code and content hash are computed once on first use and cached.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class JsonSchema {
+public class JsonSchema implements JsonSerializable {
 
-    private final Map<String, Object> schema;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Generator features that change how the schema maps are written, and their values when the cached form is produced
+    private static final int OUTPUT_FEATURES = JsonWriteFeature.QUOTE_FIELD_NAMES.mappedFeature().getMask()
+            | JsonWriteFeature.WRITE_NAN_AS_STRINGS.mappedFeature().getMask()
+            | JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS.mappedFeature().getMask()
+            | JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature().getMask()
+            | JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN.getMask();
+    private static final int DEFAULT_OUTPUT_FEATURES = OBJECT_MAPPER.getFactory().getGeneratorFeatures() & OUTPUT_FEATURES;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final SchemaNode schema;
+
+    // Lazily computed caches. Each is derived purely from the immutable schema, so racing threads compute equal values.
+    private volatile SerializedString json;
+    private volatile String contentHash;
+    private int hash;
 
     public JsonSchema(Map<String, Object> schema) {
-        this.schema = Collections.unmodifiableMap(new LinkedHashMap<>(schema));
+        this.schema = SchemaNode.of(schema);
     }
 
     /**
@@ -30,6 +66,107 @@ public class JsonSchema {
         return new LinkedHashMap<>(schema);
     }
 
+    /**
+     * Returns the compact UTF-8 JSON form of the schema, with properties in insertion order.
+     * The bytes are produced once and cached; each call returns a fresh copy.
+     * Use {@link #writeTo(OutputStream)} to splice the schema into a request body without copying.
+     */
+    public byte[] toJsonBytes() {
+        return serialized().asUnquotedUTF8().clone();
+    }
+
+    /**
+     * Writes the cached UTF-8 JSON form of the schema to the given stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(serialized().asUnquotedUTF8());
+    }
+
+    /**
+     * Returns the SHA-256 of {@link #toJsonBytes()} as a lowercase hex string, suitable as a cache key.
+     */
+    public String contentHash() {
+        String result = contentHash;
+        if (result == null) {
+            result = sha256Hex(serialized().asUnquotedUTF8());
+            contentHash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a strong HTTP entity tag for the schema content, i.e. the quoted {@link #contentHash()}.
+     */
+    public String etag() {
+        return '"' + contentHash() + '"';
+    }
+
+    /**
+     * Writes the cached JSON directly when the generator and mapper settings match the defaults it was
+     * produced with, avoiding a walk of the nested maps. Pretty-printing, binary generators, escaping,
+     * sorted map entries and other non-default output settings fall back to regular map serialization.
+     */
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (canWriteCached(gen, serializers)) {
+            gen.writeRawValue(serialized());
+        } else {
+            serializers.defaultSerializeValue(schema, gen);
+        }
+    }
+
+    private static boolean canWriteCached(JsonGenerator gen, SerializerProvider serializers) {
+        if (gen.getPrettyPrinter() != null || gen.canWriteBinaryNatively()
+                || (gen.getFeatureMask() & OUTPUT_FEATURES) != DEFAULT_OUTPUT_FEATURES
+                || gen.getCharacterEscapes() != null || gen.getHighestEscapedChar() != 0) {
+            return false;
+        }
+        SerializationConfig config = serializers.getConfig();
+        JsonInclude.Include entries = config.getDefaultPropertyInclusion(Map.class).getContentInclusion();
+        return !config.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                && !config.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                && (entries == JsonInclude.Include.ALWAYS || entries == JsonInclude.Include.USE_DEFAULTS);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        for (Map.Entry<String, Object> entry : schema.entrySet()) {
+            gen.writeFieldName(entry.getKey());
+            serializers.defaultSerializeValue(entry.getValue(), gen);
+        }
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private SerializedString serialized() {
+        SerializedString result = json;
+        if (result == null) {
+            try {
+                result = new SerializedString(OBJECT_MAPPER.writeValueAsString(schema));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException("Failed to serialize schema", e);
+            }
+            json = result;
+        }
+        return result;
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        char[] chars = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
     @Override
     public String toString() {
         return "JsonSchema" + schema;
@@ -40,11 +177,16 @@ public class JsonSchema {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         JsonSchema that = (JsonSchema) o;
-        return Objects.equals(schema, that.schema);
+        return hashCode() == that.hashCode() && Objects.equals(schema, that.schema);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(schema);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(schema);
+            hash = h;
+        }
+        return h;
     }
 }
@@ -2,41 +2,123 @@ package com.recipe.shared.schema;
 
 import static com.recipe.shared.schema.GeminiSchemaBuilder.*;
 
-import com.fasterxml.jackson.databind.BeanDescription;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.recipe.shared.model.Recipe;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Recipe schema generator for the shared model. Uses Jackson introspection to build a Gemini-compatible schema.
+ * Recipe schema generator for the shared model. Uses {@link SchemaGenerator} (Jackson introspection) to build a
+ * Gemini-compatible schema.
  */
 public final class RecipeSchema {
 
     private static final Logger log = LoggerFactory.getLogger(RecipeSchema.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final SchemaProfile[] PROFILES = SchemaProfile.values();
 
-    // Cache for schema builders to handle repeated types efficiently
-    private static final java.util.Map<String, GeminiSchemaBuilder> schemaCache = new java.util.concurrent.ConcurrentHashMap<>();
+    // Lazily computed, shared schema instances indexed by profile ordinal. Built under the class lock on first access.
+    private static final AtomicReferenceArray<JsonSchema> cachedSchemas = new AtomicReferenceArray<>(PROFILES.length);
+
+    // Validators compiled from the cached schemas, discarded together with them
+    private static final AtomicReferenceArray<SchemaValidator> cachedValidators = new AtomicReferenceArray<>(PROFILES.length);
+
+    // Incremented every time the cached schemas are discarded so callers can invalidate anything derived from them
+    private static volatile long schemaVersion = 1;
 
     private RecipeSchema() {}
 
+    /**
+     * Returns the {@link SchemaProfile#FULL} Gemini schema for {@link Recipe}.
+     * The schema is built once on first access and the same immutable instance is returned afterwards,
+     * so callers on the request path do not pay for Jackson introspection on every call.
+     */
     public static JsonSchema getSchema() {
+        return getSchema(SchemaProfile.FULL);
+    }
+
+    /**
+     * Returns the Gemini schema for {@link Recipe} in the given profile, built once and cached like {@link #getSchema()}.
+     * Use {@link SchemaProfile#AI_GENERATION} for generation requests to keep server-owned fields out of the prompt.
+     */
+    public static JsonSchema getSchema(SchemaProfile profile) {
+        int index = profile.ordinal();
+        JsonSchema schema = cachedSchemas.get(index);
+        if (schema == null) {
+            synchronized (RecipeSchema.class) {
+                schema = cachedSchemas.get(index);
+                if (schema == null) {
+                    schema = buildSchema(profile);
+                    cachedSchemas.set(index, schema);
+                }
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Returns a validator for the {@link Recipe} schema in the given profile, compiled once and cached.
+     * Use it to check model output against the schema that was sent with the request while it is being parsed.
+     */
+    public static SchemaValidator getValidator(SchemaProfile profile) {
+        int index = profile.ordinal();
+        SchemaValidator validator = cachedValidators.get(index);
+        if (validator == null) {
+            synchronized (RecipeSchema.class) {
+                validator = cachedValidators.get(index);
+                if (validator == null) {
+                    validator = SchemaValidator.compile(getSchema(profile));
+                    cachedValidators.set(index, validator);
+                }
+            }
+        }
+        return validator;
+    }
+
+    /**
+     * Discards the cached schemas so the next call to {@link #getSchema()} rebuilds them.
+     * Intended for tests and for callers that need to pick up model changes at runtime.
+     */
+    public static void refresh() {
+        synchronized (RecipeSchema.class) {
+            for (int i = 0; i < PROFILES.length; i++) {
+                cachedSchemas.set(i, null);
+                cachedValidators.set(i, null);
+            }
+            SchemaGenerator.evict(Recipe.class);
+            schemaVersion++;
+        }
+    }
+
+    /**
+     * Returns the version of the cached schemas. The version changes every time {@link #refresh()} discards them.
+     */
+    public static long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Returns the serialized size of the schema in every profile, in profile order.
+     */
+    public static Map<SchemaProfile, SchemaSize> getSizeReport() {
+        Map<SchemaProfile, SchemaSize> report = new EnumMap<>(SchemaProfile.class);
+        for (SchemaProfile profile : PROFILES) {
+            report.put(profile, SchemaSize.of(profile, getSchema(profile)));
+        }
+        return Collections.unmodifiableMap(report);
+    }
+
+    private static JsonSchema buildSchema(SchemaProfile profile) {
         // Try to generate dynamically from the shared Recipe class
         try {
-            JavaType recipeType = OBJECT_MAPPER.constructType(Recipe.class);
-            BeanDescription desc = OBJECT_MAPPER.getSerializationConfig().introspect(recipeType);
-            GeminiSchemaBuilder builder = object();
-            buildFromBeanDescription(builder, desc, OBJECT_MAPPER);
-            return builder.build();
+            return SchemaGenerator.forType(Recipe.class, profile);
         } catch (Exception e) {
             // If introspection fails, log and return a manual schema to maintain behavior
-            log.warn("Failed to introspect Recipe class to build dynamic schema; using fallback manual schema", e);
+            log.warn("Failed to introspect Recipe class to build dynamic {} schema; using fallback manual schema", profile, e);
         }
 
         // fallback explicit schema (ensure the AI service has a known schema)
@@ -52,6 +134,12 @@ public final class RecipeSchema {
             .property("perServing", nutritionValues)
             .property("total", nutritionValues);
 
+        if (profile == SchemaProfile.NUTRITION_ONLY) {
+            return object()
+                .property("nutritionalInfo", nutritionInfo)
+                .build();
+        }
+
         GeminiSchemaBuilder tips = object()
             .property("substitutions", array().items(string()))
             .property("makeAhead", string())
@@ -59,11 +147,14 @@ public final class RecipeSchema {
             .property("reheating", string())
             .property("variations", array().items(string()));
 
-
-        return object()
-            .property("id", string())
-            .property("userId", string())
-            .property("recipeName", string())
+        // Server-owned fields are only part of the FULL profile
+        boolean full = profile == SchemaProfile.FULL;
+        GeminiSchemaBuilder recipe = object();
+        if (full) {
+            recipe.property("id", string())
+                .property("userId", string());
+        }
+        recipe.property("recipeName", string())
             .property("description", string())
             .property("ingredients", array().items(string()))
             .property("instructions", array().items(string()))
@@ -77,71 +168,18 @@ public final class RecipeSchema {
             .property("servings", integer())
             .property("nutritionalInfo", nutritionInfo)
             .property("tips", tips)
-            .property("imageUrl", string())
+            .property("imageUrl", string());
             /* imageGeneration intentionally omitted from the schema since images are generated separately via the dedicated endpoint */
-            .property("source", string())
-            .property("tags", array().items(string()))
-            .property("dietaryRestrictions", array().items(string()))
-            .property("isPublic", bool())
-            .required("recipeName", "ingredients", "instructions", "servings")
-            .build();
-    }
-
-    private static void buildFromBeanDescription(GeminiSchemaBuilder parentBuilder, BeanDescription desc, ObjectMapper om) {
-        List<BeanPropertyDefinition> props = desc.findProperties();
-        for (BeanPropertyDefinition propDef : props) {
-            String name = propDef.getName();
-            JavaType type = propDef.getPrimaryType();
-            // Skip imageGeneration entirely in the schema because images are generated separately.
-            if ("imageGeneration".equals(name)) continue;
-            GeminiSchemaBuilder propBuilder = translateTypeToGemini(name, type, om);
-            if (propBuilder != null) parentBuilder.property(name, propBuilder);
-        }
-    }
-
-    private static GeminiSchemaBuilder translateTypeToGemini(String propName, JavaType type, ObjectMapper om) {
-        if ("imageGeneration".equals(propName)) return null;
-        Class<?> raw = type.getRawClass();
-        // No special-casing here; callers can skip properties by name when generating the schema
-        if (raw == String.class) return string();
-        if (Number.class.isAssignableFrom(raw) || raw.isPrimitive() && (raw == int.class || raw == long.class || raw == double.class || raw == float.class || raw == short.class || raw == byte.class)) {
-            // Treat integral numeric types as integer schema types; all others (Double/Float) as number
-            java.util.Set<Class<?>> integerLike = java.util.Set.of(Integer.class, Long.class, Short.class, Byte.class, int.class, long.class, short.class, byte.class);
-            if (integerLike.contains(raw)) return integer();
-            return number();
-        }
-        if (raw == Boolean.class || raw == boolean.class) return bool();
-        // Special handling for timestamp types - treat as strings
-        if (raw == java.time.Instant.class || raw == java.time.LocalDateTime.class || raw == java.time.ZonedDateTime.class || raw == java.util.Date.class) {
-            return string();
-        }
-        if (java.util.Collection.class.isAssignableFrom(raw) || raw.isArray()) {
-            JavaType content = type.getContentType();
-            GeminiSchemaBuilder items = content == null ? string() : translateTypeToGemini(null, content, om);
-            return array().items(items == null ? string() : items);
+        if (full) {
+            recipe.property("source", string());
         }
-        if (java.util.Map.class.isAssignableFrom(raw)) {
-            // For unspecified map types, default to an object schema with a generic string property to satisfy
-            // the Gemini API which expects non-empty properties for object types.
-            return object().property("value", string());
-        }
-        // Check cache first
-        String className = raw.getName();
-        GeminiSchemaBuilder cached = schemaCache.get(className);
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            JavaType jt = om.constructType(raw);
-            BeanDescription bd = om.getSerializationConfig().introspect(jt);
-            GeminiSchemaBuilder nested = object();
-            buildFromBeanDescription(nested, bd, om);
-            schemaCache.put(className, nested);
-            return nested;
-        } catch (Exception e) {
-            // Log nested type introspection failures for easier debugging and fall back to an object schema
-            log.debug("Failed to introspect nested type '{}' for schema generation; falling back to object", raw == null ? "null" : raw.getName(), e);
-            return object();
+        recipe.property("tags", array().items(string()))
+            .property("dietaryRestrictions", array().items(string()));
+        if (full) {
+            recipe.property("isPublic", bool());
         }
+        return recipe
+            .required("recipeName", "ingredients", "instructions", "servings")
+            .build();
     }
 }
@@ -0,0 +1,258 @@
+package com.recipe.shared.schema;
+
+import static com.recipe.shared.schema.GeminiSchemaBuilder.*;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Generates Gemini-compatible schemas for arbitrary model classes using Jackson introspection.
+ * Classes annotated with {@link GenerateSchema} have their schema generated at compile time, in which case
+ * that schema is loaded instead and introspection is only used as a fallback.
+ * Each class can be rendered in several {@link SchemaProfile}s, selected by {@link SchemaProfiles} declarations.
+ * Schemas are cached per class and profile and are immutable, so they can be shared freely between threads.
+ * Recursive types are supported: a type that refers back to one of its enclosing types is cut off
+ * at that point with an object node describing the recursive reference.
+ */
+public final class SchemaGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaGenerator.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Set<Class<?>> INTEGER_TYPES = Set.of(
+            Integer.class, Long.class, Short.class, Byte.class, int.class, long.class, short.class, byte.class);
+
+    private static final Set<Class<?>> NUMBER_TYPES = Set.of(double.class, float.class);
+
+    private static final Set<Class<?>> TIMESTAMP_TYPES = Set.of(
+            java.time.Instant.class, java.time.LocalDateTime.class, java.time.ZonedDateTime.class, java.util.Date.class);
+
+    // Shared leaf nodes; JsonSchema is immutable so every property of the same primitive type can reuse them
+    private static final JsonSchema STRING = string().build();
+    private static final JsonSchema NUMBER = number().build();
+    private static final JsonSchema INTEGER = integer().build();
+    private static final JsonSchema BOOLEAN = bool().build();
+    private static final JsonSchema MAP = object().property("value", string()).build();
+
+    private static final SchemaProfile[] PROFILES = SchemaProfile.values();
+
+    // One slot per class and profile. A slot is only ever filled with a schema that does not depend on the type that
+    // requested it (i.e. one that was not cut short by a cycle through an enclosing type), so whichever
+    // thread or root type publishes first, every caller observes the same schema.
+    private static final ClassValue<AtomicReferenceArray<Published>> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected AtomicReferenceArray<Published> computeValue(Class<?> type) {
+            return new AtomicReferenceArray<>(PROFILES.length);
+        }
+    };
+
+    /**
+     * A cached schema together with every bean type expanded inside it. The schema can only be reused
+     * where none of those types is already being expanded, otherwise the cycle would be cut at a different point.
+     * Schemas loaded from compile-time resources have null types and are only reused as root schemas.
+     */
+    private record Published(JsonSchema schema, Set<Class<?>> types) {}
+
+    private SchemaGenerator() {}
+
+    /**
+     * Returns the {@link SchemaProfile#FULL} schema for the given type, generating and caching it on first access.
+     */
+    public static JsonSchema forType(Class<?> type) {
+        return forType(type, SchemaProfile.FULL);
+    }
+
+    /**
+     * Returns the schema for the given type in the given profile, generating and caching it on first access.
+     */
+    public static JsonSchema forType(Class<?> type, SchemaProfile profile) {
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(profile, "profile must not be null");
+        Published cached = SCHEMAS.get(type).get(profile.ordinal());
+        if (cached != null) {
+            return cached.schema();
+        }
+        JsonSchema generated = GeneratedSchemas.load(type, profile);
+        if (generated != null) {
+            return publish(type, profile, generated, null).schema();
+        }
+        Generation generation = new Generation(profile, false);
+        generated = generation.translate(OBJECT_MAPPER.constructType(type));
+        return publish(type, profile, generated, generation.types).schema();
+    }
+
+    /**
+     * Drops the cached schemas of the given type in every profile, so the next request regenerates them.
+     */
+    static void evict(Class<?> type) {
+        SCHEMAS.remove(type);
+    }
+
+    /**
+     * Generates the schema for the given type through Jackson introspection, bypassing both the cache and any
+     * compile-time generated schema.
+     */
+    static JsonSchema introspect(Class<?> type, SchemaProfile profile) {
+        return new Generation(profile, true).translate(OBJECT_MAPPER.constructType(type));
+    }
+
+    private static Published publish(Class<?> type, SchemaProfile profile, JsonSchema schema, Set<Class<?>> types) {
+        AtomicReferenceArray<Published> slots = SCHEMAS.get(type);
+        Published candidate = new Published(schema, types == null ? null : Set.copyOf(types));
+        return slots.compareAndSet(profile.ordinal(), null, candidate) ? candidate : slots.get(profile.ordinal());
+    }
+
+    /**
+     * Whether a property belongs to the given profile: a declaration on the property wins, then one on the class
+     * declaring it, and otherwise the profile's default.
+     */
+    private static boolean inProfile(BeanPropertyDefinition propDef, SchemaProfile profile) {
+        SchemaProfiles declared = null;
+        for (AnnotatedMember member : new AnnotatedMember[] {propDef.getField(), propDef.getGetter(), propDef.getSetter()}) {
+            if (member != null && declared == null) {
+                declared = member.getAnnotation(SchemaProfiles.class);
+            }
+        }
+        AnnotatedMember primary = propDef.getPrimaryMember();
+        if (declared == null && primary != null) {
+            declared = primary.getDeclaringClass().getAnnotation(SchemaProfiles.class);
+        }
+        return declared == null ? profile.includesUnannotated() : Arrays.asList(declared.value()).contains(profile);
+    }
+
+    /**
+     * Whether a property is declared {@link SchemaRequired} on its field or accessors.
+     */
+    private static boolean isRequired(BeanPropertyDefinition propDef) {
+        for (AnnotatedMember member : new AnnotatedMember[] {propDef.getField(), propDef.getGetter(), propDef.getSetter()}) {
+            if (member != null && member.hasAnnotation(SchemaRequired.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * State for a single schema generation run. Tracks the chain of bean types currently being expanded
+     * so that cycles can be detected, and the shallowest enclosing type a cycle has pointed back to so that
+     * only schemas which are independent of their enclosing types are published to the shared cache.
+     */
+    private static final class Generation {
+
+        private final SchemaProfile profile;
+
+        private final List<Class<?>> stack = new ArrayList<>();
+
+        // When set, neither reads nor writes the shared cache
+        private final boolean isolated;
+
+        // Smallest stack index referenced by a recursive reference in the subtree currently being generated
+        private int lowLink = Integer.MAX_VALUE;
+
+        // Bean types expanded in the subtree currently being generated
+        private Set<Class<?>> types = new HashSet<>();
+
+        Generation(SchemaProfile profile, boolean isolated) {
+            this.profile = profile;
+            this.isolated = isolated;
+        }
+
+        JsonSchema translate(JavaType type) {
+            Class<?> raw = type.getRawClass();
+            if (raw == String.class || raw == char.class || raw == Character.class) return STRING;
+            if (INTEGER_TYPES.contains(raw)) return INTEGER;
+            if (Number.class.isAssignableFrom(raw) || NUMBER_TYPES.contains(raw)) return NUMBER;
+            if (raw == Boolean.class || raw == boolean.class) return BOOLEAN;
+            // Timestamp types are serialized as strings in the schema
+            if (TIMESTAMP_TYPES.contains(raw)) return STRING;
+            if (raw.isEnum()) return enumSchema(raw);
+            if (java.util.Collection.class.isAssignableFrom(raw) || raw.isArray()) {
+                JavaType content = type.getContentType();
+                JsonSchema items = content == null ? STRING : translate(content);
+                return array().items(items.getSchema()).build();
+            }
+            if (java.util.Map.class.isAssignableFrom(raw)) {
+                // For unspecified map types, default to an object schema with a generic string property to satisfy
+                // the Gemini API which expects non-empty properties for object types.
+                return MAP;
+            }
+            return beanSchema(raw);
+        }
+
+        private JsonSchema enumSchema(Class<?> raw) {
+            List<String> names = new ArrayList<>();
+            for (Object constant : raw.getEnumConstants()) {
+                names.add(((Enum<?>) constant).name());
+            }
+            return string().enumValues(names).build();
+        }
+
+        private JsonSchema beanSchema(Class<?> raw) {
+            Published published = isolated ? null : SCHEMAS.get(raw).get(profile.ordinal());
+            if (published != null && published.types() != null && Collections.disjoint(published.types(), stack)) {
+                types.addAll(published.types());
+                return published.schema();
+            }
+            int onStack = stack.indexOf(raw);
+            if (onStack >= 0) {
+                lowLink = Math.min(lowLink, onStack);
+                return object().description("Recursive reference to " + raw.getSimpleName()).build();
+            }
+
+            int index = stack.size();
+            int enclosingLowLink = lowLink;
+            Set<Class<?>> enclosingTypes = types;
+            lowLink = Integer.MAX_VALUE;
+            types = new HashSet<>();
+            types.add(raw);
+            stack.add(raw);
+            JsonSchema schema;
+            try {
+                BeanDescription desc = OBJECT_MAPPER.getSerializationConfig().introspect(OBJECT_MAPPER.constructType(raw));
+                GeminiSchemaBuilder builder = object();
+                List<String> required = new ArrayList<>();
+                for (BeanPropertyDefinition propDef : desc.findProperties()) {
+                    if (!inProfile(propDef, profile)) continue;
+                    builder.property(propDef.getName(), translate(propDef.getPrimaryType()).getSchema());
+                    if (isRequired(propDef)) {
+                        required.add(propDef.getName());
+                    }
+                }
+                if (!required.isEmpty()) {
+                    builder.required(required);
+                }
+                schema = builder.build();
+            } catch (Exception e) {
+                // Log nested type introspection failures for easier debugging and fall back to an object schema
+                log.debug("Failed to introspect type '{}' for schema generation; falling back to object", raw.getName(), e);
+                schema = object().build();
+            } finally {
+                stack.remove(index);
+            }
+
+            if (lowLink >= index && !isolated) {
+                // Nothing in this subtree points back above this type, so the result is the same for every caller
+                publish(raw, profile, schema, types);
+            }
+            lowLink = Math.min(enclosingLowLink, lowLink);
+            enclosingTypes.addAll(types);
+            types = enclosingTypes;
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.recipe.shared.schema;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, insertion-ordered schema map. Nested maps are themselves schema nodes and are shared rather than
+ * copied, so a node can be embedded in any number of parent schemas and building a nested schema costs time
+ * linear in its size. Being a regular {@link Map}, a node serializes with Jackson like any other map.
+ */
+public final class SchemaNode extends AbstractMap<String, Object> {
+
+    private static final SchemaNode EMPTY = new SchemaNode(Collections.emptyMap());
+
+    private final Map<String, Object> entries;
+
+    // Cached deep hash code; nodes are immutable so racing threads compute the same value
+    private int hash;
+
+    private SchemaNode(Map<String, Object> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the given map as a schema node. Nodes are returned as-is; any other map is copied once, converting
+     * nested maps to nodes and nested collections to unmodifiable lists.
+     */
+    public static SchemaNode of(Map<?, ?> source) {
+        if (source instanceof SchemaNode node) {
+            return node;
+        }
+        if (source.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(source.size() * 2);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(String.valueOf(entry.getKey()), freeze(entry.getValue()));
+        }
+        return new SchemaNode(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Wraps a map that the caller has just built and will not touch again, after freezing its values.
+     */
+    static SchemaNode adopt(LinkedHashMap<String, Object> entries) {
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            entry.setValue(freeze(entry.getValue()));
+        }
+        return entries.isEmpty() ? EMPTY : new SchemaNode(Collections.unmodifiableMap(entries));
+    }
+
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return of(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entries.entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof SchemaNode other && other.hashCode() != hashCode()) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = entries.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,45 @@
+package com.recipe.shared.schema;
+
+/**
+ * Named variants of a model schema, each keeping only the properties needed for one use.
+ * Which properties belong to which profile is declared on the model with {@link SchemaProfiles}.
+ */
+public enum SchemaProfile {
+
+    /**
+     * Every property of the model that is part of any schema, so not {@code Recipe.imageGeneration}, which is declared
+     * in no profile. This is what {@link RecipeSchema#getSchema()} returns.
+     */
+    FULL(true),
+
+    /**
+     * Properties the AI model is expected to produce. Server-owned fields such as ids, owners and timestamps
+     * are left out so they do not cost prompt tokens or generation time.
+     */
+    AI_GENERATION(true),
+
+    /**
+     * Only nutritional information, for asking the AI model to (re)calculate nutrition for an existing recipe.
+     */
+    NUTRITION_ONLY(false);
+
+    private final boolean includesUnannotated;
+
+    SchemaProfile(boolean includesUnannotated) {
+        this.includesUnannotated = includesUnannotated;
+    }
+
+    /**
+     * Whether properties without a {@link SchemaProfiles} declaration (on the field or its class) are part of this profile.
+     */
+    public boolean includesUnannotated() {
+        return includesUnannotated;
+    }
+
+    /**
+     * Returns the classpath resource holding the compile-time generated schema of the given class for this profile.
+     */
+    public String resourceName(String binaryClassName) {
+        return GenerateSchema.RESOURCE_PREFIX + name() + "/" + binaryClassName + ".json";
+    }
+}
@@ -0,0 +1,21 @@
+package com.recipe.shared.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which {@link SchemaProfile}s a model property appears in.
+ * On a field it applies to that property; on a class it is the default for every field declared in the class.
+ * Properties without any declaration appear in the profiles whose {@link SchemaProfile#includesUnannotated()} is true.
+ * An empty list removes the property from every schema.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.TYPE})
+public @interface SchemaProfiles {
+
+    SchemaProfile[] value();
+}
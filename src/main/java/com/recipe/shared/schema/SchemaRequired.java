@@ -0,0 +1,17 @@
+package com.recipe.shared.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model property that must be present. The property is listed in the {@code required} array of its object
+ * schema in every {@link SchemaProfile} that includes it, so a {@link SchemaValidator} rejects output that leaves it out.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SchemaRequired {
+}
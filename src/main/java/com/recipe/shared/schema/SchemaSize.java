@@ -0,0 +1,18 @@
+package com.recipe.shared.schema;
+
+/**
+ * Serialized size of a schema, used to compare what each {@link SchemaProfile} adds to an LLM prompt.
+ * The token count is an estimate of roughly four bytes of JSON per token, not the output of a real tokenizer.
+ */
+public record SchemaSize(SchemaProfile profile, int bytes, int estimatedTokens) {
+
+    private static final int BYTES_PER_TOKEN = 4;
+
+    /**
+     * Measures the compact JSON form of the given schema.
+     */
+    public static SchemaSize of(SchemaProfile profile, JsonSchema schema) {
+        int bytes = schema.toJsonBytes().length;
+        return new SchemaSize(profile, bytes, (bytes + BYTES_PER_TOKEN - 1) / BYTES_PER_TOKEN);
+    }
+}
@@ -0,0 +1,424 @@
+package com.recipe.shared.schema;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates JSON against a {@link JsonSchema} one token at a time, without building a tree.
+ * The schema is compiled once into a graph of nodes; validation walks that graph as a state machine driven by the
+ * parser's tokens and throws a {@link SchemaViolationException} with the JSON pointer of the first violation, so
+ * invalid model output is rejected as soon as the offending token is read.
+ * <p>
+ * Supported keywords are {@code type}, {@code properties}, {@code required}, {@code items}, {@code enum},
+ * {@code nullable} and {@code additionalProperties: false}; others, such as {@code description}, are ignored.
+ * A {@code null} value only matches a schema declared {@code nullable}, except as the value of a property that is not
+ * {@code required}: Jackson writes unset model fields as {@code null}, so an explicit null is treated like an absent
+ * property. Properties not listed in {@code properties} are allowed unless {@code additionalProperties} is false.
+ * Validators are immutable and can be shared between threads.
+ */
+public final class SchemaValidator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Node root;
+
+    private SchemaValidator(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given schema.
+     *
+     * @throws IllegalArgumentException if the schema uses an unknown type name or a malformed keyword
+     */
+    public static SchemaValidator compile(JsonSchema schema) {
+        return new SchemaValidator(new Compiler().compile(schema.getSchema(), ""));
+    }
+
+    /**
+     * Reads one JSON value from the parser, which must be positioned before or on its first token, and validates it.
+     * The whole value must be available: a non-blocking parser that runs out of input fails with a
+     * {@link JsonParseException}, as in Jackson's own {@code skipChildren()}; use {@link #validating} to validate as
+     * input arrives.
+     */
+    public void validate(JsonParser parser) throws IOException {
+        JsonParser validating = validating(parser);
+        if (validating.currentToken() == null) {
+            validating.nextToken();
+        }
+        validating.skipChildren();
+    }
+
+    public void validate(byte[] json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            validate(parser);
+        }
+    }
+
+    /**
+     * Returns a parser that validates every token it returns, for example to deserialize and validate in one pass with
+     * {@code mapper.readValue(validator.validating(parser), Recipe.class)}. If the given parser is already positioned
+     * on a token, that token starts the validated value.
+     * {@link JsonToken#NOT_AVAILABLE} is passed through, so non-blocking parsers can be validated as input arrives.
+     */
+    public JsonParser validating(JsonParser parser) throws IOException {
+        ValidatingParser validating = new ValidatingParser(parser, new Session(root));
+        if (parser.currentToken() != null) {
+            validating.session.accept(parser.currentToken(), parser);
+        }
+        return validating;
+    }
+
+    private enum Type {
+        ANY, STRING, NUMBER, INTEGER, BOOLEAN, ARRAY, OBJECT
+    }
+
+    /**
+     * A compiled schema. Object nodes map each property name to its slot; required properties are numbered so that a
+     * bitmask records which have been seen.
+     */
+    private static final class Node {
+
+        static final Node ANY = new Node(Type.ANY, true);
+
+        final Type type;
+        final boolean nullable;
+        Set<String> enumValues;
+        Map<String, Slot> properties = Map.of();
+        String[] required = new String[0];
+        boolean additionalProperties = true;
+        // Null when the items are unconstrained, as ANY itself cannot refer to ANY while it is being created
+        Node items;
+
+        Node(Type type, boolean nullable) {
+            this.type = type;
+            this.nullable = nullable;
+        }
+    }
+
+    private record Slot(Node node, int requiredIndex) {}
+
+    private static final class Compiler {
+
+        // Schema nodes are shared between parents, so their compiled forms can be shared too
+        private final Map<Map<?, ?>, Node> compiled = new IdentityHashMap<>();
+
+        Node compile(Object schema, String path) {
+            if (!(schema instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("Schema at '" + path + "' is not an object");
+            }
+            Node node = compiled.get(map);
+            if (node == null) {
+                node = create(map, path);
+                compiled.put(map, node);
+            }
+            return node;
+        }
+
+        private Node create(Map<?, ?> map, String path) {
+            Node node = new Node(type(map.get("type"), path), Boolean.TRUE.equals(map.get("nullable")));
+            if (map.get("enum") instanceof Collection<?> values) {
+                node.enumValues = Set.copyOf(strings(values, path, "enum"));
+            }
+            if (map.get("items") != null) {
+                node.items = compile(map.get("items"), path + "/items");
+            }
+            if (Boolean.FALSE.equals(map.get("additionalProperties"))) {
+                node.additionalProperties = false;
+            }
+            List<String> required = map.get("required") instanceof Collection<?> names ? strings(names, path, "required") : List.of();
+            Object properties = map.get("properties");
+            Map<String, Slot> slots = new HashMap<>();
+            if (properties instanceof Map<?, ?> propertyMap) {
+                for (Map.Entry<?, ?> entry : propertyMap.entrySet()) {
+                    String name = String.valueOf(entry.getKey());
+                    Node property = compile(entry.getValue(), path + "/properties/" + name);
+                    slots.put(name, new Slot(property, required.indexOf(name)));
+                }
+            } else if (properties != null) {
+                throw new IllegalArgumentException("'properties' at '" + path + "' is not an object");
+            }
+            for (int i = 0; i < required.size(); i++) {
+                // Required but undeclared properties may hold any value
+                slots.putIfAbsent(required.get(i), new Slot(Node.ANY, i));
+            }
+            node.properties = slots;
+            node.required = required.toArray(new String[0]);
+            return node;
+        }
+
+        private static Type type(Object name, String path) {
+            if (name == null) {
+                return Type.ANY;
+            }
+            try {
+                return Type.valueOf(GeminiSchemaType.valueOf(String.valueOf(name).toUpperCase(Locale.ROOT)).name());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown schema type '" + name + "' at '" + path + "'", e);
+            }
+        }
+
+        private static List<String> strings(Collection<?> values, String path, String keyword) {
+            List<String> result = new ArrayList<>(values.size());
+            for (Object value : values) {
+                if (!(value instanceof String string)) {
+                    throw new IllegalArgumentException("'" + keyword + "' at '" + path + "' must only contain strings");
+                }
+                result.add(string);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Validation state of one document: a stack of the objects and arrays being read.
+     */
+    private static final class Session {
+
+        private final Node root;
+
+        private Frame[] frames = new Frame[8];
+        private int depth;
+
+        // Schema of the next value: set by a property name inside an object
+        private Node expected;
+        // Whether the next value belongs to a property that is not required, so that null counts as absent
+        private boolean optional;
+
+        Session(Node root) {
+            this.root = root;
+            this.expected = root;
+        }
+
+        void accept(JsonToken token, JsonParser parser) throws IOException {
+            if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                return;
+            }
+            switch (token) {
+                case FIELD_NAME -> {
+                    Frame frame = frames[depth - 1];
+                    frame.name = parser.currentName();
+                    Slot slot = frame.node.properties.get(frame.name);
+                    if (slot == null) {
+                        if (!frame.node.additionalProperties) {
+                            throw violation(parser, depth, "property is not allowed by the schema");
+                        }
+                        expected = Node.ANY;
+                        optional = true;
+                    } else {
+                        if (slot.requiredIndex() >= 0) {
+                            frame.seen[slot.requiredIndex() >>> 6] |= 1L << slot.requiredIndex();
+                        }
+                        expected = slot.node();
+                        optional = slot.requiredIndex() < 0;
+                    }
+                }
+                case END_OBJECT -> {
+                    Frame frame = frames[depth - 1];
+                    String[] required = frame.node.required;
+                    for (int i = 0; i < required.length; i++) {
+                        if ((frame.seen[i >>> 6] & (1L << i)) == 0) {
+                            frame.name = required[i];
+                            throw violation(parser, depth, "required property is missing");
+                        }
+                    }
+                    pop();
+                }
+                case END_ARRAY -> pop();
+                default -> value(token, parser);
+            }
+        }
+
+        private void value(JsonToken token, JsonParser parser) throws IOException {
+            Node node;
+            boolean nullAllowed = false;
+            if (depth == 0) {
+                node = root;
+            } else {
+                Frame parent = frames[depth - 1];
+                if (parent.array) {
+                    parent.index++;
+                    node = parent.node.items != null ? parent.node.items : Node.ANY;
+                } else {
+                    node = expected;
+                    nullAllowed = optional;
+                }
+            }
+            if (token == JsonToken.VALUE_NULL && nullAllowed) {
+                return;
+            }
+            check(node, token, parser);
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                push(node, token == JsonToken.START_ARRAY);
+            }
+        }
+
+        private void check(Node node, JsonToken token, JsonParser parser) throws IOException {
+            if (token == JsonToken.VALUE_NULL) {
+                if (!node.nullable && node.type != Type.ANY) {
+                    throw violation(parser, depth, "expected " + describe(node) + " but found null");
+                }
+                return;
+            }
+            boolean matches = switch (node.type) {
+                case ANY -> true;
+                case STRING -> token == JsonToken.VALUE_STRING;
+                case NUMBER -> token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+                case INTEGER -> token == JsonToken.VALUE_NUMBER_INT || (token == JsonToken.VALUE_NUMBER_FLOAT && isIntegral(parser));
+                case BOOLEAN -> token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+                case ARRAY -> token == JsonToken.START_ARRAY;
+                case OBJECT -> token == JsonToken.START_OBJECT;
+            };
+            if (!matches) {
+                throw violation(parser, depth, "expected " + describe(node) + " but found " + describe(token));
+            }
+            if (node.enumValues != null && !(token == JsonToken.VALUE_STRING && node.enumValues.contains(parser.getText()))) {
+                throw violation(parser, depth, "value is not one of " + node.enumValues);
+            }
+        }
+
+        private void push(Node node, boolean array) {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            Frame frame = frames[depth];
+            if (frame == null) {
+                frame = new Frame();
+                frames[depth] = frame;
+            }
+            frame.reset(node, array);
+            depth++;
+        }
+
+        private void pop() {
+            depth--;
+        }
+
+        private static boolean isIntegral(JsonParser parser) throws IOException {
+            double value = parser.getDoubleValue();
+            return !Double.isInfinite(value) && value == Math.rint(value);
+        }
+
+        private static String describe(Node node) {
+            return node.type.name().toLowerCase(Locale.ROOT);
+        }
+
+        private static String describe(JsonToken token) {
+            return switch (token) {
+                case START_OBJECT -> "object";
+                case START_ARRAY -> "array";
+                case VALUE_STRING -> "string";
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> "number";
+                case VALUE_TRUE, VALUE_FALSE -> "boolean";
+                default -> token.name();
+            };
+        }
+
+        /**
+         * Creates the violation for the value at the given depth: the path through the enclosing frames, ending with
+         * the current property name or array index of the innermost one.
+         */
+        private SchemaViolationException violation(JsonParser parser, int upTo, String message) {
+            StringBuilder pointer = new StringBuilder();
+            for (int i = 0; i < upTo; i++) {
+                Frame frame = frames[i];
+                pointer.append('/');
+                if (frame.array) {
+                    pointer.append(frame.index);
+                } else {
+                    pointer.append(frame.name.replace("~", "~0").replace("/", "~1"));
+                }
+            }
+            return new SchemaViolationException(parser, pointer.toString(), message);
+        }
+    }
+
+    private static final class Frame {
+
+        Node node;
+        boolean array;
+        // Objects: the current property name and the required properties seen so far; arrays: the current index
+        String name;
+        long[] seen = new long[1];
+        int index;
+
+        void reset(Node node, boolean array) {
+            this.node = node;
+            this.array = array;
+            this.name = null;
+            this.index = -1;
+            int words = (node.required.length + 63) >>> 6;
+            if (seen.length < words) {
+                seen = new long[words];
+            } else {
+                Arrays.fill(seen, 0, Math.max(words, 1), 0L);
+            }
+        }
+    }
+
+    /**
+     * Parser that feeds every token it returns to a validation session. Skipping is done token by token so that
+     * skipped content is validated too.
+     */
+    private static final class ValidatingParser extends JsonParserDelegate {
+
+        final Session session;
+
+        ValidatingParser(JsonParser parser, Session session) {
+            super(parser);
+            this.session = session;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            session.accept(token, delegate);
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            JsonToken token = currentToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                return this;
+            }
+            int open = 1;
+            while (open > 0) {
+                token = nextToken();
+                if (token == null) {
+                    return this;
+                }
+                if (token == JsonToken.NOT_AVAILABLE) {
+                    throw new JsonParseException(this, "Not enough content available for `skipChildren()`: "
+                        + "non-blocking parser? (" + delegate.getClass().getName() + ")");
+                }
+                if (token.isStructStart()) {
+                    open++;
+                } else if (token.isStructEnd()) {
+                    open--;
+                }
+            }
+            return this;
+        }
+    }
+}
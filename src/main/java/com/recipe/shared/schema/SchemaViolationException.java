@@ -0,0 +1,29 @@
+package com.recipe.shared.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * Thrown by a {@link SchemaValidator} at the first token of a document that violates the schema.
+ * Extends {@link JsonMappingException} so that it passes unchanged through Jackson deserializers when the validator
+ * checks a parser that is being deserialized.
+ */
+public class SchemaViolationException extends JsonMappingException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String pointer;
+
+    public SchemaViolationException(JsonParser parser, String pointer, String message) {
+        super(parser, (pointer.isEmpty() ? "/" : pointer) + ": " + message);
+        this.pointer = pointer;
+    }
+
+    /**
+     * Returns the JSON pointer (RFC 6901) of the offending value, or of the missing property, e.g.
+     * {@code /ingredients/2}; the empty string denotes the whole document.
+     */
+    public String getPointer() {
+        return pointer;
+    }
+}
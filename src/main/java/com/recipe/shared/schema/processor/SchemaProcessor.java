@@ -0,0 +1,328 @@
+package com.recipe.shared.schema.processor;
+
+import com.recipe.shared.schema.GenerateSchema;
+import com.recipe.shared.schema.SchemaProfile;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that writes the Gemini schema of every {@link GenerateSchema} class, in every
+ * {@link SchemaProfile}, to a classpath resource so services can load it at startup instead of running Jackson
+ * introspection.
+ * <p>
+ * The generated schema mirrors what {@link com.recipe.shared.schema.SchemaGenerator} derives at runtime for
+ * Lombok-style beans: every non-static, non-transient field is a property unless annotated with
+ * {@code @JsonIgnore}, {@code @JsonProperty} renames it, and (as Jackson does) explicitly named properties are
+ * ordered after implicitly named ones. {@code @SchemaProfiles} declarations select the properties of each profile,
+ * and {@code @SchemaRequired} properties are listed under {@code required} in property order.
+ */
+@SupportedAnnotationTypes("com.recipe.shared.schema.GenerateSchema")
+public class SchemaProcessor extends AbstractProcessor {
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String SCHEMA_PROFILES = "com.recipe.shared.schema.SchemaProfiles";
+    private static final String SCHEMA_REQUIRED = "com.recipe.shared.schema.SchemaRequired";
+
+    private static final Set<String> STRING_TYPES = Set.of(
+            "java.lang.String", "java.lang.Character",
+            "java.time.Instant", "java.time.LocalDateTime", "java.time.ZonedDateTime", "java.util.Date");
+
+    private static final Set<String> INTEGER_TYPES = Set.of(
+            "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateSchema.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@GenerateSchema can only be applied to classes", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            for (SchemaProfile profile : SchemaProfile.values()) {
+                Map<String, Object> schema = new Generation(profile).beanSchema(type);
+                write(type, profile, schema);
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type, SchemaProfile profile, Map<String, Object> schema) {
+        String resource = profile.resourceName(processingEnv.getElementUtils().getBinaryName(type).toString());
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource, type);
+            try (Writer writer = file.openWriter()) {
+                StringBuilder json = new StringBuilder(1024);
+                appendJson(json, schema);
+                writer.write(json.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write schema resource " + resource + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Walks the fields of one root type, cutting recursive references at the first repeat like the runtime generator.
+     */
+    private final class Generation {
+
+        private final SchemaProfile profile;
+        private final List<TypeElement> stack = new ArrayList<>();
+        private final Elements elements = processingEnv.getElementUtils();
+        private final Types types = processingEnv.getTypeUtils();
+
+        Generation(SchemaProfile profile) {
+            this.profile = profile;
+        }
+
+        Map<String, Object> beanSchema(TypeElement type) {
+            if (stack.contains(type)) {
+                Map<String, Object> node = node("object");
+                node.put("description", "Recursive reference to " + type.getSimpleName());
+                return node;
+            }
+            stack.add(type);
+            Map<String, Object> implicitlyNamed = new LinkedHashMap<>();
+            Map<String, Object> explicitlyNamed = new LinkedHashMap<>();
+            Set<String> requiredNames = new HashSet<>();
+            for (VariableElement field : fields(type)) {
+                if (annotation(field, JSON_IGNORE) != null || !inProfile(field)) {
+                    continue;
+                }
+                String explicitName = jsonPropertyName(field);
+                String name = explicitName == null ? field.getSimpleName().toString() : explicitName;
+                Map<String, Object> propertySchema = translate(field.asType());
+                if (explicitName == null) {
+                    implicitlyNamed.put(name, propertySchema);
+                } else {
+                    explicitlyNamed.put(name, propertySchema);
+                }
+                if (annotation(field, SCHEMA_REQUIRED) != null) {
+                    requiredNames.add(name);
+                }
+            }
+            stack.remove(stack.size() - 1);
+
+            Map<String, Object> node = node("object");
+            implicitlyNamed.putAll(explicitlyNamed);
+            if (!implicitlyNamed.isEmpty()) {
+                node.put("properties", implicitlyNamed);
+            }
+            List<String> required = new ArrayList<>();
+            for (String name : implicitlyNamed.keySet()) {
+                if (requiredNames.contains(name)) {
+                    required.add(name);
+                }
+            }
+            if (!required.isEmpty()) {
+                node.put("required", required);
+            }
+            return node;
+        }
+
+        private Map<String, Object> translate(TypeMirror type) {
+            switch (type.getKind()) {
+                case INT, LONG, SHORT, BYTE:
+                    return node("integer");
+                case DOUBLE, FLOAT:
+                    return node("number");
+                case BOOLEAN:
+                    return node("boolean");
+                case CHAR:
+                    return node("string");
+                case ARRAY:
+                    return array(translate(((ArrayType) type).getComponentType()));
+                case DECLARED:
+                    return translateDeclared((DeclaredType) type);
+                default:
+                    // Type variables and wildcards resolve to Object at runtime, which has no properties
+                    return node("object");
+            }
+        }
+
+        private Map<String, Object> translateDeclared(DeclaredType type) {
+            TypeElement element = (TypeElement) type.asElement();
+            String name = element.getQualifiedName().toString();
+            if (STRING_TYPES.contains(name)) return node("string");
+            if (INTEGER_TYPES.contains(name)) return node("integer");
+            if (isSubtype(type, "java.lang.Number")) return node("number");
+            if ("java.lang.Boolean".equals(name)) return node("boolean");
+            if (element.getKind() == ElementKind.ENUM) {
+                List<String> constants = new ArrayList<>();
+                for (Element enclosed : element.getEnclosedElements()) {
+                    if (enclosed.getKind() == ElementKind.ENUM_CONSTANT) {
+                        constants.add(enclosed.getSimpleName().toString());
+                    }
+                }
+                Map<String, Object> node = node("string");
+                node.put("enum", constants);
+                return node;
+            }
+            if (isSubtype(type, "java.util.Collection")) {
+                List<? extends TypeMirror> arguments = type.getTypeArguments();
+                return array(arguments.size() == 1 ? translate(arguments.get(0)) : node("string"));
+            }
+            if (isSubtype(type, "java.util.Map")) {
+                // Same generic object schema as the runtime generator; Gemini expects non-empty properties
+                Map<String, Object> properties = new LinkedHashMap<>();
+                properties.put("value", node("string"));
+                Map<String, Object> node = node("object");
+                node.put("properties", properties);
+                return node;
+            }
+            return beanSchema(element);
+        }
+
+        private List<VariableElement> fields(TypeElement type) {
+            List<VariableElement> fields = new ArrayList<>();
+            TypeMirror superclass = type.getSuperclass();
+            if (superclass.getKind() == TypeKind.DECLARED) {
+                fields.addAll(fields((TypeElement) ((DeclaredType) superclass).asElement()));
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+
+        private boolean inProfile(VariableElement field) {
+            AnnotationMirror declared = annotation(field, SCHEMA_PROFILES);
+            if (declared == null) {
+                declared = annotation(field.getEnclosingElement(), SCHEMA_PROFILES);
+            }
+            if (declared == null) {
+                return profile.includesUnannotated();
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : declared.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    @SuppressWarnings("unchecked")
+                    List<? extends AnnotationValue> profiles = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                    for (AnnotationValue value : profiles) {
+                        if (((VariableElement) value.getValue()).getSimpleName().contentEquals(profile.name())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean isSubtype(DeclaredType type, String supertypeName) {
+            TypeElement supertype = elements.getTypeElement(supertypeName);
+            return supertype != null && types.isAssignable(types.erasure(type), types.erasure(supertype.asType()));
+        }
+
+        private String jsonPropertyName(VariableElement field) {
+            AnnotationMirror jsonProperty = annotation(field, JSON_PROPERTY);
+            if (jsonProperty == null) {
+                return null;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : jsonProperty.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    String value = (String) entry.getValue().getValue();
+                    return value.isEmpty() ? field.getSimpleName().toString() : value;
+                }
+            }
+            return field.getSimpleName().toString();
+        }
+
+        private AnnotationMirror annotation(Element element, String annotationName) {
+            for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+                if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                    return mirror;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static Map<String, Object> node(String type) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("type", type);
+        return node;
+    }
+
+    private static Map<String, Object> array(Map<String, Object> items) {
+        Map<String, Object> node = node("array");
+        node.put("items", items);
+        return node;
+    }
+
+    private static void appendJson(StringBuilder out, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) out.append(',');
+                first = false;
+                appendString(out, entry.getKey().toString());
+                out.append(':');
+                appendJson(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value instanceof List<?> list) {
+            out.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) out.append(',');
+                appendJson(out, list.get(i));
+            }
+            out.append(']');
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,135 @@
+package com.recipe.shared.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense document numbers for recipe ids, as {@link RecipeIndex} and the similarity index use them to address their
+ * per-document arrays. Numbers are handed out in order; a removed document keeps its number, marked in a bitset,
+ * until {@link #compact()} renumbers the live ones densely. Callers keep their own arrays the size of
+ * {@link #capacity()} and move their entries through the mapping {@code compact()} returns.
+ * <p>
+ * Not thread-safe: the indexes call it under their own locks.
+ */
+public final class DocumentNumbers {
+
+    // Compact once removed documents outnumber live ones, and there are at least this many
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final Map<String, Integer> docsById = new HashMap<>();
+    private String[] ids = new String[16];
+    private long[] removed = new long[1];
+    private int count;
+    private int removedCount;
+
+    /**
+     * Returns the live document with this id, or -1.
+     */
+    public int get(String id) {
+        Integer doc = docsById.get(id);
+        return doc == null ? -1 : doc;
+    }
+
+    public boolean contains(String id) {
+        return docsById.containsKey(id);
+    }
+
+    /**
+     * Returns the number of live documents.
+     */
+    public int size() {
+        return docsById.size();
+    }
+
+    /**
+     * Returns the number of documents handed out since the last compaction, live or removed; every document is below it.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the length per-document arrays need to hold every document handed out so far.
+     */
+    public int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the id of a document, or null if it was removed.
+     */
+    public String id(int doc) {
+        return ids[doc];
+    }
+
+    public boolean isRemoved(int doc) {
+        return (removed[doc >> 6] & 1L << doc) != 0;
+    }
+
+    /**
+     * Gives an id the next document number. The id must not be live: {@link #remove(String)} it first.
+     */
+    public int add(String id) {
+        int doc = count;
+        if (doc == ids.length) {
+            ids = Arrays.copyOf(ids, doc * 2);
+        }
+        if (doc >> 6 == removed.length) {
+            removed = Arrays.copyOf(removed, removed.length * 2);
+        }
+        ids[doc] = id;
+        count++;
+        docsById.put(id, doc);
+        return doc;
+    }
+
+    /**
+     * Marks the document with this id removed and returns it, or returns -1 if the id is not live.
+     */
+    public int remove(String id) {
+        Integer doc = docsById.remove(id);
+        if (doc == null) {
+            return -1;
+        }
+        removed[doc >> 6] |= 1L << doc;
+        removedCount++;
+        ids[doc] = null;
+        return doc;
+    }
+
+    /**
+     * Whether enough documents were removed that compacting pays off.
+     */
+    public boolean needsCompaction() {
+        return removedCount >= COMPACT_THRESHOLD && removedCount > count - removedCount;
+    }
+
+    /**
+     * Renumbers the live documents densely, keeping their order. Returns the new number of every old document, -1 for
+     * removed ones, or null if no document was removed and the numbers are unchanged.
+     */
+    public int[] compact() {
+        if (removedCount == 0) {
+            return null;
+        }
+        int[] remap = new int[count];
+        int live = 0;
+        for (int doc = 0; doc < count; doc++) {
+            if (isRemoved(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = live;
+                ids[live++] = ids[doc];
+            }
+        }
+        ids = Arrays.copyOf(ids, Math.max(16, live));
+        removed = new long[(ids.length >> 6) + 1];
+        count = live;
+        removedCount = 0;
+        for (int doc = 0; doc < live; doc++) {
+            docsById.put(ids[doc], doc);
+        }
+        return remap;
+    }
+}
@@ -0,0 +1,43 @@
+package com.recipe.shared.search;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.nutrition.Nutrient;
+
+/**
+ * The numeric recipe properties a {@link FacetIndex} can filter and count by. Nutrients are per serving.
+ */
+public enum Facet {
+
+    TOTAL_TIME_MINUTES(null),
+    SERVINGS(null),
+    CALORIES(Nutrient.CALORIES),
+    PROTEIN(Nutrient.PROTEIN),
+    CARBOHYDRATES(Nutrient.CARBOHYDRATES),
+    FAT(Nutrient.FAT),
+    FIBER(Nutrient.FIBER),
+    SODIUM(Nutrient.SODIUM);
+
+    private final Nutrient nutrient;
+
+    Facet(Nutrient nutrient) {
+        this.nutrient = nutrient;
+    }
+
+    /**
+     * Returns the recipe's value, or NaN when it has none. Total time is
+     * {@link Recipe#getCalculatedTotalTimeMinutes()}.
+     */
+    double value(Recipe recipe) {
+        if (this == TOTAL_TIME_MINUTES) {
+            Integer minutes = recipe.getCalculatedTotalTimeMinutes();
+            return minutes == null ? Double.NaN : minutes;
+        }
+        if (this == SERVINGS) {
+            Integer servings = recipe.getServings();
+            return servings == null ? Double.NaN : servings;
+        }
+        NutritionValues perServing = recipe.getNutritionalInfo() == null ? null : recipe.getNutritionalInfo().getPerServing();
+        return perServing == null ? Double.NaN : nutrient.valueOr(perServing, Double.NaN);
+    }
+}
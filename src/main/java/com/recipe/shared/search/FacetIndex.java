@@ -0,0 +1,353 @@
+package com.recipe.shared.search;
+
+import com.recipe.shared.model.Recipe;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Numeric facets of a recipe collection, for combined range filters ("under 30 minutes, serves 4 or more, under 500
+ * kcal per serving") and histogram counts without evaluating predicates recipe by recipe.
+ * <p>
+ * For each {@link Facet} the index keeps the values sorted, each with its row, the values in row order, and a bitset
+ * of the rows that have a value. A range is located in the sorted values with two binary searches; a query then
+ * combines its ranges as row bitsets, touching only the rows inside a range or, for a broad range, only those outside
+ * it. Counting is a population count over the bitset, and rows come out in increasing order without sorting. Rows are
+ * positions in the list the index was built from.
+ * <p>
+ * Indexes are immutable snapshots; rebuild one when the recipes change.
+ */
+public final class FacetIndex {
+
+    private static final Facet[] FACETS = Facet.values();
+
+    private final int size;
+    // Per facet: values in row order (NaN when missing), the present values sorted with their rows, and the rows
+    // that have a value as a bitset
+    private final double[][] columns;
+    private final double[][] sorted;
+    private final int[][] sortedRows;
+    private final long[][] present;
+
+    private FacetIndex(int size, double[][] columns, double[][] sorted, int[][] sortedRows, long[][] present) {
+        this.size = size;
+        this.columns = columns;
+        this.sorted = sorted;
+        this.sortedRows = sortedRows;
+        this.present = present;
+    }
+
+    /**
+     * Indexes every facet of the recipes; null elements have no values.
+     */
+    public static FacetIndex of(List<Recipe> recipes) {
+        int size = recipes.size();
+        double[][] columns = new double[FACETS.length][size];
+        for (double[] column : columns) {
+            Arrays.fill(column, Double.NaN);
+        }
+        for (int row = 0; row < size; row++) {
+            Recipe recipe = recipes.get(row);
+            if (recipe != null) {
+                for (Facet facet : FACETS) {
+                    columns[facet.ordinal()][row] = facet.value(recipe);
+                }
+            }
+        }
+        double[][] sorted = new double[FACETS.length][];
+        int[][] sortedRows = new int[FACETS.length][];
+        long[][] present = new long[FACETS.length][(size + 63) >>> 6];
+        for (Facet facet : FACETS) {
+            sort(columns[facet.ordinal()], sorted, sortedRows, facet.ordinal());
+            for (int row : sortedRows[facet.ordinal()]) {
+                present[facet.ordinal()][row >>> 6] |= 1L << row;
+            }
+        }
+        return new FacetIndex(size, columns, sorted, sortedRows, present);
+    }
+
+    /**
+     * Sorts the present values of a column with their rows. Values and rows are packed into one long each, the
+     * value's order-preserving bits high and the row low, so a single primitive sort orders both. The values are
+     * stored as floats in the keys only for ordering; the exact doubles are read back from the column.
+     */
+    private static void sort(double[] column, double[][] sorted, int[][] sortedRows, int facet) {
+        long[] keys = new long[column.length];
+        int count = 0;
+        for (int row = 0; row < column.length; row++) {
+            double value = column[row];
+            if (!Double.isNaN(value)) {
+                keys[count++] = (long) orderedBits((float) value) << 32 | row;
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        Arrays.sort(keys);
+        double[] values = new double[count];
+        int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = (int) keys[i];
+            values[i] = column[rows[i]];
+        }
+        // Values that round to the same float may be out of order by less than a float's precision
+        for (int i = 1; i < count; i++) {
+            if (values[i] < values[i - 1]) {
+                insertionSort(values, rows, i);
+            }
+        }
+        sorted[facet] = values;
+        sortedRows[facet] = rows;
+    }
+
+    // Maps a float's bits to an unsigned int with the same order, shifted to signed so that longs compare the same way
+    private static int orderedBits(float value) {
+        int bits = Float.floatToIntBits(value + 0.0f);
+        return (bits < 0 ? ~bits : bits | Integer.MIN_VALUE) ^ Integer.MIN_VALUE;
+    }
+
+    private static void insertionSort(double[] values, int[] rows, int i) {
+        double value = values[i];
+        int row = rows[i];
+        int j = i - 1;
+        while (j >= 0 && values[j] > value) {
+            values[j + 1] = values[j];
+            rows[j + 1] = rows[j];
+            j--;
+        }
+        values[j + 1] = value;
+        rows[j + 1] = row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a row's value for a facet, or NaN when it has none.
+     */
+    public double get(int row, Facet facet) {
+        return columns[facet.ordinal()][row];
+    }
+
+    /**
+     * Returns the rows within every range, in increasing order. With no ranges every row matches.
+     */
+    public int[] rows(FacetRange... ranges) {
+        if (ranges.length == 0) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        long[] bits = matching(ranges);
+        int[] rows = new int[cardinality(bits)];
+        int count = 0;
+        for (int i = 0; i < bits.length; i++) {
+            for (long word = bits[i]; word != 0; word &= word - 1) {
+                rows[count++] = (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows within every range. A single range is counted with two binary searches.
+     */
+    public int count(FacetRange... ranges) {
+        if (ranges.length == 0) {
+            return size;
+        }
+        if (ranges.length == 1) {
+            return upperBound(ranges[0]) - lowerBound(ranges[0]);
+        }
+        return cardinality(matching(ranges));
+    }
+
+    /**
+     * Counts the rows within every range by their value of {@code facet}, in the buckets delimited by the ascending
+     * {@code bounds}: bucket 0 holds values below {@code bounds[0]}, bucket {@code i} values in
+     * {@code [bounds[i - 1], bounds[i])}, and the last bucket values from {@code bounds[bounds.length - 1]} up. Rows
+     * without a value of {@code facet} are not counted.
+     * <p>
+     * Without ranges each bucket is counted with a binary search, independent of the number of rows.
+     */
+    public int[] histogram(Facet facet, double[] bounds, FacetRange... ranges) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (!(bounds[i] > bounds[i - 1])) {
+                throw new IllegalArgumentException("Bucket bounds must be strictly ascending: " + Arrays.toString(bounds));
+            }
+        }
+        int[] counts = new int[bounds.length + 1];
+        double[] values = sorted[facet.ordinal()];
+        int previous = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            int end = firstAtLeast(values, bounds[i]);
+            counts[i] = end - previous;
+            previous = end;
+        }
+        counts[bounds.length] = values.length - previous;
+        if (ranges.length == 0) {
+            return counts;
+        }
+        long[] filter = matching(ranges);
+        int[] rows = sortedRows[facet.ordinal()];
+        if (cardinality(filter) < rows.length / 4) {
+            // Few matches: bucket each matching row by its value
+            Arrays.fill(counts, 0);
+            double[] column = columns[facet.ordinal()];
+            for (int i = 0; i < filter.length; i++) {
+                for (long word = filter[i]; word != 0; word &= word - 1) {
+                    double value = column[(i << 6) + Long.numberOfTrailingZeros(word)];
+                    if (!Double.isNaN(value)) {
+                        counts[bucket(bounds, value)]++;
+                    }
+                }
+            }
+            return counts;
+        }
+        // Many matches: test each bucket's rows, in value order, against the filter
+        previous = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            int end = previous + counts[bucket];
+            counts[bucket] = countWithin(filter, rows, previous, end);
+            previous = end;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the smallest and largest value of a facet, or null if no row has one.
+     */
+    public double[] extent(Facet facet) {
+        double[] values = sorted[facet.ordinal()];
+        return values.length == 0 ? null : new double[] {values[0], values[values.length - 1]};
+    }
+
+    /**
+     * Returns the rows within every range as a bitset. The narrowest range is marked first; each other range then
+     * either keeps only its own rows or, when fewer rows fall outside it, clears those, so the work is bounded by the
+     * smaller side of every range.
+     */
+    private long[] matching(FacetRange[] ranges) {
+        int narrowest = 0;
+        for (int i = 1; i < ranges.length; i++) {
+            if (inside(ranges[i]) < inside(ranges[narrowest])) {
+                narrowest = i;
+            }
+        }
+        FacetRange first = ranges[narrowest];
+        long[] bits = new long[(size + 63) >>> 6];
+        set(bits, sortedRows[first.facet().ordinal()], lowerBound(first), upperBound(first));
+
+        for (int i = 0; i < ranges.length; i++) {
+            if (i == narrowest) {
+                continue;
+            }
+            FacetRange range = ranges[i];
+            int facet = range.facet().ordinal();
+            int[] rows = sortedRows[facet];
+            int from = lowerBound(range);
+            int to = upperBound(range);
+            if (to - from <= rows.length - (to - from)) {
+                long[] within = new long[bits.length];
+                set(within, rows, from, to);
+                for (int w = 0; w < bits.length; w++) {
+                    bits[w] &= within[w];
+                }
+            } else {
+                long[] has = present[facet];
+                for (int w = 0; w < bits.length; w++) {
+                    bits[w] &= has[w];
+                }
+                clear(bits, rows, 0, from);
+                clear(bits, rows, to, rows.length);
+            }
+        }
+        return bits;
+    }
+
+    private int inside(FacetRange range) {
+        return upperBound(range) - lowerBound(range);
+    }
+
+    private static void set(long[] bits, int[] rows, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int row = rows[i];
+            bits[row >>> 6] |= 1L << row;
+        }
+    }
+
+    private static void clear(long[] bits, int[] rows, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int row = rows[i];
+            bits[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    private static int countWithin(long[] bits, int[] rows, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int row = rows[i];
+            count += (int) (bits[row >>> 6] >>> row) & 1;
+        }
+        return count;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // First position in the sorted values at or above the range's minimum
+    private int lowerBound(FacetRange range) {
+        return firstAtLeast(sorted[range.facet().ordinal()], range.min());
+    }
+
+    // First position in the sorted values above the range's maximum
+    private int upperBound(FacetRange range) {
+        double[] values = sorted[range.facet().ordinal()];
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= range.max()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int firstAtLeast(double[] values, double min) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Index of the bucket holding the value: the number of bounds at or below it
+    private static int bucket(double[] bounds, double value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
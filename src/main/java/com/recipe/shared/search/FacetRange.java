@@ -0,0 +1,33 @@
+package com.recipe.shared.search;
+
+/**
+ * An inclusive range of one {@link Facet}, such as "total time at most 30 minutes". A recipe without a value for the
+ * facet is never within a range.
+ *
+ * @param facet the property to filter
+ * @param min   lowest accepted value, or negative infinity
+ * @param max   highest accepted value, or positive infinity
+ */
+public record FacetRange(Facet facet, double min, double max) {
+
+    public FacetRange {
+        if (facet == null) {
+            throw new NullPointerException("Facet cannot be null");
+        }
+        if (Double.isNaN(min) || Double.isNaN(max) || min > max) {
+            throw new IllegalArgumentException("Invalid range for " + facet + ": [" + min + ", " + max + "]");
+        }
+    }
+
+    public static FacetRange between(Facet facet, double min, double max) {
+        return new FacetRange(facet, min, max);
+    }
+
+    public static FacetRange atMost(Facet facet, double max) {
+        return new FacetRange(facet, Double.NEGATIVE_INFINITY, max);
+    }
+
+    public static FacetRange atLeast(Facet facet, double min) {
+        return new FacetRange(facet, min, Double.POSITIVE_INFINITY);
+    }
+}
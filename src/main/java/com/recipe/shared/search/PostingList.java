@@ -0,0 +1,130 @@
+package com.recipe.shared.search;
+
+import java.util.Arrays;
+
+/**
+ * The documents containing one term, in increasing order, with the term's weighted frequency in each. Entries are
+ * stored as variable-length integers: the gap from the previous document, then the frequency. Most gaps and
+ * frequencies fit in one byte each.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docCount;
+
+    /**
+     * Appends a document, which must be greater than every document already in the list.
+     */
+    void add(int doc, int frequency) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        length = writeVarint(data, length, doc - lastDoc);
+        length = writeVarint(data, length, frequency);
+        lastDoc = doc;
+        docCount++;
+    }
+
+    /**
+     * Returns the number of documents in the list, including removed ones not yet compacted away.
+     */
+    int docCount() {
+        return docCount;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Rewrites the list without removed documents, renumbering the others through {@code remap} ({@code -1} for a
+     * removed document). Returns false if no document is left.
+     */
+    boolean compact(int[] remap) {
+        byte[] old = data;
+        int oldLength = length;
+        data = new byte[Math.max(8, oldLength)];
+        length = 0;
+        lastDoc = -1;
+        docCount = 0;
+        Cursor cursor = new Cursor(old, oldLength);
+        while (cursor.next()) {
+            int doc = remap[cursor.doc];
+            if (doc >= 0) {
+                add(doc, cursor.frequency);
+            }
+        }
+        data = Arrays.copyOf(data, Math.max(8, length));
+        return docCount > 0;
+    }
+
+    long sizeInBytes() {
+        return data.length;
+    }
+
+    private static int writeVarint(byte[] data, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Reads the list forwards. Call {@link #next()} before reading the first entry.
+     */
+    final class Cursor {
+
+        private final byte[] bytes;
+        private final int end;
+        private int pos;
+        int doc = -1;
+        int frequency;
+
+        private Cursor() {
+            this(data, length);
+        }
+
+        private Cursor(byte[] bytes, int end) {
+            this.bytes = bytes;
+            this.end = end;
+        }
+
+        boolean next() {
+            if (pos >= end) {
+                doc = Integer.MAX_VALUE;
+                return false;
+            }
+            doc += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        /**
+         * Moves to the first entry at or after {@code target}, returning false if there is none.
+         */
+        boolean advance(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
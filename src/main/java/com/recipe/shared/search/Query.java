@@ -0,0 +1,210 @@
+package com.recipe.shared.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A boolean search query over a {@link RecipeIndex}. Build one with the factory methods, or parse the query syntax
+ * users type with {@link #parse(String)}.
+ * <p>
+ * Terms are folded the same way as indexed text, so {@code term("Crème")} matches {@code "creme"}. Text that folds to
+ * several terms, such as {@code "gluten-free"}, requires all of them.
+ */
+public abstract class Query {
+
+    Query() {}
+
+    /**
+     * Matches recipes containing the term; text without any letters or digits matches nothing.
+     */
+    public static Query term(String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            return new Or(List.of());
+        }
+        if (terms.size() == 1) {
+            return new Term(terms.get(0));
+        }
+        List<Query> clauses = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            clauses.add(new Term(term));
+        }
+        return new And(clauses);
+    }
+
+    /**
+     * Matches recipes containing a term that starts with {@code text}, e.g. {@code prefix("tom")} for "tomato" and
+     * "tomatillo".
+     */
+    public static Query prefix(String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            return new Or(List.of());
+        }
+        // Only the last word is a prefix: "sweet pot" means "sweet" and "pot..."
+        List<Query> clauses = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size() - 1; i++) {
+            clauses.add(new Term(terms.get(i)));
+        }
+        clauses.add(new Prefix(terms.get(terms.size() - 1)));
+        return clauses.size() == 1 ? clauses.get(0) : new And(clauses);
+    }
+
+    /**
+     * Matches recipes matched by every clause; with no clauses, every recipe.
+     */
+    public static Query and(Query... clauses) {
+        return new And(List.of(clauses));
+    }
+
+    /**
+     * Matches recipes matched by any clause; with no clauses, none.
+     */
+    public static Query or(Query... clauses) {
+        return new Or(List.of(clauses));
+    }
+
+    /**
+     * Matches recipes not matched by {@code clause}. Inside {@link #and(Query...)} this excludes matches from the
+     * other clauses; on its own it matches the rest of the index.
+     */
+    public static Query not(Query clause) {
+        return new Not(clause);
+    }
+
+    /**
+     * Parses a query as typed into a search box. Words are required ({@code chicken curry}), {@code OR} between two
+     * words makes either enough ({@code chicken OR tofu curry}), a leading {@code -} excludes a word
+     * ({@code curry -coconut}) and a trailing {@code *} matches a prefix ({@code tom*}). A blank query matches
+     * nothing.
+     */
+    public static Query parse(String text) {
+        // Each group holds alternatives joined by OR; the groups are all required
+        List<List<Query>> groups = new ArrayList<>();
+        boolean or = false;
+        for (String word : text.trim().split("\\s+")) {
+            if (word.equals("OR")) {
+                or = true;
+                continue;
+            }
+            Query clause = clause(word);
+            if (clause == null) {
+                continue;
+            }
+            List<Query> last = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+            if (or && last != null && !(clause instanceof Not) && !(last.get(0) instanceof Not)) {
+                last.add(clause);
+            } else {
+                List<Query> group = new ArrayList<>();
+                group.add(clause);
+                groups.add(group);
+            }
+            or = false;
+        }
+        if (groups.isEmpty()) {
+            return new Or(List.of());
+        }
+        List<Query> required = new ArrayList<>(groups.size());
+        for (List<Query> group : groups) {
+            required.add(group.size() == 1 ? group.get(0) : new Or(group));
+        }
+        return required.size() == 1 ? required.get(0) : new And(required);
+    }
+
+    private static Query clause(String word) {
+        boolean negated = word.length() > 1 && word.charAt(0) == '-';
+        if (negated) {
+            word = word.substring(1);
+        }
+        boolean prefix = word.length() > 1 && word.charAt(word.length() - 1) == '*';
+        if (prefix) {
+            word = word.substring(0, word.length() - 1);
+        }
+        if (Tokenizer.tokenize(word).isEmpty()) {
+            return null;
+        }
+        Query clause = prefix ? prefix(word) : term(word);
+        return negated ? new Not(clause) : clause;
+    }
+
+    static final class Term extends Query {
+
+        final String term;
+
+        Term(String term) {
+            this.term = term;
+        }
+
+        @Override
+        public String toString() {
+            return term;
+        }
+    }
+
+    static final class Prefix extends Query {
+
+        final String prefix;
+
+        Prefix(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String toString() {
+            return prefix + "*";
+        }
+    }
+
+    static final class And extends Query {
+
+        final List<Query> clauses;
+
+        And(List<Query> clauses) {
+            this.clauses = clauses;
+        }
+
+        @Override
+        public String toString() {
+            return join(clauses, " AND ");
+        }
+    }
+
+    static final class Or extends Query {
+
+        final List<Query> clauses;
+
+        Or(List<Query> clauses) {
+            this.clauses = clauses;
+        }
+
+        @Override
+        public String toString() {
+            return join(clauses, " OR ");
+        }
+    }
+
+    static final class Not extends Query {
+
+        final Query clause;
+
+        Not(Query clause) {
+            this.clause = clause;
+        }
+
+        @Override
+        public String toString() {
+            return "-" + clause;
+        }
+    }
+
+    private static String join(List<Query> clauses, String separator) {
+        StringBuilder text = new StringBuilder("(");
+        for (int i = 0; i < clauses.size(); i++) {
+            if (i > 0) {
+                text.append(separator);
+            }
+            text.append(clauses.get(i));
+        }
+        return text.append(')').toString();
+    }
+}
@@ -0,0 +1,545 @@
+package com.recipe.shared.search;
+
+import com.recipe.shared.model.Recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory inverted index over recipe names, descriptions, ingredients and tags, for full-text search without
+ * scanning every recipe.
+ * <p>
+ * Each recipe gets an internal document number when it is added; every term keeps a compressed {@link PostingList}
+ * of the documents it occurs in. Matches are ranked with BM25, counting a term in the name three times and in a tag
+ * twice, so that "curry" ranks a recipe called curry above one that only mentions it. The index stores recipe ids,
+ * not the recipes themselves.
+ * <p>
+ * Recipes are keyed by {@code id}: adding an id that is already indexed replaces it. Removed documents stay in the
+ * posting lists, skipped by searches, until enough of them pile up to compact the index, or until {@link #compact()}
+ * is called.
+ * <p>
+ * Indexes are safe for concurrent use: searches run in parallel and wait only for writers.
+ */
+public final class RecipeIndex {
+
+    // Weights of each field in term frequencies and document lengths
+    private static final int NAME_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+
+    // BM25 parameters, at their usual values
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final DocumentNumbers numbers = new DocumentNumbers();
+    private volatile String[] sortedTerms;
+
+    private int[] lengths = new int[16];
+    private long totalLength;
+
+    /**
+     * Creates an index of the given recipes.
+     */
+    public static RecipeIndex of(Iterable<Recipe> recipes) {
+        RecipeIndex index = new RecipeIndex();
+        index.addAll(recipes);
+        return index;
+    }
+
+    /**
+     * Adds a recipe, replacing any recipe with the same id.
+     *
+     * @throws IllegalArgumentException if the recipe has no id
+     */
+    public void add(Recipe recipe) {
+        lock.writeLock().lock();
+        try {
+            addLocked(recipe);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds recipes under a single write lock, replacing any recipe with the same id.
+     *
+     * @throws IllegalArgumentException if a recipe has no id
+     */
+    public void addAll(Iterable<Recipe> recipes) {
+        lock.writeLock().lock();
+        try {
+            for (Recipe recipe : recipes) {
+                addLocked(recipe);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the recipe with this id, returning whether it was indexed.
+     */
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            int doc = numbers.remove(id);
+            if (doc < 0) {
+                return false;
+            }
+            totalLength -= lengths[doc];
+            maybeCompact();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return numbers.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of recipes in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return numbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the posting lists in bytes, a rough measure of the index's memory use.
+     */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parses {@code query} with {@link Query#parse(String)} and returns the best {@code limit} matches.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        return search(Query.parse(query), limit);
+    }
+
+    /**
+     * Returns the best {@code limit} matches of a query, highest score first; ties keep the order recipes were
+     * added in.
+     */
+    public List<SearchHit> search(Query query, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        lock.readLock().lock();
+        try {
+            int[] docs = matches(query);
+            if (docs.length == 0 || limit == 0) {
+                return List.of();
+            }
+            double[] scores = score(query, docs);
+            return top(docs, scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of recipes matching a query, without ranking them.
+     */
+    public int count(Query query) {
+        lock.readLock().lock();
+        try {
+            return matches(query).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the posting lists without removed documents and renumbers the rest densely.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(Recipe recipe) {
+        String id = recipe.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Recipes must have an id to be indexed");
+        }
+        int previous = numbers.remove(id);
+        if (previous >= 0) {
+            totalLength -= lengths[previous];
+        }
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] length = new int[1];
+        addField(recipe.getRecipeName(), NAME_WEIGHT, frequencies, length);
+        addField(recipe.getDescription(), TEXT_WEIGHT, frequencies, length);
+        if (recipe.getIngredients() != null) {
+            for (String ingredient : recipe.getIngredients()) {
+                addField(ingredient, TEXT_WEIGHT, frequencies, length);
+            }
+        }
+        if (recipe.getTags() != null) {
+            for (String tag : recipe.getTags()) {
+                addField(tag, TAG_WEIGHT, frequencies, length);
+            }
+        }
+
+        int doc = numbers.add(id);
+        if (doc == lengths.length) {
+            lengths = Arrays.copyOf(lengths, numbers.capacity());
+        }
+        lengths[doc] = length[0];
+        totalLength += length[0];
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            PostingList list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new PostingList();
+                postings.put(entry.getKey(), list);
+                sortedTerms = null;
+            }
+            list.add(doc, entry.getValue()[0]);
+        }
+        if (previous >= 0) {
+            maybeCompact();
+        }
+    }
+
+    private static void addField(String text, int weight, Map<String, int[]> frequencies, int[] length) {
+        Tokenizer.tokenize(text, term -> {
+            frequencies.computeIfAbsent(term, t -> new int[1])[0] += weight;
+            length[0] += weight;
+        });
+    }
+
+    private void maybeCompact() {
+        if (numbers.needsCompaction()) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        int[] remap = numbers.compact();
+        if (remap == null) {
+            return;
+        }
+        for (int doc = 0; doc < remap.length; doc++) {
+            if (remap[doc] >= 0) {
+                lengths[remap[doc]] = lengths[doc];
+            }
+        }
+        lengths = Arrays.copyOf(lengths, numbers.capacity());
+        postings.values().removeIf(list -> !list.compact(remap));
+        sortedTerms = null;
+    }
+
+    // Matching: every query node evaluates to the sorted live documents it matches
+
+    private int[] matches(Query query) {
+        if (query instanceof Query.Term term) {
+            return docs(postings.get(term.term));
+        }
+        if (query instanceof Query.Prefix prefix) {
+            int[] result = new int[0];
+            for (String term : expand(prefix.prefix)) {
+                result = union(result, docs(postings.get(term)));
+            }
+            return result;
+        }
+        if (query instanceof Query.Or or) {
+            int[] result = new int[0];
+            for (Query clause : or.clauses) {
+                result = union(result, matches(clause));
+            }
+            return result;
+        }
+        if (query instanceof Query.Not not) {
+            return difference(allDocs(), matches(not.clause));
+        }
+        Query.And and = (Query.And) query;
+        int[] result = null;
+        List<Query> excluded = new ArrayList<>();
+        for (Query clause : and.clauses) {
+            if (clause instanceof Query.Not not) {
+                excluded.add(not.clause);
+            } else {
+                int[] docs = matches(clause);
+                result = result == null ? docs : intersection(result, docs);
+            }
+            if (result != null && result.length == 0) {
+                return result;
+            }
+        }
+        if (result == null) {
+            result = allDocs();
+        }
+        for (Query clause : excluded) {
+            result = difference(result, matches(clause));
+        }
+        return result;
+    }
+
+    private int[] docs(PostingList list) {
+        if (list == null) {
+            return new int[0];
+        }
+        int[] docs = new int[list.docCount()];
+        int count = 0;
+        PostingList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            docs[count] = cursor.doc;
+            count += numbers.isRemoved(cursor.doc) ? 0 : 1;
+        }
+        return count == docs.length ? docs : Arrays.copyOf(docs, count);
+    }
+
+    private int[] allDocs() {
+        int[] docs = new int[numbers.size()];
+        int count = 0;
+        for (int doc = 0; doc < numbers.count(); doc++) {
+            if (!numbers.isRemoved(doc)) {
+                docs[count++] = doc;
+            }
+        }
+        return docs;
+    }
+
+    /**
+     * Returns the indexed terms starting with {@code prefix}, from a sorted copy of the term list that is rebuilt
+     * after new terms are added.
+     */
+    private List<String> expand(String prefix) {
+        String[] terms = sortedTerms;
+        if (terms == null) {
+            terms = postings.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            sortedTerms = terms;
+        }
+        int i = Arrays.binarySearch(terms, prefix);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        List<String> expanded = new ArrayList<>();
+        for (; i < terms.length && terms[i].startsWith(prefix); i++) {
+            expanded.add(terms[i]);
+        }
+        return expanded;
+    }
+
+    private static int[] intersection(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[n++] = b[j++];
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[n++] = a[i++];
+        }
+        while (j < b.length) {
+            result[n++] = b[j++];
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int[] difference(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        int j = 0;
+        int n = 0;
+        for (int doc : a) {
+            while (j < b.length && b[j] < doc) {
+                j++;
+            }
+            if (j == b.length || b[j] != doc) {
+                result[n++] = doc;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    // Ranking
+
+    private double[] score(Query query, int[] docs) {
+        double[] scores = new double[docs.length];
+        List<String> terms = new ArrayList<>();
+        scoringTerms(query, terms);
+        int live = numbers.size();
+        double averageLength = live == 0 ? 1 : Math.max(1, (double) totalLength / live);
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            // Document frequency counts removed documents until the next compaction, a small overestimate
+            int df = Math.min(list.docCount(), live);
+            double idf = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+            PostingList.Cursor cursor = list.cursor();
+            for (int i = 0; i < docs.length; i++) {
+                if (!cursor.advance(docs[i])) {
+                    break;
+                }
+                if (cursor.doc == docs[i]) {
+                    double tf = cursor.frequency;
+                    double norm = K1 * (1 - B + B * lengths[docs[i]] / averageLength);
+                    scores[i] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+        }
+        return scores;
+    }
+
+    // Terms that contribute to the score: those that must or may match, not the excluded ones
+    private void scoringTerms(Query query, List<String> terms) {
+        if (query instanceof Query.Term term) {
+            terms.add(term.term);
+        } else if (query instanceof Query.Prefix prefix) {
+            terms.addAll(expand(prefix.prefix));
+        } else if (query instanceof Query.And and) {
+            for (Query clause : and.clauses) {
+                scoringTerms(clause, terms);
+            }
+        } else if (query instanceof Query.Or or) {
+            for (Query clause : or.clauses) {
+                scoringTerms(clause, terms);
+            }
+        }
+    }
+
+    private List<SearchHit> top(int[] docs, double[] scores, int limit) {
+        int n = Math.min(limit, docs.length);
+        // Min-heap of positions into docs, worst hit at the root
+        int[] heap = new int[n];
+        int size = 0;
+        for (int i = 0; i < docs.length; i++) {
+            if (size < n) {
+                heap[size] = i;
+                siftUp(heap, size++, scores);
+            } else if (scores[i] > scores[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, size, scores);
+            }
+        }
+        SearchHit[] hits = new SearchHit[size];
+        while (size > 0) {
+            int i = heap[0];
+            hits[--size] = new SearchHit(numbers.id(docs[i]), scores[i]);
+            heap[0] = heap[size];
+            siftDown(heap, size, scores);
+        }
+        return Arrays.asList(hits);
+    }
+
+    // Worse means a lower score, or an equal score and a later document
+    private static boolean worse(int a, int b, double[] scores) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int i, double[] scores) {
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (!worse(heap[i], heap[parent], scores)) {
+                return;
+            }
+            int t = heap[i];
+            heap[i] = heap[parent];
+            heap[parent] = t;
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && worse(heap[child + 1], heap[child], scores)) {
+                child++;
+            }
+            if (!worse(heap[child], heap[i], scores)) {
+                return;
+            }
+            int t = heap[i];
+            heap[i] = heap[child];
+            heap[child] = t;
+            i = child;
+        }
+    }
+}
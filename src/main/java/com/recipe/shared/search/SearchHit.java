@@ -0,0 +1,10 @@
+package com.recipe.shared.search;
+
+/**
+ * A recipe matched by {@link RecipeIndex#search(Query, int)}.
+ *
+ * @param id    the recipe's {@code id}
+ * @param score BM25 relevance; higher is better, and only comparable between hits of the same search
+ */
+public record SearchHit(String id, double score) {
+}
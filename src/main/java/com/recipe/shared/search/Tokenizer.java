@@ -0,0 +1,77 @@
+package com.recipe.shared.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Splits text into search terms: runs of letters and digits, lower-cased and with accents removed, so that
+ * {@code "Crème Brûlée"} gives {@code "creme"} and {@code "brulee"}. Apostrophes inside a word are dropped
+ * ({@code "cook's"} gives {@code "cooks"}). Plain ASCII text, the common case, is folded without normalization.
+ * <p>
+ * {@link RecipeIndex} indexes text with it; other components that compare recipe text use it so that they agree on
+ * what a word is.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {}
+
+    /**
+     * Passes each term of {@code text} to {@code sink}; null text has no terms.
+     */
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        StringBuilder term = new StringBuilder(16);
+        boolean ascii = true;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (c < 0x80) {
+                if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    term.append(c);
+                    continue;
+                }
+                if (c >= 'A' && c <= 'Z') {
+                    term.append((char) (c | 0x20));
+                    continue;
+                }
+                if (c == '\'' && term.length() > 0 && i + 1 < length && Character.isLetter(text.charAt(i + 1))) {
+                    continue;
+                }
+            } else if (Character.isLetterOrDigit(c) || (Character.getType(c) == Character.NON_SPACING_MARK && term.length() > 0)) {
+                term.append(c);
+                ascii = false;
+                continue;
+            } else if (c == '’' && term.length() > 0 && i + 1 < length && Character.isLetter(text.charAt(i + 1))) {
+                continue;
+            }
+            if (term.length() > 0) {
+                sink.accept(ascii ? term.toString() : fold(term));
+                term.setLength(0);
+                ascii = true;
+            }
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        tokenize(text, terms::add);
+        return terms;
+    }
+
+    private static String fold(CharSequence term) {
+        String decomposed = Normalizer.normalize(term, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
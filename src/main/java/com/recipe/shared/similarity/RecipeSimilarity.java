@@ -0,0 +1,472 @@
+package com.recipe.shared.similarity;
+
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.search.DocumentNumbers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds near-duplicate recipes, such as the same recipe regenerated with different wording, without comparing every
+ * pair.
+ * <p>
+ * Each recipe is reduced to a MinHash signature of its ingredient and instruction shingles: for each of
+ * {@code bands * rows} hash functions, the smallest hash of any shingle. Two signatures agree in a position with
+ * probability equal to the Jaccard similarity of the shingle sets, so the fraction of agreeing positions estimates it.
+ * Signatures are split into {@code bands} bands of {@code rows} values, and recipes whose signatures are equal in at
+ * least one band become candidates (locality-sensitive hashing). Pairs above roughly {@link #threshold()} are likely
+ * to share a band; much less similar pairs rarely do. Candidates are then checked against the requested similarity.
+ * <p>
+ * Recipes are keyed by {@code id}: adding an id again replaces the recipe. Recipes without ingredients or
+ * instructions have nothing to compare and are never reported. Instances are safe for concurrent use; signatures
+ * from instances with the same bands and rows are interchangeable.
+ */
+public final class RecipeSimilarity {
+
+    public static final int DEFAULT_BANDS = 16;
+    public static final int DEFAULT_ROWS = 4;
+
+    private final int bands;
+    private final int rows;
+    private final int hashes;
+    // Hash function i maps a shingle x to the high 32 bits of x * multipliers[i] + increments[i]
+    private final long[] multipliers;
+    private final long[] increments;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DocumentNumbers numbers = new DocumentNumbers();
+    private final BandTable[] tables;
+    private int[] signatures;
+
+    /**
+     * Creates an index with {@value #DEFAULT_BANDS} bands of {@value #DEFAULT_ROWS} rows, which reliably finds
+     * recipes sharing about 70% or more of their shingles.
+     */
+    public RecipeSimilarity() {
+        this(DEFAULT_BANDS, DEFAULT_ROWS);
+    }
+
+    /**
+     * Creates an index with the given banding. More rows per band make candidates stricter; more bands find less
+     * similar pairs, at the cost of memory and more candidates to check.
+     */
+    public RecipeSimilarity(int bands, int rows) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Bands and rows must be positive: " + bands + " x " + rows);
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.hashes = bands * rows;
+        this.multipliers = new long[hashes];
+        this.increments = new long[hashes];
+        // Fixed seed: signatures must not depend on the instance that computed them
+        Random random = new Random(0x5EED);
+        for (int i = 0; i < hashes; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+        this.tables = new BandTable[bands];
+        for (int band = 0; band < bands; band++) {
+            tables[band] = new BandTable();
+        }
+        this.signatures = new int[numbers.capacity() * hashes];
+    }
+
+    /**
+     * Finds groups of near-duplicates in a collection in one pass, e.g. to clean up a store; see
+     * {@link #duplicateGroups(double)}.
+     */
+    public static List<List<String>> findDuplicates(Iterable<Recipe> recipes, double minSimilarity) {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        similarity.addAll(recipes);
+        return similarity.duplicateGroups(minSimilarity);
+    }
+
+    /**
+     * Returns the similarity at which a pair is as likely as not to become a candidate, {@code (1 / bands)^(1 / rows)}.
+     */
+    public double threshold() {
+        return Math.pow(1.0 / bands, 1.0 / rows);
+    }
+
+    /**
+     * Returns the MinHash signature of a recipe, {@code bands * rows} values long, or null if the recipe has no
+     * ingredients or instructions.
+     */
+    public int[] signature(Recipe recipe) {
+        long[] shingles = Shingles.of(recipe);
+        if (shingles.length == 0) {
+            return null;
+        }
+        int[] signature = new int[hashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < hashes; i++) {
+                int hash = (int) ((shingle * multipliers[i] + increments[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two recipes from their signatures: the fraction of positions where they
+     * are equal.
+     */
+    public static double estimate(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Signatures differ in length: " + a.length + " and " + b.length);
+        }
+        return (double) equalPositions(a, 0, b, 0, a.length) / a.length;
+    }
+
+    /**
+     * Adds a recipe, replacing any recipe with the same id.
+     *
+     * @throws IllegalArgumentException if the recipe has no id
+     */
+    public void add(Recipe recipe) {
+        int[] signature = signatureOf(recipe);
+        lock.writeLock().lock();
+        try {
+            addLocked(recipe.getId(), signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds recipes, replacing any with the same id. Signatures are computed before taking the write lock.
+     *
+     * @throws IllegalArgumentException if a recipe has no id
+     */
+    public void addAll(Iterable<Recipe> recipes) {
+        List<String> batchIds = new ArrayList<>();
+        List<int[]> batchSignatures = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            batchSignatures.add(signatureOf(recipe));
+            batchIds.add(recipe.getId());
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < batchIds.size(); i++) {
+                addLocked(batchIds.get(i), batchSignatures.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the recipe with this id, returning whether it was indexed.
+     */
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            if (numbers.remove(id) < 0) {
+                return false;
+            }
+            maybeCompact();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return numbers.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of recipes in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return numbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the indexed recipes at least {@code minSimilarity} similar to {@code recipe}, most similar first. The
+     * recipe itself, by id, is not included, so it may be indexed or not.
+     */
+    public List<SimilarRecipe> findSimilar(Recipe recipe, double minSimilarity) {
+        int[] signature = signature(recipe);
+        if (signature == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int self = recipe.getId() == null ? -1 : numbers.get(recipe.getId());
+            return similar(signature, 0, self, minSimilarity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the recipes at least {@code minSimilarity} similar to the indexed recipe with this id, most similar
+     * first, or an empty list if the id is not indexed.
+     */
+    public List<SimilarRecipe> findSimilar(String id, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            int doc = numbers.get(id);
+            if (doc < 0 || !tables[0].contains(doc)) {
+                return List.of();
+            }
+            return similar(signatures, doc * hashes, doc, minSimilarity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups the indexed recipes into clusters of near-duplicates: two recipes share a group when they are at least
+     * {@code minSimilarity} similar, directly or through other members. Only groups of two or more are returned, each
+     * listing ids in the order they were added.
+     */
+    public List<List<String>> duplicateGroups(double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            int count = numbers.count();
+            int[] parent = new int[count];
+            for (int doc = 0; doc < count; doc++) {
+                parent[doc] = doc;
+            }
+            for (int doc = 0; doc < count; doc++) {
+                if (numbers.isRemoved(doc) || !tables[0].contains(doc)) {
+                    continue;
+                }
+                for (int band = 0; band < bands; band++) {
+                    BandTable table = tables[band];
+                    // Each bucket is a chain from the newest document back; only compare with earlier ones
+                    for (int other = table.next[doc]; other >= 0; other = table.next[other]) {
+                        if (numbers.isRemoved(other) || find(parent, doc) == find(parent, other)) {
+                            continue;
+                        }
+                        if (similarity(doc, other) >= minSimilarity) {
+                            parent[find(parent, doc)] = find(parent, other);
+                        }
+                    }
+                }
+            }
+            Map<Integer, List<String>> groups = new LinkedHashMap<>();
+            for (int doc = 0; doc < count; doc++) {
+                if (!numbers.isRemoved(doc)) {
+                    groups.computeIfAbsent(find(parent, doc), root -> new ArrayList<>()).add(numbers.id(doc));
+                }
+            }
+            List<List<String>> duplicates = new ArrayList<>();
+            for (List<String> group : groups.values()) {
+                if (group.size() > 1) {
+                    duplicates.add(group);
+                }
+            }
+            return duplicates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Document numbers handed out since the last compaction, live or removed
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return numbers.count();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] signatureOf(Recipe recipe) {
+        if (recipe.getId() == null) {
+            throw new IllegalArgumentException("Recipes must have an id to be indexed");
+        }
+        return signature(recipe);
+    }
+
+    private void addLocked(String id, int[] signature) {
+        boolean replaced = numbers.remove(id) >= 0;
+        int doc = numbers.add(id);
+        if (doc * hashes == signatures.length) {
+            signatures = Arrays.copyOf(signatures, numbers.capacity() * hashes);
+        }
+        if (signature != null) {
+            System.arraycopy(signature, 0, signatures, doc * hashes, hashes);
+            for (int band = 0; band < bands; band++) {
+                tables[band].add(doc, bandKey(signature, band * rows, band));
+            }
+        }
+        if (replaced) {
+            maybeCompact();
+        }
+    }
+
+    private void maybeCompact() {
+        if (numbers.needsCompaction()) {
+            compact();
+        }
+    }
+
+    // Moves the live signatures to their new, dense document numbers and rebuilds the band tables from them
+    private void compact() {
+        int[] remap = numbers.compact();
+        boolean[] indexed = new boolean[remap.length];
+        for (int doc = 0; doc < remap.length; doc++) {
+            indexed[doc] = tables[0].contains(doc);
+        }
+        for (int band = 0; band < bands; band++) {
+            tables[band] = new BandTable();
+        }
+        for (int doc = 0; doc < remap.length; doc++) {
+            int moved = remap[doc];
+            if (moved >= 0) {
+                System.arraycopy(signatures, doc * hashes, signatures, moved * hashes, hashes);
+                if (indexed[doc]) {
+                    for (int band = 0; band < bands; band++) {
+                        tables[band].add(moved, bandKey(signatures, moved * hashes + band * rows, band));
+                    }
+                }
+            }
+        }
+        signatures = Arrays.copyOf(signatures, numbers.capacity() * hashes);
+    }
+
+    private List<SimilarRecipe> similar(int[] signature, int offset, int self, double minSimilarity) {
+        Set<Integer> seen = new HashSet<>();
+        List<SimilarRecipe> similar = new ArrayList<>();
+        for (int band = 0; band < bands; band++) {
+            BandTable table = tables[band];
+            for (int doc = table.head(bandKey(signature, offset + band * rows, band)); doc >= 0; doc = table.next[doc]) {
+                if (doc == self || numbers.isRemoved(doc) || !seen.add(doc)) {
+                    continue;
+                }
+                // Documents whose band values merely collide in the key hash are caught here too
+                double similarity = (double) equalPositions(signature, offset, signatures, doc * hashes, hashes) / hashes;
+                if (similarity >= minSimilarity) {
+                    similar.add(new SimilarRecipe(numbers.id(doc), similarity));
+                }
+            }
+        }
+        similar.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+        return similar;
+    }
+
+    private double similarity(int a, int b) {
+        return (double) equalPositions(signatures, a * hashes, signatures, b * hashes, hashes) / hashes;
+    }
+
+    private static int equalPositions(int[] a, int aOffset, int[] b, int bOffset, int length) {
+        int equal = 0;
+        for (int i = 0; i < length; i++) {
+            equal += a[aOffset + i] == b[bOffset + i] ? 1 : 0;
+        }
+        return equal;
+    }
+
+    // Hash of the rows of one band, starting at signature[offset]; seeded with the band so bands do not share keys
+    private long bandKey(int[] signature, int offset, int band) {
+        long key = band;
+        for (int i = offset; i < offset + rows; i++) {
+            key = Shingles.mix(key ^ signature[i]);
+        }
+        return key;
+    }
+
+    private static int find(int[] parent, int doc) {
+        while (parent[doc] != doc) {
+            parent[doc] = parent[parent[doc]];
+            doc = parent[doc];
+        }
+        return doc;
+    }
+
+    /**
+     * The buckets of one band: an open-addressing table from band key to the newest document in the bucket, and for
+     * every document the previous one in its bucket, or -1. Documents not in the table have {@code next} of -2.
+     */
+    private static final class BandTable {
+
+        private long[] keys = new long[16];
+        private int[] heads = new int[16];
+        private int used;
+        int[] next = new int[16];
+
+        BandTable() {
+            Arrays.fill(heads, -1);
+            Arrays.fill(next, -2);
+        }
+
+        void add(int doc, long key) {
+            if (doc >= next.length) {
+                int length = next.length;
+                next = Arrays.copyOf(next, Math.max(doc + 1, length * 2));
+                Arrays.fill(next, length, next.length, -2);
+            }
+            if (2 * (used + 1) > keys.length) {
+                grow();
+            }
+            int slot = slot(keys, heads, key);
+            if (heads[slot] < 0) {
+                keys[slot] = key;
+                used++;
+                next[doc] = -1;
+            } else {
+                next[doc] = heads[slot];
+            }
+            heads[slot] = doc;
+        }
+
+        int head(long key) {
+            int slot = slot(keys, heads, key);
+            return heads[slot];
+        }
+
+        boolean contains(int doc) {
+            return doc < next.length && next[doc] != -2;
+        }
+
+        private static int slot(long[] keys, int[] heads, long key) {
+            int mask = keys.length - 1;
+            int slot = (int) key & mask;
+            while (heads[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldHeads = heads;
+            keys = new long[oldKeys.length * 2];
+            heads = new int[oldKeys.length * 2];
+            Arrays.fill(heads, -1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldHeads[i] >= 0) {
+                    int slot = slot(keys, heads, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.recipe.shared.similarity;
+
+import com.recipe.shared.ingredient.IngredientParser;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.search.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Turns a recipe into the 64-bit shingle hashes that {@link RecipeSimilarity} compares: one shingle per ingredient,
+ * from its item without quantity or unit ({@code "2 cups flour, sifted"} gives {@code "flour"}), and one per run of
+ * three consecutive words of the instructions. Words are folded with {@link Tokenizer}, so case, accents and
+ * punctuation do not matter.
+ */
+final class Shingles {
+
+    static final int INSTRUCTION_SHINGLE = 3;
+
+    private static final long INGREDIENT_SEED = 0x5DEECE66DL;
+    private static final long INSTRUCTION_SEED = 0x2545F4914F6CDD1DL;
+
+    private Shingles() {}
+
+    /**
+     * Returns the shingle hashes of a recipe, possibly with repeats, which do not change a MinHash.
+     */
+    static long[] of(Recipe recipe) {
+        List<String> words = new ArrayList<>();
+        long[] shingles = new long[16];
+        int count = 0;
+
+        if (recipe.getIngredients() != null) {
+            for (String line : recipe.getIngredients()) {
+                if (line == null) {
+                    continue;
+                }
+                words.clear();
+                Tokenizer.tokenize(IngredientParser.parse(line).item(), words::add);
+                if (!words.isEmpty()) {
+                    long hash = INGREDIENT_SEED;
+                    for (String word : words) {
+                        hash = combine(hash, word);
+                    }
+                    if (count == shingles.length) {
+                        shingles = Arrays.copyOf(shingles, count * 2);
+                    }
+                    shingles[count++] = mix(hash);
+                }
+            }
+        }
+
+        if (recipe.getInstructions() != null) {
+            words.clear();
+            for (String step : recipe.getInstructions()) {
+                Tokenizer.tokenize(step, words::add);
+            }
+            int n = words.size();
+            int shingleCount = n == 0 ? 0 : Math.max(1, n - INSTRUCTION_SHINGLE + 1);
+            if (count + shingleCount > shingles.length) {
+                shingles = Arrays.copyOf(shingles, count + shingleCount);
+            }
+            for (int i = 0; i < shingleCount; i++) {
+                long hash = INSTRUCTION_SEED;
+                for (int j = i; j < Math.min(n, i + INSTRUCTION_SHINGLE); j++) {
+                    hash = combine(hash, words.get(j));
+                }
+                shingles[count++] = mix(hash);
+            }
+        }
+        return Arrays.copyOf(shingles, count);
+    }
+
+    private static long combine(long hash, String word) {
+        return (hash ^ word.hashCode()) * 0x9E3779B97F4A7C15L + word.length();
+    }
+
+    // The SplitMix64 finalizer: spreads every input bit over the whole result
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,10 @@
+package com.recipe.shared.similarity;
+
+/**
+ * A near-duplicate found by {@link RecipeSimilarity}.
+ *
+ * @param id         the recipe's {@code id}
+ * @param similarity estimated Jaccard similarity of the two recipes' shingles, from 0 to 1
+ */
+public record SimilarRecipe(String id, double similarity) {
+}
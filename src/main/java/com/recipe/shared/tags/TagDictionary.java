@@ -0,0 +1,99 @@
+package com.recipe.shared.tags;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tag strings, such as recipe tags and dietary restrictions, to small dense int ids. Ids are assigned in
+ * order of first use, starting at 0, and never change; {@link TagSet} uses them as bit positions.
+ * <p>
+ * Dictionaries are safe for concurrent use. Lookups of known tags do not lock.
+ */
+public final class TagDictionary {
+
+    /**
+     * Returned by {@link #find(String)} for a tag that has no id.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private static final TagDictionary SHARED = new TagDictionary();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+    private volatile int size;
+
+    /**
+     * Returns the dictionary used by {@link TagSet#of(java.util.Collection)} and
+     * {@link TagIndex#dietaryRestrictions(java.util.List)}. It lives as long as the JVM and never forgets a tag, and a
+     * set's bitset is as long as its highest id, so use it only for bounded vocabularies such as dietary restrictions;
+     * create a dictionary per collection for open-ended ones such as free-form recipe tags.
+     */
+    public static TagDictionary shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the id of a tag, assigning the next free id if the tag is new.
+     */
+    public int id(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : add(tag);
+    }
+
+    /**
+     * Returns the id of a tag, or {@link #NOT_FOUND} without assigning one. Use this for queries, so that looking for
+     * unknown tags does not grow the dictionary.
+     */
+    public int find(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : NOT_FOUND;
+    }
+
+    /**
+     * Returns the tag with the given id. The same {@code String} instance is returned for every call, so lists built
+     * from a dictionary share their strings.
+     *
+     * @throws IndexOutOfBoundsException if no tag has this id
+     */
+    public String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No tag with id " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * Returns the canonical instance of a tag, interning it if it is new.
+     */
+    public String intern(String tag) {
+        return name(id(tag));
+    }
+
+    /**
+     * Returns the number of tags, which is also the next id to be assigned.
+     */
+    public int size() {
+        return size;
+    }
+
+    private synchronized int add(String tag) {
+        if (tag == null) {
+            throw new NullPointerException("Tags cannot be null");
+        }
+        Integer existing = ids.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size;
+        String[] current = names;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, id * 2);
+        }
+        current[id] = tag;
+        // Publish the name before the id, so a reader that sees the id also sees the name
+        names = current;
+        size = id + 1;
+        ids.put(tag, id);
+        return id;
+    }
+}
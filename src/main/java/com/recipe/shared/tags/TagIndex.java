@@ -0,0 +1,173 @@
+package com.recipe.shared.tags;
+
+import com.recipe.shared.model.Recipe;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The {@link TagSet} of every recipe in a collection, for filters such as "vegan AND gluten-free" without comparing
+ * strings per recipe. A query is encoded once, then each row is checked with a few word-wide AND operations.
+ * <p>
+ * Filters return the matching row numbers in increasing order, like {@code NutritionBatch.rowsWithin}, and accept the
+ * result of another filter to narrow it further. Indexes are immutable.
+ */
+public final class TagIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final TagDictionary dictionary;
+    private final TagSet[] rows;
+
+    private TagIndex(TagDictionary dictionary, TagSet[] rows) {
+        this.dictionary = dictionary;
+        this.rows = rows;
+    }
+
+    /**
+     * Indexes the {@code tags} of each recipe over a new dictionary of its own. Free-form tags are an open vocabulary,
+     * so keeping them out of the shared dictionary means an index's ids, and the bitsets over them, are bounded by the
+     * tags of the recipes it holds and are released with it.
+     */
+    public static TagIndex tags(List<Recipe> recipes) {
+        return of(new TagDictionary(), recipes, Recipe::getTags);
+    }
+
+    /**
+     * Indexes the {@code dietaryRestrictions} of each recipe over the shared dictionary, which suits their small,
+     * bounded vocabulary.
+     */
+    public static TagIndex dietaryRestrictions(List<Recipe> recipes) {
+        return of(TagDictionary.shared(), recipes, Recipe::getDietaryRestrictions);
+    }
+
+    /**
+     * Indexes one list of tags per element; null elements and null lists become empty rows.
+     */
+    public static <T> TagIndex of(TagDictionary dictionary, List<T> elements, Function<T, ? extends Collection<String>> tags) {
+        TagSet[] rows = new TagSet[elements.size()];
+        TagSet empty = TagSet.empty(dictionary);
+        for (int row = 0; row < rows.length; row++) {
+            T element = elements.get(row);
+            rows[row] = element == null ? empty : TagSet.of(dictionary, tags.apply(element));
+        }
+        return new TagIndex(dictionary, rows);
+    }
+
+    public TagDictionary dictionary() {
+        return dictionary;
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public TagSet get(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Returns the rows that have every one of {@code tags}. An empty query matches every row.
+     */
+    public int[] rowsWithAll(Collection<String> tags) {
+        TagSet query = TagSet.query(dictionary, tags, true);
+        if (query == null) {
+            return NO_ROWS;
+        }
+        long[] required = query.words();
+        int[] matches = new int[rows.length];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            matches[count] = row;
+            count += containsAll(rows[row].words(), required) ? 1 : 0;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Narrows {@code rows}, e.g. the result of another filter, to those that have every one of {@code tags}.
+     */
+    public int[] rowsWithAll(Collection<String> tags, int[] rows) {
+        TagSet query = TagSet.query(dictionary, tags, true);
+        if (query == null) {
+            return NO_ROWS;
+        }
+        long[] required = query.words();
+        int[] matches = new int[rows.length];
+        int count = 0;
+        for (int row : rows) {
+            matches[count] = row;
+            count += containsAll(this.rows[row].words(), required) ? 1 : 0;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Returns the rows that have at least one of {@code tags}.
+     */
+    public int[] rowsWithAny(Collection<String> tags) {
+        long[] wanted = TagSet.query(dictionary, tags, false).words();
+        if (wanted.length == 0) {
+            return NO_ROWS;
+        }
+        int[] matches = new int[rows.length];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            matches[count] = row;
+            count += intersects(rows[row].words(), wanted) ? 1 : 0;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Returns the rows that have none of {@code tags}, e.g. to exclude recipes tagged with an allergen.
+     */
+    public int[] rowsWithNone(Collection<String> tags) {
+        long[] excluded = TagSet.query(dictionary, tags, false).words();
+        int[] matches = new int[rows.length];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            matches[count] = row;
+            count += intersects(rows[row].words(), excluded) ? 0 : 1;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Returns how many rows have each tag, indexed by dictionary id, for facet counts.
+     */
+    public int[] counts() {
+        int[] counts = new int[dictionary.size()];
+        for (TagSet row : rows) {
+            long[] words = row.words();
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    counts[(i << 6) + Long.numberOfTrailingZeros(word)]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static boolean containsAll(long[] words, long[] required) {
+        if (required.length > words.length) {
+            return false;
+        }
+        long missing = 0;
+        for (int i = 0; i < required.length; i++) {
+            missing |= required[i] & ~words[i];
+        }
+        return missing == 0;
+    }
+
+    private static boolean intersects(long[] words, long[] wanted) {
+        int n = Math.min(words.length, wanted.length);
+        long common = 0;
+        for (int i = 0; i < n; i++) {
+            common |= words[i] & wanted[i];
+        }
+        return common != 0;
+    }
+}
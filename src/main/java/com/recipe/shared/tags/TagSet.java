@@ -0,0 +1,240 @@
+package com.recipe.shared.tags;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable set of tags stored as a bitset over the ids of a {@link TagDictionary}: bit {@code id} of word
+ * {@code id / 64} is set when the tag is present. Membership is a single word test, and {@link #containsAll(TagSet)}
+ * and {@link #intersects(TagSet)} compare 64 tags per step.
+ * <p>
+ * Sets only combine with sets from the same dictionary. {@link #asList()} gives the usual {@code List<String>} view,
+ * in id order, backed by the dictionary's interned strings.
+ */
+public final class TagSet {
+
+    private static final long[] NO_WORDS = new long[0];
+
+    private final TagDictionary dictionary;
+    // No trailing zero words, so equal sets have equal arrays
+    private final long[] words;
+    private List<String> list;
+
+    private TagSet(TagDictionary dictionary, long[] words) {
+        this.dictionary = dictionary;
+        this.words = words;
+    }
+
+    /**
+     * Returns an empty set over a dictionary.
+     */
+    public static TagSet empty(TagDictionary dictionary) {
+        return new TagSet(dictionary, NO_WORDS);
+    }
+
+    /**
+     * Creates a set over the {@link TagDictionary#shared() shared dictionary}, which is meant for bounded vocabularies;
+     * null or an empty collection gives an empty set, and null elements are skipped.
+     */
+    public static TagSet of(Collection<String> tags) {
+        return of(TagDictionary.shared(), tags);
+    }
+
+    /**
+     * Creates a set, assigning ids to tags the dictionary does not know yet; null or an empty collection gives an
+     * empty set, and null elements are skipped.
+     */
+    public static TagSet of(TagDictionary dictionary, Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return empty(dictionary);
+        }
+        long[] words = NO_WORDS;
+        for (String tag : tags) {
+            if (tag != null) {
+                int id = dictionary.id(tag);
+                int word = id >>> 6;
+                if (word >= words.length) {
+                    words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+                }
+                words[word] |= 1L << id;
+            }
+        }
+        return new TagSet(dictionary, trim(words));
+    }
+
+    /**
+     * Creates a set for a query: tags the dictionary does not know are not added to it. Returns null if
+     * {@code requireAll} is set and any tag is unknown, since then no set can contain them all.
+     */
+    static TagSet query(TagDictionary dictionary, Collection<String> tags, boolean requireAll) {
+        long[] words = NO_WORDS;
+        for (String tag : tags) {
+            int id = tag == null ? TagDictionary.NOT_FOUND : dictionary.find(tag);
+            if (id == TagDictionary.NOT_FOUND) {
+                if (requireAll) {
+                    return null;
+                }
+                continue;
+            }
+            int word = id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << id;
+        }
+        return new TagSet(dictionary, trim(words));
+    }
+
+    public TagDictionary dictionary() {
+        return dictionary;
+    }
+
+    public boolean contains(String tag) {
+        int id = tag == null ? TagDictionary.NOT_FOUND : dictionary.find(tag);
+        return id != TagDictionary.NOT_FOUND && contains(id);
+    }
+
+    /**
+     * Returns whether the tag with this dictionary id is in the set.
+     */
+    public boolean contains(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & 1L << id) != 0;
+    }
+
+    /**
+     * Returns whether every tag of {@code other} is in this set.
+     */
+    public boolean containsAll(TagSet other) {
+        check(other);
+        long[] required = other.words;
+        if (required.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < required.length; i++) {
+            if ((words[i] & required[i]) != required[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether this set and {@code other} have a tag in common.
+     */
+    public boolean intersects(TagSet other) {
+        check(other);
+        int n = Math.min(words.length, other.words.length);
+        for (int i = 0; i < n; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public TagSet and(TagSet other) {
+        check(other);
+        long[] result = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new TagSet(dictionary, trim(result));
+    }
+
+    public TagSet or(TagSet other) {
+        check(other);
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] |= shorter[i];
+        }
+        return new TagSet(dictionary, result);
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * Returns the ids in the set, in increasing order.
+     */
+    public int[] ids() {
+        int[] ids = new int[size()];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                ids[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns an unmodifiable list of the tags in id order, which is the order the dictionary first saw them.
+     */
+    public List<String> asList() {
+        List<String> view = list;
+        if (view == null) {
+            int[] ids = ids();
+            view = new AbstractList<>() {
+                @Override
+                public String get(int index) {
+                    return dictionary.name(ids[index]);
+                }
+
+                @Override
+                public int size() {
+                    return ids.length;
+                }
+            };
+            list = view;
+        }
+        return view;
+    }
+
+    // Used by TagIndex for its word-parallel scans
+    long[] words() {
+        return words;
+    }
+
+    private void check(TagSet other) {
+        if (other.dictionary != dictionary) {
+            throw new IllegalArgumentException("Tag sets from different dictionaries cannot be combined");
+        }
+    }
+
+    private static long[] trim(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == words.length ? words : Arrays.copyOf(words, length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TagSet other && other.dictionary == dictionary && Arrays.equals(other.words, words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+}
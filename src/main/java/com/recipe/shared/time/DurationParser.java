@@ -0,0 +1,340 @@
+package com.recipe.shared.time;
+
+/**
+ * Parses human-written cooking times such as {@code "15 minutes"}, {@code "1 hr 15 mins"}, {@code "1h15m"},
+ * {@code "1 1/2 hours"}, {@code "1½ hrs"}, {@code "an hour and a half"}, {@code "1:30"} or {@code "PT1H30M"} into
+ * whole minutes.
+ * <p>
+ * The text is scanned once, character by character, without regular expressions or intermediate strings. A range
+ * such as {@code "45-60 minutes"} or {@code "1 to 2 hours"} yields its upper bound, so time filters never
+ * under-estimate. A number without a unit counts as minutes, or as the next smaller unit after one
+ * ({@code "1 hour 15"}). Words the parser does not know, like {@code "about"} or {@code "and"}, are ignored.
+ */
+public final class DurationParser {
+
+    /**
+     * Returned by {@link #parseMinutes(CharSequence)} when the text holds no duration.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final int SECOND = 1;
+    private static final int MINUTE = 60;
+    private static final int HOUR = 60 * MINUTE;
+    private static final int DAY = 24 * HOUR;
+
+    // Largest value accepted for a single number, well beyond any cooking time but safe from overflow
+    private static final double MAX_NUMBER = 1e9;
+
+    private DurationParser() {}
+
+    /**
+     * Returns the duration in minutes, rounded to the nearest minute, or {@link #UNKNOWN} if the text is null or
+     * holds no duration.
+     */
+    public static int parseMinutes(CharSequence text) {
+        if (text == null) {
+            return UNKNOWN;
+        }
+        int length = text.length();
+        int start = 0;
+        while (start < length && isSpace(text.charAt(start))) {
+            start++;
+        }
+        double seconds = isIso(text, start) ? parseIso(text, start + 1, length) : parseText(text, start, length);
+        if (seconds < 0 || seconds / MINUTE > Integer.MAX_VALUE) {
+            return UNKNOWN;
+        }
+        return (int) Math.round(seconds / MINUTE);
+    }
+
+    /**
+     * Formats minutes the way recipes spell them: {@code "45 minutes"}, {@code "1 hour"}, {@code "1 hour 15 minutes"}.
+     */
+    public static String formatMinutes(int minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Negative duration: " + minutes);
+        }
+        int hours = minutes / 60;
+        int rest = minutes % 60;
+        StringBuilder text = new StringBuilder(20);
+        if (hours > 0) {
+            text.append(hours).append(hours == 1 ? " hour" : " hours");
+        }
+        if (rest > 0 || hours == 0) {
+            if (hours > 0) {
+                text.append(' ');
+            }
+            text.append(rest).append(rest == 1 ? " minute" : " minutes");
+        }
+        return text.toString();
+    }
+
+    private static double parseText(CharSequence text, int i, int length) {
+        double total = 0;
+        boolean found = false;
+        double pending = -1;         // number waiting for its unit, or -1
+        boolean pendingArticle = false;
+        boolean pendingFraction = false;
+        int lastUnit = 0;            // unit of the previous component, in seconds
+
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isDigit(c) || fraction(c) > 0 || (c == '.' && i + 1 < length && isDigit(text.charAt(i + 1)))) {
+                // Number: integer or decimal, optionally "a/b", a unicode fraction, or "h:mm"
+                double value = 0;
+                boolean isFraction = false;
+                int digits = 0;
+                for (; i < length && isDigit(c = text.charAt(i)); i++) {
+                    value = Math.min(MAX_NUMBER, value * 10 + (c - '0'));
+                    digits++;
+                }
+                if (i + 1 < length && c == '.' && isDigit(text.charAt(i + 1))) {
+                    double scale = 1;
+                    for (i++; i < length && isDigit(c = text.charAt(i)); i++) {
+                        scale /= 10;
+                        value += (c - '0') * scale;
+                    }
+                } else if (digits > 0 && i + 1 < length && c == '/' && isDigit(text.charAt(i + 1))) {
+                    double denominator = 0;
+                    for (i++; i < length && isDigit(c = text.charAt(i)); i++) {
+                        denominator = Math.min(MAX_NUMBER, denominator * 10 + (c - '0'));
+                    }
+                    if (denominator == 0) {
+                        return UNKNOWN;
+                    }
+                    value /= denominator;
+                    isFraction = true;
+                } else if (digits > 0 && i + 2 < length && c == ':' && isDigit(text.charAt(i + 1)) && isDigit(text.charAt(i + 2))
+                        && (i + 3 == length || !isDigit(text.charAt(i + 3)))) {
+                    // h:mm is a complete duration on its own
+                    total += value * HOUR + ((text.charAt(i + 1) - '0') * 10 + (text.charAt(i + 2) - '0')) * MINUTE;
+                    found = true;
+                    pending = -1;
+                    lastUnit = MINUTE;
+                    i += 3;
+                    continue;
+                }
+                if (i < length && fraction(text.charAt(i)) > 0) {
+                    value += fraction(text.charAt(i++));
+                    isFraction = digits == 0;
+                }
+                if (pending >= 0 && !pendingArticle && isFraction && !pendingFraction) {
+                    // Mixed number such as "1 1/2"
+                    pending += value;
+                } else {
+                    pending = value;
+                }
+                pendingArticle = false;
+                pendingFraction = isFraction;
+            } else if (isLetter(c)) {
+                int end = i + 1;
+                while (end < length && isLetter(text.charAt(end))) {
+                    end++;
+                }
+                int unit = unit(text, i, end);
+                double number;
+                if (unit > 0) {
+                    if (pending >= 0) {
+                        total += pending * unit;
+                        found = true;
+                        lastUnit = unit;
+                    }
+                    pending = -1;
+                    pendingArticle = false;
+                } else if (is(text, i, end, "half")) {
+                    if (pending >= 0 && !pendingArticle) {
+                        pending += 0.5;
+                    } else if (lastUnit > 0) {
+                        // "an hour and a half"
+                        total += 0.5 * lastUnit;
+                        pending = -1;
+                        pendingArticle = false;
+                    } else {
+                        pending = 0.5;
+                        pendingArticle = false;
+                    }
+                } else if (is(text, i, end, "a") || is(text, i, end, "an")) {
+                    if (pending < 0) {
+                        pending = 1;
+                        pendingArticle = true;
+                    }
+                } else if (is(text, i, end, "to") || is(text, i, end, "or")) {
+                    // Between two numbers the second replaces the first; after a complete duration, start over
+                    if (pending < 0) {
+                        total = 0;
+                        lastUnit = 0;
+                    }
+                } else if ((number = numberWord(text, i, end)) > 0) {
+                    pending = number;
+                    pendingArticle = false;
+                    pendingFraction = false;
+                } else if (pendingArticle) {
+                    // "a few minutes" is not one minute
+                    pending = -1;
+                    pendingArticle = false;
+                }
+                i = end;
+            } else if (c == '-' || c == '–' || c == '—') {
+                if (pending < 0 && found) {
+                    // "1 hour - 1 hour 30 minutes": start over for the upper bound
+                    total = 0;
+                    lastUnit = 0;
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+
+        if (pending >= 0 && !pendingArticle) {
+            // A trailing bare number: minutes, or the unit after the previous one ("1 hour 15", "5 min 30")
+            total += pending * (lastUnit == 0 ? MINUTE : smaller(lastUnit));
+            found = true;
+        }
+        return found ? total : UNKNOWN;
+    }
+
+    /**
+     * ISO-8601 durations as produced by some models: {@code PnDTnHnMnS}. Years, months and weeks are not cooking times.
+     */
+    private static double parseIso(CharSequence text, int i, int length) {
+        double total = 0;
+        boolean time = false;
+        boolean found = false;
+        while (i < length) {
+            char c = Character.toUpperCase(text.charAt(i));
+            if (c == 'T' && !time) {
+                time = true;
+                i++;
+                continue;
+            }
+            if (!isDigit(c)) {
+                return UNKNOWN;
+            }
+            double value = 0;
+            for (; i < length && isDigit(c = text.charAt(i)); i++) {
+                value = Math.min(MAX_NUMBER, value * 10 + (c - '0'));
+            }
+            if (i < length && (c == '.' || c == ',')) {
+                double scale = 1;
+                for (i++; i < length && isDigit(c = text.charAt(i)); i++) {
+                    scale /= 10;
+                    value += (c - '0') * scale;
+                }
+            }
+            if (i == length) {
+                return UNKNOWN;
+            }
+            int unit = switch (Character.toUpperCase(text.charAt(i++))) {
+                case 'D' -> time ? 0 : DAY;
+                case 'H' -> time ? HOUR : 0;
+                case 'M' -> time ? MINUTE : 0;
+                case 'S' -> time ? SECOND : 0;
+                default -> 0;
+            };
+            if (unit == 0) {
+                return UNKNOWN;
+            }
+            total += value * unit;
+            found = true;
+        }
+        return found ? total : UNKNOWN;
+    }
+
+    private static boolean isIso(CharSequence text, int i) {
+        if (i + 1 >= text.length()) {
+            return false;
+        }
+        char p = text.charAt(i);
+        char next = text.charAt(i + 1);
+        return (p == 'P' || p == 'p') && (next == 'T' || next == 't' || isDigit(next));
+    }
+
+    /**
+     * Returns the unit's length in seconds, or 0 if the word is not a unit.
+     */
+    private static int unit(CharSequence text, int start, int end) {
+        switch (Character.toLowerCase(text.charAt(start))) {
+            case 'd':
+                return is(text, start, end, "d") || is(text, start, end, "day") || is(text, start, end, "days") ? DAY : 0;
+            case 'h':
+                return is(text, start, end, "h") || is(text, start, end, "hr") || is(text, start, end, "hrs")
+                        || is(text, start, end, "hour") || is(text, start, end, "hours") ? HOUR : 0;
+            case 'm':
+                return is(text, start, end, "m") || is(text, start, end, "min") || is(text, start, end, "mins")
+                        || is(text, start, end, "minute") || is(text, start, end, "minutes") ? MINUTE : 0;
+            case 's':
+                return is(text, start, end, "s") || is(text, start, end, "sec") || is(text, start, end, "secs")
+                        || is(text, start, end, "second") || is(text, start, end, "seconds") ? SECOND : 0;
+            default:
+                return 0;
+        }
+    }
+
+    private static int smaller(int unit) {
+        return switch (unit) {
+            case DAY -> HOUR;
+            case HOUR -> MINUTE;
+            default -> SECOND;
+        };
+    }
+
+    private static final String[] NUMBER_WORDS = {
+        "zero", "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", "eleven", "twelve"
+    };
+
+    private static double numberWord(CharSequence text, int start, int end) {
+        for (int n = 1; n < NUMBER_WORDS.length; n++) {
+            if (is(text, start, end, NUMBER_WORDS[n])) {
+                return n;
+            }
+        }
+        if (is(text, start, end, "fifteen")) return 15;
+        if (is(text, start, end, "twenty")) return 20;
+        if (is(text, start, end, "thirty")) return 30;
+        if (is(text, start, end, "forty")) return 40;
+        if (is(text, start, end, "fifty")) return 50;
+        if (is(text, start, end, "sixty")) return 60;
+        if (is(text, start, end, "ninety")) return 90;
+        return 0;
+    }
+
+    private static double fraction(char c) {
+        return switch (c) {
+            case '½' -> 0.5;
+            case '¼' -> 0.25;
+            case '¾' -> 0.75;
+            case '⅓' -> 1.0 / 3;
+            case '⅔' -> 2.0 / 3;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Case-insensitive comparison of {@code text[start, end)} with a lower-case ASCII word.
+     */
+    private static boolean is(CharSequence text, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = text.charAt(start + i);
+            if (c != word.charAt(i) && (c | 0x20) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c | 0x20) >= 'a' && (c | 0x20) <= 'z';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
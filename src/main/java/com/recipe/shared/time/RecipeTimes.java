@@ -0,0 +1,90 @@
+package com.recipe.shared.time;
+
+import com.recipe.shared.model.Recipe;
+
+/**
+ * Reconciles a recipe's human-readable times ({@code prepTime}, {@code cookTime}, {@code totalTime}) with its minute
+ * fields, which models often fill only one of.
+ */
+public final class RecipeTimes {
+
+    private RecipeTimes() {}
+
+    /**
+     * Fills whichever side of each time is missing: minute fields from parsable strings, and strings from minute
+     * fields (as {@code "1 hour 15 minutes"}). A missing total is taken from {@code totalTime}, or else computed as
+     * prep plus cook time. Values that are already set are never changed.
+     *
+     * @return true if the recipe was changed
+     */
+    public static boolean normalizeTimes(Recipe recipe) {
+        boolean changed = false;
+
+        Integer prep = recipe.getPrepTimeMinutes();
+        if (prep == null && (prep = minutes(recipe.getPrepTime())) != null) {
+            recipe.setPrepTimeMinutes(prep);
+            changed = true;
+        }
+        Integer cook = recipe.getCookTimeMinutes();
+        if (cook == null && (cook = minutes(recipe.getCookTime())) != null) {
+            recipe.setCookTimeMinutes(cook);
+            changed = true;
+        }
+        Integer total = recipe.getTotalTimeMinutes();
+        if (total == null && (total = totalMinutes(recipe)) != null) {
+            recipe.setTotalTimeMinutes(total);
+            changed = true;
+        }
+
+        if (recipe.getPrepTime() == null && prep != null && prep >= 0) {
+            recipe.setPrepTime(DurationParser.formatMinutes(prep));
+            changed = true;
+        }
+        if (recipe.getCookTime() == null && cook != null && cook >= 0) {
+            recipe.setCookTime(DurationParser.formatMinutes(cook));
+            changed = true;
+        }
+        if (recipe.getTotalTime() == null && total != null && total >= 0) {
+            recipe.setTotalTime(DurationParser.formatMinutes(total));
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Normalizes every recipe; see {@link #normalizeTimes(Recipe)}.
+     *
+     * @return the number of recipes that were changed
+     */
+    public static int normalizeTimes(Iterable<? extends Recipe> recipes) {
+        int changed = 0;
+        for (Recipe recipe : recipes) {
+            if (normalizeTimes(recipe)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the total time in minutes: {@code totalTimeMinutes}, else the parsed {@code totalTime}, else prep plus
+     * cook time, each taken from its minute field or parsed from its string. Returns null if none of these is known.
+     */
+    public static Integer totalMinutes(Recipe recipe) {
+        if (recipe.getTotalTimeMinutes() != null) {
+            return recipe.getTotalTimeMinutes();
+        }
+        Integer total = minutes(recipe.getTotalTime());
+        if (total != null) {
+            return total;
+        }
+        Integer prep = recipe.getPrepTimeMinutes() != null ? recipe.getPrepTimeMinutes() : minutes(recipe.getPrepTime());
+        Integer cook = recipe.getCookTimeMinutes() != null ? recipe.getCookTimeMinutes() : minutes(recipe.getCookTime());
+        return prep != null && cook != null ? prep + cook : null;
+    }
+
+    private static Integer minutes(String text) {
+        int minutes = DurationParser.parseMinutes(text);
+        return minutes == DurationParser.UNKNOWN ? null : minutes;
+    }
+}
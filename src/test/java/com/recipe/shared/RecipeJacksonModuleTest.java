@@ -0,0 +1,166 @@
+package com.recipe.shared;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RecipeJacksonModuleTest {
+
+    private static ObjectMapper defaultMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    private static ObjectMapper moduleMapper() {
+        return defaultMapper().registerModule(new RecipeJacksonModule());
+    }
+
+    private static Recipe fullRecipe() {
+        Map<String, Object> imageGeneration = new HashMap<>();
+        imageGeneration.put("status", "complete");
+        imageGeneration.put("attempts", 2);
+        return Recipe.builder()
+                .id("recipe-1")
+                .userId("user-1")
+                .recipeName("Carbonara \"classic\"")
+                .description("")
+                .ingredients(Arrays.asList("400g spaghetti", null, "200g pancetta"))
+                .instructions(List.of())
+                .prepTimeMinutes(10)
+                .cookTimeMinutes(0)
+                .servings(4)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(420.5).protein(0.0).build())
+                        .build())
+                .tips(RecipeTips.builder().makeAhead("Grate the cheese ahead").variations(List.of("Vegetarian")).build())
+                .source("manual")
+                .createdAt(Instant.parse("2024-01-01T10:00:00.5Z"))
+                .tags(List.of("pasta", "ünïcödé"))
+                .publicRecipe(true)
+                .imageGeneration(imageGeneration)
+                .build();
+    }
+
+    private static List<Object> samples() {
+        return List.of(fullRecipe(), new Recipe(), new RecipeTips(), new NutritionalInfo(), new NutritionValues());
+    }
+
+    @Test
+    public void testModuleReplacesBeanSerializers() throws Exception {
+        ObjectMapper mapper = moduleMapper();
+        Assertions.assertInstanceOf(ModelJson.RecipeSerializer.class,
+                mapper.getSerializerProviderInstance().findValueSerializer(Recipe.class, null));
+        Assertions.assertInstanceOf(ModelJson.NutritionValuesSerializer.class,
+                mapper.getSerializerProviderInstance().findValueSerializer(NutritionValues.class, null));
+
+        DeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), null, null);
+        Assertions.assertInstanceOf(ModelJson.RecipeDeserializer.class, ctxt.findRootValueDeserializer(mapper.constructType(Recipe.class)));
+        Assertions.assertInstanceOf(ModelJson.RecipeTipsDeserializer.class, ctxt.findRootValueDeserializer(mapper.constructType(RecipeTips.class)));
+    }
+
+    @Test
+    public void testSerializationMatchesDefaultOutput() throws Exception {
+        assertSameOutput(defaultMapper(), moduleMapper());
+    }
+
+    @Test
+    public void testSerializationHonorsInclusion() throws Exception {
+        for (JsonInclude.Include inclusion : JsonInclude.Include.values()) {
+            if (inclusion == JsonInclude.Include.CUSTOM) {
+                continue;
+            }
+            assertSameOutput(defaultMapper().setSerializationInclusion(inclusion),
+                    moduleMapper().setSerializationInclusion(inclusion));
+        }
+    }
+
+    @Test
+    public void testUnsupportedConfigurationFallsBackToDefaults() throws Exception {
+        assertSameOutput(defaultMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+                moduleMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+
+        ObjectMapper snakeCase = moduleMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        String json = snakeCase.writeValueAsString(fullRecipe());
+        Assertions.assertTrue(json.contains("\"user_id\""));
+        Assertions.assertEquals(fullRecipe(), snakeCase.readValue(json, Recipe.class));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ObjectMapper mapper = moduleMapper();
+        for (Object sample : samples()) {
+            Assertions.assertEquals(sample, mapper.readValue(mapper.writeValueAsBytes(sample), sample.getClass()));
+        }
+    }
+
+    @Test
+    public void testDeserializationMatchesDefault() throws Exception {
+        String json = "{\"isPublic\":true,\"servings\":\"4\",\"recipeName\":\"Soup\",\"tags\":\"single\","
+                + "\"nutritionalInfo\":{\"total\":{\"sodium\":2,\"fat\":1.5}},\"prepTimeMinutes\":12.0,"
+                + "\"servingsAsInt\":4,\"ingredients\":[\"salt\",null,3],\"createdAt\":\"2024-01-01T10:00:00Z\","
+                + "\"tips\":null,\"imageGeneration\":{\"nested\":{\"a\":[1,2]}},\"id\":\"r-1\"}";
+        ObjectMapper defaults = defaultMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        ObjectMapper module = moduleMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+
+        Recipe expected = defaults.readValue(json, Recipe.class);
+        Recipe actual = module.readValue(json, Recipe.class);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(List.of("single"), actual.getTags());
+        Assertions.assertEquals(4, actual.getServings());
+        Assertions.assertEquals(2.0, actual.getNutritionalInfo().getTotal().getSodium());
+    }
+
+    @Test
+    public void testUnknownPropertiesFollowMapperConfiguration() throws Exception {
+        String json = "{\"recipeName\":\"Soup\",\"rating\":{\"stars\":5}}";
+        Assertions.assertThrows(UnrecognizedPropertyException.class, () -> moduleMapper().readValue(json, Recipe.class));
+
+        Recipe recipe = moduleMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json, Recipe.class);
+        Assertions.assertEquals("Soup", recipe.getRecipeName());
+    }
+
+    @Test
+    public void testOutOfOrderAndRepeatedProperties() throws Exception {
+        ObjectMapper mapper = moduleMapper();
+        String json = "{\"variations\":[\"b\"],\"substitutions\":[\"a\"],\"storage\":\"cold\",\"storage\":\"frozen\"}";
+        RecipeTips tips = mapper.readValue(json, RecipeTips.class);
+        Assertions.assertEquals(defaultMapper().readValue(json, RecipeTips.class), tips);
+        Assertions.assertEquals("frozen", tips.getStorage());
+    }
+
+    @Test
+    public void testListsOfModels() throws Exception {
+        List<Recipe> recipes = new ArrayList<>(List.of(fullRecipe(), new Recipe()));
+        String expected = defaultMapper().writeValueAsString(recipes);
+        Assertions.assertEquals(expected, moduleMapper().writeValueAsString(recipes));
+        Assertions.assertEquals(recipes, Arrays.asList(moduleMapper().readValue(expected, Recipe[].class)));
+    }
+
+    private static void assertSameOutput(ObjectMapper defaults, ObjectMapper module) throws Exception {
+        for (Object sample : samples()) {
+            Assertions.assertEquals(defaults.writeValueAsString(sample), module.writeValueAsString(sample));
+            Assertions.assertEquals(defaults.writerWithDefaultPrettyPrinter().writeValueAsString(sample),
+                    module.writerWithDefaultPrettyPrinter().writeValueAsString(sample));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.recipe.shared.codec;
+
+import com.google.cloud.Timestamp;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeFirestoreCodec;
+import com.recipe.shared.model.RecipeTips;
+import com.recipe.shared.model.RecipeTipsFirestoreCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FirestoreCodecTest {
+
+    private static final String SAMPLE_SOURCE = String.join("\n",
+            "package sample;",
+            "import com.google.cloud.firestore.annotation.PropertyName;",
+            "import com.recipe.shared.codec.GenerateFirestoreCodec;",
+            "import java.util.List;",
+            "@GenerateFirestoreCodec",
+            "public class Menu {",
+            "    public enum Course { STARTER, MAIN }",
+            "    @GenerateFirestoreCodec",
+            "    public static class Dish {",
+            "        private String name;",
+            "        public String getName() { return name; }",
+            "        public void setName(String name) { this.name = name; }",
+            "    }",
+            "    @PropertyName(\"menu_id\") private long id;",
+            "    private boolean isActive;",
+            "    private Course course;",
+            "    private List<Course> courses;",
+            "    private List<Dish> dishes;",
+            "    private transient String cache;",
+            "    public long getId() { return id; }",
+            "    public void setId(long id) { this.id = id; }",
+            "    public boolean isActive() { return isActive; }",
+            "    public void setActive(boolean active) { this.isActive = active; }",
+            "    public Course getCourse() { return course; }",
+            "    public void setCourse(Course course) { this.course = course; }",
+            "    public List<Course> getCourses() { return courses; }",
+            "    public void setCourses(List<Course> courses) { this.courses = courses; }",
+            "    public List<Dish> getDishes() { return dishes; }",
+            "    public void setDishes(List<Dish> dishes) { this.dishes = dishes; }",
+            "}");
+
+    private static Recipe fullRecipe() {
+        NutritionValues perServing = NutritionValues.builder().calories(420.0).protein(18.5).sodium(0.6).build();
+        Map<String, Object> imageGeneration = new HashMap<>();
+        imageGeneration.put("status", "complete");
+        return Recipe.builder()
+                .id("recipe-1")
+                .userId("user-1")
+                .recipeName("Carbonara")
+                .description("Classic Roman pasta")
+                .ingredients(List.of("400g spaghetti", "200g pancetta"))
+                .instructions(List.of("Boil pasta", "Fry pancetta"))
+                .prepTimeMinutes(10)
+                .cookTimeMinutes(15)
+                .totalTimeMinutes(25)
+                .prepTime("10 minutes")
+                .cookTime("15 minutes")
+                .totalTime("25 minutes")
+                .servings(4)
+                .nutritionalInfo(NutritionalInfo.builder().perServing(perServing).build())
+                .tips(RecipeTips.builder()
+                        .substitutions(List.of("Use guanciale"))
+                        .makeAhead("Grate the cheese ahead")
+                        .storage("Best eaten fresh")
+                        .reheating("Loosen with pasta water")
+                        .build())
+                .imageUrl("https://example.com/carbonara.png")
+                .source("manual")
+                .createdAt(Instant.parse("2024-01-01T10:00:00.123456789Z"))
+                .updatedAt(Instant.parse("2024-01-02T10:00:00Z"))
+                .tags(List.of("pasta"))
+                .dietaryRestrictions(List.of())
+                .publicRecipe(true)
+                .imageGeneration(imageGeneration)
+                .build();
+    }
+
+    @Test
+    public void testRoundTripIsLossless() {
+        Recipe recipe = fullRecipe();
+        Assertions.assertEquals(recipe, RecipeFirestoreCodec.decode(RecipeFirestoreCodec.encode(recipe)));
+        Assertions.assertEquals(new Recipe(), RecipeFirestoreCodec.decode(RecipeFirestoreCodec.encode(new Recipe())));
+    }
+
+    @Test
+    public void testEncodeUsesFirestoreNamesAndTypes() {
+        Map<String, Object> map = RecipeFirestoreCodec.encode(fullRecipe());
+        Assertions.assertEquals(Boolean.TRUE, map.get("isPublic"));
+        Assertions.assertFalse(map.containsKey("publicRecipe"));
+        Assertions.assertEquals(Timestamp.ofTimeSecondsAndNanos(1704103200L, 123456789), map.get("createdAt"));
+
+        Map<?, ?> tips = (Map<?, ?>) map.get("tips");
+        Assertions.assertEquals("Grate the cheese ahead", tips.get("makeAhead"));
+        Assertions.assertEquals("Best eaten fresh", tips.get("storage"));
+        Assertions.assertEquals("Loosen with pasta water", tips.get("reheating"));
+        Assertions.assertTrue(tips.containsKey("variations"));
+        Assertions.assertNull(tips.get("variations"));
+
+        Map<?, ?> perServing = (Map<?, ?>) ((Map<?, ?>) map.get("nutritionalInfo")).get("perServing");
+        Assertions.assertEquals(420.0, perServing.get("calories"));
+    }
+
+    @Test
+    public void testDecodeConvertsFirestoreValues() {
+        Map<String, Object> tips = new HashMap<>();
+        tips.put("makeAhead", "Chill overnight");
+        Map<String, Object> perServing = new HashMap<>();
+        perServing.put("calories", 300L);
+        Map<String, Object> map = new HashMap<>();
+        map.put("servings", 4L);
+        map.put("isPublic", true);
+        map.put("updatedAt", Timestamp.ofTimeSecondsAndNanos(1704103200L, 500));
+        map.put("tips", tips);
+        map.put("nutritionalInfo", Map.of("perServing", perServing));
+        map.put("ingredients", new ArrayList<>(List.of("flour")));
+        map.put("servingsAsInt", 4L);
+
+        Recipe recipe = RecipeFirestoreCodec.decode(map);
+
+        Assertions.assertEquals(4, recipe.getServings());
+        Assertions.assertTrue(recipe.isPublicRecipe());
+        Assertions.assertEquals(Instant.ofEpochSecond(1704103200L, 500), recipe.getUpdatedAt());
+        Assertions.assertEquals("Chill overnight", recipe.getTips().getMakeAhead());
+        Assertions.assertEquals(300.0, recipe.getNutritionalInfo().getPerServing().getCalories());
+        Assertions.assertEquals(List.of("flour"), recipe.getIngredients());
+        Assertions.assertNull(recipe.getTags());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEncodeAndDecodeCopyListsAndMaps() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("sizes", new ArrayList<>(List.of(512L)));
+        Map<String, Object> imageGeneration = new HashMap<>();
+        imageGeneration.put("options", options);
+        Recipe recipe = fullRecipe();
+        recipe.setTags(new ArrayList<>(List.of("pasta")));
+        recipe.setImageGeneration(imageGeneration);
+
+        Map<String, Object> encoded = RecipeFirestoreCodec.encode(recipe);
+        Assertions.assertNotSame(recipe.getTags(), encoded.get("tags"));
+        Assertions.assertNotSame(recipe.getIngredients(), encoded.get("ingredients"));
+        Assertions.assertNotSame(imageGeneration, encoded.get("imageGeneration"));
+        recipe.getTags().add("quick");
+        options.put("style", "photo");
+        ((List<Object>) options.get("sizes")).add(1024L);
+        Assertions.assertEquals(List.of("pasta"), encoded.get("tags"));
+        Assertions.assertEquals(Map.of("options", Map.of("sizes", List.of(512L))), encoded.get("imageGeneration"));
+
+        Recipe decoded = RecipeFirestoreCodec.decode(encoded);
+        decoded.getTags().add("dinner");
+        decoded.getInstructions().add("Serve");
+        ((Map<String, Object>) decoded.getImageGeneration().get("options")).put("style", "sketch");
+        Assertions.assertEquals(List.of("pasta"), encoded.get("tags"));
+        Assertions.assertEquals(List.of("Boil pasta", "Fry pancetta"), encoded.get("instructions"));
+        Assertions.assertEquals(Map.of("options", Map.of("sizes", List.of(512L))), encoded.get("imageGeneration"));
+    }
+
+    @Test
+    public void testDecodeRejectsMismatchedTypes() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("recipeName", 42L);
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> RecipeFirestoreCodec.decode(map));
+        Assertions.assertTrue(e.getMessage().contains("recipeName"));
+
+        map.clear();
+        map.put("servings", Long.MAX_VALUE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecipeFirestoreCodec.decode(map));
+
+        map.clear();
+        map.put("tags", List.of("ok", 1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecipeFirestoreCodec.decode(map));
+    }
+
+    @Test
+    public void testNullsEncodeAndDecodeAsNull() {
+        Assertions.assertNull(RecipeFirestoreCodec.encode(null));
+        Assertions.assertNull(RecipeFirestoreCodec.decode(null));
+        Assertions.assertNull(RecipeTipsFirestoreCodec.encode(null));
+    }
+
+    @Test
+    public void testProcessorHandlesEnumsListsAndRenames() throws Exception {
+        Path dir = Files.createTempDirectory("codec-processor");
+        Path source = dir.resolve("Menu.java");
+        Files.writeString(source, SAMPLE_SOURCE);
+        Assertions.assertEquals(0, compile(dir, source, new ByteArrayOutputStream()), "sample should compile with the codec processor");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> codec = loader.loadClass("sample.MenuFirestoreCodec");
+            Method decode = codec.getMethod("decode", Map.class);
+            Method encode = codec.getMethod("encode", loader.loadClass("sample.Menu"));
+
+            Map<String, Object> document = new HashMap<>();
+            document.put("menu_id", 7L);
+            document.put("isActive", true);
+            document.put("course", "MAIN");
+            document.put("courses", List.of("STARTER", "MAIN"));
+            document.put("dishes", List.of(Map.of("name", "Soup")));
+
+            Object menu = decode.invoke(null, document);
+            Assertions.assertEquals(document, encode.invoke(null, menu));
+        }
+    }
+
+    @Test
+    public void testProcessorRejectsUnsupportedTypes() throws Exception {
+        Path dir = Files.createTempDirectory("codec-processor");
+        Path source = dir.resolve("Plate.java");
+        Files.writeString(source, String.join("\n",
+                "package sample;",
+                "@com.recipe.shared.codec.GenerateFirestoreCodec",
+                "public class Plate {",
+                "    private java.util.Set<String> sides;",
+                "}"));
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        Assertions.assertNotEquals(0, compile(dir, source, errors));
+        Assertions.assertTrue(errors.toString().contains("sides"), errors.toString());
+    }
+
+    private static int compile(Path dir, Path source, ByteArrayOutputStream errors) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        return compiler.run(null, null, errors,
+                "-d", dir.toString(),
+                "-s", dir.toString(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", "com.recipe.shared.codec.processor.FirestoreCodecProcessor",
+                source.toString());
+    }
+}
@@ -0,0 +1,167 @@
+package com.recipe.shared.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WireCodecTest {
+
+    private static Recipe fullRecipe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("steps", 30);
+        settings.put("seed", 1L << 40);
+        settings.put("guidance", 7.5);
+        settings.put("precise", new BigDecimal("0.1000000000000000055511151231257827"));
+        settings.put("huge", new BigInteger("123456789012345678901234567890"));
+        Map<String, Object> imageGeneration = new LinkedHashMap<>();
+        imageGeneration.put("status", "COMPLETED");
+        imageGeneration.put("attempts", -2);
+        imageGeneration.put("retried", true);
+        imageGeneration.put("error", null);
+        imageGeneration.put("settings", settings);
+        imageGeneration.put("sizes", Arrays.asList(512, "large", null, List.of(false)));
+
+        return Recipe.builder()
+            .id("r-1")
+            .userId("u-1")
+            .recipeName("Crème brûlée 🍮")
+            .description("Custard with a é and an unpaired \ud800 surrogate")
+            .ingredients(Arrays.asList("4 egg yolks", null, "", "500ml cream"))
+            .instructions(List.of("Heat the cream", "Whisk", "Bake"))
+            .prepTimeMinutes(15)
+            .cookTimeMinutes(0)
+            .totalTimeMinutes(Integer.MIN_VALUE)
+            .prepTime("15 minutes")
+            .servings(4)
+            .nutritionalInfo(NutritionalInfo.builder()
+                .perServing(NutritionValues.builder().calories(350.5).protein(-0.0).fat(Double.NaN).build())
+                .total(NutritionValues.builder().sodium(1.0e-9).build())
+                .build())
+            .tips(RecipeTips.builder()
+                .substitutions(List.of("Use milk"))
+                .storage("Refrigerate")
+                .variations(new ArrayList<>())
+                .build())
+            .imageUrl("https://example.com/creme.png")
+            .source("manual")
+            .createdAt(Instant.ofEpochSecond(1_700_000_000L, 123_456_789))
+            .updatedAt(Instant.ofEpochSecond(-86_400L))
+            .tags(List.of("dessert", "french"))
+            .dietaryRestrictions(new ArrayList<>())
+            .publicRecipe(true)
+            .imageGeneration(imageGeneration)
+            .build();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Recipe recipe = fullRecipe();
+        byte[] bytes = ModelWireCodecs.RECIPE.encode(recipe);
+        Assertions.assertEquals(bytes.length, ModelWireCodecs.RECIPE.encodedSize(recipe));
+
+        Recipe decoded = ModelWireCodecs.RECIPE.decode(bytes);
+        // String.getBytes(UTF_8) replaces the unpaired surrogate the same way
+        recipe.setDescription(recipe.getDescription().replace('\ud800', '?'));
+        Assertions.assertEquals(recipe, decoded);
+        Assertions.assertNull(decoded.getCookTime());
+        Assertions.assertNull(decoded.getTips().getMakeAhead());
+        Assertions.assertTrue(decoded.getDietaryRestrictions().isEmpty());
+        Assertions.assertEquals(Long.class, ((Map<?, ?>) decoded.getImageGeneration().get("settings")).get("seed").getClass());
+    }
+
+    @Test
+    public void testAbsentFieldsTakeNoSpace() {
+        Assertions.assertEquals(0, ModelWireCodecs.RECIPE.encode(new Recipe()).length);
+        Assertions.assertEquals(new Recipe(), ModelWireCodecs.RECIPE.decode(new byte[0]));
+
+        // One-byte tag plus a one-byte zigzag varint
+        Assertions.assertEquals(2, ModelWireCodecs.RECIPE.encode(Recipe.builder().servings(4).build()).length);
+        Assertions.assertEquals(9, ModelWireCodecs.NUTRITION_VALUES.encode(NutritionValues.builder().fat(1.0).build()).length);
+    }
+
+    @Test
+    public void testSkipsUnknownFields() {
+        Recipe recipe = Recipe.builder().recipeName("Soup").servings(2).build();
+        byte[] known = ModelWireCodecs.RECIPE.encode(recipe);
+
+        // Fields 99 (varint), 100 (fixed64), 101 (length-delimited) and 102 (fixed32) from a newer writer
+        byte[] unknown = {
+            (byte) 0x98, 0x06, (byte) 0x96, 0x01,
+            (byte) 0xA1, 0x06, 1, 2, 3, 4, 5, 6, 7, 8,
+            (byte) 0xAA, 0x06, 3, 'a', 'b', 'c',
+            (byte) 0xB5, 0x06, 1, 2, 3, 4
+        };
+        byte[] bytes = Arrays.copyOf(known, known.length + unknown.length);
+        System.arraycopy(unknown, 0, bytes, known.length, unknown.length);
+
+        Assertions.assertEquals(recipe, ModelWireCodecs.RECIPE.decode(bytes));
+    }
+
+    @Test
+    public void testRejectsMalformedInput() {
+        byte[] bytes = ModelWireCodecs.RECIPE.encode(fullRecipe());
+        for (int length : new int[] {1, 4, bytes.length / 2, bytes.length - 1}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModelWireCodecs.RECIPE.decode(bytes, 0, length), "length " + length);
+        }
+        // servings (field 13) sent as a string
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ModelWireCodecs.RECIPE.decode(new byte[] {0x6A, 1, 'x'}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ModelWireCodecs.RECIPE.decode(new byte[] {0x00}));
+    }
+
+    @Test
+    public void testByteBuffers() {
+        Recipe recipe = fullRecipe();
+        recipe.setDescription("plain");
+        int size = ModelWireCodecs.RECIPE.encodedSize(recipe);
+
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(size + 10), ByteBuffer.allocateDirect(size + 10))) {
+            buffer.put((byte) 42);
+            ModelWireCodecs.RECIPE.encode(recipe, buffer);
+            Assertions.assertEquals(size + 1, buffer.position());
+
+            buffer.flip().position(1);
+            Assertions.assertEquals(recipe, ModelWireCodecs.RECIPE.decode(buffer));
+            Assertions.assertFalse(buffer.hasRemaining());
+        }
+
+        ByteBuffer small = ByteBuffer.allocate(size - 1);
+        Assertions.assertThrows(BufferOverflowException.class, () -> ModelWireCodecs.RECIPE.encode(recipe, small));
+        Assertions.assertEquals(0, small.position());
+    }
+
+    @Test
+    public void testSmallerThanJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Recipe recipe = fullRecipe();
+        recipe.getNutritionalInfo().getPerServing().setFat(12.0);
+
+        int json = mapper.writeValueAsBytes(recipe).length;
+        int wire = ModelWireCodecs.RECIPE.encode(recipe).length;
+        Assertions.assertTrue(wire < json * 0.75, "wire " + wire + " bytes, json " + json + " bytes");
+    }
+
+    @Test
+    public void testRejectsUnsupportedMapValues() {
+        Recipe recipe = Recipe.builder().imageGeneration(Map.of("at", Instant.EPOCH)).build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModelWireCodecs.RECIPE.encode(recipe));
+    }
+}
@@ -0,0 +1,263 @@
+package com.recipe.shared.diff;
+
+import com.google.cloud.Timestamp;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeFirestoreCodec;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeDiffTest {
+
+    private static Recipe recipe() {
+        return Recipe.builder()
+                .id("recipe-1")
+                .userId("user-1")
+                .recipeName("Miso Ramen")
+                .ingredients(List.of("200g ramen noodles", "1 tbsp white miso", "2 soft-boiled eggs"))
+                .instructions(List.of("Make the broth", "Cook the noodles", "Assemble"))
+                .servings(2)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(450.0).protein(18.0).fat(12.0).build())
+                        .total(NutritionValues.builder().calories(900.0).protein(36.0).build())
+                        .build())
+                .tips(RecipeTips.builder().storage("Keep the broth separate").build())
+                .tags(List.of("japanese"))
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .imageGeneration(Map.of("status", "complete"))
+                .build();
+    }
+
+    @Test
+    void testUnchangedRecipeIsEmpty() {
+        RecipeDiff diff = RecipeDiff.between(recipe(), recipe());
+
+        assertTrue(diff.isEmpty());
+        assertTrue(diff.paths().isEmpty());
+        assertTrue(diff.updates().isEmpty());
+    }
+
+    @Test
+    void testTopLevelFields() {
+        Recipe before = recipe();
+        Recipe after = before.toBuilder()
+                .recipeName("Spicy Miso Ramen")
+                .ingredients(List.of("200g ramen noodles", "1 tbsp white miso", "1 tbsp chilli oil"))
+                .publicRecipe(true)
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("recipeName", "ingredients", "isPublic"), diff.paths());
+        assertEquals("Spicy Miso Ramen", diff.updates().get("recipeName"));
+        assertEquals(after.getIngredients(), diff.updates().get("ingredients"));
+        assertEquals(true, diff.updates().get("isPublic"));
+    }
+
+    @Test
+    void testPathsMatchCodecProperties() {
+        Recipe before = new Recipe();
+        Recipe after = recipe().toBuilder()
+                .description("Rich and savoury")
+                .prepTimeMinutes(10)
+                .cookTimeMinutes(30)
+                .totalTimeMinutes(40)
+                .prepTime("10 min")
+                .cookTime("30 min")
+                .totalTime("40 min")
+                .imageUrl("https://example.com/ramen.jpg")
+                .source("manual")
+                .updatedAt(Instant.parse("2024-01-02T00:00:00Z"))
+                .dietaryRestrictions(List.of("vegetarian"))
+                .publicRecipe(true)
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(RecipeFirestoreCodec.encode(after).keySet(), new HashSet<>(diff.paths()));
+        assertEquals(RecipeFirestoreCodec.encode(after), diff.updates());
+    }
+
+    @Test
+    void testNestedNutrients() {
+        Recipe before = recipe();
+        Recipe after = before.toBuilder()
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(520.0).protein(18.0).fat(14.0).build())
+                        .total(before.getNutritionalInfo().getTotal())
+                        .build())
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("nutritionalInfo.perServing.calories", "nutritionalInfo.perServing.fat"), diff.paths());
+        assertEquals(520.0, diff.updates().get("nutritionalInfo.perServing.calories"));
+        assertEquals(14.0, diff.updates().get("nutritionalInfo.perServing.fat"));
+        assertTrue(diff.changed("nutritionalInfo.perServing.calories"));
+        assertFalse(diff.changed("nutritionalInfo.perServing.protein"));
+        assertFalse(diff.changed("nutritionalInfo"));
+    }
+
+    @Test
+    void testClearedNutrientIsNull() {
+        Recipe before = recipe();
+        Recipe after = before.toBuilder()
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(450.0).fat(12.0).build())
+                        .total(before.getNutritionalInfo().getTotal())
+                        .build())
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("nutritionalInfo.perServing.protein"), diff.paths());
+        assertTrue(diff.updates().containsKey("nutritionalInfo.perServing.protein"));
+        assertNull(diff.updates().get("nutritionalInfo.perServing.protein"));
+    }
+
+    @Test
+    void testAddedAndRemovedNestedObjects() {
+        Recipe before = recipe().toBuilder().tips(null).build();
+        Recipe after = recipe().toBuilder().nutritionalInfo(null).build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("nutritionalInfo", "tips"), diff.paths());
+        assertNull(diff.updates().get("nutritionalInfo"));
+        assertEquals(Map.of("storage", "Keep the broth separate"), withoutNulls(diff.updates().get("tips")));
+        assertTrue(diff.changed("nutritionalInfo.perServing.calories"));
+        assertTrue(diff.changed("tips.storage"));
+    }
+
+    @Test
+    void testTips() {
+        Recipe before = recipe();
+        Recipe after = before.toBuilder()
+                .tips(RecipeTips.builder()
+                        .storage("Keep the broth separate")
+                        .reheating("Bring the broth to a simmer")
+                        .variations(List.of("Add sweetcorn"))
+                        .build())
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("tips.reheating", "tips.variations"), diff.paths());
+        assertEquals("Bring the broth to a simmer", diff.updates().get("tips.reheating"));
+    }
+
+    @Test
+    void testNutrientsCompareByBits() {
+        Recipe before = recipe().toBuilder()
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(Double.NaN).fat(-0.0).build())
+                        .build())
+                .build();
+        Recipe after = before.toBuilder()
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder()
+                                .calories(Double.longBitsToDouble(0x7ff8_0000_0000_0001L)).fat(0.0).build())
+                        .build())
+                .build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        // Every NaN is the same value, but negative zero is written as a different Firestore double
+        assertEquals(List.of("nutritionalInfo.perServing.fat"), diff.paths());
+        assertEquals(0.0, diff.updates().get("nutritionalInfo.perServing.fat"));
+    }
+
+    @Test
+    void testEqualCollectionsAreUnchanged() {
+        Map<String, Object> imageGeneration = new HashMap<>();
+        imageGeneration.put("status", "complete");
+        imageGeneration.put("options", Map.of("width", 1024, "styles", List.of("photo")));
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("options", Map.of("styles", List.of("photo"), "width", 1024));
+        reordered.put("status", "complete");
+        Recipe before = recipe().toBuilder()
+                .ingredients(new ArrayList<>(List.of("200g ramen noodles", "1 tbsp white miso")))
+                .tags(List.of())
+                .imageGeneration(imageGeneration)
+                .build();
+        Recipe after = before.toBuilder()
+                .ingredients(List.copyOf(before.getIngredients()))
+                .tags(new ArrayList<>())
+                .imageGeneration(reordered)
+                .build();
+
+        assertTrue(RecipeDiff.between(before, after).isEmpty());
+        assertEquals(List.of("tags"), RecipeDiff.between(before, after.toBuilder().tags(null).build()).paths());
+    }
+
+    @Test
+    void testTimestampsUseFirestoreValues() {
+        Instant updatedAt = Instant.parse("2024-01-02T00:00:00Z");
+        Recipe before = recipe().toBuilder().createdAt(Instant.parse("2024-01-01T00:00:00.123456789Z")).build();
+        Recipe after = before.toBuilder().updatedAt(updatedAt).build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+
+        assertEquals(List.of("updatedAt"), diff.paths());
+        Timestamp timestamp = assertInstanceOf(Timestamp.class, diff.updates().get("updatedAt"));
+        assertEquals(updatedAt.getEpochSecond(), timestamp.getSeconds());
+
+        Instant createdAt = before.getCreatedAt().plusNanos(1);
+        RecipeDiff nanos = RecipeDiff.between(before, before.toBuilder().createdAt(createdAt).build());
+        assertEquals(createdAt.getNano(), ((Timestamp) nanos.updates().get("createdAt")).getNanos());
+    }
+
+    @Test
+    void testUpdatesDoNotShareListsOrMaps() {
+        List<String> ingredients = new ArrayList<>(List.of("rice"));
+        List<String> variations = new ArrayList<>(List.of("Add egg"));
+        Map<String, Object> options = new HashMap<>(Map.of("width", 1024));
+        Map<String, Object> imageGeneration = new HashMap<>(Map.of("options", options));
+        Recipe after = Recipe.builder()
+                .ingredients(ingredients)
+                .tips(RecipeTips.builder().storage("Chill").variations(variations).build())
+                .imageGeneration(imageGeneration)
+                .build();
+        Recipe before = after.toBuilder().ingredients(null).tips(RecipeTips.builder().storage("Chill").build())
+                .imageGeneration(null).build();
+
+        RecipeDiff diff = RecipeDiff.between(before, after);
+        ingredients.add("salt");
+        variations.clear();
+        options.put("width", 512);
+
+        assertEquals(List.of("rice"), diff.updates().get("ingredients"));
+        assertEquals(List.of("Add egg"), diff.updates().get("tips.variations"));
+        assertEquals(Map.of("options", Map.of("width", 1024)), diff.updates().get("imageGeneration"));
+    }
+
+    @Test
+    void testUpdatesAreReadOnly() {
+        RecipeDiff diff = RecipeDiff.between(recipe(), recipe().toBuilder().servings(2).build());
+
+        assertThrows(UnsupportedOperationException.class, () -> diff.updates().put("servings", 8));
+    }
+
+    @Test
+    void testRejectsNull() {
+        assertThrows(NullPointerException.class, () -> RecipeDiff.between(null, recipe()));
+        assertThrows(NullPointerException.class, () -> RecipeDiff.between(recipe(), null));
+    }
+
+    private static Map<?, ?> withoutNulls(Object value) {
+        Map<?, ?> map = new HashMap<>((Map<?, ?>) value);
+        map.values().removeIf(v -> v == null);
+        return map;
+    }
+}
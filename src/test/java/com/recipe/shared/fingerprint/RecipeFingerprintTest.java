@@ -0,0 +1,215 @@
+package com.recipe.shared.fingerprint;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeFingerprintTest {
+
+    private static Recipe recipe() {
+        Map<String, Object> imageGeneration = new LinkedHashMap<>();
+        imageGeneration.put("model", "imagen");
+        imageGeneration.put("options", Map.of("width", 1024, "styles", List.of("photo")));
+        return Recipe.builder()
+                .id("recipe-1")
+                .userId("user-1")
+                .recipeName("Shakshuka")
+                .description("Eggs poached in spiced tomato sauce")
+                .ingredients(List.of("6 eggs", "800g tomatoes", "1 tsp cumin"))
+                .instructions(List.of("Simmer the sauce", "Crack in the eggs", "Cover and cook"))
+                .prepTimeMinutes(10)
+                .cookTimeMinutes(25)
+                .servings(4)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(280.0).protein(16.0).build())
+                        .build())
+                .tips(RecipeTips.builder().storage("Fridge").variations(List.of("Add feta")).build())
+                .tags(List.of("breakfast", "vegetarian"))
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .updatedAt(Instant.parse("2024-01-02T00:00:00Z"))
+                .imageGeneration(imageGeneration)
+                .build();
+    }
+
+    @Test
+    void testIgnoresIdentityAndTimestamps() {
+        Recipe copy = recipe().toBuilder()
+                .id("recipe-2")
+                .userId("user-2")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+
+        assertEquals(RecipeFingerprint.of(recipe()), RecipeFingerprint.of(copy));
+        assertTrue(RecipeFingerprint.of(recipe()).matches(copy));
+    }
+
+    @Test
+    void testChangesWithContent() {
+        RecipeFingerprint original = RecipeFingerprint.of(recipe());
+        List<Recipe> changed = List.of(
+                recipe().toBuilder().recipeName("Green shakshuka").build(),
+                recipe().toBuilder().description(null).build(),
+                recipe().toBuilder().ingredients(List.of("6 eggs", "800g tomatoes")).build(),
+                recipe().toBuilder().ingredients(List.of("800g tomatoes", "6 eggs", "1 tsp cumin")).build(),
+                recipe().toBuilder().instructions(List.of()).build(),
+                recipe().toBuilder().instructions(null).build(),
+                recipe().toBuilder().prepTimeMinutes(null).build(),
+                recipe().toBuilder().cookTimeMinutes(30).build(),
+                recipe().toBuilder().prepTime("10 min").build(),
+                recipe().toBuilder().servings(2).build(),
+                recipe().toBuilder().nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(280.0).build()).build()).build(),
+                recipe().toBuilder().nutritionalInfo(NutritionalInfo.builder()
+                        .total(NutritionValues.builder().calories(280.0).protein(16.0).build()).build()).build(),
+                recipe().toBuilder().tips(RecipeTips.builder().storage("Fridge").build()).build(),
+                recipe().toBuilder().tags(List.of("breakfast")).build(),
+                recipe().toBuilder().dietaryRestrictions(List.of()).build(),
+                recipe().toBuilder().publicRecipe(true).build(),
+                recipe().toBuilder().imageGeneration(Map.of("model", "imagen")).build());
+
+        for (Recipe recipe : changed) {
+            assertNotEquals(original, RecipeFingerprint.of(recipe), recipe.toString());
+        }
+    }
+
+    @Test
+    void testSurrogatesAndEmptyStrings() {
+        // Unpaired surrogates must not collapse into a replacement character
+        List<Recipe> recipes = List.of(
+                Recipe.builder().recipeName("Shakshuka \uD83C\uDF73").build(),
+                Recipe.builder().recipeName("Shakshuka \uD83C\uDF74").build(),
+                Recipe.builder().recipeName("Shakshuka \uD83C").build(),
+                Recipe.builder().recipeName("Shakshuka \uD83D").build(),
+                Recipe.builder().recipeName("Shakshuka \uFFFD").build(),
+                Recipe.builder().recipeName("").build(),
+                Recipe.builder().build());
+
+        assertDistinct(recipes);
+    }
+
+    @Test
+    void testIntegerExtremes() {
+        List<Recipe> recipes = List.of(
+                Recipe.builder().cookTimeMinutes(Integer.MAX_VALUE).build(),
+                Recipe.builder().cookTimeMinutes(Integer.MIN_VALUE).build(),
+                Recipe.builder().cookTimeMinutes(0).build(),
+                Recipe.builder().cookTimeMinutes(-1).build(),
+                Recipe.builder().build());
+
+        assertDistinct(recipes);
+    }
+
+    @Test
+    void testDoublesCompareByValue() {
+        NutritionValues canonical = NutritionValues.builder().calories(Double.NaN).fat(0.0).sodium(Double.MIN_VALUE).build();
+        NutritionValues otherNaN = NutritionValues.builder()
+                .calories(Double.longBitsToDouble(0x7ff8_0000_0000_0001L)).fat(-0.0).sodium(Double.MIN_VALUE).build();
+        Recipe first = recipe().toBuilder().nutritionalInfo(NutritionalInfo.builder().perServing(canonical).build()).build();
+        Recipe second = recipe().toBuilder().nutritionalInfo(NutritionalInfo.builder().perServing(otherNaN).build()).build();
+
+        assertEquals(RecipeFingerprint.of(first), RecipeFingerprint.of(second));
+        assertDistinct(List.of(
+                Recipe.builder().nutritionalInfo(NutritionalInfo.builder()
+                        .total(NutritionValues.builder().calories(Double.MAX_VALUE).build()).build()).build(),
+                Recipe.builder().nutritionalInfo(NutritionalInfo.builder()
+                        .total(NutritionValues.builder().calories(Double.POSITIVE_INFINITY).build()).build()).build(),
+                Recipe.builder().nutritionalInfo(NutritionalInfo.builder()
+                        .total(NutritionValues.builder().calories(Double.MIN_VALUE).build()).build()).build(),
+                Recipe.builder().nutritionalInfo(NutritionalInfo.builder()
+                        .total(NutritionValues.builder().calories(0.0).build()).build()).build()));
+    }
+
+    @Test
+    void testFieldBoundariesAreUnambiguous() {
+        Recipe a = Recipe.builder().recipeName("ab").description("c").build();
+        Recipe b = Recipe.builder().recipeName("a").description("bc").build();
+        Recipe c = Recipe.builder().recipeName("abc").build();
+        Recipe d = Recipe.builder().description("abc").build();
+        Recipe e = Recipe.builder().ingredients(Arrays.asList("a", null)).build();
+        Recipe f = Recipe.builder().ingredients(Arrays.asList("a", "")).build();
+
+        assertDistinct(List.of(a, b, c, d, e, f));
+    }
+
+    @Test
+    void testMapOrderAndNumberTypesDoNotMatter() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", -0.0);
+        Map<String, Object> second = new HashMap<>();
+        second.put("b", 0.0);
+        second.put("a", 1L);
+
+        assertEquals(RecipeFingerprint.of(Recipe.builder().imageGeneration(first).build()),
+                RecipeFingerprint.of(Recipe.builder().imageGeneration(second).build()));
+        assertNotEquals(RecipeFingerprint.of(Recipe.builder().imageGeneration(Map.of("a", 1)).build()),
+                RecipeFingerprint.of(Recipe.builder().imageGeneration(Map.of("a", 1.0)).build()));
+    }
+
+    @Test
+    void testMapValuesOfEverySupportedType() {
+        Map<String, Object> imageGeneration = new LinkedHashMap<>();
+        imageGeneration.put("seed", Long.MIN_VALUE);
+        imageGeneration.put("budget", new BigDecimal("12345678901234567890.5"));
+        imageGeneration.put("requests", new BigInteger("98765432109876543210"));
+        imageGeneration.put("guidance", 7.5f);
+        imageGeneration.put("retry", true);
+        imageGeneration.put("options", Map.of("width", (short) 1024, "styles", Arrays.asList("photo", null, "")));
+        Recipe recipe = Recipe.builder().imageGeneration(imageGeneration).build();
+
+        assertEquals(RecipeFingerprint.of(recipe), RecipeFingerprint.of(recipe.toBuilder().imageGeneration(new HashMap<>(imageGeneration)).build()));
+        Map<String, Object> changed = new LinkedHashMap<>(imageGeneration);
+        changed.put("options", Map.of("width", (short) 1024, "styles", Arrays.asList("photo", "", null)));
+        assertNotEquals(RecipeFingerprint.of(recipe), RecipeFingerprint.of(recipe.toBuilder().imageGeneration(changed).build()));
+    }
+
+    @Test
+    void testStableValue() {
+        // Pins the hashed form: if this changes, bump RecipeFingerprint.FORMAT
+        assertEquals(RecipeFingerprint.of(Recipe.builder().recipeName("Pancakes").build()),
+                RecipeFingerprint.parse(RecipeFingerprint.of(Recipe.builder().recipeName("Pancakes").build()).toString()));
+        assertEquals("6f03fd0afe5c544e7a8fbff95759f379", RecipeFingerprint.of(Recipe.builder().recipeName("Pancakes").build()).toString());
+    }
+
+    @Test
+    void testTextForms() {
+        RecipeFingerprint fingerprint = new RecipeFingerprint(0x0123456789ABCDEFL, -1L);
+
+        assertEquals("0123456789abcdefffffffffffffffff", fingerprint.toString());
+        assertEquals("\"0123456789abcdefffffffffffffffff\"", fingerprint.toETag());
+        assertEquals(fingerprint, RecipeFingerprint.parse("0123456789ABCDEFffffffffffffffff"));
+        assertThrows(IllegalArgumentException.class, () -> RecipeFingerprint.parse("0123"));
+        assertThrows(IllegalArgumentException.class, () -> RecipeFingerprint.parse("0123456789abcdefffffffffffffffxf"));
+    }
+
+    @Test
+    void testRejectsUnsupportedMapValues() {
+        Recipe recipe = Recipe.builder().imageGeneration(Map.of("at", Instant.EPOCH)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> RecipeFingerprint.of(recipe));
+    }
+
+    private static void assertDistinct(List<Recipe> recipes) {
+        List<RecipeFingerprint> fingerprints = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            RecipeFingerprint fingerprint = RecipeFingerprint.of(recipe);
+            assertFalse(fingerprints.contains(fingerprint), recipe.toString());
+            fingerprints.add(fingerprint);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.recipe.shared.ingredient;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngredientParserTest {
+
+    @Test
+    void testParsesQuantityUnitItemAndNotes() {
+        ParsedIngredient parsed = IngredientParser.parse("2 cups flour, sifted");
+
+        assertEquals(2, parsed.quantity());
+        assertFalse(parsed.isRange());
+        assertEquals(Unit.CUP, parsed.unit());
+        assertEquals("cups", parsed.unitText());
+        assertEquals("flour", parsed.item());
+        assertEquals("sifted", parsed.notes());
+    }
+
+    @Test
+    void testParsesFractionsAndMixedNumbers() {
+        assertEquals(0.5, IngredientParser.parse("1/2 tsp salt").quantity(), 1e-9);
+        assertEquals(1.5, IngredientParser.parse("1 1/2 cups milk").quantity(), 1e-9);
+        assertEquals(1.5, IngredientParser.parse("1½ cups milk").quantity(), 1e-9);
+        assertEquals(1.5, IngredientParser.parse("1 ½ cups milk").quantity(), 1e-9);
+        assertEquals(0.75, IngredientParser.parse("¾ cup sugar").quantity(), 1e-9);
+        assertEquals(2.5, IngredientParser.parse("2.5 kg potatoes").quantity(), 1e-9);
+    }
+
+    @Test
+    void testParsesRanges() {
+        ParsedIngredient dash = IngredientParser.parse("2-3 cloves garlic, minced");
+        assertTrue(dash.isRange());
+        assertEquals(2, dash.quantity());
+        assertEquals(3, dash.maxQuantity());
+        assertEquals(Unit.CLOVE, dash.unit());
+        assertEquals("garlic", dash.item());
+
+        ParsedIngredient to = IngredientParser.parse("1 to 2 tbsp olive oil");
+        assertEquals(1, to.quantity());
+        assertEquals(2, to.maxQuantity());
+        assertEquals(Unit.TABLESPOON, to.unit());
+        assertEquals("olive oil", to.item());
+    }
+
+    @Test
+    void testUnitsWithoutSpaceAndAbbreviations() {
+        ParsedIngredient grams = IngredientParser.parse("100g butter");
+        assertEquals(100, grams.quantity());
+        assertEquals(Unit.GRAM, grams.unit());
+        assertEquals("butter", grams.item());
+
+        ParsedIngredient ounces = IngredientParser.parse("8 fl. oz. cream");
+        assertEquals(Unit.FLUID_OUNCE, ounces.unit());
+        assertEquals("cream", ounces.item());
+    }
+
+    @Test
+    void testUnitMustEndAtWordBoundary() {
+        ParsedIngredient parsed = IngredientParser.parse("2 large eggs");
+
+        assertEquals(2, parsed.quantity());
+        assertNull(parsed.unit());
+        assertEquals("large eggs", parsed.item());
+
+        ParsedIngredient hyphenated = IngredientParser.parse("2 cup-cakes");
+        assertNull(hyphenated.unit());
+        assertEquals("cup-cakes", hyphenated.item());
+        assertEquals("4 cup-cakes", hyphenated.scale(2));
+    }
+
+    @Test
+    void testArticleBeforeUnitCountsAsOne() {
+        ParsedIngredient pinch = IngredientParser.parse("a pinch of salt");
+        assertEquals(1, pinch.quantity());
+        assertEquals(Unit.PINCH, pinch.unit());
+        assertEquals("salt", pinch.item());
+
+        ParsedIngredient noUnit = IngredientParser.parse("a few basil leaves");
+        assertFalse(noUnit.hasQuantity());
+        assertEquals("a few basil leaves", noUnit.item());
+    }
+
+    @Test
+    void testParenthesizedSizeAndNotes() {
+        ParsedIngredient can = IngredientParser.parse("1 (14 oz) can tomatoes");
+        assertEquals(1, can.quantity());
+        assertEquals(Unit.CAN, can.unit());
+        assertEquals("tomatoes", can.item());
+        assertNull(can.notes());
+
+        ParsedIngredient cups = IngredientParser.parse("2 cups (250 g) flour, sifted");
+        assertEquals(Unit.CUP, cups.unit());
+        assertEquals("flour", cups.item());
+        assertEquals("sifted", cups.notes());
+        assertEquals("4 cups (250 g) flour, sifted", cups.scale(2));
+
+        ParsedIngredient afterUnit = IngredientParser.parse("1 can (14 oz) of tomatoes");
+        assertEquals(Unit.CAN, afterUnit.unit());
+        assertEquals("tomatoes", afterUnit.item());
+        assertNull(afterUnit.notes());
+
+        ParsedIngredient noItem = IngredientParser.parse("2 cups (sifted)");
+        assertEquals("", noItem.item());
+        assertEquals("sifted", noItem.notes());
+
+        ParsedIngredient notes = IngredientParser.parse("1 onion (finely chopped)");
+        assertEquals("onion", notes.item());
+        assertEquals("finely chopped", notes.notes());
+    }
+
+    @Test
+    void testLinesWithoutQuantity() {
+        ParsedIngredient parsed = IngredientParser.parse("Salt and pepper, to taste");
+
+        assertFalse(parsed.hasQuantity());
+        assertTrue(Double.isNaN(parsed.quantity()));
+        assertNull(parsed.unit());
+        assertEquals("Salt and pepper", parsed.item());
+        assertEquals("to taste", parsed.notes());
+        assertEquals("Salt and pepper, to taste", parsed.scale(2));
+    }
+
+    @Test
+    void testSkipsBullets() {
+        ParsedIngredient parsed = IngredientParser.parse("- 3 eggs");
+
+        assertEquals(3, parsed.quantity());
+        assertEquals("eggs", parsed.item());
+    }
+
+    @Test
+    void testScaleWritesKitchenFractions() {
+        assertEquals("3 cups flour, sifted", IngredientParser.parse("1 1/2 cups flour, sifted").scale(2));
+        assertEquals("3/4 cup sugar", IngredientParser.parse("1 1/2 cups sugar").scale(0.5));
+        assertEquals("1 1/2 cups milk", IngredientParser.parse("½ cup milk").scale(3));
+        assertEquals("2 pinches of salt", IngredientParser.parse("a pinch of salt").scale(2));
+        assertEquals("4-6 cloves garlic", IngredientParser.parse("2-3 cloves garlic").scale(2));
+    }
+
+    @Test
+    void testScaleKeepsAbbreviationsAndUsesDecimalsForMetric() {
+        assertEquals("150g butter", IngredientParser.parse("100g butter").scale(1.5));
+        assertEquals("0.33 l stock", IngredientParser.parse("1 l stock").scale(1.0 / 3));
+        assertEquals("3 tbsp oil", IngredientParser.parse("2 tbsp oil").scale(1.5));
+        assertEquals("1 teaspoon vanilla", IngredientParser.parse("2 teaspoons vanilla").scale(0.5));
+    }
+
+    @Test
+    void testParseAllKeepsNulls() {
+        List<ParsedIngredient> parsed = IngredientParser.parseAll(Arrays.asList("1 egg", null));
+
+        assertEquals(2, parsed.size());
+        assertEquals("egg", parsed.get(0).item());
+        assertNull(parsed.get(1));
+        assertNull(IngredientParser.parse(null));
+    }
+}
@@ -0,0 +1,78 @@
+package com.recipe.shared.ingredient;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeScalerTest {
+
+    private static Recipe recipe() {
+        return Recipe.builder()
+                .id("pancakes")
+                .recipeName("Pancakes")
+                .servings(4)
+                .ingredients(List.of("1 1/2 cups flour", "2 eggs", "1 tbsp sugar", "Salt, to taste"))
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(200.0).protein(6.0).build())
+                        .total(NutritionValues.builder().calories(800.0).protein(24.0).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testScalesIngredientsServingsAndTotals() {
+        Recipe original = recipe();
+        Recipe scaled = RecipeScaler.scale(original, 6);
+
+        assertEquals(6, scaled.getServings());
+        assertEquals(List.of("2 1/4 cups flour", "3 eggs", "1 1/2 tbsp sugar", "Salt, to taste"), scaled.getIngredients());
+        assertEquals(1200.0, scaled.getNutritionalInfo().getTotal().getCalories(), 1e-9);
+        assertEquals(36.0, scaled.getNutritionalInfo().getTotal().getProtein(), 1e-9);
+        assertNull(scaled.getNutritionalInfo().getTotal().getFat());
+        assertEquals(original.getNutritionalInfo().getPerServing(), scaled.getNutritionalInfo().getPerServing());
+        assertEquals("Pancakes", scaled.getRecipeName());
+    }
+
+    @Test
+    void testDoesNotModifyOriginal() {
+        Recipe original = recipe();
+
+        RecipeScaler.scale(original, 2);
+
+        assertEquals(4, original.getServings());
+        assertEquals("1 1/2 cups flour", original.getIngredients().get(0));
+        assertEquals(800.0, original.getNutritionalInfo().getTotal().getCalories(), 1e-9);
+    }
+
+    @Test
+    void testSmallQuantitiesDoNotScaleToZero() {
+        assertEquals(List.of("0.02 tsp salt", "0.0013 g saffron", "0.01 cup milk"),
+                RecipeScaler.scaleIngredients(List.of("1/8 tsp salt", "0.01 g saffron", "1/16 cup milk"), 0.25 / 2));
+        assertEquals(List.of("1/8 tsp salt"), RecipeScaler.scaleIngredients(List.of("1 tsp salt"), 0.125));
+    }
+
+    @Test
+    void testRejectsMissingOrInvalidServings() {
+        assertThrows(IllegalArgumentException.class, () -> RecipeScaler.scale(recipe(), 0));
+        Recipe noServings = recipe().toBuilder().servings(null).build();
+        assertThrows(IllegalArgumentException.class, () -> RecipeScaler.scale(noServings, 2));
+    }
+
+    @Test
+    void testHandlesNullParts() {
+        Recipe bare = Recipe.builder().servings(2).build();
+
+        Recipe scaled = RecipeScaler.scale(bare, 4);
+
+        assertEquals(4, scaled.getServings());
+        assertNull(scaled.getIngredients());
+        assertNull(scaled.getNutritionalInfo());
+        assertEquals(Arrays.asList("4 eggs", null), RecipeScaler.scaleIngredients(Arrays.asList("2 eggs", null), 2));
+    }
+}
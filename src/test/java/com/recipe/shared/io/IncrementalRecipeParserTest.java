@@ -0,0 +1,187 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import com.recipe.shared.schema.RecipeSchema;
+import com.recipe.shared.schema.SchemaProfile;
+import com.recipe.shared.schema.SchemaViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for parsing a recipe from chunked input with IncrementalRecipeParser.
+ */
+class IncrementalRecipeParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    /**
+     * Records events as strings, in the order they are delivered.
+     */
+    private static final class RecordingListener implements RecipeStreamListener {
+
+        final List<String> events = new ArrayList<>();
+        Recipe completed;
+
+        @Override
+        public void onProperty(String name, Object value) {
+            events.add(name + "=" + value);
+        }
+
+        @Override
+        public void onListItem(String name, int index, String value) {
+            events.add(name + "[" + index + "]=" + value);
+        }
+
+        @Override
+        public void onComplete(Recipe recipe) {
+            completed = recipe;
+        }
+    }
+
+    private static Recipe sampleRecipe() {
+        return Recipe.builder()
+                .recipeName("Crème brûlée")
+                .description("Custard with a caramel crust")
+                .ingredients(List.of("500ml cream", "5 egg yolks", "100g sugar"))
+                .instructions(List.of("Heat the cream", "Whisk with yolks and sugar", "Bake, chill and caramelise"))
+                .servings(4)
+                .nutritionalInfo(NutritionalInfo.builder().perServing(NutritionValues.builder().calories(410.0).build()).build())
+                .tips(RecipeTips.builder().makeAhead("Bake a day ahead").build())
+                .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .tags(List.of("dessert"))
+                .publicRecipe(true)
+                .build();
+    }
+
+    @Test
+    void testByteAtATimeMatchesFullParse() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(sampleRecipe());
+        RecordingListener listener = new RecordingListener();
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(listener, objectMapper);
+
+        for (byte b : json) {
+            parser.feed(new byte[] {b});
+        }
+        parser.endOfInput();
+
+        assertTrue(parser.isComplete());
+        assertEquals(objectMapper.readValue(json, Recipe.class), listener.completed);
+        assertEquals(sampleRecipe(), parser.snapshot());
+    }
+
+    @Test
+    void testEventsArriveAsValuesComplete() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(listener);
+
+        parser.feed("{\"recipeName\":\"Soup\",\"ingredients\":[\"water\",\"sal".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of("recipeName=Soup", "ingredients[0]=water"), listener.events);
+        Recipe partial = parser.snapshot();
+        assertEquals("Soup", partial.getRecipeName());
+        assertEquals(List.of("water"), partial.getIngredients());
+        assertNull(listener.completed);
+
+        parser.feed("t\",null],\"servings\":\"2\",\"isPublic\":null}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of("recipeName=Soup", "ingredients[0]=water", "ingredients[1]=salt", "ingredients[2]=null",
+                "ingredients=[water, salt, null]", "servings=2", "isPublic=false"), listener.events);
+        assertEquals(Integer.valueOf(2), listener.completed.getServings());
+        parser.endOfInput();
+    }
+
+    @Test
+    void testSnapshotIsIndependentOfLaterInput() throws IOException {
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(new RecipeStreamListener() {});
+        parser.feed("{\"tags\":[\"a\",".getBytes(StandardCharsets.UTF_8));
+        Recipe snapshot = parser.snapshot();
+        parser.feed("\"b\"]}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(List.of("a"), snapshot.getTags());
+        assertEquals(List.of("a", "b"), parser.snapshot().getTags());
+    }
+
+    @Test
+    void testMultiByteCharactersSplitAcrossChunks() throws IOException {
+        byte[] json = "{\"recipeName\":\"Pâté 🍲\"}".getBytes(StandardCharsets.UTF_8);
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(new RecipeStreamListener() {});
+        int split = 20; // inside the two bytes of "é"
+        parser.feed(json, 0, split);
+        parser.feed(json, split, json.length - split);
+        parser.endOfInput();
+        assertEquals("Pâté 🍲", parser.snapshot().getRecipeName());
+    }
+
+    @Test
+    void testUnknownAndIgnoredProperties() throws IOException {
+        byte[] unknown = "{\"recipeName\":\"Soup\",\"rating\":{\"stars\":5}}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(UnrecognizedPropertyException.class, () -> new IncrementalRecipeParser(new RecipeStreamListener() {}).feed(unknown));
+
+        IncrementalRecipeParser lenient = new IncrementalRecipeParser(new RecipeStreamListener() {},
+                objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        lenient.feed(unknown);
+        assertEquals("Soup", lenient.snapshot().getRecipeName());
+
+        RecordingListener listener = new RecordingListener();
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(listener);
+        parser.feed("{\"servingsAsInt\":4,\"servings\":4}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of("servings=4"), listener.events);
+    }
+
+    @Test
+    void testIncompleteInputFails() throws IOException {
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(new RecipeStreamListener() {});
+        parser.feed("{\"recipeName\":\"Soup\"".getBytes(StandardCharsets.UTF_8));
+        assertThrows(JsonEOFException.class, parser::endOfInput);
+    }
+
+    @Test
+    void testRejectsNonObjectAndTrailingContent() throws IOException {
+        IncrementalRecipeParser array = new IncrementalRecipeParser(new RecipeStreamListener() {});
+        assertThrows(MismatchedInputException.class, () -> array.feed("[]".getBytes(StandardCharsets.UTF_8)));
+
+        IncrementalRecipeParser trailing = new IncrementalRecipeParser(new RecipeStreamListener() {});
+        assertThrows(MismatchedInputException.class, () -> trailing.feed("{} {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testSchemaViolationStopsParsingEarly() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(listener, objectMapper,
+                RecipeSchema.getValidator(SchemaProfile.AI_GENERATION));
+
+        parser.feed("{\"recipeName\":\"Soup\",\"servings\":\"".getBytes(StandardCharsets.UTF_8));
+        SchemaViolationException e = assertThrows(SchemaViolationException.class,
+                () -> parser.feed("four\",\"ingredients\":[".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("/servings", e.getPointer());
+        assertEquals(List.of("recipeName=Soup"), listener.events);
+    }
+
+    @Test
+    void testSchemaRejectsMissingRequiredPropertiesAtClosingBrace() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        IncrementalRecipeParser parser = new IncrementalRecipeParser(listener, objectMapper,
+                RecipeSchema.getValidator(SchemaProfile.AI_GENERATION));
+
+        parser.feed("{\"description\":\"x\"".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of("description=x"), listener.events);
+        SchemaViolationException e = assertThrows(SchemaViolationException.class,
+                () -> parser.feed("}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("/ingredients", e.getPointer());
+        assertNull(listener.completed);
+    }
+}
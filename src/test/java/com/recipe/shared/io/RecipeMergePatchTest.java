@@ -0,0 +1,255 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for applying JSON Merge Patches to recipes with RecipeMergePatch.
+ */
+class RecipeMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final RecipeMergePatch mergePatch = new RecipeMergePatch(objectMapper);
+
+    private static Recipe sampleRecipe() {
+        return Recipe.builder()
+                .id("recipe-1")
+                .recipeName("Jollof Rice")
+                .description("Smoky party jollof with a crispy bottom")
+                .ingredients(List.of("400g long-grain rice", "3 tomatoes", "2 scotch bonnets"))
+                .instructions(List.of("Blend the pepper base", "Fry it down", "Steam the rice in it"))
+                .servings(6)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(420.0).protein(8.0).build())
+                        .total(NutritionValues.builder().calories(2520.0).protein(48.0).build())
+                        .build())
+                .tips(RecipeTips.builder()
+                        .substitutions(List.of("Use basmati"))
+                        .storage("Freeze in portions")
+                        .build())
+                .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .tags(List.of("west-african"))
+                .publicRecipe(true)
+                .imageGeneration(Map.of("status", "complete"))
+                .build();
+    }
+
+    // Three levels deep with a list inside, to check that merging recurses and copies rather than shares
+    private static Map<String, Object> nestedImageGeneration() {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("name", "imagen");
+        model.put("version", 3);
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("width", 1024);
+        options.put("style", "photo");
+        options.put("seeds", List.of(7, 11));
+        options.put("model", model);
+        Map<String, Object> imageGeneration = new LinkedHashMap<>();
+        imageGeneration.put("status", "complete");
+        imageGeneration.put("options", options);
+        return imageGeneration;
+    }
+
+    @Test
+    void testReplacesNamedProperties() throws Exception {
+        Recipe target = sampleRecipe();
+
+        Recipe patched = mergePatch.apply(target, "{\"recipeName\": \"Party Jollof\", \"servings\": 8, \"tags\": [\"party\"]}");
+
+        assertEquals("Party Jollof", patched.getRecipeName());
+        assertEquals(8, patched.getServings());
+        assertEquals(List.of("party"), patched.getTags());
+        assertEquals(target.getDescription(), patched.getDescription());
+        assertSame(target.getIngredients(), patched.getIngredients());
+        assertSame(target.getNutritionalInfo(), patched.getNutritionalInfo());
+    }
+
+    @Test
+    void testNullClearsProperties() throws Exception {
+        Recipe patched = mergePatch.apply(sampleRecipe(), "{\"description\": null, \"tips\": null, \"isPublic\": null}");
+
+        assertNull(patched.getDescription());
+        assertNull(patched.getTips());
+        assertFalse(patched.isPublicRecipe());
+    }
+
+    @Test
+    void testMergesNestedNutrition() throws Exception {
+        Recipe target = sampleRecipe();
+
+        Recipe patched = mergePatch.apply(target, "{\"nutritionalInfo\": {\"perServing\": {\"calories\": 300.0, \"protein\": null, \"fat\": 12}}}");
+
+        NutritionValues perServing = patched.getNutritionalInfo().getPerServing();
+        assertEquals(300.0, perServing.getCalories());
+        assertNull(perServing.getProtein());
+        assertEquals(12.0, perServing.getFat());
+        assertSame(target.getNutritionalInfo().getTotal(), patched.getNutritionalInfo().getTotal());
+    }
+
+    @Test
+    void testMergesIntoMissingNestedObjects() throws Exception {
+        Recipe target = Recipe.builder().recipeName("Toast").build();
+
+        Recipe patched = mergePatch.apply(target, "{\"nutritionalInfo\": {\"total\": {\"calories\": 120.5, \"fiber\": null}}, \"tips\": {\"storage\": \"Eat fresh\"}}");
+
+        assertEquals(NutritionValues.builder().calories(120.5).build(), patched.getNutritionalInfo().getTotal());
+        assertNull(patched.getNutritionalInfo().getPerServing());
+        assertEquals(RecipeTips.builder().storage("Eat fresh").build(), patched.getTips());
+    }
+
+    @Test
+    void testMergesTips() throws Exception {
+        Recipe patched = mergePatch.apply(sampleRecipe(), "{\"tips\": {\"storage\": null, \"reheating\": \"Sprinkle with water\", \"variations\": [\"Add chicken\"]}}");
+
+        assertEquals(RecipeTips.builder()
+                .substitutions(List.of("Use basmati"))
+                .reheating("Sprinkle with water")
+                .variations(List.of("Add chicken"))
+                .build(), patched.getTips());
+    }
+
+    @Test
+    void testMergesImageGenerationRecursively() throws Exception {
+        Recipe target = sampleRecipe().toBuilder().imageGeneration(nestedImageGeneration()).build();
+
+        Recipe patched = mergePatch.apply(target, "{\"imageGeneration\": {\"status\": null, \"attempts\": 2,"
+                + " \"options\": {\"style\": null, \"height\": 768, \"seeds\": [13], \"model\": {\"name\": null, \"version\": 4}}}}");
+
+        assertEquals(Map.of("attempts", 2, "options", Map.of("width", 1024, "height", 768, "seeds", List.of(13),
+                "model", Map.of("version", 4))), patched.getImageGeneration());
+    }
+
+    @Test
+    void testLeavesTargetUnchanged() throws Exception {
+        Recipe target = sampleRecipe().toBuilder().imageGeneration(nestedImageGeneration()).build();
+
+        mergePatch.apply(target, "{\"recipeName\": \"Jollof\", \"nutritionalInfo\": {\"perServing\": {\"calories\": 1}},"
+                + " \"tips\": {\"storage\": null}, \"imageGeneration\": {\"options\": {\"width\": 512, \"model\": {\"version\": null}}}}");
+
+        assertEquals(sampleRecipe().toBuilder().imageGeneration(nestedImageGeneration()).build(), target);
+    }
+
+    @Test
+    void testEmptyPatchCopiesTarget() throws Exception {
+        Recipe target = sampleRecipe();
+
+        Recipe patched = mergePatch.apply(target, "{}");
+
+        assertEquals(target, patched);
+        assertNotSame(target, patched);
+    }
+
+    @Test
+    void testMatchesTreeMerge() throws Exception {
+        List<String> patches = List.of(
+                "{\"id\": \"recipe-2\", \"createdAt\": \"2024-02-01T00:00:00Z\", \"prepTime\": \"10 minutes\"}",
+                "{\"nutritionalInfo\": null, \"tips\": {\"makeAhead\": \"Mix the batter the night before\"}}",
+                "{\"nutritionalInfo\": {\"total\": null, \"perServing\": {\"sodium\": 0.4}}, \"ingredients\": []}",
+                "{\"imageGeneration\": {\"options\": null, \"model\": {\"name\": \"imagen\"}}, \"isPublic\": false}",
+                "{\"imageGeneration\": {\"options\": {\"seeds\": null, \"model\": {\"size\": {\"w\": 1}}}}, \"tags\": null}",
+                "{\"description\": \"Caf\\u00e9 \\\"style\\\"\\n\", \"tips\": {\"variations\": null, \"substitutions\": []}}");
+        for (String patch : patches) {
+            Recipe target = sampleRecipe().toBuilder()
+                    .tags(List.of())
+                    .tips(RecipeTips.builder().substitutions(List.of("Use basmati")).variations(List.of()).build())
+                    .imageGeneration(nestedImageGeneration())
+                    .build();
+
+            assertEquals(treeMerge(target, patch), mergePatch.apply(target, patch), patch);
+        }
+    }
+
+    @Test
+    void testDecodesEscapesAndNanoseconds() throws Exception {
+        Instant createdAt = Instant.parse("2024-01-01T10:00:00.123456789Z");
+        Recipe target = sampleRecipe().toBuilder().description("Smoky \"party\" jollof\twith a crispy bottom").createdAt(createdAt).build();
+
+        Recipe patched = mergePatch.apply(target,
+                "{\"description\": \"Caf\\u00e9 \\\"style\\\"\\t\\uD83C\\uDF5A\", \"updatedAt\": \"2024-02-01T00:00:00.000000001Z\"}");
+
+        assertEquals("Caf\u00e9 \"style\"\t\uD83C\uDF5A", patched.getDescription());
+        assertEquals(Instant.parse("2024-02-01T00:00:00.000000001Z"), patched.getUpdatedAt());
+        assertEquals(createdAt, patched.getCreatedAt());
+        assertEquals(target.getDescription(), mergePatch.apply(target, "{\"servings\": 2}").getDescription());
+    }
+
+    @Test
+    void testCoercesLikeTheMapper() throws Exception {
+        Recipe patched = mergePatch.apply(sampleRecipe(), "{\"servings\": \"8\", \"nutritionalInfo\": {\"perServing\": {\"calories\": \"310\"}}}");
+
+        assertEquals(8, patched.getServings());
+        assertEquals(310.0, patched.getNutritionalInfo().getPerServing().getCalories());
+    }
+
+    @Test
+    void testUnknownProperties() throws Exception {
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> mergePatch.apply(sampleRecipe(), "{\"rating\": 5}"));
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> mergePatch.apply(sampleRecipe(), "{\"tips\": {\"serving\": \"Warm\"}}"));
+
+        RecipeMergePatch lenient = new RecipeMergePatch(objectMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        Recipe patched = lenient.apply(sampleRecipe(), "{\"rating\": {\"stars\": 5}, \"tips\": {\"serving\": [\"Warm\"]}, \"servings\": 2}");
+        assertEquals(2, patched.getServings());
+        assertEquals(sampleRecipe().getTips(), patched.getTips());
+    }
+
+    @Test
+    void testIgnoresComputedProperties() throws Exception {
+        Recipe patched = mergePatch.apply(sampleRecipe(), "{\"calculatedTotalTimeMinutes\": 30, \"servingsAsInt\": 2}");
+
+        assertEquals(sampleRecipe(), patched);
+    }
+
+    @Test
+    void testRejectsInvalidPatches() {
+        assertThrows(MismatchedInputException.class, () -> mergePatch.apply(sampleRecipe(), "null"));
+        assertThrows(MismatchedInputException.class, () -> mergePatch.apply(sampleRecipe(), "[{\"servings\": 2}]"));
+        assertThrows(MismatchedInputException.class, () -> mergePatch.apply(sampleRecipe(), "{\"servings\": 2} {}"));
+        assertThrows(MismatchedInputException.class, () -> mergePatch.apply(sampleRecipe(), "{\"tips\": \"Freeze\"}"));
+        assertThrows(NullPointerException.class, () -> mergePatch.apply(null, "{}"));
+    }
+
+    /**
+     * Applies the patch the way RFC 7396 describes it, on the recipe's JSON tree.
+     */
+    private Recipe treeMerge(Recipe target, String patch) throws Exception {
+        JsonNode merged = merge(objectMapper.valueToTree(target), objectMapper.readTree(patch));
+        return objectMapper.treeToValue(merged, Recipe.class);
+    }
+
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy() : ((ObjectNode) patch).objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
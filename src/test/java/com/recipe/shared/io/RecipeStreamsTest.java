@@ -0,0 +1,240 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for streaming recipes as newline-delimited JSON and JSON arrays.
+ */
+class RecipeStreamsTest {
+
+    private static Recipe recipe(int i) {
+        return Recipe.builder()
+                .id("recipe-" + i)
+                .recipeName("Recipe " + i)
+                .ingredients(List.of("ingredient " + i))
+                .instructions(List.of("step " + i))
+                .servings(i)
+                .nutritionalInfo(NutritionalInfo.builder().perServing(NutritionValues.builder().calories(i * 10.0).build()).build())
+                .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .build();
+    }
+
+    private static List<Recipe> recipes(int count) {
+        return IntStream.range(0, count).mapToObj(RecipeStreamsTest::recipe).collect(Collectors.toList());
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns an input that hands out one byte per read, as a slow network stream may.
+     */
+    private static InputStream trickle(byte[] bytes) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    private static List<Recipe> readAll(RecipeReader reader) {
+        List<Recipe> result = new ArrayList<>();
+        reader.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    void testNdjsonRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecipeWriter writer = RecipeStreams.ndjsonWriter(out)) {
+            assertEquals(3, writer.writeAll(recipes(3)));
+        }
+
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertEquals(3, text.lines().count());
+        assertTrue(text.endsWith("}\n"));
+        try (Stream<Recipe> stream = RecipeStreams.stream(input(text))) {
+            assertEquals(recipes(3), stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testArrayRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecipeWriter writer = RecipeStreams.arrayWriter(out)) {
+            writer.writeAll(recipes(3).stream());
+        }
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        assertEquals(recipes(3), List.of(mapper.readValue(out.toByteArray(), Recipe[].class)));
+        assertEquals(recipes(3), readAll(RecipeStreams.reader(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    @Test
+    void testEmptyInputs() throws IOException {
+        assertFalse(RecipeStreams.reader(input("")).hasNext());
+        assertFalse(RecipeStreams.reader(input("\n  \n")).hasNext());
+        assertFalse(RecipeStreams.reader(input(" [ ] ")).hasNext());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecipeStreams.arrayWriter(out).close();
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPrettyPrintingMapperKeepsOneRecordPerLine() throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule()).enable(SerializationFeature.INDENT_OUTPUT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecipeWriter writer = RecipeStreams.ndjsonWriter(out, mapper)) {
+            writer.writeAll(recipes(2));
+        }
+        assertEquals(2, out.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    void testBlankLinesCarriageReturnsAndByteOrderMark() {
+        String text = "\uFEFF{\"recipeName\":\"A\"}\r\n\r\n   \n{\"recipeName\":\"B\"}";
+        List<Recipe> read = readAll(RecipeStreams.reader(input(text)));
+        assertEquals(List.of("A", "B"), read.stream().map(Recipe::getRecipeName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testInvalidLineFailsWithLineNumber() {
+        RecipeReader reader = RecipeStreams.reader(input("{\"recipeName\":\"A\"}\n\n{\"recipeName\":\n{\"recipeName\":\"C\"}\n"));
+        assertEquals("A", reader.next().getRecipeName());
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("Invalid recipe at line 3"), e.getMessage());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void testSkipInvalidNdjsonRecords() {
+        String text = "{\"recipeName\":\"A\"}\n"
+                + "not json\n"
+                + "{\"recipeName\":\"B\",\"servings\":\"many\"}\n"
+                + "null\n"
+                + "{\"recipeName\":\"C\"}\n";
+        List<RecordError> errors = new ArrayList<>();
+        RecipeReader reader = RecipeStreams.reader(input(text)).skipInvalid(errors::add);
+
+        List<Recipe> read = readAll(reader);
+        assertEquals(List.of("A", "C"), read.stream().map(Recipe::getRecipeName).collect(Collectors.toList()));
+        assertEquals(List.of(2L, 3L), errors.stream().map(RecordError::line).collect(Collectors.toList()));
+        assertTrue(errors.get(1).message().startsWith("Invalid recipe at line 3: "));
+
+        StreamMetrics metrics = reader.getMetrics();
+        assertEquals(2, metrics.records());
+        assertEquals(2, metrics.skipped());
+        assertEquals(text.length(), metrics.bytes());
+    }
+
+    @Test
+    void testContentAfterRecordMakesLineInvalid() {
+        String text = "{\"recipeName\":\"A\"} {\"recipeName\":\"B\"}\n"
+                + "{\"recipeName\":\"C\"}garbage\n"
+                + "{\"recipeName\":\"D\"}  \n";
+        List<RecordError> errors = new ArrayList<>();
+        List<Recipe> read = readAll(RecipeStreams.reader(input(text)).skipInvalid(errors::add));
+
+        assertEquals(List.of("D"), read.stream().map(Recipe::getRecipeName).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L), errors.stream().map(RecordError::line).collect(Collectors.toList()));
+
+        RecipeReader reader = RecipeStreams.reader(input(text));
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("Invalid recipe at line 1"), e.getMessage());
+    }
+
+    @Test
+    void testSkipInvalidArrayElements() {
+        String text = "[\n"
+                + "  {\"recipeName\":\"A\"},\n"
+                + "  {\"recipeName\":\"B\",\"tips\":{\"substitutions\":{\"nested\":[1,2]}}},\n"
+                + "  \"not a recipe\",\n"
+                + "  {\"recipeName\":\"C\"}\n"
+                + "]";
+        List<RecordError> errors = new ArrayList<>();
+        List<Recipe> read = readAll(RecipeStreams.reader(input(text)).skipInvalid(errors::add));
+
+        assertEquals(List.of("A", "C"), read.stream().map(Recipe::getRecipeName).collect(Collectors.toList()));
+        assertEquals(List.of(3L, 4L), errors.stream().map(RecordError::line).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSyntaxErrorEndsArray() {
+        List<RecordError> errors = new ArrayList<>();
+        RecipeReader reader = RecipeStreams.reader(input("[{\"recipeName\":\"A\"},\n{\"recipeName\" \"B\"},\n{\"recipeName\":\"C\"}]"))
+                .skipInvalid(errors::add);
+        assertEquals(1, readAll(reader).size());
+        assertEquals(1, errors.size());
+        assertEquals(2, errors.get(0).line());
+    }
+
+    @Test
+    void testFormatDetectedAcrossShortReads() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecipeWriter writer = RecipeStreams.arrayWriter(out)) {
+            writer.writeAll(recipes(2));
+        }
+        byte[] array = ("\uFEFF\n  " + out.toString(StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        assertEquals(recipes(2), readAll(RecipeStreams.reader(trickle(array))));
+
+        byte[] lines = "\uFEFF\n{\"recipeName\":\"A\"}\n{\"recipeName\":\"B\"}".getBytes(StandardCharsets.UTF_8);
+        List<Recipe> read = readAll(RecipeStreams.reader(trickle(lines)));
+        assertEquals(List.of("A", "B"), read.stream().map(Recipe::getRecipeName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testLinesLongerThanReadBuffer() {
+        String longName = "x".repeat(200_000);
+        String text = "{\"recipeName\":\"" + longName + "\"}\n{\"recipeName\":\"short\"}\n{\"recipeName\":\"" + longName + "\"}";
+        List<Recipe> read = readAll(RecipeStreams.reader(input(text)));
+        assertEquals(3, read.size());
+        assertEquals(longName, read.get(0).getRecipeName());
+        assertEquals("short", read.get(1).getRecipeName());
+        assertEquals(longName, read.get(2).getRecipeName());
+    }
+
+    @Test
+    void testWriterMetrics() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecipeWriter writer = RecipeStreams.ndjsonWriter(out);
+        writer.writeAll(recipes(5));
+        writer.close();
+
+        StreamMetrics metrics = writer.getMetrics();
+        assertEquals(5, metrics.records());
+        assertEquals(out.size(), metrics.bytes());
+        assertTrue(metrics.elapsedNanos() > 0);
+        assertThrows(IOException.class, () -> writer.write(recipe(6)));
+    }
+
+    @Test
+    void testSkipInvalidMustPrecedeReading() {
+        RecipeReader reader = RecipeStreams.reader(input("{}\n"));
+        reader.hasNext();
+        assertThrows(IllegalStateException.class, reader::skipInvalid);
+    }
+}
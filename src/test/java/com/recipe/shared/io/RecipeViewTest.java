@@ -0,0 +1,172 @@
+package com.recipe.shared.io;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.RecipeJacksonModule;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading recipe properties from JSON bytes with RecipeView.
+ */
+class RecipeViewTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new RecipeJacksonModule());
+
+    private static Recipe sampleRecipe() {
+        return Recipe.builder()
+                .id("recipe-1")
+                .userId("user-1")
+                .recipeName("Crème brûlée")
+                .description("Custard with a \"caramel\" crust\nserved cold")
+                .ingredients(List.of("500ml cream", "5 egg yolks", "100g sugar"))
+                .instructions(List.of("Heat the cream", "Bake"))
+                .prepTimeMinutes(20)
+                .cookTimeMinutes(-5)
+                .totalTimeMinutes(2_000_000_000)
+                .prepTime("20 minutes")
+                .servings(4)
+                .nutritionalInfo(NutritionalInfo.builder().perServing(NutritionValues.builder().calories(410.0).build()).build())
+                .tips(RecipeTips.builder().makeAhead("Bake a day ahead").build())
+                .imageUrl("https://example.com/creme.png")
+                .createdAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .tags(List.of("dessert", "french"))
+                .dietaryRestrictions(List.of())
+                .publicRecipe(true)
+                .imageGeneration(Map.of("status", "complete", "attempts", 2))
+                .build();
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testMatchesDeserializedRecipe() throws Exception {
+        Recipe recipe = sampleRecipe();
+
+        RecipeView view = RecipeView.of(objectMapper.writeValueAsBytes(recipe));
+
+        assertEquals(recipe.getId(), view.getId());
+        assertEquals(recipe.getUserId(), view.getUserId());
+        assertEquals(recipe.getRecipeName(), view.getRecipeName());
+        assertEquals(recipe.getDescription(), view.getDescription());
+        assertEquals(recipe.getIngredients(), view.getIngredients());
+        assertEquals(recipe.getInstructions(), view.getInstructions());
+        assertEquals(recipe.getPrepTimeMinutes(), view.getPrepTimeMinutes());
+        assertEquals(recipe.getCookTimeMinutes(), view.getCookTimeMinutes());
+        assertEquals(recipe.getTotalTimeMinutes(), view.getTotalTimeMinutes());
+        assertEquals(recipe.getPrepTime(), view.getPrepTime());
+        assertNull(view.getCookTime());
+        assertEquals(recipe.getServings(), view.getServings());
+        assertEquals(recipe.getNutritionalInfo(), view.getNutritionalInfo());
+        assertEquals(recipe.getTips(), view.getTips());
+        assertEquals(recipe.getImageUrl(), view.getImageUrl());
+        assertNull(view.getSource());
+        assertEquals(recipe.getCreatedAt(), view.getCreatedAt());
+        assertNull(view.getUpdatedAt());
+        assertEquals(recipe.getTags(), view.getTags());
+        assertEquals(recipe.getDietaryRestrictions(), view.getDietaryRestrictions());
+        assertTrue(view.isPublicRecipe());
+        assertEquals(recipe.getImageGeneration(), view.getImageGeneration());
+        assertEquals(recipe, view.toRecipe());
+    }
+
+    @Test
+    void testReadsWithinLargerBuffer() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(sampleRecipe());
+        byte[] buffer = new byte[json.length + 20];
+        System.arraycopy(json, 0, buffer, 10, json.length);
+
+        RecipeView view = RecipeView.of(buffer, 10, json.length);
+
+        assertEquals("Crème brûlée", view.getRecipeName());
+        assertEquals(2_000_000_000, view.getTotalTimeMinutes());
+        assertEquals(sampleRecipe(), view.toRecipe());
+    }
+
+    @Test
+    void testMissingAndNullProperties() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"recipeName\": null, \"servings\": null, \"isPublic\": null, \"tags\": null}"));
+
+        assertNull(view.getRecipeName());
+        assertNull(view.getServings());
+        assertFalse(view.isPublicRecipe());
+        assertNull(view.getTags());
+        assertNull(view.getId());
+        assertNull(view.getNutritionalInfo());
+        assertTrue(view.has("recipeName"));
+        assertTrue(view.has("isPublic"));
+        assertFalse(view.has("id"));
+        assertFalse(view.has("publicRecipe"));
+    }
+
+    @Test
+    void testDecodesEscapesAndCoercions() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"recipeName\": \"Caf\\u00e9 \\\"au lait\\\"\", \"servings\": \"6\","
+                + " \"totalTimeMinutes\": 45.0, \"prepTimeMinutes\": 12345678901234, \"isPublic\": \"true\"}"));
+
+        assertEquals("Café \"au lait\"", view.getRecipeName());
+        assertEquals(6, view.getServings());
+        assertEquals(45, view.getTotalTimeMinutes());
+        assertTrue(view.isPublicRecipe());
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, view::getPrepTimeMinutes);
+        assertInstanceOf(JsonProcessingException.class, error.getCause());
+    }
+
+    @Test
+    void testLastRepeatedPropertyWins() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"servings\": 2, \"unknown\": {\"servings\": 3}, \"servings\": 4}"));
+
+        assertEquals(4, view.getServings());
+    }
+
+    @Test
+    void testToRecipeAppliesUnknownPropertyHandling() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"recipeName\": \"Toast\", \"rating\": 5}"));
+
+        assertEquals("Toast", view.getRecipeName());
+        assertThrows(UncheckedIOException.class, view::toRecipe);
+    }
+
+    @Test
+    void testReportsMalformedValuesOnAccess() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"recipeName\": \"Toast\", \"tags\": [\"a\",]}"));
+
+        assertEquals("Toast", view.getRecipeName());
+        assertThrows(UncheckedIOException.class, view::getTags);
+    }
+
+    @Test
+    void testEscapedPropertyNames() throws Exception {
+        RecipeView view = RecipeView.of(utf8("{\"recipe\\u004eame\": \"Toast\", \"servings\": 1}"));
+
+        assertEquals("Toast", view.getRecipeName());
+        assertEquals(1, view.getServings());
+    }
+
+    @Test
+    void testRejectsInvalidJson() {
+        assertThrows(MismatchedInputException.class, () -> RecipeView.of(utf8("[]")));
+        assertThrows(MismatchedInputException.class, () -> RecipeView.of(utf8("{} {}")));
+        assertThrows(JsonProcessingException.class, () -> RecipeView.of(utf8("{\"recipeName\": \"Toast\"")));
+        assertThrows(JsonProcessingException.class, () -> RecipeView.of(utf8("{\"servings\": tru}")));
+        assertThrows(JsonProcessingException.class, () -> RecipeView.of(utf8("{\"servings\" 4}")));
+        assertThrows(IndexOutOfBoundsException.class, () -> RecipeView.of(utf8("{}"), 1, 2));
+    }
+}
@@ -0,0 +1,224 @@
+package com.recipe.shared.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipe.shared.codec.ModelWireCodecs;
+import com.recipe.shared.diff.RecipeDiff;
+import com.recipe.shared.fingerprint.RecipeFingerprint;
+import com.recipe.shared.io.RecipeMergePatch;
+import com.recipe.shared.io.RecipeView;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the code which lists the model properties by hand (RecipeDiff, RecipeFingerprint, RecipeMergePatch,
+ * RecipeView and the wire codec) covers every Jackson and Firestore property of Recipe, NutritionalInfo,
+ * NutritionValues and RecipeTips. A property added to a model fails here until each of them handles it.
+ */
+class ModelPropertyCoverageTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private static final List<Class<?>> MODELS = List.of(Recipe.class, NutritionalInfo.class, NutritionValues.class, RecipeTips.class);
+
+    // Fields the fingerprint leaves out on purpose
+    private static final Set<String> UNFINGERPRINTED = Set.of("id", "userId", "createdAt", "updatedAt");
+
+    // Sets every property, to values that differ between variants
+    private static Recipe full(int variant) {
+        String v = String.valueOf(variant);
+        return Recipe.builder()
+                .id("id-" + v)
+                .userId("user-" + v)
+                .recipeName("name-" + v)
+                .description("description-" + v)
+                .ingredients(List.of("ingredient-" + v))
+                .instructions(List.of("instruction-" + v))
+                .prepTimeMinutes(10 + variant)
+                .cookTimeMinutes(20 + variant)
+                .totalTimeMinutes(30 + variant)
+                .prepTime(v + " min")
+                .cookTime(v + " hours")
+                .totalTime(v + " days")
+                .servings(variant)
+                .nutritionalInfo(NutritionalInfo.builder()
+                        .perServing(nutrition(variant))
+                        .total(nutrition(100 + variant))
+                        .build())
+                .tips(RecipeTips.builder()
+                        .substitutions(List.of("substitution-" + v))
+                        .makeAhead("make-ahead-" + v)
+                        .storage("storage-" + v)
+                        .reheating("reheating-" + v)
+                        .variations(List.of("variation-" + v))
+                        .build())
+                .imageUrl("https://example.com/" + v + ".png")
+                .source("source-" + v)
+                .createdAt(Instant.ofEpochSecond(1_700_000_000L + variant))
+                .updatedAt(Instant.ofEpochSecond(1_800_000_000L + variant))
+                .tags(List.of("tag-" + v))
+                .dietaryRestrictions(List.of("diet-" + v))
+                .publicRecipe(variant % 2 == 1)
+                .imageGeneration(Map.of("status", "status-" + v))
+                .build();
+    }
+
+    private static NutritionValues nutrition(int variant) {
+        return NutritionValues.builder()
+                .calories(variant + 0.1)
+                .protein(variant + 0.2)
+                .carbohydrates(variant + 0.3)
+                .fat(variant + 0.4)
+                .fiber(variant + 0.5)
+                .sodium(variant + 0.6)
+                .build();
+    }
+
+    @Test
+    void testJacksonAndFirestorePropertiesAgree() {
+        assertEquals(properties(Recipe.class), RecipeFirestoreCodec.encode(new Recipe()).keySet());
+        assertEquals(properties(NutritionalInfo.class), NutritionalInfoFirestoreCodec.encode(new NutritionalInfo()).keySet());
+        assertEquals(properties(NutritionValues.class), NutritionValuesFirestoreCodec.encode(new NutritionValues()).keySet());
+        assertEquals(properties(RecipeTips.class), RecipeTipsFirestoreCodec.encode(new RecipeTips()).keySet());
+
+        JsonNode first = MAPPER.valueToTree(full(1));
+        JsonNode second = MAPPER.valueToTree(full(2));
+        for (List<String> path : leafPaths()) {
+            assertFalse(at(first, path).isNull(), path + " should be set by the fixture");
+            assertNotEquals(at(first, path), at(second, path), path + " should differ between variants");
+        }
+    }
+
+    @Test
+    void testDiffCoversEveryProperty() {
+        Recipe before = full(1);
+        for (List<String> path : leafPaths()) {
+            Recipe after = withChange(path);
+
+            assertEquals(List.of(String.join(".", path)), RecipeDiff.between(before, after).paths());
+        }
+    }
+
+    @Test
+    void testFingerprintCoversEveryProperty() {
+        RecipeFingerprint original = RecipeFingerprint.of(full(1));
+        for (List<String> path : leafPaths()) {
+            RecipeFingerprint changed = RecipeFingerprint.of(withChange(path));
+
+            if (UNFINGERPRINTED.contains(path.get(0))) {
+                assertEquals(original, changed, path.toString());
+            } else {
+                assertNotEquals(original, changed, path.toString());
+            }
+        }
+    }
+
+    @Test
+    void testMergePatchCoversEveryProperty() throws Exception {
+        RecipeMergePatch mergePatch = new RecipeMergePatch(MAPPER);
+        JsonNode second = MAPPER.valueToTree(full(2));
+        for (List<String> path : leafPaths()) {
+            ObjectNode patch = MAPPER.createObjectNode();
+            ObjectNode parent = patch;
+            for (String name : path.subList(0, path.size() - 1)) {
+                parent = parent.putObject(name);
+            }
+            parent.set(path.get(path.size() - 1), at(second, path));
+
+            assertEquals(withChange(path), mergePatch.apply(full(1), MAPPER.writeValueAsString(patch)), path.toString());
+        }
+    }
+
+    @Test
+    void testRecipeViewCoversEveryProperty() throws Exception {
+        Recipe recipe = full(1);
+        RecipeView view = RecipeView.of(MAPPER.writeValueAsBytes(recipe));
+
+        for (BeanPropertyDefinition property : definitions(Recipe.class)) {
+            assertTrue(view.has(property.getName()), property.getName());
+            Method getter = property.getGetter().getAnnotated();
+            Method viewGetter = RecipeView.class.getMethod(getter.getName());
+            assertEquals(getter.invoke(recipe), viewGetter.invoke(view), property.getName());
+        }
+        assertEquals(recipe, view.toRecipe());
+    }
+
+    @Test
+    void testWireCodecCoversEveryProperty() {
+        assertEquals(full(1), ModelWireCodecs.RECIPE.decode(ModelWireCodecs.RECIPE.encode(full(1))));
+        for (List<String> path : leafPaths()) {
+            Recipe changed = withChange(path);
+
+            assertEquals(changed, ModelWireCodecs.RECIPE.decode(ModelWireCodecs.RECIPE.encode(changed)), path.toString());
+        }
+    }
+
+    /**
+     * Returns the JSON path of every property that is not itself a model, e.g. {@code [nutritionalInfo, total, fat]}.
+     */
+    private static List<List<String>> leafPaths() {
+        List<List<String>> paths = new ArrayList<>();
+        addLeafPaths(Recipe.class, new ArrayList<>(), paths);
+        return paths;
+    }
+
+    private static void addLeafPaths(Class<?> type, List<String> prefix, List<List<String>> paths) {
+        for (BeanPropertyDefinition property : definitions(type)) {
+            List<String> path = new ArrayList<>(prefix);
+            path.add(property.getName());
+            if (MODELS.contains(property.getRawPrimaryType())) {
+                addLeafPaths(property.getRawPrimaryType(), path, paths);
+            } else {
+                paths.add(path);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code full(1)} with the property at {@code path} taken from {@code full(2)}.
+     */
+    private static Recipe withChange(List<String> path) {
+        ObjectNode tree = MAPPER.valueToTree(full(1));
+        ObjectNode parent = tree;
+        for (String name : path.subList(0, path.size() - 1)) {
+            parent = (ObjectNode) parent.get(name);
+        }
+        parent.set(path.get(path.size() - 1), at(MAPPER.valueToTree(full(2)), path));
+        try {
+            return MAPPER.treeToValue(tree, Recipe.class);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static JsonNode at(JsonNode node, List<String> path) {
+        for (String name : path) {
+            node = node.get(name);
+        }
+        return node;
+    }
+
+    private static Set<String> properties(Class<?> type) {
+        Set<String> names = new LinkedHashSet<>();
+        for (BeanPropertyDefinition property : definitions(type)) {
+            names.add(property.getName());
+        }
+        return names;
+    }
+
+    private static List<BeanPropertyDefinition> definitions(Class<?> type) {
+        return MAPPER.getDeserializationConfig().introspect(MAPPER.constructType(type)).findProperties();
+    }
+}
@@ -1,11 +1,17 @@
 package com.recipe.shared.model;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Tests for NutritionValues model JSON serialization and Map conversion.
@@ -123,4 +129,106 @@ class NutritionValuesTest {
         assertNotNull(nutritionValues);
         assertNull(nutritionValues.getCalories()); // Should return null for non-numbers
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPrimitiveAccessors() {
+        // Given
+        NutritionValues nutritionValues = NutritionValues.builder().calories(0.0).fat(12.5).build();
+
+        // Then
+        assertTrue(nutritionValues.hasCalories());
+        assertEquals(0.0, nutritionValues.caloriesOr(-1));
+        assertEquals(12.5, nutritionValues.fatOr(-1));
+        assertFalse(nutritionValues.hasProtein());
+        assertEquals(-1, nutritionValues.proteinOr(-1));
+
+        // Setting null clears the value again
+        nutritionValues.setFat(null);
+        assertFalse(nutritionValues.hasFat());
+        assertNull(nutritionValues.getFat());
+    }
+
+    @Test
+    void testUnsetDiffersFromZero() throws Exception {
+        // Given
+        NutritionValues unset = new NutritionValues();
+        NutritionValues zero = NutritionValues.builder().calories(0.0).build();
+
+        // Then
+        assertNotEquals(unset, zero);
+        assertNotEquals(unset.hashCode(), zero.hashCode());
+        assertEquals(zero, NutritionValues.fromMap(Map.of("calories", 0)));
+        assertEquals(new NutritionValues(null, null, null, null, null, null), unset);
+        assertEquals("{\"calories\":null,\"protein\":null,\"carbohydrates\":null,\"fat\":null,\"fiber\":null,\"sodium\":null}",
+                objectMapper.writeValueAsString(unset));
+        assertEquals(unset, objectMapper.readValue("{\"calories\":null}", NutritionValues.class));
+        assertEquals("NutritionValues(calories=0.0, protein=null, carbohydrates=null, fat=null, fiber=null, sodium=null)",
+                zero.toString());
+    }
+
+    @Test
+    void testInstanceFieldsArePrimitive() {
+        for (Field field : NutritionValues.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                assertTrue(field.getType().isPrimitive(), field.getName());
+            }
+        }
+    }
+
+    @Test
+    void testFootprintIsLessThanHalfOfBoxedLayout() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        // Firestore returns whole numbers as Long, so the boxed layout needs a new Double for every value
+        Map<String, Object> map = Map.of("calories", 350L, "protein", 25L, "carbohydrates", 40L,
+                "fat", 12L, "fiber", 5L, "sodium", 800L);
+        int count = 10_000;
+        Object[] retained = new Object[count];
+
+        // Warm up both paths so the measured loops allocate nothing but the instances they keep
+        for (int round = 0; round < 3; round++) {
+            allocatedPerInstance(threads, retained, () -> NutritionValues.fromMap(map));
+            allocatedPerInstance(threads, retained, () -> BoxedNutritionValues.fromMap(map));
+        }
+        long primitive = allocatedPerInstance(threads, retained, () -> NutritionValues.fromMap(map));
+        long boxed = allocatedPerInstance(threads, retained, () -> BoxedNutritionValues.fromMap(map));
+
+        // 64 bytes against 184 on Temurin 21, 72 against 208 without compressed class pointers
+        assertTrue(primitive <= 72, "bytes per instance: " + primitive);
+        assertTrue(primitive * 2 < boxed, primitive + " bytes per instance against " + boxed + " boxed");
+    }
+
+    // Bytes allocated per instance while filling the array, which keeps every instance reachable
+    private static long allocatedPerInstance(ThreadMXBean threads, Object[] retained, Supplier<Object> factory) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < retained.length; i++) {
+            retained[i] = factory.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / retained.length;
+    }
+
+    // The layout before values were stored as primitives: one Double per value
+    private static final class BoxedNutritionValues {
+        Double calories;
+        Double protein;
+        Double carbohydrates;
+        Double fat;
+        Double fiber;
+        Double sodium;
+
+        static BoxedNutritionValues fromMap(Map<String, Object> map) {
+            BoxedNutritionValues values = new BoxedNutritionValues();
+            values.calories = toDouble(map.get("calories"));
+            values.protein = toDouble(map.get("protein"));
+            values.carbohydrates = toDouble(map.get("carbohydrates"));
+            values.fat = toDouble(map.get("fat"));
+            values.fiber = toDouble(map.get("fiber"));
+            values.sodium = toDouble(map.get("sodium"));
+            return values;
+        }
+
+        private static Double toDouble(Object value) {
+            return value == null ? null : ((Number) value).doubleValue();
+        }
+    }
+}
@@ -78,6 +78,22 @@ class RecipeTipsTest {
         assertEquals(recipeTips.getVariations(), map.get("variations"));
     }
 
+    @Test
+    void testToMap_NullLists() {
+        // Given
+        RecipeTips recipeTips = RecipeTips.builder()
+                .substitutions(Arrays.asList("Use olive oil"))
+                .makeAhead("Make the sauce a day ahead")
+                .build();
+
+        // When
+        Map<String, List<String>> map = recipeTips.toMap();
+
+        // Then
+        assertEquals(recipeTips.getSubstitutions(), map.get("substitutions"));
+        assertFalse(map.containsKey("variations"));
+    }
+
     @Test
     void testFromMap_NullInput() {
         // When
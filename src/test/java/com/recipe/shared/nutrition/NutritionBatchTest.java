@@ -0,0 +1,105 @@
+package com.recipe.shared.nutrition;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NutritionBatchTest {
+
+    private static NutritionalInfo info(Double totalCalories, Double totalProtein) {
+        return NutritionalInfo.builder()
+                .total(NutritionValues.builder().calories(totalCalories).protein(totalProtein).build())
+                .build();
+    }
+
+    private static final List<NutritionalInfo> INFOS = Arrays.asList(
+            info(800.0, 40.0),
+            info(1200.0, null),
+            null,
+            info(300.0, 9.0),
+            NutritionalInfo.builder().perServing(NutritionValues.builder().fat(5.0).build()).build());
+
+    @Test
+    void testBuildAndConvertBack() {
+        NutritionBatch batch = NutritionBatch.total(INFOS);
+
+        assertEquals(5, batch.size());
+        assertEquals(800.0, batch.get(0, Nutrient.CALORIES));
+        assertTrue(Double.isNaN(batch.get(1, Nutrient.PROTEIN)));
+        assertEquals(INFOS.get(1).getTotal(), batch.toValues(1));
+        assertEquals(new NutritionValues(), batch.toValues(2));
+        assertEquals(new NutritionValues(), batch.toValues(4));
+        assertEquals(5.0, NutritionBatch.perServing(INFOS).get(4, Nutrient.FAT));
+    }
+
+    @Test
+    void testAggregatesSkipUnsetValues() {
+        NutritionBatch batch = NutritionBatch.total(INFOS);
+
+        assertEquals(2300.0, batch.sum(Nutrient.CALORIES));
+        assertEquals(3, batch.count(Nutrient.CALORIES));
+        assertEquals(300.0, batch.min(Nutrient.CALORIES));
+        assertEquals(1200.0, batch.max(Nutrient.CALORIES));
+        assertEquals(0.0, batch.sum(Nutrient.SODIUM));
+        assertTrue(Double.isNaN(batch.min(Nutrient.SODIUM)));
+        assertTrue(Double.isNaN(batch.max(Nutrient.SODIUM)));
+
+        NutritionValues sum = batch.sum();
+        assertEquals(2300.0, sum.getCalories());
+        assertEquals(49.0, sum.getProtein());
+        assertNull(sum.getSodium());
+    }
+
+    @Test
+    void testScaleAndPerServing() {
+        NutritionBatch batch = NutritionBatch.total(INFOS);
+
+        NutritionBatch perServing = batch.perServing(new int[] {4, 3, 2, 0, 1});
+        assertEquals(200.0, perServing.get(0, Nutrient.CALORIES));
+        assertEquals(10.0, perServing.get(0, Nutrient.PROTEIN));
+        assertEquals(400.0, perServing.get(1, Nutrient.CALORIES));
+        assertTrue(Double.isNaN(perServing.get(3, Nutrient.CALORIES)));
+
+        NutritionBatch eaten = perServing.scale(new double[] {2, 0.5, 1, 1, 1});
+        assertEquals(600.0, eaten.sum(Nutrient.CALORIES));
+        assertEquals(1600.0, batch.scale(2).get(0, Nutrient.CALORIES));
+        // The original batch is unchanged
+        assertEquals(800.0, batch.get(0, Nutrient.CALORIES));
+
+        assertThrows(IllegalArgumentException.class, () -> batch.scale(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> batch.perServing(new int[6]));
+    }
+
+    @Test
+    void testRangeFilters() {
+        NutritionBatch batch = NutritionBatch.total(INFOS);
+
+        int[] moderate = batch.rowsWithin(Nutrient.CALORIES, 300, 1000);
+        assertArrayEquals(new int[] {0, 3}, moderate);
+        assertArrayEquals(new int[] {3}, batch.rowsWithin(Nutrient.PROTEIN, 0, 10, moderate));
+        assertArrayEquals(new int[0], batch.rowsWithin(Nutrient.SODIUM, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testMatchesObjectLoopOnLargeBatch() {
+        List<NutritionValues> values = new ArrayList<>();
+        double expected = 0;
+        for (int i = 0; i < 1003; i++) {
+            Double calories = i % 7 == 0 ? null : i * 1.5;
+            values.add(NutritionValues.builder().calories(calories).build());
+            expected += calories == null ? 0 : calories;
+        }
+        NutritionBatch batch = NutritionBatch.of(values);
+
+        assertEquals(expected, batch.sum(Nutrient.CALORIES), 1e-6);
+        assertEquals(1.5, batch.min(Nutrient.CALORIES));
+        assertEquals(1002 * 1.5, batch.max(Nutrient.CALORIES));
+        assertEquals(1003 - 144, batch.count(Nutrient.CALORIES));
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipe.shared.schema;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class GeneratedSchemasTest {
+
+    private static final String SAMPLE_SOURCE = String.join("\n",
+            "package sample;",
+            "import com.fasterxml.jackson.annotation.JsonIgnore;",
+            "import com.fasterxml.jackson.annotation.JsonProperty;",
+            "import com.recipe.shared.schema.GenerateSchema;",
+            "import com.recipe.shared.schema.SchemaProfile;",
+            "import com.recipe.shared.schema.SchemaProfiles;",
+            "import com.recipe.shared.schema.SchemaRequired;",
+            "import java.util.List;",
+            "import java.util.Map;",
+            "@GenerateSchema",
+            "public class Menu {",
+            "    public enum Course { STARTER, MAIN, DESSERT }",
+            "    @SchemaProfiles({SchemaProfile.FULL, SchemaProfile.NUTRITION_ONLY})",
+            "    public static class Dish {",
+            "        @SchemaRequired public String name;",
+            "        public Menu menu;",
+            "        public List<Dish> pairings;",
+            "    }",
+            "    @JsonProperty(\"menuTitle\") @SchemaRequired public String title;",
+            "    @SchemaProfiles(SchemaProfile.FULL) public long id;",
+            "    @SchemaRequired public double price;",
+            "    public Course course;",
+            "    @SchemaProfiles({SchemaProfile.FULL, SchemaProfile.AI_GENERATION, SchemaProfile.NUTRITION_ONLY}) public Dish[] dishes;",
+            "    public Map<String, Object> metadata;",
+            "    public java.time.Instant publishedAt;",
+            "    @JsonIgnore public String internalNote;",
+            "    public transient String cache;",
+            "    public static String CONSTANT;",
+            "}");
+
+    @Test
+    public void testModelSchemasAreGeneratedAtCompileTime() {
+        for (Class<?> type : List.of(Recipe.class, NutritionalInfo.class, NutritionValues.class, RecipeTips.class)) {
+            for (SchemaProfile profile : SchemaProfile.values()) {
+                JsonSchema generated = GeneratedSchemas.load(type, profile);
+                Assertions.assertNotNull(generated, profile + " schema for " + type.getSimpleName() + " should be generated at compile time");
+                assertSameSchema(SchemaGenerator.introspect(type, profile), generated);
+            }
+        }
+    }
+
+    @Test
+    public void testSchemaGeneratorPrefersGeneratedSchema() {
+        Assertions.assertEquals(GeneratedSchemas.load(RecipeTips.class, SchemaProfile.FULL), SchemaGenerator.forType(RecipeTips.class));
+    }
+
+    @Test
+    public void testMissingGeneratedSchemaReturnsNull() {
+        Assertions.assertNull(GeneratedSchemas.load(GeneratedSchemasTest.class, SchemaProfile.FULL));
+        Assertions.assertNull(GeneratedSchemas.load(String.class, SchemaProfile.FULL));
+    }
+
+    @Test
+    public void testProcessorMatchesRuntimeIntrospection() throws Exception {
+        Path dir = Files.createTempDirectory("schema-processor");
+        Path source = dir.resolve("Menu.java");
+        Files.writeString(source, SAMPLE_SOURCE);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-d", dir.toString(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", "com.recipe.shared.schema.processor.SchemaProcessor",
+                source.toString());
+        Assertions.assertEquals(0, result, "sample should compile with the schema processor");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> menu = loader.loadClass("sample.Menu");
+            for (SchemaProfile profile : SchemaProfile.values()) {
+                Assertions.assertTrue(new File(dir.toFile(), profile.resourceName("sample.Menu")).isFile());
+                JsonSchema generated = GeneratedSchemas.load(menu, profile);
+                Assertions.assertNotNull(generated);
+                assertSameSchema(SchemaGenerator.introspect(menu, profile), generated);
+            }
+        }
+    }
+
+    private static void assertSameSchema(JsonSchema expected, JsonSchema actual) {
+        // Compare the serialized form so that property order is checked too
+        Assertions.assertEquals(new String(expected.toJsonBytes()), new String(actual.toJsonBytes()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.recipe.shared.schema;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonSchemaTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testJsonBytesMatchJacksonOutputOfTheMap() throws Exception {
+        JsonSchema schema = RecipeSchema.getSchema();
+        byte[] expected = objectMapper.writeValueAsBytes(schema.getSchema());
+
+        Assertions.assertArrayEquals(expected, schema.toJsonBytes());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        schema.writeTo(out);
+        Assertions.assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    public void testToJsonBytesReturnsDefensiveCopy() {
+        JsonSchema schema = GeminiSchemaBuilder.string().build();
+        byte[] bytes = schema.toJsonBytes();
+        bytes[0] = 'x';
+        Assertions.assertEquals("{\"type\":\"string\"}", new String(schema.toJsonBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testJacksonSerializationIsUnchangedWhenEmbedded() throws Exception {
+        JsonSchema schema = GeminiSchemaBuilder.object()
+                .property("name", GeminiSchemaBuilder.string())
+                .required("name")
+                .build();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("responseMimeType", "application/json");
+        request.put("responseSchema", schema);
+
+        Assertions.assertEquals(
+                "{\"responseMimeType\":\"application/json\",\"responseSchema\":"
+                        + "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}},\"required\":[\"name\"]}}",
+                objectMapper.writeValueAsString(request));
+
+        String pretty = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(schema);
+        Assertions.assertEquals(objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(schema.getSchema()), pretty);
+    }
+
+    @Test
+    public void testJacksonSerializationHonoursNonDefaultSettings() throws Exception {
+        JsonSchema schema = GeminiSchemaBuilder.object()
+                .property("zest", GeminiSchemaBuilder.string().description("Crème brûlée"))
+                .property("apple", GeminiSchemaBuilder.string().enumValues(List.of("tart")))
+                .build();
+
+        ObjectMapper escaping = objectMapper.copy();
+        escaping.getFactory().configure(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature(), true);
+        String escaped = escaping.writeValueAsString(schema);
+        Assertions.assertEquals(escaping.writeValueAsString(schema.getSchema()), escaped);
+        Assertions.assertTrue(escaped.contains("Cr\\u00E8me br\\u00FBl\\u00E9e"), escaped);
+
+        ObjectMapper sorted = objectMapper.copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        String ordered = sorted.writeValueAsString(schema);
+        Assertions.assertEquals(sorted.writeValueAsString(schema.getSchema()), ordered);
+        Assertions.assertTrue(ordered.indexOf("\"apple\"") < ordered.indexOf("\"zest\""), ordered);
+
+        ObjectMapper unwrapped = objectMapper.copy().enable(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
+        Assertions.assertEquals(unwrapped.writeValueAsString(schema.getSchema()), unwrapped.writeValueAsString(schema));
+    }
+
+    @Test
+    public void testContentHashAndEtagAreStable() {
+        JsonSchema first = GeminiSchemaBuilder.object().property("a", GeminiSchemaBuilder.integer()).build();
+        JsonSchema second = GeminiSchemaBuilder.object().property("a", GeminiSchemaBuilder.integer()).build();
+        JsonSchema other = GeminiSchemaBuilder.object().property("a", GeminiSchemaBuilder.number()).build();
+
+        Assertions.assertEquals(64, first.contentHash().length());
+        Assertions.assertEquals(first.contentHash(), second.contentHash());
+        Assertions.assertNotEquals(first.contentHash(), other.contentHash());
+        Assertions.assertEquals("\"" + first.contentHash() + "\"", first.etag());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        JsonSchema first = GeminiSchemaBuilder.array().items(GeminiSchemaBuilder.string()).build();
+        JsonSchema second = GeminiSchemaBuilder.array().items(GeminiSchemaBuilder.string()).build();
+        JsonSchema other = GeminiSchemaBuilder.array().items(GeminiSchemaBuilder.bool()).build();
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertNotEquals(first, other);
+    }
+}
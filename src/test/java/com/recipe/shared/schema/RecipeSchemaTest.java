@@ -4,7 +4,6 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
-import org.junit.jupiter.api.Assertions;
 
 public class RecipeSchemaTest {
 
@@ -54,4 +53,91 @@ public class RecipeSchemaTest {
         // images are generated separately by the image endpoint and shouldn't be validated by Gemini.
         Assertions.assertFalse(props.containsKey("imageGeneration"), "imageGeneration should not be present in the schema");
     }
+
+    @Test
+    public void testSchemaIsComputedOnceAndShared() {
+        JsonSchema first = RecipeSchema.getSchema();
+        JsonSchema second = RecipeSchema.getSchema();
+        Assertions.assertSame(first, second, "getSchema should return the cached instance");
+    }
+
+    @Test
+    public void testRefreshRebuildsSchemaAndBumpsVersion() {
+        JsonSchema before = RecipeSchema.getSchema();
+        long versionBefore = RecipeSchema.getSchemaVersion();
+
+        RecipeSchema.refresh();
+        JsonSchema after = RecipeSchema.getSchema();
+
+        Assertions.assertNotSame(before, after, "refresh should force a rebuild");
+        Assertions.assertEquals(before, after, "rebuilt schema should have the same content");
+        Assertions.assertTrue(RecipeSchema.getSchemaVersion() > versionBefore, "schema version should increase after refresh");
+    }
+
+    @Test
+    public void testCachedSchemaIsDeeplyImmutable() {
+        Map<String, Object> schemaMap = RecipeSchema.getSchema().getSchema();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> props = (Map<String, Object>) schemaMap.get("properties");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> props.remove("recipeName"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> tags = (Map<String, Object>) props.get("tags");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> tags.put("type", "string"));
+    }
+
+    @Test
+    public void testAiGenerationProfileOmitsServerOwnedFields() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> props = (Map<String, Object>) RecipeSchema.getSchema(SchemaProfile.AI_GENERATION).getSchema().get("properties");
+        for (String serverOwned : new String[] {"id", "userId", "createdAt", "updatedAt", "isPublic", "source", "imageGeneration"}) {
+            Assertions.assertFalse(props.containsKey(serverOwned), serverOwned + " should not be in the AI generation schema");
+        }
+        Assertions.assertTrue(props.containsKey("recipeName"));
+        Assertions.assertTrue(props.containsKey("nutritionalInfo"));
+        Assertions.assertTrue(props.containsKey("tips"));
+    }
+
+    @Test
+    public void testRequiredPropertiesInEveryProfileThatIncludesThem() {
+        java.util.Set<String> expected = java.util.Set.of("recipeName", "ingredients", "instructions", "servings");
+        for (SchemaProfile profile : new SchemaProfile[] {SchemaProfile.FULL, SchemaProfile.AI_GENERATION}) {
+            for (JsonSchema schema : new JsonSchema[] {RecipeSchema.getSchema(profile), SchemaGenerator.introspect(com.recipe.shared.model.Recipe.class, profile)}) {
+                Object required = schema.getSchema().get("required");
+                Assertions.assertNotNull(required, profile + " schema should list required properties");
+                Assertions.assertEquals(expected, new java.util.HashSet<>((java.util.List<?>) required), profile.name());
+            }
+        }
+        Assertions.assertNull(RecipeSchema.getSchema(SchemaProfile.NUTRITION_ONLY).getSchema().get("required"));
+    }
+
+    @Test
+    public void testNutritionOnlyProfileContainsOnlyNutrition() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> props = (Map<String, Object>) RecipeSchema.getSchema(SchemaProfile.NUTRITION_ONLY).getSchema().get("properties");
+        Assertions.assertEquals(java.util.Set.of("nutritionalInfo"), props.keySet());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> nutritionProps = (Map<String, Object>) ((Map<String, Object>) props.get("nutritionalInfo")).get("properties");
+        Assertions.assertTrue(nutritionProps.containsKey("perServing"));
+        Assertions.assertTrue(nutritionProps.containsKey("total"));
+    }
+
+    @Test
+    public void testProfilesAreCachedIndependently() {
+        Assertions.assertSame(RecipeSchema.getSchema(SchemaProfile.AI_GENERATION), RecipeSchema.getSchema(SchemaProfile.AI_GENERATION));
+        Assertions.assertSame(RecipeSchema.getSchema(), RecipeSchema.getSchema(SchemaProfile.FULL));
+        Assertions.assertNotEquals(RecipeSchema.getSchema(SchemaProfile.FULL), RecipeSchema.getSchema(SchemaProfile.AI_GENERATION));
+    }
+
+    @Test
+    public void testSizeReportShrinksForNarrowerProfiles() {
+        Map<SchemaProfile, SchemaSize> report = RecipeSchema.getSizeReport();
+        Assertions.assertEquals(SchemaProfile.values().length, report.size());
+        SchemaSize full = report.get(SchemaProfile.FULL);
+        SchemaSize ai = report.get(SchemaProfile.AI_GENERATION);
+        SchemaSize nutrition = report.get(SchemaProfile.NUTRITION_ONLY);
+        Assertions.assertEquals(RecipeSchema.getSchema().toJsonBytes().length, full.bytes());
+        Assertions.assertTrue(ai.bytes() < full.bytes(), "AI generation schema should be smaller than the full schema");
+        Assertions.assertTrue(nutrition.bytes() < ai.bytes(), "nutrition schema should be smaller than the AI generation schema");
+        Assertions.assertTrue(ai.estimatedTokens() < full.estimatedTokens());
+    }
 }
@@ -0,0 +1,166 @@
+package com.recipe.shared.schema;
+
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class SchemaGeneratorTest {
+
+    enum Difficulty { EASY, HARD }
+
+    static class TreeNode {
+        public String label;
+        public List<TreeNode> children;
+    }
+
+    static class Author {
+        public String name;
+        public Book latestBook;
+    }
+
+    static class Book {
+        public String title;
+        public Author author;
+        public Difficulty difficulty;
+    }
+
+    // Dedicated types for the stress test so that no other test has warmed their cache slots
+    static class StressRoot {
+        public String name;
+        public StressLeaf leaf;
+        public StressCycle cycle;
+        public List<StressLeaf> leaves;
+    }
+
+    static class StressLeaf {
+        public Double value;
+        public Integer count;
+    }
+
+    static class StressCycle {
+        public String id;
+        public StressRoot root;
+        public StressCycle next;
+    }
+
+    @Test
+    public void testGeneratesSameRecipeSchemaAsBefore() {
+        Map<String, Object> props = properties(SchemaGenerator.forType(Recipe.class));
+        Assertions.assertEquals("integer", type(props.get("servings")));
+        Assertions.assertEquals("string", type(props.get("createdAt")));
+        Assertions.assertEquals("boolean", type(props.get("isPublic")));
+        Assertions.assertEquals("array", type(props.get("tags")));
+
+        Map<String, Object> perServing = properties(properties(props.get("nutritionalInfo")).get("perServing"));
+        Assertions.assertEquals("number", type(perServing.get("calories")));
+    }
+
+    @Test
+    public void testReturnsCachedInstance() {
+        Assertions.assertSame(SchemaGenerator.forType(NutritionalInfo.class), SchemaGenerator.forType(NutritionalInfo.class));
+    }
+
+    @Test
+    public void testSelfRecursiveTypeIsCutOff() {
+        Map<String, Object> props = properties(SchemaGenerator.forType(TreeNode.class));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> items = (Map<String, Object>) ((Map<String, Object>) props.get("children")).get("items");
+        Assertions.assertEquals("object", items.get("type"));
+        Assertions.assertEquals("Recursive reference to TreeNode", items.get("description"));
+        Assertions.assertFalse(items.containsKey("properties"));
+    }
+
+    @Test
+    public void testMutuallyRecursiveTypesDoNotDependOnRequestOrder() {
+        JsonSchema author = SchemaGenerator.forType(Author.class);
+        JsonSchema book = SchemaGenerator.forType(Book.class);
+
+        // Book requested on its own expands its author once, and the author's book is cut off
+        Map<String, Object> bookAuthor = properties(properties(book).get("author"));
+        Assertions.assertEquals("string", type(bookAuthor.get("name")));
+        Assertions.assertEquals("Recursive reference to Book", description(bookAuthor.get("latestBook")));
+
+        Map<String, Object> authorBook = properties(properties(author).get("latestBook"));
+        Assertions.assertEquals("Recursive reference to Author", description(authorBook.get("author")));
+    }
+
+    @Test
+    public void testEnumsBecomeStringEnums() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> difficulty = (Map<String, Object>) properties(SchemaGenerator.forType(Book.class)).get("difficulty");
+        Assertions.assertEquals("string", difficulty.get("type"));
+        Assertions.assertEquals(List.of("EASY", "HARD"), difficulty.get("enum"));
+    }
+
+    @Test
+    public void testConcurrentFirstAccessProducesOneConsistentSchema() throws Exception {
+        int threads = 256;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<JsonSchema[]>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                final boolean cycleFirst = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    // Half of the threads enter the cycle from the other side to race on nested slots
+                    if (cycleFirst) {
+                        JsonSchema cycle = SchemaGenerator.forType(StressCycle.class);
+                        return new JsonSchema[] {SchemaGenerator.forType(StressRoot.class), cycle};
+                    }
+                    JsonSchema root = SchemaGenerator.forType(StressRoot.class);
+                    return new JsonSchema[] {root, SchemaGenerator.forType(StressCycle.class)};
+                }));
+            }
+            Assertions.assertTrue(ready.await(30, TimeUnit.SECONDS), "threads should start");
+            start.countDown();
+
+            JsonSchema[] first = results.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<JsonSchema[]> result : results) {
+                JsonSchema[] schemas = result.get(30, TimeUnit.SECONDS);
+                Assertions.assertSame(first[0], schemas[0], "all threads should observe the published root schema");
+                Assertions.assertSame(first[1], schemas[1], "all threads should observe the published cycle schema");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> root = properties(SchemaGenerator.forType(StressRoot.class));
+        Assertions.assertEquals("number", type(properties(root.get("leaf")).get("value")));
+        Map<String, Object> cycle = properties(root.get("cycle"));
+        Assertions.assertEquals("Recursive reference to StressRoot", description(cycle.get("root")));
+        Assertions.assertEquals("Recursive reference to StressCycle", description(cycle.get("next")));
+
+        Map<String, Object> cycleAlone = properties(SchemaGenerator.forType(StressCycle.class));
+        Assertions.assertEquals("string", type(properties(cycleAlone.get("root")).get("name")));
+        Assertions.assertEquals("Recursive reference to StressCycle", description(cycleAlone.get("next")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> properties(Object schema) {
+        Map<String, Object> map = schema instanceof JsonSchema json ? json.getSchema() : (Map<String, Object>) schema;
+        return (Map<String, Object>) map.get("properties");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object type(Object property) {
+        return ((Map<String, Object>) property).get("type");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object description(Object property) {
+        return ((Map<String, Object>) property).get("description");
+    }
+}
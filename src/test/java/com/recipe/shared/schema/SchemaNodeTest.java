@@ -0,0 +1,89 @@
+package com.recipe.shared.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.recipe.shared.schema.GeminiSchemaBuilder.*;
+
+public class SchemaNodeTest {
+
+    @Test
+    public void testNestedBuildersAreSharedNotCopied() {
+        GeminiSchemaBuilder values = object().property("calories", number());
+        SchemaNode valuesNode = values.buildNode();
+        SchemaNode info = object()
+            .property("perServing", values)
+            .property("total", values)
+            .buildNode();
+
+        Map<?, ?> properties = (Map<?, ?>) info.get("properties");
+        Assertions.assertSame(valuesNode, properties.get("perServing"));
+        Assertions.assertSame(valuesNode, properties.get("total"));
+        Assertions.assertSame(info, SchemaNode.of(info));
+        Assertions.assertSame(info, new JsonSchema(info).getSchema());
+    }
+
+    @Test
+    public void testBuildNodeIsReusedUntilModified() {
+        GeminiSchemaBuilder builder = object().property("name", string());
+        SchemaNode first = builder.buildNode();
+        Assertions.assertSame(first, builder.buildNode());
+
+        builder.property("servings", integer());
+        SchemaNode second = builder.buildNode();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(1, ((Map<?, ?>) first.get("properties")).size());
+        Assertions.assertEquals(2, ((Map<?, ?>) second.get("properties")).size());
+    }
+
+    @Test
+    public void testKeywordOrderIsPreserved() {
+        SchemaNode node = object()
+            .description("A recipe")
+            .property("name", string())
+            .required("name")
+            .buildNode();
+        Assertions.assertEquals(List.of("type", "description", "properties", "required"), new ArrayList<>(node.keySet()));
+    }
+
+    @Test
+    public void testNodesAreDeeplyImmutable() {
+        Map<String, Object> items = new LinkedHashMap<>();
+        items.put("type", "string");
+        List<String> values = new ArrayList<>(List.of("a", "b"));
+        items.put("enum", values);
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("type", "array");
+        source.put("items", items);
+
+        SchemaNode node = SchemaNode.of(source);
+        items.put("description", "changed");
+        values.add("c");
+
+        Map<?, ?> frozenItems = (Map<?, ?>) node.get("items");
+        Assertions.assertInstanceOf(SchemaNode.class, frozenItems);
+        Assertions.assertFalse(frozenItems.containsKey("description"));
+        Assertions.assertEquals(List.of("a", "b"), frozenItems.get("enum"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> node.put("type", "object"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((List<?>) frozenItems.get("enum")).clear());
+    }
+
+    @Test
+    public void testEqualsMatchesPlainMaps() {
+        Map<String, Object> plain = new LinkedHashMap<>();
+        plain.put("type", "string");
+        plain.put("description", "a string");
+
+        SchemaNode node = SchemaNode.of(plain);
+        Assertions.assertEquals(plain, node);
+        Assertions.assertEquals(node, plain);
+        Assertions.assertEquals(plain.hashCode(), node.hashCode());
+        Assertions.assertEquals(node, GeminiSchemaBuilder.simpleProperty(GeminiSchemaType.STRING, "a string"));
+        Assertions.assertNotEquals(node, SchemaNode.of(Map.of("type", "string")));
+    }
+}
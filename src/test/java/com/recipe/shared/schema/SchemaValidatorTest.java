@@ -0,0 +1,181 @@
+package com.recipe.shared.schema;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.shared.io.RecipeStreams;
+import com.recipe.shared.io.RecipeWriter;
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import com.recipe.shared.model.RecipeTips;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static com.recipe.shared.schema.GeminiSchemaBuilder.*;
+
+public class SchemaValidatorTest {
+
+    private static final SchemaValidator VALIDATOR = SchemaValidator.compile(object()
+        .property("recipeName", string())
+        .property("ingredients", array().items(string()))
+        .property("instructions", array().items(string()))
+        .property("servings", integer())
+        .property("difficulty", string().enumValues(List.of("EASY", "MEDIUM", "HARD")))
+        .property("nutritionalInfo", object()
+            .property("perServing", object().property("calories", number())))
+        .required("recipeName", "ingredients", "instructions", "servings")
+        .build());
+
+    private static final String VALID = "{\"recipeName\":\"Soup\",\"ingredients\":[\"water\",\"salt\"],"
+        + "\"instructions\":[\"Boil\"],\"servings\":2,\"difficulty\":\"EASY\","
+        + "\"nutritionalInfo\":{\"perServing\":{\"calories\":120.5}},\"notes\":{\"free\":[1,null]}}";
+
+    private static void validate(String json) throws Exception {
+        VALIDATOR.validate(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SchemaViolationException violation(String json) {
+        return Assertions.assertThrows(SchemaViolationException.class, () -> validate(json));
+    }
+
+    @Test
+    public void testValidDocument() throws Exception {
+        validate(VALID);
+        validate("{\"servings\":4.0,\"recipeName\":\"\",\"instructions\":[],\"ingredients\":[]}");
+    }
+
+    @Test
+    public void testMissingRequiredProperty() {
+        SchemaViolationException e = violation("{\"recipeName\":\"Soup\",\"ingredients\":[],\"instructions\":[]}");
+        Assertions.assertEquals("/servings", e.getPointer());
+        Assertions.assertTrue(e.getOriginalMessage().contains("required property is missing"));
+    }
+
+    @Test
+    public void testPointersToNestedViolations() {
+        Assertions.assertEquals("/ingredients/2", violation("{\"ingredients\":[\"a\",\"b\",3]}").getPointer());
+        Assertions.assertEquals("/nutritionalInfo/perServing/calories",
+            violation("{\"nutritionalInfo\":{\"perServing\":{\"calories\":\"lots\"}}}").getPointer());
+        Assertions.assertEquals("/servings", violation("{\"servings\":2.5}").getPointer());
+        Assertions.assertEquals("/difficulty", violation("{\"difficulty\":\"TRIVIAL\"}").getPointer());
+        Assertions.assertEquals("/recipeName", violation("{\"recipeName\":null}").getPointer());
+        Assertions.assertEquals("", violation("[]").getPointer());
+    }
+
+    @Test
+    public void testNullableAndAdditionalProperties() throws Exception {
+        SchemaValidator validator = SchemaValidator.compile(new JsonSchema(java.util.Map.of(
+            "type", "OBJECT",
+            "additionalProperties", false,
+            "properties", java.util.Map.of("a/b", java.util.Map.of("type", "STRING", "nullable", true)))));
+        validator.validate("{\"a/b\":null}".getBytes(StandardCharsets.UTF_8));
+
+        SchemaViolationException e = Assertions.assertThrows(SchemaViolationException.class,
+            () -> validator.validate("{\"a/b\":\"x\",\"c~d\":1}".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("/c~0d", e.getPointer());
+    }
+
+    @Test
+    public void testNullCountsAsAbsentForOptionalProperties() throws Exception {
+        validate("{\"recipeName\":\"Soup\",\"ingredients\":[],\"instructions\":[],\"servings\":2,"
+            + "\"difficulty\":null,\"nutritionalInfo\":{\"perServing\":null}}");
+        Assertions.assertEquals("/ingredients/0", violation("{\"ingredients\":[null]}").getPointer());
+        Assertions.assertEquals("/servings", violation("{\"servings\":null}").getPointer());
+    }
+
+    @Test
+    public void testWriterOutputMatchesEveryProfile() throws Exception {
+        Recipe minimal = Recipe.builder()
+            .recipeName("Soup")
+            .description("Hot water")
+            .ingredients(List.of("water"))
+            .instructions(List.of("Boil"))
+            .servings(2)
+            .build();
+        Recipe partial = Recipe.builder()
+            .recipeName("Salad")
+            .ingredients(List.of("lettuce"))
+            .instructions(List.of("Toss"))
+            .servings(1)
+            .nutritionalInfo(NutritionalInfo.builder()
+                .perServing(NutritionValues.builder().calories(50.0).build())
+                .build())
+            .tips(RecipeTips.builder().variations(List.of("Add croutons")).build())
+            .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RecipeWriter writer = RecipeStreams.ndjsonWriter(out)) {
+            writer.write(minimal);
+            writer.write(partial);
+        }
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+        for (SchemaProfile profile : SchemaProfile.values()) {
+            SchemaValidator validator = RecipeSchema.getValidator(profile);
+            for (String line : lines) {
+                validator.validate(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void testStopsAtFirstViolationBeforeReadingFurther() {
+        // The document is malformed after the violation; the violation is reported, not the syntax error
+        Assertions.assertEquals("/servings", violation("{\"servings\":\"four\", garbage").getPointer());
+    }
+
+    @Test
+    public void testValidatesWhileDeserializing() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonFactory factory = mapper.getFactory();
+
+        try (JsonParser parser = VALIDATOR.validating(factory.createParser(VALID.replace(",\"difficulty\":\"EASY\"", "")
+                .replace(",\"notes\":{\"free\":[1,null]}", "")))) {
+            Recipe recipe = mapper.readValue(parser, Recipe.class);
+            Assertions.assertEquals("Soup", recipe.getRecipeName());
+        }
+
+        String invalid = "{\"recipeName\":\"Soup\",\"nutritionalInfo\":{\"perServing\":{\"calories\":\"x\"}}}";
+        try (JsonParser parser = VALIDATOR.validating(factory.createParser(invalid))) {
+            SchemaViolationException e = Assertions.assertThrows(SchemaViolationException.class,
+                () -> mapper.readValue(parser, Recipe.class));
+            Assertions.assertEquals("/nutritionalInfo/perServing/calories", e.getPointer());
+        }
+    }
+
+    @Test
+    public void testIncompleteNonBlockingInputFails() throws Exception {
+        byte[] partial = "{\"recipeName\":\"x\", \"ingredients\":[".getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = new JsonFactory().createNonBlockingByteArrayParser()) {
+            ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(partial, 0, partial.length);
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> Assertions.assertThrows(JsonParseException.class, () -> VALIDATOR.validate(parser)));
+        }
+    }
+
+    @Test
+    public void testRejectsUnknownTypes() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SchemaValidator.compile(new JsonSchema(java.util.Map.of("type", "date"))));
+    }
+
+    @Test
+    public void testRecipeSchemaValidatorIsCached() throws Exception {
+        SchemaValidator validator = RecipeSchema.getValidator(SchemaProfile.AI_GENERATION);
+        Assertions.assertSame(validator, RecipeSchema.getValidator(SchemaProfile.AI_GENERATION));
+        validator.validate("{\"recipeName\":\"Soup\",\"ingredients\":[\"water\"],\"instructions\":[\"Boil\"],\"servings\":2}".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(SchemaViolationException.class,
+            () -> validator.validate("{\"ingredients\":\"water\"}".getBytes(StandardCharsets.UTF_8)));
+
+        RecipeSchema.refresh();
+        Assertions.assertNotSame(validator, RecipeSchema.getValidator(SchemaProfile.AI_GENERATION));
+    }
+}
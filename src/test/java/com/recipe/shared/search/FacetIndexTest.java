@@ -0,0 +1,141 @@
+package com.recipe.shared.search;
+
+import com.recipe.shared.model.NutritionValues;
+import com.recipe.shared.model.NutritionalInfo;
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private static Recipe recipe(Integer minutes, Integer servings, Double calories) {
+        return Recipe.builder()
+                .totalTimeMinutes(minutes)
+                .servings(servings)
+                .nutritionalInfo(calories == null ? null : NutritionalInfo.builder()
+                        .perServing(NutritionValues.builder().calories(calories).build())
+                        .build())
+                .build();
+    }
+
+    private static FacetIndex index() {
+        return FacetIndex.of(Arrays.asList(
+                recipe(25, 4, 450.0),
+                recipe(45, 2, 300.0),
+                recipe(20, 6, 650.0),
+                null,
+                recipe(null, 4, null),
+                recipe(30, 8, 500.0)));
+    }
+
+    @Test
+    void testCombinedRanges() {
+        FacetIndex index = index();
+
+        assertArrayEquals(new int[] {0, 5}, index.rows(
+                FacetRange.atMost(Facet.TOTAL_TIME_MINUTES, 30),
+                FacetRange.atLeast(Facet.SERVINGS, 4),
+                FacetRange.atMost(Facet.CALORIES, 500)));
+        assertEquals(2, index.count(
+                FacetRange.atMost(Facet.TOTAL_TIME_MINUTES, 30),
+                FacetRange.atLeast(Facet.SERVINGS, 4),
+                FacetRange.atMost(Facet.CALORIES, 500)));
+    }
+
+    @Test
+    void testSingleRangeAndMissingValues() {
+        FacetIndex index = index();
+
+        assertArrayEquals(new int[] {0, 2, 4, 5}, index.rows(FacetRange.atLeast(Facet.SERVINGS, 4)));
+        assertEquals(4, index.count(FacetRange.between(Facet.TOTAL_TIME_MINUTES, 0, 1000)));
+        assertEquals(0, index.count(FacetRange.atLeast(Facet.PROTEIN, 0)));
+        assertEquals(6, index.count());
+        assertEquals(6, index.rows().length);
+        assertTrue(Double.isNaN(index.get(3, Facet.SERVINGS)));
+    }
+
+    @Test
+    void testTotalTimeFallsBackToCalculatedValue() {
+        Recipe recipe = Recipe.builder().prepTimeMinutes(10).cookTimeMinutes(15).build();
+
+        FacetIndex index = FacetIndex.of(List.of(recipe));
+
+        assertEquals(25, index.get(0, Facet.TOTAL_TIME_MINUTES));
+    }
+
+    @Test
+    void testHistogram() {
+        FacetIndex index = index();
+        double[] bounds = {400, 600};
+
+        assertArrayEquals(new int[] {1, 2, 1}, index.histogram(Facet.CALORIES, bounds));
+        assertArrayEquals(new int[] {0, 2, 1}, index.histogram(Facet.CALORIES, bounds, FacetRange.atLeast(Facet.SERVINGS, 4)));
+        assertArrayEquals(new int[] {3, 2}, index.histogram(Facet.SERVINGS, new double[] {4.5}));
+        assertThrows(IllegalArgumentException.class, () -> index.histogram(Facet.CALORIES, new double[] {600, 400}));
+    }
+
+    @Test
+    void testExtent() {
+        FacetIndex index = index();
+
+        assertArrayEquals(new double[] {300, 650}, index.extent(Facet.CALORIES));
+        assertNull(index.extent(Facet.SODIUM));
+    }
+
+    @Test
+    void testRejectsInvalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> FacetRange.between(Facet.SERVINGS, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> FacetRange.atMost(Facet.SERVINGS, Double.NaN));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(7);
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            recipes.add(recipe(random.nextInt(10) == 0 ? null : random.nextInt(180), 1 + random.nextInt(8),
+                    random.nextInt(10) == 0 ? null : -5 + random.nextDouble() * 1000));
+        }
+        FacetIndex index = FacetIndex.of(recipes);
+        FacetRange time = FacetRange.between(Facet.TOTAL_TIME_MINUTES, 20, 60);
+        FacetRange calories = FacetRange.atMost(Facet.CALORIES, 420.5);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int row = 0; row < recipes.size(); row++) {
+            Recipe recipe = recipes.get(row);
+            Integer minutes = recipe.getTotalTimeMinutes();
+            NutritionalInfo info = recipe.getNutritionalInfo();
+            if (minutes != null && minutes >= 20 && minutes <= 60 && info != null && info.getPerServing().getCalories() <= 420.5) {
+                expected.add(row);
+            }
+        }
+        int[] rows = index.rows(time, calories);
+        assertEquals(expected.size(), rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals(expected.get(i), rows[i]);
+        }
+        double[] bounds = {0, 250, 500, 750};
+        for (FacetRange filter : List.of(time, FacetRange.atLeast(Facet.SERVINGS, 2), FacetRange.atMost(Facet.SERVINGS, 1))) {
+            int[] expectedCounts = new int[bounds.length + 1];
+            for (Recipe recipe : recipes) {
+                NutritionalInfo info = recipe.getNutritionalInfo();
+                double value = filter.facet() == Facet.SERVINGS ? recipe.getServings()
+                        : recipe.getTotalTimeMinutes() == null ? Double.NaN : recipe.getTotalTimeMinutes();
+                if (info != null && value >= filter.min() && value <= filter.max()) {
+                    int bucket = 0;
+                    while (bucket < bounds.length && info.getPerServing().getCalories() >= bounds[bucket]) {
+                        bucket++;
+                    }
+                    expectedCounts[bucket]++;
+                }
+            }
+            assertArrayEquals(expectedCounts, index.histogram(Facet.CALORIES, bounds, filter));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.recipe.shared.search;
+
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeIndexTest {
+
+    private static Recipe recipe(String id, String name, String description, List<String> ingredients, List<String> tags) {
+        return Recipe.builder().id(id).recipeName(name).description(description).ingredients(ingredients).tags(tags).build();
+    }
+
+    private static RecipeIndex index() {
+        return RecipeIndex.of(List.of(
+                recipe("curry", "Chicken Curry", "A mild curry with coconut milk",
+                        List.of("500g chicken thighs", "400ml coconut milk", "2 tbsp curry paste"), List.of("dinner", "indian")),
+                recipe("tofu", "Tofu Stir Fry", "Quick weeknight dinner, great with a curry sauce",
+                        List.of("300g firm tofu", "1 red pepper", "2 tbsp soy sauce"), List.of("vegan", "quick")),
+                recipe("brulee", "Crème Brûlée", "Classic French dessert",
+                        List.of("500ml double cream", "5 egg yolks", "100g sugar"), List.of("dessert", "french")),
+                recipe("soup", "Tomato Soup", "Roasted tomatoes and basil",
+                        List.of("1kg tomatoes", "1 onion", "Fresh basil"), List.of("vegan", "lunch"))));
+    }
+
+    private static List<String> ids(List<SearchHit> hits) {
+        List<String> ids = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+
+    @Test
+    void testRanksNameMatchesFirst() {
+        List<SearchHit> hits = index().search("curry", 10);
+
+        assertEquals(List.of("curry", "tofu"), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void testFoldsCaseAndAccents() {
+        RecipeIndex index = index();
+
+        assertEquals(List.of("brulee"), ids(index.search("creme brulee", 10)));
+        assertEquals(List.of("brulee"), ids(index.search("CRÈME", 10)));
+    }
+
+    @Test
+    void testBooleanQueries() {
+        RecipeIndex index = index();
+
+        assertEquals(List.of("tofu"), ids(index.search("vegan quick", 10)));
+        assertEquals(2, index.count(Query.parse("chicken OR tofu")));
+        assertEquals(List.of("tofu"), ids(index.search("curry -coconut", 10)));
+        assertEquals(List.of("soup"), ids(index.search(Query.and(Query.term("vegan"), Query.not(Query.term("tofu"))), 10)));
+        assertEquals(3, index.count(Query.not(Query.term("tofu"))));
+        assertEquals(0, index.count(Query.parse("curry pizza")));
+        assertEquals(0, index.count(Query.parse("  ")));
+    }
+
+    @Test
+    void testPrefixQueries() {
+        RecipeIndex index = index();
+
+        assertEquals(List.of("soup"), ids(index.search("tom*", 10)));
+        assertEquals(List.of("curry"), ids(index.search("coco*", 10)));
+        assertEquals(List.of("tofu"), ids(index.search(Query.prefix("soy sa"), 10)));
+    }
+
+    @Test
+    void testLimit() {
+        RecipeIndex index = index();
+
+        assertEquals(1, index.search("vegan", 1).size());
+        assertEquals(List.of(), index.search("vegan", 0));
+        assertThrows(IllegalArgumentException.class, () -> index.search("vegan", -1));
+    }
+
+    @Test
+    void testUpdateAndRemoveById() {
+        RecipeIndex index = index();
+
+        index.add(recipe("soup", "Pumpkin Soup", null, List.of("1 pumpkin"), List.of("autumn")));
+        assertEquals(4, index.size());
+        assertEquals(0, index.count(Query.term("tomato")));
+        assertEquals(List.of("soup"), ids(index.search("pumpkin", 10)));
+
+        assertTrue(index.remove("curry"));
+        assertFalse(index.remove("curry"));
+        assertFalse(index.contains("curry"));
+        assertEquals(List.of("tofu"), ids(index.search("curry", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testCompactKeepsResults() {
+        RecipeIndex index = index();
+        index.remove("tofu");
+        index.add(recipe("soup", "Pumpkin Soup", null, null, null));
+
+        index.compact();
+
+        assertEquals(List.of("curry"), ids(index.search("curry", 10)));
+        assertEquals(List.of("soup"), ids(index.search("pumpkin", 10)));
+        assertEquals(0, index.count(Query.term("tofu")));
+        index.add(recipe("tofu", "Tofu Stir Fry", null, null, null));
+        assertEquals(List.of("tofu"), ids(index.search("tofu", 10)));
+    }
+
+    @Test
+    void testManyDocumentsAndAutomaticCompaction() {
+        RecipeIndex index = new RecipeIndex();
+        for (int i = 0; i < 3000; i++) {
+            index.add(recipe("r" + i, "Recipe " + i, i % 2 == 0 ? "even" : "odd", null, null));
+        }
+        for (int i = 0; i < 2000; i++) {
+            index.remove("r" + i);
+        }
+
+        assertEquals(1000, index.size());
+        assertEquals(500, index.count(Query.term("even")));
+        assertEquals(List.of("r2999"), ids(index.search("2999", 10)));
+    }
+
+    @Test
+    void testRejectsRecipesWithoutId() {
+        assertThrows(IllegalArgumentException.class, () -> new RecipeIndex().add(Recipe.builder().recipeName("x").build()));
+    }
+
+    @Test
+    void testTokenizer() {
+        assertEquals(List.of("cooks", "creme", "brulee", "gluten", "free", "100g"), Tokenizer.tokenize("Cook's Crème-Brûlée, gluten-free 100g"));
+        assertEquals(List.of(), Tokenizer.tokenize(null));
+    }
+}
@@ -0,0 +1,155 @@
+package com.recipe.shared.similarity;
+
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeSimilarityTest {
+
+    private static final List<String> INSTRUCTIONS = List.of(
+            "Preheat the oven to 180C and grease a loaf tin.",
+            "Mash the bananas in a large bowl, then stir in the melted butter.",
+            "Mix in the sugar, egg and vanilla, then fold in the flour and baking soda.",
+            "Pour into the tin and bake for 60 minutes until a skewer comes out clean.");
+
+    private static Recipe bananaBread(String id) {
+        return Recipe.builder()
+                .id(id)
+                .recipeName("Banana Bread")
+                .ingredients(List.of("3 ripe bananas", "75g melted butter", "150g sugar", "1 egg", "1 tsp vanilla",
+                        "190g flour", "1 tsp baking soda"))
+                .instructions(INSTRUCTIONS)
+                .build();
+    }
+
+    private static Recipe reworded(String id) {
+        List<String> instructions = new ArrayList<>(INSTRUCTIONS);
+        instructions.set(0, "Heat your oven to 180C and grease a loaf tin.");
+        return bananaBread(id).toBuilder()
+                .recipeName("Easy Banana Bread")
+                .ingredients(List.of("3 Ripe Bananas", "1/3 cup melted butter", "3/4 cup sugar", "1 large egg",
+                        "1 tsp vanilla", "1 1/2 cups flour", "1 tsp baking soda"))
+                .instructions(instructions)
+                .build();
+    }
+
+    private static Recipe curry(String id) {
+        return Recipe.builder()
+                .id(id)
+                .ingredients(List.of("500g chicken thighs", "400ml coconut milk", "2 tbsp curry paste", "1 onion"))
+                .instructions(List.of("Fry the onion until soft.", "Add the curry paste and cook for a minute.",
+                        "Add the chicken and coconut milk and simmer for 20 minutes."))
+                .build();
+    }
+
+    @Test
+    void testFindsRewordedRecipe() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        similarity.add(bananaBread("original"));
+        similarity.add(curry("curry"));
+
+        List<SimilarRecipe> similar = similarity.findSimilar(reworded("regenerated"), 0.6);
+
+        assertEquals(1, similar.size());
+        assertEquals("original", similar.get(0).id());
+        assertTrue(similar.get(0).similarity() < 1);
+    }
+
+    @Test
+    void testIgnoresQuantitiesCaseAndPunctuation() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        Recipe scaled = bananaBread("scaled").toBuilder()
+                .ingredients(List.of("6 RIPE BANANAS", "150g melted butter", "300g sugar", "2 egg", "2 tsp vanilla",
+                        "380g flour", "2 tsp baking soda"))
+                .instructions(List.of(String.join(" ", INSTRUCTIONS).toUpperCase().replace(",", ";")))
+                .build();
+
+        assertEquals(1.0, RecipeSimilarity.estimate(similarity.signature(bananaBread("a")), similarity.signature(scaled)));
+    }
+
+    @Test
+    void testExcludesSelfAndDissimilar() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        similarity.add(bananaBread("bread"));
+        similarity.add(curry("curry"));
+
+        assertEquals(List.of(), similarity.findSimilar("bread", 0.5));
+        assertEquals(List.of(), similarity.findSimilar(bananaBread("bread"), 0.5));
+        assertEquals(1, similarity.findSimilar(bananaBread("other"), 0.9).size());
+        assertEquals(List.of(), similarity.findSimilar("missing", 0.5));
+    }
+
+    @Test
+    void testDuplicateGroups() {
+        List<Recipe> recipes = List.of(bananaBread("a"), curry("b"), reworded("c"), curry("d"), bananaBread("e"),
+                Recipe.builder().id("empty").build(), Recipe.builder().id("empty2").build());
+
+        List<List<String>> groups = RecipeSimilarity.findDuplicates(recipes, 0.6);
+
+        assertEquals(List.of(List.of("a", "c", "e"), List.of("b", "d")), groups);
+    }
+
+    @Test
+    void testReplaceAndRemove() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        similarity.add(bananaBread("x"));
+        similarity.add(curry("x"));
+
+        assertEquals(1, similarity.size());
+        assertEquals(List.of(), similarity.findSimilar(bananaBread("y"), 0.5));
+        assertEquals(1, similarity.findSimilar(curry("y"), 0.5).size());
+
+        assertTrue(similarity.remove("x"));
+        assertFalse(similarity.contains("x"));
+        assertEquals(List.of(), similarity.findSimilar(curry("y"), 0.5));
+    }
+
+    @Test
+    void testCompactionKeepsRecipes() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        for (int i = 0; i < 3000; i++) {
+            similarity.add(i % 2 == 0 ? bananaBread("r" + i) : Recipe.builder().id("r" + i).build());
+        }
+        for (int i = 0; i < 2000; i++) {
+            similarity.remove("r" + i);
+        }
+
+        assertEquals(1000, similarity.size());
+        assertEquals(500, similarity.findSimilar(bananaBread("new"), 0.9).size());
+        assertEquals(499, similarity.findSimilar("r2000", 0.9).size());
+    }
+
+    @Test
+    void testReplacingCompacts() {
+        RecipeSimilarity similarity = new RecipeSimilarity();
+        similarity.add(curry("curry"));
+        for (int i = 0; i < 1500; i++) {
+            similarity.add(i % 2 == 0 ? bananaBread("bread") : reworded("bread"));
+        }
+
+        assertEquals(2, similarity.size());
+        assertTrue(similarity.slots() < 1024, similarity.slots() + " document slots");
+        List<SimilarRecipe> bread = similarity.findSimilar(bananaBread("new"), 0.5);
+        assertEquals(1, bread.size());
+        assertEquals("bread", bread.get(0).id());
+        List<SimilarRecipe> curry = similarity.findSimilar(curry("new"), 0.5);
+        assertEquals(1, curry.size());
+        assertEquals("curry", curry.get(0).id());
+    }
+
+    @Test
+    void testSignatures() {
+        RecipeSimilarity similarity = new RecipeSimilarity(8, 2);
+
+        assertEquals(16, similarity.signature(curry("c")).length);
+        assertArrayEquals(similarity.signature(curry("c")), new RecipeSimilarity(8, 2).signature(curry("d")));
+        assertNull(similarity.signature(Recipe.builder().build()));
+        assertEquals(0.5, new RecipeSimilarity(16, 4).threshold(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new RecipeSimilarity(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> similarity.add(Recipe.builder().build()));
+    }
+}
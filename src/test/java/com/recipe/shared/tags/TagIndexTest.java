@@ -0,0 +1,102 @@
+package com.recipe.shared.tags;
+
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagIndexTest {
+
+    private static Recipe recipe(String... restrictions) {
+        return Recipe.builder().dietaryRestrictions(List.of(restrictions)).build();
+    }
+
+    private static TagIndex index(TagDictionary dictionary) {
+        List<Recipe> recipes = Arrays.asList(
+                recipe("vegan", "gluten-free"),
+                recipe("vegetarian"),
+                recipe("vegan"),
+                null,
+                Recipe.builder().build(),
+                recipe("gluten-free", "dairy-free", "vegan"));
+        return TagIndex.of(dictionary, recipes, Recipe::getDietaryRestrictions);
+    }
+
+    @Test
+    void testRowsWithAll() {
+        TagIndex index = index(new TagDictionary());
+
+        assertArrayEquals(new int[] {0, 5}, index.rowsWithAll(List.of("vegan", "gluten-free")));
+        assertArrayEquals(new int[] {0, 2, 5}, index.rowsWithAll(List.of("vegan")));
+        assertArrayEquals(new int[0], index.rowsWithAll(List.of("vegan", "keto")));
+        assertEquals(6, index.rowsWithAll(List.of()).length);
+    }
+
+    @Test
+    void testRowsWithAnyAndNone() {
+        TagIndex index = index(new TagDictionary());
+
+        assertArrayEquals(new int[] {1, 5}, index.rowsWithAny(List.of("vegetarian", "dairy-free", "keto")));
+        assertArrayEquals(new int[0], index.rowsWithAny(List.of("keto")));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, index.rowsWithNone(List.of("gluten-free")));
+    }
+
+    @Test
+    void testNarrowsRows() {
+        TagIndex index = index(new TagDictionary());
+        int[] vegan = index.rowsWithAll(List.of("vegan"));
+
+        assertArrayEquals(new int[] {5}, index.rowsWithAll(List.of("dairy-free"), vegan));
+    }
+
+    @Test
+    void testQueriesDoNotGrowDictionary() {
+        TagDictionary dictionary = new TagDictionary();
+        TagIndex index = index(dictionary);
+        int size = dictionary.size();
+
+        index.rowsWithAll(List.of("keto"));
+        index.rowsWithAny(List.of("paleo"));
+
+        assertEquals(size, dictionary.size());
+    }
+
+    @Test
+    void testCountsAndRows() {
+        TagDictionary dictionary = new TagDictionary();
+        TagIndex index = index(dictionary);
+        int[] counts = index.counts();
+
+        assertEquals(3, counts[dictionary.find("vegan")]);
+        assertEquals(2, counts[dictionary.find("gluten-free")]);
+        assertEquals(1, counts[dictionary.find("vegetarian")]);
+        assertEquals(List.of("vegan", "gluten-free"), index.get(0).asList());
+        assertTrue(index.get(3).isEmpty());
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void testRecipeTagsUseDictionaryPerIndex() {
+        int sharedSize = TagDictionary.shared().size();
+        TagIndex index = TagIndex.tags(List.of(Recipe.builder().tags(List.of("dinner", "quick")).build()));
+        TagIndex other = TagIndex.tags(List.of(Recipe.builder().tags(List.of("one-pot")).build()));
+
+        assertNotSame(TagDictionary.shared(), index.dictionary());
+        assertNotSame(index.dictionary(), other.dictionary());
+        assertEquals(2, index.dictionary().size());
+        assertEquals(0, other.dictionary().find("one-pot"));
+        assertEquals(sharedSize, TagDictionary.shared().size());
+        assertArrayEquals(new int[] {0}, index.rowsWithAll(List.of("quick")));
+    }
+
+    @Test
+    void testDietaryRestrictionsUseSharedDictionary() {
+        TagIndex index = TagIndex.dietaryRestrictions(List.of(Recipe.builder().dietaryRestrictions(List.of("vegan")).build()));
+
+        assertSame(TagDictionary.shared(), index.dictionary());
+        assertArrayEquals(new int[] {0}, index.rowsWithAll(List.of("vegan")));
+    }
+}
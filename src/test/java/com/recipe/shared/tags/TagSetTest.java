@@ -0,0 +1,90 @@
+package com.recipe.shared.tags;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagSetTest {
+
+    @Test
+    void testDictionaryAssignsStableIds() {
+        TagDictionary dictionary = new TagDictionary();
+
+        assertEquals(0, dictionary.id("vegan"));
+        assertEquals(1, dictionary.id("gluten-free"));
+        assertEquals(0, dictionary.id("vegan"));
+        assertEquals(TagDictionary.NOT_FOUND, dictionary.find("keto"));
+        assertEquals(2, dictionary.size());
+        assertEquals("gluten-free", dictionary.name(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.name(2));
+    }
+
+    @Test
+    void testInternReturnsCanonicalInstance() {
+        TagDictionary dictionary = new TagDictionary();
+        String first = dictionary.intern(new String("dessert"));
+
+        assertSame(first, dictionary.intern(new String("dessert")));
+    }
+
+    @Test
+    void testMembershipAndListView() {
+        TagDictionary dictionary = new TagDictionary();
+        dictionary.id("quick");
+        TagSet set = TagSet.of(dictionary, Arrays.asList("vegan", null, "dinner", "vegan"));
+
+        assertTrue(set.contains("vegan"));
+        assertTrue(set.contains("dinner"));
+        assertFalse(set.contains("quick"));
+        assertFalse(set.contains("unknown"));
+        assertEquals(2, set.size());
+        assertEquals(List.of("vegan", "dinner"), set.asList());
+        assertThrows(UnsupportedOperationException.class, () -> set.asList().add("x"));
+        assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    void testSetOperationsAcrossManyWords() {
+        TagDictionary dictionary = new TagDictionary();
+        List<String> many = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            many.add("tag" + i);
+        }
+        TagSet all = TagSet.of(dictionary, many);
+        TagSet high = TagSet.of(dictionary, List.of("tag150", "tag199"));
+        TagSet low = TagSet.of(dictionary, List.of("tag1", "tag150"));
+
+        assertEquals(200, all.size());
+        assertTrue(all.containsAll(high));
+        assertFalse(low.containsAll(high));
+        assertTrue(low.intersects(high));
+        assertEquals(TagSet.of(dictionary, List.of("tag150")), low.and(high));
+        assertEquals(TagSet.of(dictionary, List.of("tag1", "tag150", "tag199")), low.or(high));
+        assertArrayEquals(new int[] {1, 150}, low.ids());
+        assertTrue(TagSet.of(dictionary, List.of("tag1")).and(high).isEmpty());
+    }
+
+    @Test
+    void testEmptyAndNull() {
+        TagDictionary dictionary = new TagDictionary();
+        TagSet empty = TagSet.of(dictionary, null);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of(), empty.asList());
+        assertEquals(TagSet.empty(dictionary), empty);
+        assertTrue(TagSet.of(dictionary, List.of("a")).containsAll(empty));
+    }
+
+    @Test
+    void testRejectsMixingDictionaries() {
+        TagSet a = TagSet.of(new TagDictionary(), List.of("vegan"));
+        TagSet b = TagSet.of(new TagDictionary(), List.of("vegan"));
+
+        assertNotEquals(a, b);
+        assertThrows(IllegalArgumentException.class, () -> a.containsAll(b));
+    }
+}
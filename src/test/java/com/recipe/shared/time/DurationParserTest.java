@@ -0,0 +1,92 @@
+package com.recipe.shared.time;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationParserTest {
+
+    private static void assertMinutes(int expected, String text) {
+        assertEquals(expected, DurationParser.parseMinutes(text), text);
+    }
+
+    @Test
+    void testCommonFormats() {
+        assertMinutes(15, "15 minutes");
+        assertMinutes(15, "15 mins");
+        assertMinutes(1, "1 minute");
+        assertMinutes(75, "1 hr 15 mins");
+        assertMinutes(75, "1 Hour 15 Minutes");
+        assertMinutes(75, "1h15m");
+        assertMinutes(75, "1hr15min");
+        assertMinutes(120, "2 hours");
+        assertMinutes(2880, "2 days");
+        assertMinutes(1, "45 seconds");
+        assertMinutes(20, "20");
+        assertMinutes(20, "  about 20 minutes.");
+    }
+
+    @Test
+    void testFractionsAndWords() {
+        assertMinutes(90, "1.5 hours");
+        assertMinutes(90, "1 1/2 hours");
+        assertMinutes(90, "1½ hours");
+        assertMinutes(30, "½ hour");
+        assertMinutes(45, "3/4 hour");
+        assertMinutes(30, "half an hour");
+        assertMinutes(60, "an hour");
+        assertMinutes(90, "an hour and a half");
+        assertMinutes(90, "1 and a half hours");
+        assertMinutes(10, "ten minutes");
+        assertMinutes(90, "1:30");
+        assertMinutes(75, "1 hour 15");
+    }
+
+    @Test
+    void testRangesUseUpperBound() {
+        assertMinutes(60, "45-60 minutes");
+        assertMinutes(60, "45 – 60 minutes");
+        assertMinutes(120, "1 to 2 hours");
+        assertMinutes(90, "1 hour - 1 hour 30 minutes");
+        assertMinutes(60, "30 minutes to 1 hour");
+        assertMinutes(20, "15 or 20 minutes");
+    }
+
+    @Test
+    void testIsoDurations() {
+        assertMinutes(90, "PT1H30M");
+        assertMinutes(1560, "P1DT2H");
+        assertMinutes(1, "PT30S");
+        assertMinutes(DurationParser.UNKNOWN, "P1M");
+        assertMinutes(DurationParser.UNKNOWN, "PT");
+    }
+
+    @Test
+    void testUnknown() {
+        assertMinutes(DurationParser.UNKNOWN, null);
+        assertMinutes(DurationParser.UNKNOWN, "");
+        assertMinutes(DurationParser.UNKNOWN, "overnight");
+        assertMinutes(DurationParser.UNKNOWN, "a few minutes");
+        assertMinutes(DurationParser.UNKNOWN, "1/0 hours");
+        assertMinutes(DurationParser.UNKNOWN, "99999999999999 days");
+    }
+
+    @Test
+    void testParsesAnyCharSequence() {
+        assertEquals(75, DurationParser.parseMinutes(new StringBuilder("1 hr 15 mins")));
+    }
+
+    @Test
+    void testFormatMinutes() {
+        assertEquals("0 minutes", DurationParser.formatMinutes(0));
+        assertEquals("1 minute", DurationParser.formatMinutes(1));
+        assertEquals("45 minutes", DurationParser.formatMinutes(45));
+        assertEquals("1 hour", DurationParser.formatMinutes(60));
+        assertEquals("2 hours 1 minute", DurationParser.formatMinutes(121));
+        assertThrows(IllegalArgumentException.class, () -> DurationParser.formatMinutes(-1));
+
+        for (int minutes = 0; minutes < 1500; minutes += 7) {
+            assertEquals(minutes, DurationParser.parseMinutes(DurationParser.formatMinutes(minutes)));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.recipe.shared.time;
+
+import com.recipe.shared.model.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeTimesTest {
+
+    @Test
+    void testFillsMinutesFromStrings() {
+        Recipe recipe = Recipe.builder().prepTime("15 minutes").cookTime("1 hr 15 mins").build();
+
+        assertTrue(RecipeTimes.normalizeTimes(recipe));
+
+        assertEquals(15, recipe.getPrepTimeMinutes());
+        assertEquals(75, recipe.getCookTimeMinutes());
+        assertEquals(90, recipe.getTotalTimeMinutes());
+        assertEquals("1 hour 30 minutes", recipe.getTotalTime());
+        assertFalse(RecipeTimes.normalizeTimes(recipe));
+    }
+
+    @Test
+    void testFillsStringsFromMinutes() {
+        Recipe recipe = Recipe.builder().prepTimeMinutes(10).cookTimeMinutes(50).build();
+
+        RecipeTimes.normalizeTimes(recipe);
+
+        assertEquals("10 minutes", recipe.getPrepTime());
+        assertEquals("50 minutes", recipe.getCookTime());
+        assertEquals(60, recipe.getTotalTimeMinutes());
+        assertEquals("1 hour", recipe.getTotalTime());
+    }
+
+    @Test
+    void testKeepsExistingValues() {
+        Recipe recipe = Recipe.builder()
+                .prepTime("20 minutes").prepTimeMinutes(25)
+                .cookTime("overnight")
+                .totalTime("45-60 minutes")
+                .build();
+
+        RecipeTimes.normalizeTimes(recipe);
+
+        assertEquals(25, recipe.getPrepTimeMinutes());
+        assertEquals("20 minutes", recipe.getPrepTime());
+        assertNull(recipe.getCookTimeMinutes());
+        assertEquals("overnight", recipe.getCookTime());
+        assertEquals(60, recipe.getTotalTimeMinutes());
+        assertEquals("45-60 minutes", recipe.getTotalTime());
+    }
+
+    @Test
+    void testCalculatedTotalUsesStrings() {
+        assertEquals(35, Recipe.builder().prepTime("15 min").cookTimeMinutes(20).build().getCalculatedTotalTimeMinutes());
+        assertEquals(120, Recipe.builder().totalTime("2 hours").prepTimeMinutes(5).build().getCalculatedTotalTimeMinutes());
+        assertNull(Recipe.builder().prepTime("15 min").build().getCalculatedTotalTimeMinutes());
+    }
+
+    @Test
+    void testNormalizesInBulk() {
+        List<Recipe> recipes = List.of(
+                Recipe.builder().prepTime("5 minutes").build(),
+                Recipe.builder().build(),
+                Recipe.builder().cookTimeMinutes(30).build());
+
+        assertEquals(2, RecipeTimes.normalizeTimes(recipes));
+    }
+}